@@ -166,6 +166,9 @@ public class ClientIpExtractor {
                 + "::(ffff(:0{1,4})?:)?((25[0-5]|(2[0-4]|1?[0-9])?[0-9])\\.){3}(25[0-5]|(2[0-4]|1?[0-9])?[0-9])|"
                 + "([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1?[0-9])?[0-9])\\.){3}(25[0-5]|(2[0-4]|1?[0-9])?[0-9]))$";
 
+    /** IPv4 또는 IPv6 주소 정규식 (Bean Validation {@code @Pattern}에서 사용하는 컴파일 타임 상수) */
+    public static final String IP_ADDRESS_PATTERN = IPV4_PATTERN + "|" + IPV6_PATTERN;
+
     private static final java.util.regex.Pattern IPV4_COMPILED =
             java.util.regex.Pattern.compile(IPV4_PATTERN);
     private static final java.util.regex.Pattern IPV6_COMPILED =
@@ -1,19 +1,18 @@
 package com.ryuqq.gateway.adapter.in.gateway.common.util;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
+import com.ryuqq.gateway.domain.authentication.exception.JwtInvalidException;
 import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Base64;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
 
 /**
  * JWT Payload Parser
  *
- * <p>JWT 토큰의 payload를 서명 검증 없이 파싱합니다. 만료된 토큰에서 사용자 정보를 추출할 때 사용합니다.
+ * <p>JWT 토큰을 서명 검증 없이 파싱합니다. 만료된 토큰에서 사용자 정보를 추출할 때 사용합니다.
  *
  * <p><strong>주의</strong>: 이 클래스는 서명을 검증하지 않습니다. 보안이 필요한 경우 별도의 JWT 검증을 수행해야 합니다.
  *
@@ -22,6 +21,7 @@ import org.springframework.stereotype.Component;
  * <ul>
  *   <li>Token Refresh 시 만료된 Access Token에서 userId/tenantId 추출
  *   <li>만료 여부 확인 (exp claim 기반)
+ *   <li>파싱 결과({@link ParsedJwt})를 Exchange Attribute에 저장하여 JwtAuthenticationFilter에서 재사용
  * </ul>
  *
  * @author development-team
@@ -32,15 +32,8 @@ public class JwtPayloadParser {
 
     private static final Logger log = LoggerFactory.getLogger(JwtPayloadParser.class);
 
-    private static final String USER_ID_CLAIM = "userId";
-    private static final String TENANT_ID_CLAIM = "tenantId";
-    private static final String EXP_CLAIM = "exp";
-
-    private final ObjectMapper objectMapper;
-
-    public JwtPayloadParser(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
+    /** 요청당 한 번 파싱한 JWT를 보관하는 Exchange Attribute 키 */
+    public static final String PARSED_JWT_ATTRIBUTE = "parsedJwt";
 
     /**
      * JWT 토큰에서 만료 정보와 사용자 정보를 추출합니다.
@@ -52,110 +45,63 @@ public class JwtPayloadParser {
      * @throws JwtParseException JWT 파싱 실패 시
      */
     public ExpiredTokenInfo extractTokenInfo(String token) {
-        if (token == null || token.isBlank()) {
-            throw new JwtParseException("Token is null or empty");
-        }
-
-        String[] parts = token.split("\\.");
-        if (parts.length != 3) {
-            throw new JwtParseException(
-                    "Invalid JWT format: expected 3 parts, got " + parts.length);
-        }
-
-        try {
-            String payloadJson = decodeBase64Url(parts[1]);
-            JsonNode payload = objectMapper.readTree(payloadJson);
-
-            boolean expired = isExpired(payload);
-            Long userId = extractUserId(payload);
-            String tenantId = extractTenantId(payload);
-
-            log.debug(
-                    "Extracted token info: expired={}, userId={}, tenantId={}",
-                    expired,
-                    userId,
-                    tenantId);
-
-            return ExpiredTokenInfo.of(expired, userId, tenantId);
-
-        } catch (JwtParseException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JwtParseException("Failed to parse JWT payload", e);
-        }
+        return toTokenInfo(parse(token));
     }
 
     /**
-     * Base64 URL 디코딩
+     * JWT 토큰에서 만료 정보와 사용자 정보를 추출하고, 파싱 결과를 Exchange에 저장합니다.
      *
-     * @param base64Url Base64 URL 인코딩된 문자열
-     * @return 디코딩된 문자열
-     */
-    private String decodeBase64Url(String base64Url) {
-        byte[] decoded = Base64.getUrlDecoder().decode(base64Url);
-        return new String(decoded, StandardCharsets.UTF_8);
-    }
-
-    /**
-     * 토큰 만료 여부 확인
+     * <p>같은 토큰이 이미 파싱되어 있으면 재사용합니다.
      *
-     * @param payload JWT payload
-     * @return 만료 여부
+     * @param exchange ServerWebExchange
+     * @param token JWT Access Token
+     * @return ExpiredTokenInfo (만료 여부, userId, tenantId)
+     * @throws JwtParseException JWT 파싱 실패 시
      */
-    private boolean isExpired(JsonNode payload) {
-        JsonNode expNode = payload.get(EXP_CLAIM);
-        if (expNode == null || !expNode.isNumber()) {
-            log.warn("JWT does not contain valid 'exp' claim");
-            return true; // exp가 없으면 만료된 것으로 처리
+    public ExpiredTokenInfo extractTokenInfo(ServerWebExchange exchange, String token) {
+        ParsedJwt parsedJwt = findParsedJwt(exchange, token);
+        if (parsedJwt == null) {
+            parsedJwt = parse(token);
+            exchange.getAttributes().put(PARSED_JWT_ATTRIBUTE, parsedJwt);
         }
-
-        long expSeconds = expNode.asLong();
-        long nowSeconds = Instant.now().getEpochSecond();
-
-        return nowSeconds >= expSeconds;
+        return toTokenInfo(parsedJwt);
     }
 
     /**
-     * userId 추출
+     * Exchange에 저장된 파싱 결과 조회
      *
-     * @param payload JWT payload
-     * @return userId (없으면 null)
+     * @param exchange ServerWebExchange
+     * @param token 현재 요청의 JWT Access Token
+     * @return 같은 토큰에서 파싱된 ParsedJwt (없거나 토큰이 교체되었으면 null)
      */
-    private Long extractUserId(JsonNode payload) {
-        JsonNode userIdNode = payload.get(USER_ID_CLAIM);
-        if (userIdNode == null || userIdNode.isNull()) {
-            return null;
+    public static ParsedJwt findParsedJwt(ServerWebExchange exchange, String token) {
+        Object attribute = exchange.getAttribute(PARSED_JWT_ATTRIBUTE);
+        if (attribute instanceof ParsedJwt parsedJwt && parsedJwt.isParsedFrom(token)) {
+            return parsedJwt;
         }
+        return null;
+    }
 
-        if (userIdNode.isNumber()) {
-            return userIdNode.asLong();
+    private ParsedJwt parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtParseException("Token is null or empty");
         }
 
-        if (userIdNode.isTextual()) {
-            try {
-                return Long.parseLong(userIdNode.asText());
-            } catch (NumberFormatException e) {
-                log.warn("Failed to parse userId as Long: {}", userIdNode.asText());
-                return null;
-            }
+        try {
+            return ParsedJwt.parse(token);
+        } catch (JwtInvalidException e) {
+            throw new JwtParseException("Failed to parse JWT: " + e.getMessage(), e);
         }
-
-        return null;
     }
 
-    /**
-     * tenantId 추출
-     *
-     * @param payload JWT payload
-     * @return tenantId (없으면 null)
-     */
-    private String extractTenantId(JsonNode payload) {
-        JsonNode tenantIdNode = payload.get(TENANT_ID_CLAIM);
-        if (tenantIdNode == null || tenantIdNode.isNull()) {
-            return null;
-        }
-
-        return tenantIdNode.asText();
+    private ExpiredTokenInfo toTokenInfo(ParsedJwt parsedJwt) {
+        ExpiredTokenInfo tokenInfo = parsedJwt.toExpiredTokenInfo(Instant.now());
+        log.debug(
+                "Extracted token info: expired={}, userId={}, tenantId={}",
+                tokenInfo.isExpired(),
+                tokenInfo.userId(),
+                tokenInfo.tenantId());
+        return tokenInfo;
     }
 
     /** JWT 파싱 예외 */
@@ -0,0 +1,75 @@
+package com.ryuqq.gateway.adapter.in.gateway.common.util;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Warm-up Synthetic Request 식별 유틸리티
+ *
+ * <p>Startup Warm-up이 로컬 포트로 보내는 Synthetic Request는 실제 Filter Chain을 통과합니다. 이 요청이 Rate
+ * Limit 카운터를 소모하거나 localhost IP에 INVALID_JWT 실패를 기록하지 않도록, Rate Limit Filter와 JWT 인증
+ * Filter는 이 Marker로 Warm-up 요청을 식별해 해당 처리를 건너뜁니다.
+ *
+ * <p><strong>보안 고려사항</strong>:
+ *
+ * <ul>
+ *   <li>토큰은 Warm-up 중에만 발급되며, 기동마다 새로 생성되는 임의 값입니다
+ *   <li>헤더 값이 토큰과 일치하고 RemoteAddress가 Loopback인 요청만 Warm-up 요청으로 인정합니다
+ *   <li>Warm-up 종료 시 토큰을 폐기하므로 이후에는 헤더를 위조해도 우회할 수 없습니다
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class WarmupRequestMarker {
+
+    public static final String HEADER = "X-Gateway-Warmup";
+
+    private volatile String token;
+
+    /**
+     * Warm-up 토큰 발급
+     *
+     * @return Synthetic Request의 {@link #HEADER} 헤더에 담을 토큰
+     */
+    public String issue() {
+        String issued = UUID.randomUUID().toString();
+        this.token = issued;
+        return issued;
+    }
+
+    /** Warm-up 토큰 폐기 (이후 모든 요청은 일반 요청으로 처리) */
+    public void revoke() {
+        this.token = null;
+    }
+
+    /**
+     * Warm-up Synthetic Request 여부 확인
+     *
+     * @param exchange ServerWebExchange
+     * @return 유효한 Warm-up 토큰을 가진 Loopback 요청이면 true
+     */
+    public boolean isWarmupRequest(ServerWebExchange exchange) {
+        String current = this.token;
+        if (current == null) {
+            return false;
+        }
+        String header = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (header == null || !isLoopback(exchange.getRequest().getRemoteAddress())) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                current.getBytes(StandardCharsets.UTF_8), header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isLoopback(InetSocketAddress remoteAddress) {
+        return remoteAddress != null
+                && remoteAddress.getAddress() != null
+                && remoteAddress.getAddress().isLoopbackAddress();
+    }
+}
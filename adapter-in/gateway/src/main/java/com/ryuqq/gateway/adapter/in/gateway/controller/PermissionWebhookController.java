@@ -17,12 +17,12 @@ import reactor.core.publisher.Mono;
 /**
  * Permission Webhook Controller
  *
- * <p>AuthHub로부터 Webhook을 받아 Permission 캐시를 무효화합니다.
+ * <p>AuthHub로부터 Webhook을 받아 Permission Spec Snapshot을 갱신하고 Permission Hash 캐시를 무효화합니다.
  *
  * <p><strong>엔드포인트</strong>:
  *
  * <ul>
- *   <li>POST /webhooks/permission/spec-sync - Permission Spec 캐시 무효화
+ *   <li>POST /webhooks/permission/spec-sync - Permission Spec Snapshot 갱신
  *   <li>POST /webhooks/permission/user-invalidate - 사용자별 Permission Hash 캐시 무효화
  * </ul>
  *
@@ -46,7 +46,7 @@ public class PermissionWebhookController {
     }
 
     /**
-     * Permission Spec 캐시 무효화
+     * Permission Spec Snapshot 갱신
      *
      * <p>AuthHub에서 Permission Spec이 변경되었을 때 호출됩니다.
      *
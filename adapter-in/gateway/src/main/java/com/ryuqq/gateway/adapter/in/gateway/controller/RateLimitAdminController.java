@@ -1,17 +1,21 @@
 package com.ryuqq.gateway.adapter.in.gateway.controller;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.dto.ApiResponse;
-import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpResponse;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
+import com.ryuqq.gateway.application.ratelimit.dto.query.GetBlockedIpsQuery;
+import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpPageResponse;
 import com.ryuqq.gateway.application.ratelimit.port.in.command.UnblockIpUseCase;
 import com.ryuqq.gateway.application.ratelimit.port.in.query.GetBlockedIpsUseCase;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
-import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
@@ -23,8 +27,8 @@ import reactor.core.publisher.Mono;
  * <p><strong>엔드포인트</strong>:
  *
  * <ul>
- *   <li>GET /actuator/rate-limit/blocked-ips - 차단된 IP 목록 조회
- *   <li>DELETE /actuator/rate-limit/blocked-ips/{ip} - IP 차단 해제
+ *   <li>GET /actuator/rate-limit/blocked-ips - 차단된 IP 목록 페이지 조회 (page, size, direction)
+ *   <li>DELETE /actuator/rate-limit/blocked-ips/{ip} - IP 차단 해제 (IPv4/IPv6)
  * </ul>
  *
  * <p><strong>보안</strong>: 이 엔드포인트는 네트워크 레벨(ALB/WAF/Security Group)에서 내부망 또는 관리자 IP만 접근 가능하도록 제한해야
@@ -48,17 +52,31 @@ public class RateLimitAdminController {
     }
 
     /**
-     * 차단된 IP 목록 조회
+     * 차단된 IP 목록 페이지 조회
      *
-     * <p>현재 Redis에 저장된 모든 차단된 IP와 남은 차단 시간을 반환합니다.
+     * <p>차단 인덱스에서 만료 시각 순으로 정렬된 페이지와 남은 차단 시간을 반환합니다. {@code direction=asc}는 곧 해제될
+     * IP부터, {@code desc}는 오래 차단될 IP부터 반환합니다.
      *
-     * @return Mono&lt;ResponseEntity&lt;ApiResponse&lt;List&lt;BlockedIpResponse&gt;&gt;&gt;&gt;
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1 ~ {@value GetBlockedIpsQuery#MAX_SIZE})
+     * @param direction 정렬 방향 (asc/desc, 만료 시각 기준)
+     * @return Mono&lt;ResponseEntity&lt;ApiResponse&lt;BlockedIpPageResponse&gt;&gt;&gt;
      */
     @GetMapping("/blocked-ips")
-    public Mono<ResponseEntity<ApiResponse<List<BlockedIpResponse>>>> getBlockedIps() {
+    public Mono<ResponseEntity<ApiResponse<BlockedIpPageResponse>>> getBlockedIps(
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "page는 0 이상이어야 합니다")
+                    int page,
+            @RequestParam(defaultValue = "50")
+                    @Min(value = 1, message = "size는 1 이상이어야 합니다")
+                    @Max(value = GetBlockedIpsQuery.MAX_SIZE, message = "size가 최대값을 초과했습니다")
+                    int size,
+            @RequestParam(defaultValue = "asc")
+                    @Pattern(regexp = "(?i)asc|desc", message = "direction은 asc 또는 desc여야 합니다")
+                    String direction) {
+        GetBlockedIpsQuery query =
+                GetBlockedIpsQuery.of(page, size, "desc".equalsIgnoreCase(direction));
         return getBlockedIpsUseCase
-                .execute()
-                .collectList()
+                .execute(query)
                 .map(blockedIps -> ResponseEntity.ok(ApiResponse.ofSuccess(blockedIps)));
     }
 
@@ -67,16 +85,15 @@ public class RateLimitAdminController {
      *
      * <p>특정 IP의 차단을 해제합니다.
      *
-     * @param ip 차단 해제할 IP 주소 (IPv4 형식)
+     * @param ip 차단 해제할 IP 주소 (IPv4 또는 IPv6 형식)
      * @return Mono&lt;ResponseEntity&lt;ApiResponse&lt;String&gt;&gt;&gt;
      */
     @DeleteMapping("/blocked-ips/{ip}")
     public Mono<ResponseEntity<ApiResponse<String>>> unblockIp(
             @PathVariable
                     @Pattern(
-                            regexp =
-                                    "^(?:(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)\\.){3}(?:25[0-5]|2[0-4][0-9]|[01]?[0-9][0-9]?)$",
-                            message = "유효한 IPv4 주소 형식이 아닙니다")
+                            regexp = ClientIpExtractor.IP_ADDRESS_PATTERN,
+                            message = "유효한 IP 주소 형식이 아닙니다 (IPv4/IPv6)")
                     String ip) {
         return unblockIpUseCase
                 .execute(ip)
@@ -2,10 +2,13 @@ package com.ryuqq.gateway.adapter.in.gateway.filter;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.JwtPayloadParser;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.adapter.in.gateway.config.PublicPathsProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
 import com.ryuqq.gateway.application.authentication.port.in.command.ValidateJwtUseCase;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
 import com.ryuqq.gateway.application.ratelimit.dto.command.RecordFailureCommand;
 import com.ryuqq.gateway.application.ratelimit.port.in.command.RecordFailureUseCase;
 import java.util.HashSet;
@@ -31,11 +34,11 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>Authorization 헤더에서 Bearer Token 추출
- *   <li>ValidateJwtUseCase를 통한 JWT 검증
+ *   <li>ValidateJwtUseCase를 통한 JWT 검증 (TokenRefreshFilter의 파싱 결과 재사용)
  *   <li>ServerWebExchange Attribute 설정 (userId, roles)
  *   <li>Downstream 서비스로 X-User-Id 헤더 전달
  *   <li>Reactor Context에 userId 저장 (로깅용)
- *   <li>JWT 검증 실패 시 RecordFailureUseCase 호출 (IP 차단용)
+ *   <li>JWT 검증 실패 시 RecordFailureUseCase 호출 (IP 차단용, Warm-up Synthetic Request 제외)
  * </ul>
  *
  * <p><strong>주의</strong>: Reactive 환경에서는 ThreadLocal 기반 MDC 대신 Reactor Context를 사용해야 합니다.
@@ -68,6 +71,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     private final PublicPathsProperties publicPathsProperties;
     private final ClientIpExtractor clientIpExtractor;
     private final GatewayErrorResponder errorResponder;
+    private final WarmupRequestMarker warmupRequestMarker;
 
     /** JWT 인증을 건너뛸 전역 Public 경로 패턴 (Host 기반 서비스 제외) */
     private final List<String> globalPublicPaths;
@@ -77,7 +81,8 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             RecordFailureUseCase recordFailureUseCase,
             PublicPathsProperties publicPathsProperties,
             ClientIpExtractor clientIpExtractor,
-            GatewayErrorResponder errorResponder) {
+            GatewayErrorResponder errorResponder,
+            WarmupRequestMarker warmupRequestMarker) {
         this.validateJwtUseCase = validateJwtUseCase;
         this.recordFailureUseCase = recordFailureUseCase;
         this.pathMatcher = new AntPathMatcher();
@@ -85,6 +90,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         this.globalPublicPaths = publicPathsProperties.getAllPublicPaths();
         this.clientIpExtractor = clientIpExtractor;
         this.errorResponder = errorResponder;
+        this.warmupRequestMarker = warmupRequestMarker;
     }
 
     @Override
@@ -119,8 +125,11 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             return unauthorized(exchange);
         }
 
+        // TokenRefreshFilter에서 이미 파싱한 JWT가 있으면 재사용 (요청당 1회 파싱)
+        ParsedJwt parsedJwt = JwtPayloadParser.findParsedJwt(exchange, token);
+
         return validateJwtUseCase
-                .execute(new ValidateJwtCommand(token))
+                .execute(new ValidateJwtCommand(token, parsedJwt))
                 .flatMap(
                         response -> {
                             // 실제 JWT 토큰이 있지만 검증 실패한 경우에만 Invalid JWT로 기록
@@ -193,9 +202,15 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     /**
      * Invalid JWT 실패 기록 후 401 응답 반환
      *
-     * <p>RecordFailureUseCase를 호출하여 IP별 실패 횟수를 증가시킵니다. 임계값 초과 시 IP가 차단됩니다.
+     * <p>RecordFailureUseCase를 호출하여 IP별 실패 횟수를 증가시킵니다. 임계값 초과 시 IP가 차단됩니다. 실패 횟수는 노드
+     * 로컬에서 집계되어 주기적으로 Redis에 반영되므로 401 응답이 Redis를 기다리지 않습니다.
+     *
+     * <p>Warm-up Synthetic Request는 localhost IP가 차단되지 않도록 실패를 기록하지 않고 401만 반환합니다.
      */
     private Mono<Void> recordFailureAndUnauthorized(ServerWebExchange exchange) {
+        if (warmupRequestMarker.isWarmupRequest(exchange)) {
+            return unauthorized(exchange);
+        }
         String clientIp = clientIpExtractor.extractWithTrustedProxy(exchange);
         RecordFailureCommand command = RecordFailureCommand.forInvalidJwt(clientIp);
 
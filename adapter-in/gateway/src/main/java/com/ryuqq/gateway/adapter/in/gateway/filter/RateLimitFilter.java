@@ -2,17 +2,21 @@ package com.ryuqq.gateway.adapter.in.gateway.filter;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.adapter.in.gateway.metrics.GatewayMetrics;
+import com.ryuqq.gateway.application.authorization.dto.query.FindEndpointTemplateQuery;
+import com.ryuqq.gateway.application.authorization.port.in.query.FindEndpointTemplateUseCase;
 import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
-import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
-import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckRateLimitUseCase;
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckPreAuthRateLimitUseCase;
 import com.ryuqq.gateway.domain.ratelimit.exception.IpBlockedException;
 import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -26,12 +30,21 @@ import reactor.core.publisher.Mono;
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>IP 기반 Rate Limit 체크
- *   <li>Endpoint 기반 Rate Limit 체크
+ *   <li>IP 차단, IP 기반 Rate Limit, Endpoint 기반 Rate Limit 일괄 체크 (Redis 왕복 1회)
+ *   <li>Endpoint Rate Limit Key를 경로 템플릿으로 정규화 (경로 변수마다 Key가 생성되지 않도록)
  *   <li>Rate Limit 초과 시 429 또는 403 응답
  *   <li>Rate Limit 헤더 추가 (X-RateLimit-Limit, X-RateLimit-Remaining, Retry-After)
+ *   <li>Warm-up Synthetic Request는 카운터를 소모하지 않도록 스킵 ({@link WarmupRequestMarker})
  * </ul>
  *
+ * <p><strong>Endpoint 정규화 순서</strong>:
+ *
+ * <ol>
+ *   <li>Permission Spec의 EndpointPermission 경로 템플릿 (예: {@code /api/v1/orders/{orderId}})
+ *   <li>매칭된 Route의 Path Predicate 패턴 (예: {@code /api/v1/orders/**})
+ *   <li>둘 다 없으면 하나의 공유 Bucket ({@link CheckPreAuthRateLimitCommand#unmatched(String)})
+ * </ol>
+ *
  * <p><strong>실행 순서</strong>: TraceIdFilter 다음, JwtAuthenticationFilter 이전
  *
  * @author development-team
@@ -48,22 +61,28 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
     private static final String RATE_LIMIT_CHECKED_ATTRIBUTE = "RATE_LIMIT_CHECKED";
 
     private final RateLimitProperties rateLimitProperties;
-    private final CheckRateLimitUseCase checkRateLimitUseCase;
+    private final CheckPreAuthRateLimitUseCase checkPreAuthRateLimitUseCase;
+    private final FindEndpointTemplateUseCase findEndpointTemplateUseCase;
     private final ClientIpExtractor clientIpExtractor;
     private final GatewayMetrics gatewayMetrics;
     private final GatewayErrorResponder errorResponder;
+    private final WarmupRequestMarker warmupRequestMarker;
 
     public RateLimitFilter(
             RateLimitProperties rateLimitProperties,
-            CheckRateLimitUseCase checkRateLimitUseCase,
+            CheckPreAuthRateLimitUseCase checkPreAuthRateLimitUseCase,
+            FindEndpointTemplateUseCase findEndpointTemplateUseCase,
             ClientIpExtractor clientIpExtractor,
             GatewayMetrics gatewayMetrics,
-            GatewayErrorResponder errorResponder) {
+            GatewayErrorResponder errorResponder,
+            WarmupRequestMarker warmupRequestMarker) {
         this.rateLimitProperties = rateLimitProperties;
-        this.checkRateLimitUseCase = checkRateLimitUseCase;
+        this.checkPreAuthRateLimitUseCase = checkPreAuthRateLimitUseCase;
+        this.findEndpointTemplateUseCase = findEndpointTemplateUseCase;
         this.clientIpExtractor = clientIpExtractor;
         this.gatewayMetrics = gatewayMetrics;
         this.errorResponder = errorResponder;
+        this.warmupRequestMarker = warmupRequestMarker;
     }
 
     @Override
@@ -85,6 +104,11 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
+        // Warm-up Synthetic Request는 스킵 (기동 직후 localhost 카운터 소모 방지)
+        if (warmupRequestMarker.isWarmupRequest(exchange)) {
+            return chain.filter(exchange);
+        }
+
         // Rate Limit 체크 시작 - 중복 실행 방지를 위해 플래그 설정
         exchange.getAttributes().put(RATE_LIMIT_CHECKED_ATTRIBUTE, true);
 
@@ -101,39 +125,21 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        // IP 기반 Rate Limit 체크
-        CheckRateLimitCommand ipCommand = CheckRateLimitCommand.forIp(clientIp);
+        // IP 차단 + IP/Endpoint Rate Limit 일괄 체크
+        CheckPreAuthRateLimitCommand command = toCommand(exchange, clientIp, path, method);
 
-        return checkRateLimitUseCase
-                .execute(ipCommand)
+        return checkPreAuthRateLimitUseCase
+                .execute(command)
                 .flatMap(
-                        ipResponse -> {
-                            if (!ipResponse.allowed()) {
+                        response -> {
+                            if (!response.allowed()) {
                                 return tooManyRequests(
-                                        exchange,
-                                        ipResponse.limit(),
-                                        ipResponse.retryAfterSeconds());
+                                        exchange, response.limit(), response.retryAfterSeconds());
                             }
 
-                            // Endpoint 기반 Rate Limit 체크
-                            CheckRateLimitCommand endpointCommand =
-                                    CheckRateLimitCommand.forEndpoint(path, method);
-
-                            return checkRateLimitUseCase
-                                    .execute(endpointCommand)
-                                    .flatMap(
-                                            endpointResponse -> {
-                                                if (!endpointResponse.allowed()) {
-                                                    return tooManyRequests(
-                                                            exchange,
-                                                            endpointResponse.limit(),
-                                                            endpointResponse.retryAfterSeconds());
-                                                }
-
-                                                // Rate Limit 통과 - 다음 필터로 진행
-                                                // 성공 응답의 Rate Limit 헤더는 나중에 별도 구현 예정
-                                                return chain.filter(exchange);
-                                            });
+                            // Rate Limit 통과 - 다음 필터로 진행
+                            // 성공 응답의 Rate Limit 헤더는 나중에 별도 구현 예정
+                            return chain.filter(exchange);
                         })
                 .onErrorResume(
                         IpBlockedException.class, e -> forbidden(exchange, e.retryAfterSeconds()))
@@ -154,6 +160,23 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
                         });
     }
 
+    /** Endpoint를 경로 템플릿으로 정규화하여 Command 생성 */
+    private CheckPreAuthRateLimitCommand toCommand(
+            ServerWebExchange exchange, String clientIp, String path, String method) {
+        String template =
+                findEndpointTemplateUseCase
+                        .execute(new FindEndpointTemplateQuery(path, method))
+                        .orElseGet(
+                                () ->
+                                        exchange.getAttribute(
+                                                ServerWebExchangeUtils
+                                                        .GATEWAY_PREDICATE_MATCHED_PATH_ATTR));
+        if (template == null) {
+            return CheckPreAuthRateLimitCommand.unmatched(clientIp);
+        }
+        return new CheckPreAuthRateLimitCommand(clientIp, template, method);
+    }
+
     /** 429 Too Many Requests 응답 */
     private Mono<Void> tooManyRequests(
             ServerWebExchange exchange, int limit, int retryAfterSeconds) {
@@ -3,7 +3,9 @@ package com.ryuqq.gateway.adapter.in.gateway.filter;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.JwtPayloadParser;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
+import com.ryuqq.gateway.application.authentication.config.TokenRefreshProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.RefreshAccessTokenCommand;
+import com.ryuqq.gateway.application.authentication.dto.response.RefreshAccessTokenResponse;
 import com.ryuqq.gateway.application.authentication.port.in.command.RefreshAccessTokenUseCase;
 import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenExpiredException;
 import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenInvalidException;
@@ -11,6 +13,8 @@ import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenMissingExce
 import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenReusedException;
 import com.ryuqq.gateway.domain.authentication.exception.TokenRefreshFailedException;
 import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
+import java.time.Duration;
+import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -20,8 +24,10 @@ import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
 /**
@@ -37,6 +43,7 @@ import reactor.core.publisher.Mono;
  *   <li>Authorization 헤더에 Bearer 토큰이 존재
  *   <li>Cookie에 refresh_token이 존재
  *   <li>Access Token이 만료된 경우 (JWT payload에서 확인)
+ *   <li>Access Token이 만료 임박 구간(gateway.token-refresh.refresh-ahead-seconds) 안에 있는 경우
  * </ul>
  *
  * <p><strong>처리 흐름</strong>:
@@ -51,6 +58,24 @@ import reactor.core.publisher.Mono;
  *   <li>다음 Filter(JwtAuthenticationFilter)로 전달
  * </ol>
  *
+ * <p><strong>Refresh-Ahead</strong>:
+ *
+ * <ul>
+ *   <li>만료 임박 토큰은 아직 유효하므로 기존 Access Token 그대로 다음 Filter로 즉시 전달
+ *   <li>동시에 RefreshAccessTokenUseCase를 시작하고, 응답 커밋 직전에 결과를 X-New-Access-Token 헤더와
+ *       refresh_token Cookie로 전달
+ *   <li>기존 Refresh Token은 Rotation으로 소모되므로 응답 커밋은 Refresh 완료까지 대기 (새 Token Pair 유실 방지)
+ *   <li>Refresh 실패는 요청 결과에 영향을 주지 않음 (로그만 남기고 기존 Cookie 유지)
+ *   <li>Refresh 구독은 Exchange 수명에 묶여, 클라이언트가 요청을 취소하면 해제됨
+ * </ul>
+ *
+ * <p><strong>클라이언트 취소 시 Trade-off</strong>: Refresh는 요청 시작과 동시에 Refresh Token을 선점하므로, 취소 시점에는
+ * 대부분 선점이 끝나 있습니다. 선점 이후의 Rotation은 노드 내 동일 Token 요청과 공유되므로 구독 해제와 무관하게 끝까지
+ * 진행되며 (중간에 끊으면 AuthHub가 발급한 새 Token Pair가 어디에도 남지 않음), 기존 Refresh Token은 소모됩니다. 취소한
+ * 클라이언트에는 새 Token Pair가 전달되지 않으므로, 같은 Refresh Token으로 재시도하면 {@code
+ * gateway.token-refresh.rotated-pair-ttl-seconds} (기본 30초) 동안 공유된 Token Pair를 받습니다. 이 시간이 지난 뒤의
+ * 재시도는 재사용으로 판단되어 재로그인이 필요합니다.
+ *
  * <p><strong>에러 처리</strong>:
  *
  * <ul>
@@ -86,14 +111,18 @@ public class TokenRefreshFilter implements GlobalFilter, Ordered {
     private final RefreshAccessTokenUseCase refreshAccessTokenUseCase;
     private final JwtPayloadParser jwtPayloadParser;
     private final GatewayErrorResponder errorResponder;
+    private final Duration refreshAheadWindow;
 
     public TokenRefreshFilter(
             RefreshAccessTokenUseCase refreshAccessTokenUseCase,
             JwtPayloadParser jwtPayloadParser,
-            GatewayErrorResponder errorResponder) {
+            GatewayErrorResponder errorResponder,
+            TokenRefreshProperties tokenRefreshProperties) {
         this.refreshAccessTokenUseCase = refreshAccessTokenUseCase;
         this.jwtPayloadParser = jwtPayloadParser;
         this.errorResponder = errorResponder;
+        this.refreshAheadWindow =
+                Duration.ofSeconds(tokenRefreshProperties.getRefreshAheadSeconds());
     }
 
     @Override
@@ -126,10 +155,10 @@ public class TokenRefreshFilter implements GlobalFilter, Ordered {
         String accessToken = authHeader.substring(BEARER_PREFIX.length());
         String refreshTokenValue = refreshTokenCookie.getValue();
 
-        // JWT payload에서 만료 여부 및 사용자 정보 추출 (서명 검증 없음)
+        // JWT payload에서 만료 여부 및 사용자 정보 추출 (서명 검증 없음, 파싱 결과는 Exchange에 저장)
         ExpiredTokenInfo tokenInfo;
         try {
-            tokenInfo = jwtPayloadParser.extractTokenInfo(accessToken);
+            tokenInfo = jwtPayloadParser.extractTokenInfo(exchange, accessToken);
         } catch (JwtPayloadParser.JwtParseException e) {
             // JWT 파싱 실패 시 → 다음 필터로 (JWT_AUTH_FILTER에서 처리)
             log.debug(
@@ -138,6 +167,14 @@ public class TokenRefreshFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
+        // 만료 임박 토큰이면 기존 토큰으로 전달하면서 새 Token Pair를 함께 발급
+        if (tokenInfo.isExpiringWithin(refreshAheadWindow, Instant.now())
+                && tokenInfo.userId() != null
+                && tokenInfo.tenantId() != null) {
+            return executeRefreshAhead(
+                    exchange, chain, tokenInfo.tenantId(), tokenInfo.userId(), refreshTokenValue);
+        }
+
         // 토큰이 만료되지 않았으면 갱신 불필요 → 다음 필터로
         if (!tokenInfo.isExpired()) {
             log.debug("Access token is not expired, skipping token refresh");
@@ -192,31 +229,11 @@ public class TokenRefreshFilter implements GlobalFilter, Ordered {
                                             .header(X_USER_ID_HEADER, String.valueOf(userId))
                                             .build();
 
-                            // 새 Refresh Token Cookie 설정
-                            ResponseCookie newRefreshTokenCookie =
-                                    ResponseCookie.from(
-                                                    REFRESH_TOKEN_COOKIE,
-                                                    response.refreshTokenValue())
-                                            .httpOnly(true)
-                                            .secure(true)
-                                            .path(COOKIE_PATH)
-                                            .maxAge(
-                                                    java.time.Duration.ofDays(
-                                                            REFRESH_TOKEN_MAX_AGE_DAYS))
-                                            .sameSite(COOKIE_SAME_SITE)
-                                            .build();
-
                             ServerWebExchange mutatedExchange =
                                     exchange.mutate().request(mutatedRequest).build();
 
-                            // 새 Refresh Token Cookie 설정
-                            mutatedExchange.getResponse().addCookie(newRefreshTokenCookie);
-
-                            // 새 Access Token을 Response Header로 전달 (클라이언트 저장용)
-                            mutatedExchange
-                                    .getResponse()
-                                    .getHeaders()
-                                    .add(X_NEW_ACCESS_TOKEN_HEADER, response.accessTokenValue());
+                            // 새 Refresh Token Cookie와 Access Token 응답 헤더 설정 (클라이언트 저장용)
+                            applyRotatedTokens(mutatedExchange.getResponse(), response);
 
                             // Exchange Attribute 업데이트 (다음 필터에서 사용)
                             mutatedExchange
@@ -234,6 +251,76 @@ public class TokenRefreshFilter implements GlobalFilter, Ordered {
                 .onErrorResume(this::isRefreshTokenError, e -> handleRefreshError(exchange, e));
     }
 
+    /**
+     * Refresh-Ahead 실행
+     *
+     * <p>기존 Access Token으로 요청을 즉시 전달하고, Token Refresh는 병렬로 진행합니다. 응답 커밋 직전에 Refresh 결과를
+     * 기다려 응답에 반영합니다.
+     */
+    private Mono<Void> executeRefreshAhead(
+            ServerWebExchange exchange,
+            GatewayFilterChain chain,
+            String tenantId,
+            Long userId,
+            String refreshTokenValue) {
+
+        log.debug(
+                "Access token expiring soon, refreshing ahead for tenant:{}, user:{}",
+                tenantId,
+                userId);
+
+        RefreshAccessTokenCommand command =
+                new RefreshAccessTokenCommand(tenantId, userId, refreshTokenValue);
+
+        Mono<RefreshAccessTokenResponse> refresh =
+                refreshAccessTokenUseCase
+                        .execute(command)
+                        .onErrorResume(
+                                e -> {
+                                    log.warn(
+                                            "Refresh-ahead failed for tenant:{}, user:{}: {}",
+                                            tenantId,
+                                            userId,
+                                            e.getMessage());
+                                    return Mono.empty();
+                                })
+                        .cache();
+
+        // Downstream 호출과 병렬로 Refresh 시작 (클라이언트 취소 시 구독 해제)
+        Disposable subscription = refresh.subscribe();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(
+                () -> refresh.doOnNext(rotated -> applyRotatedTokens(response, rotated)).then());
+
+        return chain.filter(exchange)
+                .doOnCancel(
+                        () -> {
+                            log.debug(
+                                    "Request cancelled during refresh-ahead for tenant:{},"
+                                            + " user:{}",
+                                    tenantId,
+                                    userId);
+                            subscription.dispose();
+                        });
+    }
+
+    /** 새 Refresh Token Cookie와 X-New-Access-Token 응답 헤더 설정 */
+    private void applyRotatedTokens(
+            ServerHttpResponse response, RefreshAccessTokenResponse rotated) {
+        ResponseCookie newRefreshTokenCookie =
+                ResponseCookie.from(REFRESH_TOKEN_COOKIE, rotated.refreshTokenValue())
+                        .httpOnly(true)
+                        .secure(true)
+                        .path(COOKIE_PATH)
+                        .maxAge(Duration.ofDays(REFRESH_TOKEN_MAX_AGE_DAYS))
+                        .sameSite(COOKIE_SAME_SITE)
+                        .build();
+
+        response.addCookie(newRefreshTokenCookie);
+        response.getHeaders().add(X_NEW_ACCESS_TOKEN_HEADER, rotated.accessTokenValue());
+    }
+
     /** Refresh Token 관련 에러인지 확인 */
     private boolean isRefreshTokenError(Throwable e) {
         return e instanceof RefreshTokenMissingException
@@ -1,6 +1,7 @@
 package com.ryuqq.gateway.adapter.in.gateway.filter;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckRateLimitUseCase;
@@ -25,6 +26,7 @@ import reactor.core.publisher.Mono;
  *   <li>JwtAuthenticationFilter에서 설정한 userId 조회
  *   <li>User 기반 Rate Limit 체크
  *   <li>Rate Limit 초과 시 429 응답
+ *   <li>Warm-up Synthetic Request는 카운터를 소모하지 않도록 스킵 ({@link WarmupRequestMarker})
  * </ul>
  *
  * <p><strong>실행 순서</strong>: JwtAuthenticationFilter 이후에 실행
@@ -44,11 +46,15 @@ public class UserRateLimitFilter implements GlobalFilter, Ordered {
 
     private final CheckRateLimitUseCase checkRateLimitUseCase;
     private final GatewayErrorResponder errorResponder;
+    private final WarmupRequestMarker warmupRequestMarker;
 
     public UserRateLimitFilter(
-            CheckRateLimitUseCase checkRateLimitUseCase, GatewayErrorResponder errorResponder) {
+            CheckRateLimitUseCase checkRateLimitUseCase,
+            GatewayErrorResponder errorResponder,
+            WarmupRequestMarker warmupRequestMarker) {
         this.checkRateLimitUseCase = checkRateLimitUseCase;
         this.errorResponder = errorResponder;
+        this.warmupRequestMarker = warmupRequestMarker;
     }
 
     @Override
@@ -65,6 +71,11 @@ public class UserRateLimitFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
+        // Warm-up Synthetic Request는 스킵 (기동 직후 사용자 카운터 소모 방지)
+        if (warmupRequestMarker.isWarmupRequest(exchange)) {
+            return chain.filter(exchange);
+        }
+
         // User Rate Limit 체크
         CheckRateLimitCommand userCommand = CheckRateLimitCommand.forUser(userId);
 
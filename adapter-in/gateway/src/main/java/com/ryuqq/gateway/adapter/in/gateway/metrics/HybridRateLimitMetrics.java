@@ -0,0 +1,82 @@
+package com.ryuqq.gateway.adapter.in.gateway.metrics;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.query.GetHybridRateLimitStatsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hybrid Rate Limit 메트릭
+ *
+ * <p>HYBRID 모드 로컬 카운터의 누적 통계를 Prometheus로 노출합니다. decisions_total{result=local} 증가율이 생략된
+ * Redis 호출 수, sync_keys_total 증가율이 대신 발생한 Redis 호출 수입니다.
+ *
+ * <p><strong>메트릭 목록</strong>:
+ *
+ * <ul>
+ *   <li>gateway_rate_limit_hybrid_decisions_total{result=local|overflow} - 판정 경로
+ *   <li>gateway_rate_limit_hybrid_sync_keys_total{result=success|failure} - 동기화 Key 수
+ *   <li>gateway_rate_limit_hybrid_sync_batches_total - 동기화 배치 수
+ *   <li>gateway_rate_limit_hybrid_tracked_keys - 현재 추적 중인 Key 수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class HybridRateLimitMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "gateway_rate_limit_hybrid";
+
+    private final GetHybridRateLimitStatsUseCase getHybridRateLimitStatsUseCase;
+
+    public HybridRateLimitMetrics(GetHybridRateLimitStatsUseCase getHybridRateLimitStatsUseCase) {
+        this.getHybridRateLimitStatsUseCase = getHybridRateLimitStatsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_decisions_total",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().localDecisions())
+                .description("Hybrid rate limit decisions")
+                .tag("result", "local")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_decisions_total",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().overflowDecisions())
+                .description("Hybrid rate limit decisions")
+                .tag("result", "overflow")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_sync_keys_total",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().syncedKeys())
+                .description("Hybrid rate limit keys flushed to Redis")
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_sync_keys_total",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().syncFailures())
+                .description("Hybrid rate limit keys flushed to Redis")
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_sync_batches_total",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().syncBatches())
+                .description("Hybrid rate limit sync batches")
+                .register(registry);
+        Gauge.builder(
+                        METRIC_PREFIX + "_tracked_keys",
+                        getHybridRateLimitStatsUseCase,
+                        useCase -> useCase.execute().trackedKeys())
+                .description("Number of keys tracked by the hybrid rate limiter")
+                .register(registry);
+    }
+}
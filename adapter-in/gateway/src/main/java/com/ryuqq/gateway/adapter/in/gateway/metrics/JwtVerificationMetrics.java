@@ -0,0 +1,78 @@
+package com.ryuqq.gateway.adapter.in.gateway.metrics;
+
+import com.ryuqq.gateway.application.authentication.port.in.query.GetJwtVerificationStatsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 검증 실행 메트릭
+ *
+ * <p>서명 검증 실행 방식(INLINE/PARALLEL)을 비교하기 위한 누적 통계를 Prometheus로 노출합니다. 모든 메트릭에 mode 태그가
+ * 붙습니다.
+ *
+ * <p><strong>메트릭 목록</strong>:
+ *
+ * <ul>
+ *   <li>gateway_jwt_verification_execution - 서명 검증 실행 횟수/시간 (FunctionTimer)
+ *   <li>gateway_jwt_verification_queue_wait - Scheduler 대기 시간 (FunctionTimer, PARALLEL 모드)
+ *   <li>gateway_jwt_verification_queue_depth - 현재 대기 작업 수 (PARALLEL 모드)
+ *   <li>gateway_jwt_verification_caller_runs_total - 대기열 초과로 호출 Thread에서 실행한 횟수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class JwtVerificationMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "gateway_jwt_verification";
+
+    private final GetJwtVerificationStatsUseCase getJwtVerificationStatsUseCase;
+
+    public JwtVerificationMetrics(GetJwtVerificationStatsUseCase getJwtVerificationStatsUseCase) {
+        this.getJwtVerificationStatsUseCase = getJwtVerificationStatsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String mode = getJwtVerificationStatsUseCase.execute().mode();
+
+        FunctionTimer.builder(
+                        METRIC_PREFIX + "_execution",
+                        getJwtVerificationStatsUseCase,
+                        useCase -> useCase.execute().executions(),
+                        useCase -> useCase.execute().totalExecutionNanos(),
+                        TimeUnit.NANOSECONDS)
+                .description("JWT signature verification execution time")
+                .tag("mode", mode)
+                .register(registry);
+        FunctionTimer.builder(
+                        METRIC_PREFIX + "_queue_wait",
+                        getJwtVerificationStatsUseCase,
+                        useCase -> useCase.execute().executions(),
+                        useCase -> useCase.execute().totalQueueWaitNanos(),
+                        TimeUnit.NANOSECONDS)
+                .description("JWT signature verification scheduler queue wait time")
+                .tag("mode", mode)
+                .register(registry);
+        Gauge.builder(
+                        METRIC_PREFIX + "_queue_depth",
+                        getJwtVerificationStatsUseCase,
+                        useCase -> useCase.execute().queueDepth())
+                .description("Pending JWT signature verifications")
+                .tag("mode", mode)
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_caller_runs_total",
+                        getJwtVerificationStatsUseCase,
+                        useCase -> useCase.execute().callerRuns())
+                .description("JWT signature verifications run on the caller thread")
+                .tag("mode", mode)
+                .register(registry);
+    }
+}
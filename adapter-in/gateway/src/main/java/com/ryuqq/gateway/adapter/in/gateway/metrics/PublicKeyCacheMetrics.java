@@ -0,0 +1,120 @@
+package com.ryuqq.gateway.adapter.in.gateway.metrics;
+
+import com.ryuqq.gateway.application.authentication.dto.response.PublicKeyCacheStatsResponse;
+import com.ryuqq.gateway.application.authentication.port.in.query.GetPublicKeyCacheStatsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToLongFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * Public Key Cache 메트릭
+ *
+ * <p>In-Process JWKS Snapshot의 누적 통계를 Prometheus로 노출합니다. 요청 경로에서는 메트릭을 기록하지 않고, Scrape 시점에
+ * 누적값을 읽습니다.
+ *
+ * <p><strong>메트릭 목록</strong>:
+ *
+ * <ul>
+ *   <li>gateway_jwks_cache_requests_total{result=local_hit|redis_hit|miss|negative_hit} - kid 조회 결과
+ *   <li>gateway_jwks_fetch_total{type=authhub|coalesced|throttled} - AuthHub 호출 / 합류 / 제한 횟수
+ *   <li>gateway_jwks_refresh_total{result=success|failure} - 전체 갱신 결과
+ *   <li>gateway_jwks_cached_keys - 현재 Snapshot의 kid 수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PublicKeyCacheMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "gateway_jwks";
+
+    private final GetPublicKeyCacheStatsUseCase getPublicKeyCacheStatsUseCase;
+
+    public PublicKeyCacheMetrics(GetPublicKeyCacheStatsUseCase getPublicKeyCacheStatsUseCase) {
+        this.getPublicKeyCacheStatsUseCase = getPublicKeyCacheStatsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerCounter(
+                registry,
+                "_cache_requests_total",
+                "result",
+                "local_hit",
+                PublicKeyCacheStatsResponse::localHits);
+        registerCounter(
+                registry,
+                "_cache_requests_total",
+                "result",
+                "redis_hit",
+                PublicKeyCacheStatsResponse::redisHits);
+        registerCounter(
+                registry,
+                "_cache_requests_total",
+                "result",
+                "miss",
+                PublicKeyCacheStatsResponse::misses);
+        registerCounter(
+                registry,
+                "_cache_requests_total",
+                "result",
+                "negative_hit",
+                PublicKeyCacheStatsResponse::negativeHits);
+        registerCounter(
+                registry,
+                "_fetch_total",
+                "type",
+                "authhub",
+                PublicKeyCacheStatsResponse::authHubFetches);
+        registerCounter(
+                registry,
+                "_fetch_total",
+                "type",
+                "coalesced",
+                PublicKeyCacheStatsResponse::coalescedFetches);
+        registerCounter(
+                registry,
+                "_fetch_total",
+                "type",
+                "throttled",
+                PublicKeyCacheStatsResponse::throttledFetches);
+        registerCounter(
+                registry,
+                "_refresh_total",
+                "result",
+                "success",
+                PublicKeyCacheStatsResponse::refreshSuccesses);
+        registerCounter(
+                registry,
+                "_refresh_total",
+                "result",
+                "failure",
+                PublicKeyCacheStatsResponse::refreshFailures);
+
+        Gauge.builder(
+                        METRIC_PREFIX + "_cached_keys",
+                        getPublicKeyCacheStatsUseCase,
+                        useCase -> useCase.execute().cachedKeys())
+                .description("Number of public keys in the in-process JWKS snapshot")
+                .register(registry);
+    }
+
+    private void registerCounter(
+            MeterRegistry registry,
+            String suffix,
+            String tagKey,
+            String tagValue,
+            ToLongFunction<PublicKeyCacheStatsResponse> extractor) {
+        FunctionCounter.builder(
+                        METRIC_PREFIX + suffix,
+                        getPublicKeyCacheStatsUseCase,
+                        useCase -> extractor.applyAsLong(useCase.execute()))
+                .description("In-process JWKS cache statistics")
+                .tag(tagKey, tagValue)
+                .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ryuqq.gateway.adapter.in.gateway.metrics;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.query.GetRateLimitFallbackStatsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit Fallback 메트릭
+ *
+ * <p>Redis 장애 시 노드 로컬 Fallback Limiter로 전환된 상태와 판정 수를 Prometheus로 노출합니다. Circuit Breaker 상태는
+ * gateway_rate_limit_redis_circuit_* 메트릭을 함께 확인합니다.
+ *
+ * <p><strong>메트릭 목록</strong>:
+ *
+ * <ul>
+ *   <li>gateway_rate_limit_fallback_active - 로컬 판정 중 여부 (1: 로컬, 0: Redis)
+ *   <li>gateway_rate_limit_fallback_switches_total{to=local|redis} - 판정 모드 전환 횟수
+ *   <li>gateway_rate_limit_fallback_decisions_total{result=tracked|untracked} - 로컬 판정 수
+ *   <li>gateway_rate_limit_fallback_tracked_keys - 현재 추적 중인 Key 수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RateLimitFallbackMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "gateway_rate_limit_fallback";
+
+    private final GetRateLimitFallbackStatsUseCase getRateLimitFallbackStatsUseCase;
+
+    public RateLimitFallbackMetrics(
+            GetRateLimitFallbackStatsUseCase getRateLimitFallbackStatsUseCase) {
+        this.getRateLimitFallbackStatsUseCase = getRateLimitFallbackStatsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(
+                        METRIC_PREFIX + "_active",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> useCase.execute().active() ? 1 : 0)
+                .description("Whether rate limits are decided by the local fallback limiter")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_switches_total",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> useCase.execute().activations())
+                .description("Rate limit decision mode switches")
+                .tag("to", "local")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_switches_total",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> useCase.execute().recoveries())
+                .description("Rate limit decision mode switches")
+                .tag("to", "redis")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_decisions_total",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> {
+                            var stats = useCase.execute();
+                            return stats.decisions() - stats.untrackedDecisions();
+                        })
+                .description("Rate limit decisions made by the local fallback limiter")
+                .tag("result", "tracked")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_decisions_total",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> useCase.execute().untrackedDecisions())
+                .description("Rate limit decisions made by the local fallback limiter")
+                .tag("result", "untracked")
+                .register(registry);
+        Gauge.builder(
+                        METRIC_PREFIX + "_tracked_keys",
+                        getRateLimitFallbackStatsUseCase,
+                        useCase -> useCase.execute().trackedKeys())
+                .description("Number of keys tracked by the local fallback limiter")
+                .register(registry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.gateway.adapter.in.gateway.metrics;
+
+import com.ryuqq.gateway.application.authentication.port.in.query.GetVerifiedTokenCacheStatsUseCase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verified Token Cache 메트릭
+ *
+ * <p>검증된 Access Token Cache의 누적 통계를 Prometheus로 노출합니다. Hit Ratio는 result 태그별 증가율로 계산합니다.
+ *
+ * <p><strong>메트릭 목록</strong>:
+ *
+ * <ul>
+ *   <li>gateway_jwt_verified_cache_requests_total{result=hit|miss} - Cache 조회 결과
+ *   <li>gateway_jwt_verified_cache_invalidations_total - kid 제거/교체로 무효화된 Entry 수
+ *   <li>gateway_jwt_verified_cache_size - 현재 Entry 수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class VerifiedTokenCacheMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "gateway_jwt_verified_cache";
+
+    private final GetVerifiedTokenCacheStatsUseCase getVerifiedTokenCacheStatsUseCase;
+
+    public VerifiedTokenCacheMetrics(
+            GetVerifiedTokenCacheStatsUseCase getVerifiedTokenCacheStatsUseCase) {
+        this.getVerifiedTokenCacheStatsUseCase = getVerifiedTokenCacheStatsUseCase;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_requests_total",
+                        getVerifiedTokenCacheStatsUseCase,
+                        useCase -> useCase.execute().hits())
+                .description("Verified token cache lookups")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_requests_total",
+                        getVerifiedTokenCacheStatsUseCase,
+                        useCase -> useCase.execute().misses())
+                .description("Verified token cache lookups")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(
+                        METRIC_PREFIX + "_invalidations_total",
+                        getVerifiedTokenCacheStatsUseCase,
+                        useCase -> useCase.execute().invalidations())
+                .description("Verified token cache entries invalidated by key removal")
+                .register(registry);
+        Gauge.builder(
+                        METRIC_PREFIX + "_size",
+                        getVerifiedTokenCacheStatsUseCase,
+                        useCase -> useCase.execute().size())
+                .description("Number of entries in the verified token cache")
+                .register(registry);
+    }
+}
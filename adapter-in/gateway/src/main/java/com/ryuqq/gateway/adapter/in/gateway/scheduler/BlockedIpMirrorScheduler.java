@@ -0,0 +1,93 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.ReconcileBlockedIpsUseCase;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SubscribeIpBlockEventsUseCase;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+/**
+ * 노드 로컬 차단 IP 목록 동기화 Scheduler
+ *
+ * <p>요청 경로의 IP 차단 확인은 노드 로컬 사본만 조회합니다. 이 Scheduler가 사본을 Redis와 맞춥니다.
+ *
+ * <ul>
+ *   <li>기동 완료 시 차단/해제 이벤트 구독 시작 (연결이 끊기면 Backoff 후 재구독)
+ *   <li>주기적으로 전체 차단 목록을 다시 읽어 구독이 끊긴 동안 누락된 이벤트 복구 (첫 실행이 기동 시 적재)
+ * </ul>
+ *
+ * <p><strong>설정</strong>:
+ *
+ * <ul>
+ *   <li>gateway.rate-limit.ip-block-reconcile-interval-ms: 전체 조회 주기 (기본값: 30000)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class BlockedIpMirrorScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockedIpMirrorScheduler.class);
+
+    /** 한 번의 전체 조회가 Scheduler Thread를 점유하는 최대 시간 */
+    private static final Duration RECONCILE_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Duration RESUBSCRIBE_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RESUBSCRIBE_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase;
+    private final SubscribeIpBlockEventsUseCase subscribeIpBlockEventsUseCase;
+
+    private volatile Disposable subscription;
+
+    public BlockedIpMirrorScheduler(
+            ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase,
+            SubscribeIpBlockEventsUseCase subscribeIpBlockEventsUseCase) {
+        this.reconcileBlockedIpsUseCase = reconcileBlockedIpsUseCase;
+        this.subscribeIpBlockEventsUseCase = subscribeIpBlockEventsUseCase;
+    }
+
+    /** 기동 완료 후 차단/해제 이벤트 구독 시작 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSubscription() {
+        subscription =
+                subscribeIpBlockEventsUseCase
+                        .execute()
+                        .doOnError(
+                                e ->
+                                        log.warn(
+                                                "IP block event subscription lost: {}",
+                                                e.getMessage()))
+                        .retryWhen(
+                                Retry.backoff(Long.MAX_VALUE, RESUBSCRIBE_MIN_BACKOFF)
+                                        .maxBackoff(RESUBSCRIBE_MAX_BACKOFF))
+                        .subscribe();
+    }
+
+    /** 전체 차단 목록 주기적 재적재 */
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.ip-block-reconcile-interval-ms:30000}")
+    public void reconcile() {
+        try {
+            reconcileBlockedIpsUseCase.execute().block(RECONCILE_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled blocked ip reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    /** 종료 시 구독 해제 */
+    @Override
+    public void destroy() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+}
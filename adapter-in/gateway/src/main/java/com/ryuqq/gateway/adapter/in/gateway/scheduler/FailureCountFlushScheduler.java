@@ -0,0 +1,54 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.FlushFailureCountsUseCase;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Failure Count 주기적 반영 Scheduler
+ *
+ * <p>노드 로컬에서 집계한 실패 횟수(Invalid JWT 등)와 IP 차단을 Redis에 묶음 반영합니다. 요청 경로에서는 로컬 집계만 하므로
+ * 401 응답이 Redis를 기다리지 않습니다.
+ *
+ * <p><strong>설정</strong>:
+ *
+ * <ul>
+ *   <li>gateway.rate-limit.failure-flush-interval-ms: 반영 주기 (기본값: 200)
+ * </ul>
+ *
+ * <p>반영 실패 시 증가분을 유지하고 다음 주기에 다시 시도합니다.
+ *
+ * <p><strong>Scheduler Thread</strong>: 반영이 밀리면 임계값을 넘은 IP의 차단도 그만큼 늦어집니다. 다른 작업의
+ * {@code block()} 대기에 200ms 주기가 밀리지 않도록 {@code spring.task.scheduling.pool.size}에 이 작업의
+ * Thread를 포함합니다 (gateway.yml).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FailureCountFlushScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FailureCountFlushScheduler.class);
+
+    /** 한 번의 반영이 Scheduler Thread를 점유하는 최대 시간 */
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final FlushFailureCountsUseCase flushFailureCountsUseCase;
+
+    public FailureCountFlushScheduler(FlushFailureCountsUseCase flushFailureCountsUseCase) {
+        this.flushFailureCountsUseCase = flushFailureCountsUseCase;
+    }
+
+    /** 로컬 실패 횟수 주기적 반영 */
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.failure-flush-interval-ms:200}")
+    public void flushFailureCounts() {
+        try {
+            flushFailureCountsUseCase.execute().block(FLUSH_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled failure count flush failed: {}", e.getMessage());
+        }
+    }
+}
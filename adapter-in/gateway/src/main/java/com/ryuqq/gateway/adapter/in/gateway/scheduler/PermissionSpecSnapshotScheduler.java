@@ -0,0 +1,51 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import com.ryuqq.gateway.application.authorization.port.in.command.SyncPermissionSpecSnapshotUseCase;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Permission Spec Snapshot 동기화 Scheduler
+ *
+ * <p>요청 경로의 권한 검사는 노드 로컬 Permission Spec Snapshot만 조회합니다. 이 Scheduler가 Redis에 공유된 Spec 버전을
+ * 확인하여, 다른 노드가 Webhook으로 받은 변경을 반영합니다 (첫 실행이 기동 시 적재).
+ *
+ * <p><strong>설정</strong>:
+ *
+ * <ul>
+ *   <li>gateway.permission-spec.sync-interval-ms: 버전 확인 주기 (기본값: 1000)
+ *   <li>gateway.permission-spec.max-age-seconds: Snapshot 최대 보관 시간 (기본값: 30)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionSpecSnapshotScheduler {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(PermissionSpecSnapshotScheduler.class);
+
+    /** 한 번의 동기화가 Scheduler Thread를 점유하는 최대 시간 */
+    private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(10);
+
+    private final SyncPermissionSpecSnapshotUseCase syncPermissionSpecSnapshotUseCase;
+
+    public PermissionSpecSnapshotScheduler(
+            SyncPermissionSpecSnapshotUseCase syncPermissionSpecSnapshotUseCase) {
+        this.syncPermissionSpecSnapshotUseCase = syncPermissionSpecSnapshotUseCase;
+    }
+
+    /** 공유 버전과 Snapshot 주기적 동기화 */
+    @Scheduled(fixedDelayString = "${gateway.permission-spec.sync-interval-ms:1000}")
+    public void syncSnapshot() {
+        try {
+            syncPermissionSpecSnapshotUseCase.execute().block(SYNC_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled permission spec snapshot sync failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import com.ryuqq.gateway.application.authentication.port.in.command.RefreshPublicKeysUseCase;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Public Key 주기적 갱신 Scheduler
+ *
+ * <p>AuthHub JWKS를 주기적으로 조회하여 In-Process JWKS Snapshot과 Redis Cache를 갱신합니다. 요청 경로에서는 Snapshot만
+ * 조회하므로 Redis/AuthHub 호출이 발생하지 않습니다.
+ *
+ * <p><strong>설정</strong>:
+ *
+ * <ul>
+ *   <li>gateway.jwks.refresh-interval-ms: 갱신 주기 (기본값: 300000 = 5분)
+ *   <li>gateway.jwks.refresh-initial-delay-ms: 첫 갱신 지연 (기본값: 0 = 시작 즉시)
+ * </ul>
+ *
+ * <p>갱신 실패 시 기존 Snapshot을 유지하고 다음 주기에 다시 시도합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PublicKeyRefreshScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicKeyRefreshScheduler.class);
+
+    /** 한 번의 갱신이 Scheduler Thread를 점유하는 최대 시간 */
+    private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RefreshPublicKeysUseCase refreshPublicKeysUseCase;
+
+    public PublicKeyRefreshScheduler(RefreshPublicKeysUseCase refreshPublicKeysUseCase) {
+        this.refreshPublicKeysUseCase = refreshPublicKeysUseCase;
+    }
+
+    /** JWKS 주기적 갱신 */
+    @Scheduled(
+            fixedDelayString = "${gateway.jwks.refresh-interval-ms:300000}",
+            initialDelayString = "${gateway.jwks.refresh-initial-delay-ms:0}")
+    public void refreshPublicKeys() {
+        try {
+            refreshPublicKeysUseCase.execute().block(REFRESH_TIMEOUT);
+            log.debug("Public keys refreshed by scheduler");
+        } catch (RuntimeException e) {
+            log.warn("Scheduled public key refresh failed: {}", e.getMessage());
+        }
+    }
+}
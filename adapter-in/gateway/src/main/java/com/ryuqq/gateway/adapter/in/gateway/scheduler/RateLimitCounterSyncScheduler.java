@@ -0,0 +1,55 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SyncRateLimitCountersUseCase;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit Counter 주기적 동기화 Scheduler
+ *
+ * <p>HYBRID 모드 LimitType의 로컬 증가분을 Redis에 묶음 반영합니다. 요청 경로에서는 로컬 카운터만 조회하므로 Redis 호출이
+ * 발생하지 않습니다.
+ *
+ * <p><strong>설정</strong>:
+ *
+ * <ul>
+ *   <li>gateway.rate-limit.hybrid-sync-interval-ms: 동기화 주기 (기본값: 100)
+ * </ul>
+ *
+ * <p>동기화 실패 시 증가분을 유지하고 다음 주기에 다시 시도합니다.
+ *
+ * <p><strong>Scheduler Thread</strong>: Spring 기본 TaskScheduler는 Thread가 1개이므로, 다른 작업의
+ * {@code block()} 대기(최대 30초)가 100ms 주기를 밀어내지 않도록 {@code spring.task.scheduling.pool.size}를
+ * {@code @Scheduled} 작업 수 이상으로 설정합니다 (gateway.yml).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RateLimitCounterSyncScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitCounterSyncScheduler.class);
+
+    /** 한 번의 동기화가 Scheduler Thread를 점유하는 최대 시간 */
+    private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(5);
+
+    private final SyncRateLimitCountersUseCase syncRateLimitCountersUseCase;
+
+    public RateLimitCounterSyncScheduler(
+            SyncRateLimitCountersUseCase syncRateLimitCountersUseCase) {
+        this.syncRateLimitCountersUseCase = syncRateLimitCountersUseCase;
+    }
+
+    /** HYBRID 모드 로컬 카운터 주기적 동기화 */
+    @Scheduled(fixedDelayString = "${gateway.rate-limit.hybrid-sync-interval-ms:100}")
+    public void syncCounters() {
+        try {
+            syncRateLimitCountersUseCase.execute().block(SYNC_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled rate limit counter sync failed: {}", e.getMessage());
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.ryuqq.gateway.adapter.in.gateway.common.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
 import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -12,6 +12,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
 
 /**
  * JwtPayloadParser 테스트
@@ -23,12 +26,10 @@ import org.junit.jupiter.api.Test;
 class JwtPayloadParserTest {
 
     private JwtPayloadParser jwtPayloadParser;
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        objectMapper = new ObjectMapper();
-        jwtPayloadParser = new JwtPayloadParser(objectMapper);
+        jwtPayloadParser = new JwtPayloadParser();
     }
 
     @Nested
@@ -134,6 +135,46 @@ class JwtPayloadParserTest {
         }
     }
 
+    @Nested
+    @DisplayName("Exchange 파싱 결과 재사용")
+    class ExchangeCacheTest {
+
+        @Test
+        @DisplayName("파싱 결과를 Exchange Attribute에 저장하고 같은 토큰이면 재사용한다")
+        void shouldStoreAndReuseParsedJwt() {
+            // given
+            String token =
+                    createTestToken(123L, "tenant-001", Instant.now().getEpochSecond() + 3600);
+            ServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users"));
+
+            // when
+            jwtPayloadParser.extractTokenInfo(exchange, token);
+            ParsedJwt stored = exchange.getAttribute(JwtPayloadParser.PARSED_JWT_ATTRIBUTE);
+            jwtPayloadParser.extractTokenInfo(exchange, token);
+
+            // then
+            assertThat(stored).isNotNull();
+            assertThat(JwtPayloadParser.findParsedJwt(exchange, token)).isSameAs(stored);
+            assertThat((Object) exchange.getAttribute(JwtPayloadParser.PARSED_JWT_ATTRIBUTE))
+                    .isSameAs(stored);
+        }
+
+        @Test
+        @DisplayName("다른 토큰이면 저장된 파싱 결과를 반환하지 않는다")
+        void shouldNotReturnParsedJwtForDifferentToken() {
+            // given
+            String token =
+                    createTestToken(123L, "tenant-001", Instant.now().getEpochSecond() + 3600);
+            ServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users"));
+            jwtPayloadParser.extractTokenInfo(exchange, token);
+
+            // when & then
+            assertThat(JwtPayloadParser.findParsedJwt(exchange, "other-token")).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("예외 처리")
     class ExceptionTest {
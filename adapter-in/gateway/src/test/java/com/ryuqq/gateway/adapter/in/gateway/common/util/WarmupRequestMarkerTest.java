@@ -0,0 +1,83 @@
+package com.ryuqq.gateway.adapter.in.gateway.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+/**
+ * WarmupRequestMarker 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+class WarmupRequestMarkerTest {
+
+    private static final InetSocketAddress LOOPBACK = new InetSocketAddress("127.0.0.1", 50000);
+
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
+    @Test
+    @DisplayName("발급된 토큰을 가진 Loopback 요청은 Warm-up 요청이다")
+    void shouldRecognizeLoopbackRequestWithIssuedToken() {
+        // given
+        String token = warmupRequestMarker.issue();
+
+        // when & then
+        assertThat(warmupRequestMarker.isWarmupRequest(exchange(LOOPBACK, token))).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰이 발급되지 않았으면 헤더가 있어도 Warm-up 요청이 아니다")
+    void shouldRejectWhenTokenNotIssued() {
+        assertThat(warmupRequestMarker.isWarmupRequest(exchange(LOOPBACK, "any-token")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 일치하지 않으면 Warm-up 요청이 아니다")
+    void shouldRejectMismatchedToken() {
+        // given
+        warmupRequestMarker.issue();
+
+        // when & then
+        assertThat(warmupRequestMarker.isWarmupRequest(exchange(LOOPBACK, "forged-token")))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Loopback이 아닌 요청은 토큰이 일치해도 Warm-up 요청이 아니다")
+    void shouldRejectNonLoopbackRequest() {
+        // given
+        String token = warmupRequestMarker.issue();
+        InetSocketAddress remote = new InetSocketAddress("203.0.113.10", 50000);
+
+        // when & then
+        assertThat(warmupRequestMarker.isWarmupRequest(exchange(remote, token))).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 후에는 Warm-up 요청으로 인정하지 않는다")
+    void shouldRejectAfterRevoke() {
+        // given
+        String token = warmupRequestMarker.issue();
+
+        // when
+        warmupRequestMarker.revoke();
+
+        // then
+        assertThat(warmupRequestMarker.isWarmupRequest(exchange(LOOPBACK, token))).isFalse();
+    }
+
+    private MockServerWebExchange exchange(InetSocketAddress remoteAddress, String token) {
+        MockServerHttpRequest request =
+                MockServerHttpRequest.get("/api/test")
+                        .remoteAddress(remoteAddress)
+                        .header(WarmupRequestMarker.HEADER, token)
+                        .build();
+        return MockServerWebExchange.from(request);
+    }
+}
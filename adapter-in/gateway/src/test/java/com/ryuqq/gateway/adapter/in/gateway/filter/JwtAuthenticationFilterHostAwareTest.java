@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.PublicPathsProperties;
 import com.ryuqq.gateway.application.authentication.port.in.command.ValidateJwtUseCase;
 import com.ryuqq.gateway.application.ratelimit.port.in.command.RecordFailureUseCase;
@@ -54,6 +55,8 @@ class JwtAuthenticationFilterHostAwareTest {
 
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
     @BeforeEach
     void setUp() {
         // 전역 public paths (host 기반 서비스 제외)
@@ -77,7 +80,8 @@ class JwtAuthenticationFilterHostAwareTest {
                         recordFailureUseCase,
                         publicPathsProperties,
                         clientIpExtractor,
-                        errorResponder);
+                        errorResponder,
+                        warmupRequestMarker);
     }
 
     @Nested
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.adapter.in.gateway.config.PublicPathsProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
@@ -17,6 +18,7 @@ import com.ryuqq.gateway.application.authentication.port.in.command.ValidateJwtU
 import com.ryuqq.gateway.application.ratelimit.dto.command.RecordFailureCommand;
 import com.ryuqq.gateway.application.ratelimit.port.in.command.RecordFailureUseCase;
 import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
+import java.net.InetSocketAddress;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
@@ -67,6 +69,8 @@ class JwtAuthenticationFilterTest {
                     "/api/v1/auth/register",
                     "POST:/api/v1/market/seller-applications");
 
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
     @BeforeEach
     void setUp() {
         lenient().when(publicPathsProperties.getAllPublicPaths()).thenReturn(TEST_PUBLIC_PATHS);
@@ -86,7 +90,8 @@ class JwtAuthenticationFilterTest {
                         recordFailureUseCase,
                         publicPathsProperties,
                         clientIpExtractor,
-                        errorResponder);
+                        errorResponder,
+                        warmupRequestMarker);
     }
 
     /** recordFailureUseCase 기본 동작 설정 - 실패 기록이 필요한 테스트에서만 호출 */
@@ -228,6 +233,33 @@ class JwtAuthenticationFilterTest {
         assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
     }
 
+    @Test
+    @DisplayName("Warm-up 요청의 JWT 검증 실패는 실패 횟수를 기록하지 않고 401을 반환해야 한다")
+    void shouldNotRecordFailureForWarmupRequest() {
+        // given
+        String warmupToken = warmupRequestMarker.issue();
+        MockServerHttpRequest request =
+                MockServerHttpRequest.get("/api/test")
+                        .remoteAddress(new InetSocketAddress("127.0.0.1", 50000))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer invalid-token")
+                        .header(WarmupRequestMarker.HEADER, warmupToken)
+                        .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(TraceIdFilter.TRACE_ID_ATTRIBUTE, "test-trace-id");
+
+        when(validateJwtUseCase.execute(any(ValidateJwtCommand.class)))
+                .thenReturn(Mono.just(new ValidateJwtResponse(null, false)));
+
+        // when
+        Mono<Void> result = jwtAuthenticationFilter.filter(exchange, filterChain);
+
+        // then
+        StepVerifier.create(result).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(recordFailureUseCase, never()).execute(any());
+    }
+
     @Nested
     @DisplayName("Method-aware Public Paths 테스트")
     class MethodAwarePublicPathsTest {
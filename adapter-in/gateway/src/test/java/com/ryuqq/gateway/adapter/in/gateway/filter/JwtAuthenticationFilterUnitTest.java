@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.adapter.in.gateway.config.PublicPathsProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
@@ -67,6 +68,8 @@ class JwtAuthenticationFilterUnitTest {
     private static final List<String> TEST_PUBLIC_PATHS =
             List.of("/actuator/**", "/api/v1/auth/login", "/api/v1/auth/register");
 
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
     @BeforeEach
     void setUp() {
         lenient().when(publicPathsProperties.getAllPublicPaths()).thenReturn(TEST_PUBLIC_PATHS);
@@ -86,7 +89,8 @@ class JwtAuthenticationFilterUnitTest {
                         recordFailureUseCase,
                         publicPathsProperties,
                         clientIpExtractor,
-                        errorResponder);
+                        errorResponder,
+                        warmupRequestMarker);
     }
 
     /** recordFailureUseCase 기본 동작 설정 - 실패 기록이 필요한 테스트에서만 호출 */
@@ -2,7 +2,6 @@ package com.ryuqq.gateway.adapter.in.gateway.filter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -10,16 +9,20 @@ import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.ClientIpExtractor;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.adapter.in.gateway.metrics.GatewayMetrics;
+import com.ryuqq.gateway.application.authorization.dto.query.FindEndpointTemplateQuery;
+import com.ryuqq.gateway.application.authorization.port.in.query.FindEndpointTemplateUseCase;
 import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
-import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
-import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckRateLimitUseCase;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckPreAuthRateLimitUseCase;
 import com.ryuqq.gateway.domain.ratelimit.exception.IpBlockedException;
 import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitExceededException;
-import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAction;
+import java.net.InetSocketAddress;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -29,6 +32,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -47,7 +51,9 @@ class RateLimitFilterTest {
 
     @Mock private RateLimitProperties rateLimitProperties;
 
-    @Mock private CheckRateLimitUseCase checkRateLimitUseCase;
+    @Mock private CheckPreAuthRateLimitUseCase checkPreAuthRateLimitUseCase;
+
+    @Mock private FindEndpointTemplateUseCase findEndpointTemplateUseCase;
 
     @Mock private GatewayFilterChain filterChain;
 
@@ -59,10 +65,15 @@ class RateLimitFilterTest {
 
     private RateLimitFilter rateLimitFilter;
 
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
     @BeforeEach
     void setUp() {
         lenient().when(rateLimitProperties.isEnabled()).thenReturn(true);
         lenient().when(clientIpExtractor.extractWithTrustedProxy(any())).thenReturn("127.0.0.1");
+        lenient()
+                .when(findEndpointTemplateUseCase.execute(any(FindEndpointTemplateQuery.class)))
+                .thenReturn(Optional.of("/api/test"));
 
         // Mock errorResponder - 429 응답
         lenient()
@@ -87,10 +98,12 @@ class RateLimitFilterTest {
         rateLimitFilter =
                 new RateLimitFilter(
                         rateLimitProperties,
-                        checkRateLimitUseCase,
+                        checkPreAuthRateLimitUseCase,
+                        findEndpointTemplateUseCase,
                         clientIpExtractor,
                         gatewayMetrics,
-                        errorResponder);
+                        errorResponder,
+                        warmupRequestMarker);
     }
 
     @Nested
@@ -132,7 +145,8 @@ class RateLimitFilterTest {
 
             // Rate Limit 체크 없이 다음 필터로 진행해야 함
             verify(filterChain).filter(exchange);
-            verify(checkRateLimitUseCase, never()).execute(any(CheckRateLimitCommand.class));
+            verify(checkPreAuthRateLimitUseCase, never())
+                    .execute(any(CheckPreAuthRateLimitCommand.class));
         }
     }
 
@@ -158,7 +172,37 @@ class RateLimitFilterTest {
             StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
 
             verify(filterChain).filter(exchange);
-            verify(checkRateLimitUseCase, never()).execute(any(CheckRateLimitCommand.class));
+            verify(checkPreAuthRateLimitUseCase, never())
+                    .execute(any(CheckPreAuthRateLimitCommand.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Warm-up 요청 테스트")
+    class WarmupRequestTest {
+
+        @Test
+        @DisplayName("Warm-up Synthetic Request는 Rate Limit 체크 없이 다음 필터로 진행")
+        void shouldSkipRateLimitCheckForWarmupRequest() {
+            // given
+            when(rateLimitProperties.isEnabled()).thenReturn(true);
+            String warmupToken = warmupRequestMarker.issue();
+
+            MockServerHttpRequest request =
+                    MockServerHttpRequest.get("/api/test")
+                            .remoteAddress(new InetSocketAddress("127.0.0.1", 50000))
+                            .header(WarmupRequestMarker.HEADER, warmupToken)
+                            .build();
+            MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+            when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when & then
+            StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
+
+            verify(filterChain).filter(exchange);
+            verify(checkPreAuthRateLimitUseCase, never())
+                    .execute(any(CheckPreAuthRateLimitCommand.class));
         }
     }
 
@@ -176,14 +220,9 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            CheckRateLimitResponse ipResponse = CheckRateLimitResponse.allowed(5, 100);
             CheckRateLimitResponse endpointResponse = CheckRateLimitResponse.allowed(10, 1000);
 
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.IP)))
-                    .thenReturn(Mono.just(ipResponse));
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.ENDPOINT)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.just(endpointResponse));
             when(filterChain.filter(exchange)).thenReturn(Mono.empty());
 
@@ -191,6 +230,8 @@ class RateLimitFilterTest {
             StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
 
             verify(filterChain).filter(exchange);
+            verify(checkPreAuthRateLimitUseCase)
+                    .execute(new CheckPreAuthRateLimitCommand("127.0.0.1", "/api/test", "GET"));
         }
 
         @Test
@@ -206,7 +247,7 @@ class RateLimitFilterTest {
             CheckRateLimitResponse deniedResponse =
                     CheckRateLimitResponse.denied(100, 100, 60, RateLimitAction.REJECT);
 
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.just(deniedResponse));
 
             // when
@@ -240,15 +281,10 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            CheckRateLimitResponse ipResponse = CheckRateLimitResponse.allowed(5, 100);
             CheckRateLimitResponse endpointDenied =
                     CheckRateLimitResponse.denied(1000, 1000, 30, RateLimitAction.REJECT);
 
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.IP)))
-                    .thenReturn(Mono.just(ipResponse));
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.ENDPOINT)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.just(endpointDenied));
 
             // when
@@ -264,6 +300,80 @@ class RateLimitFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Endpoint 정규화 테스트")
+    class EndpointNormalizationTest {
+
+        @Test
+        @DisplayName("Permission Spec 경로 템플릿으로 Endpoint를 정규화한다")
+        void shouldUsePermissionTemplate() {
+            // given
+            MockServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/orders/123"));
+            when(findEndpointTemplateUseCase.execute(
+                            new FindEndpointTemplateQuery("/api/v1/orders/123", "GET")))
+                    .thenReturn(Optional.of("/api/v1/orders/{orderId}"));
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
+                    .thenReturn(Mono.just(CheckRateLimitResponse.allowed(1, 1000)));
+            when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
+
+            // then
+            verify(checkPreAuthRateLimitUseCase)
+                    .execute(
+                            new CheckPreAuthRateLimitCommand(
+                                    "127.0.0.1", "/api/v1/orders/{orderId}", "GET"));
+        }
+
+        @Test
+        @DisplayName("Permission Spec에 없으면 매칭된 Route 패턴을 사용한다")
+        void shouldFallBackToRoutePattern() {
+            // given
+            MockServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/carts/7"));
+            exchange.getAttributes()
+                    .put(
+                            ServerWebExchangeUtils.GATEWAY_PREDICATE_MATCHED_PATH_ATTR,
+                            "/api/v1/carts/**");
+            when(findEndpointTemplateUseCase.execute(any(FindEndpointTemplateQuery.class)))
+                    .thenReturn(Optional.empty());
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
+                    .thenReturn(Mono.just(CheckRateLimitResponse.allowed(1, 1000)));
+            when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
+
+            // then
+            verify(checkPreAuthRateLimitUseCase)
+                    .execute(
+                            new CheckPreAuthRateLimitCommand(
+                                    "127.0.0.1", "/api/v1/carts/**", "POST"));
+        }
+
+        @Test
+        @DisplayName("템플릿과 Route 패턴이 모두 없으면 공유 Bucket을 사용한다")
+        void shouldUseUnmatchedBucket() {
+            // given
+            MockServerWebExchange exchange =
+                    MockServerWebExchange.from(MockServerHttpRequest.get("/random/a1b2c3"));
+            when(findEndpointTemplateUseCase.execute(any(FindEndpointTemplateQuery.class)))
+                    .thenReturn(Optional.empty());
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
+                    .thenReturn(Mono.just(CheckRateLimitResponse.allowed(1, 1000)));
+            when(filterChain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(rateLimitFilter.filter(exchange, filterChain)).verifyComplete();
+
+            // then
+            verify(checkPreAuthRateLimitUseCase)
+                    .execute(CheckPreAuthRateLimitCommand.unmatched("127.0.0.1"));
+        }
+    }
+
     @Nested
     @DisplayName("Rate Limit 헤더 테스트")
     class RateLimitHeaderTest {
@@ -279,14 +389,9 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            CheckRateLimitResponse ipResponse = CheckRateLimitResponse.allowed(5, 100);
             CheckRateLimitResponse endpointResponse = CheckRateLimitResponse.allowed(10, 1000);
 
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.IP)))
-                    .thenReturn(Mono.just(ipResponse));
-            when(checkRateLimitUseCase.execute(
-                            argThat(cmd -> cmd != null && cmd.limitType() == LimitType.ENDPOINT)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.just(endpointResponse));
             when(filterChain.filter(exchange)).thenReturn(Mono.empty());
 
@@ -315,7 +420,7 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.error(new IpBlockedException("192.168.1.1", 3600)));
 
             // when
@@ -340,7 +445,7 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.error(new RateLimitExceededException(100, 0, 120)));
 
             // when
@@ -369,7 +474,7 @@ class RateLimitFilterTest {
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
             // Redis 연결 실패 등 예기치 않은 예외 시뮬레이션
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.error(new RuntimeException("Redis connection failed")));
             when(filterChain.filter(exchange)).thenReturn(Mono.empty());
 
@@ -400,7 +505,7 @@ class RateLimitFilterTest {
             CheckRateLimitResponse deniedResponse =
                     CheckRateLimitResponse.denied(100, 100, 60, RateLimitAction.REJECT);
 
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.just(deniedResponse));
 
             // when
@@ -428,7 +533,7 @@ class RateLimitFilterTest {
                             .build();
             MockServerWebExchange exchange = MockServerWebExchange.from(request);
 
-            when(checkRateLimitUseCase.execute(any(CheckRateLimitCommand.class)))
+            when(checkPreAuthRateLimitUseCase.execute(any(CheckPreAuthRateLimitCommand.class)))
                     .thenReturn(Mono.error(new IpBlockedException("192.168.1.1", 3600)));
 
             // when
@@ -461,7 +566,8 @@ class RateLimitFilterTest {
             StepVerifier.create(result).verifyComplete();
 
             verify(filterChain).filter(exchange);
-            verify(checkRateLimitUseCase, never()).execute(any(CheckRateLimitCommand.class));
+            verify(checkPreAuthRateLimitUseCase, never())
+                    .execute(any(CheckPreAuthRateLimitCommand.class));
         }
     }
 }
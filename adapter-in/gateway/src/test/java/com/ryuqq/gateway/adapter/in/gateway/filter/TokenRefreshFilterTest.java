@@ -3,6 +3,7 @@ package com.ryuqq.gateway.adapter.in.gateway.filter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -11,6 +12,7 @@ import static org.mockito.Mockito.when;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
 import com.ryuqq.gateway.adapter.in.gateway.common.util.JwtPayloadParser;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
+import com.ryuqq.gateway.application.authentication.config.TokenRefreshProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.RefreshAccessTokenCommand;
 import com.ryuqq.gateway.application.authentication.dto.response.RefreshAccessTokenResponse;
 import com.ryuqq.gateway.application.authentication.port.in.command.RefreshAccessTokenUseCase;
@@ -21,6 +23,7 @@ import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenReusedExcep
 import com.ryuqq.gateway.domain.authentication.exception.TokenRefreshFailedException;
 import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
 import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -69,7 +72,11 @@ class TokenRefreshFilterTest {
                             return Mono.empty();
                         });
         tokenRefreshFilter =
-                new TokenRefreshFilter(refreshAccessTokenUseCase, jwtPayloadParser, errorResponder);
+                new TokenRefreshFilter(
+                        refreshAccessTokenUseCase,
+                        jwtPayloadParser,
+                        errorResponder,
+                        new TokenRefreshProperties());
     }
 
     @Nested
@@ -102,7 +109,8 @@ class TokenRefreshFilterTest {
             StepVerifier.create(tokenRefreshFilter.filter(exchange, chain)).verifyComplete();
 
             verify(chain).filter(exchange);
-            verify(jwtPayloadParser, never()).extractTokenInfo(anyString());
+            verify(jwtPayloadParser, never())
+                    .extractTokenInfo(any(ServerWebExchange.class), anyString());
         }
 
         @Test
@@ -120,7 +128,8 @@ class TokenRefreshFilterTest {
             StepVerifier.create(tokenRefreshFilter.filter(exchange, chain)).verifyComplete();
 
             verify(chain).filter(exchange);
-            verify(jwtPayloadParser, never()).extractTokenInfo(anyString());
+            verify(jwtPayloadParser, never())
+                    .extractTokenInfo(any(ServerWebExchange.class), anyString());
         }
 
         @Test
@@ -138,7 +147,8 @@ class TokenRefreshFilterTest {
             StepVerifier.create(tokenRefreshFilter.filter(exchange, chain)).verifyComplete();
 
             verify(chain).filter(exchange);
-            verify(jwtPayloadParser, never()).extractTokenInfo(anyString());
+            verify(jwtPayloadParser, never())
+                    .extractTokenInfo(any(ServerWebExchange.class), anyString());
         }
 
         @Test
@@ -147,7 +157,9 @@ class TokenRefreshFilterTest {
             // given
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo notExpiredToken = new ExpiredTokenInfo(false, 1L, "tenant-1");
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(notExpiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(notExpiredToken);
             when(chain.filter(exchange)).thenReturn(Mono.empty());
 
             // when & then
@@ -163,7 +175,9 @@ class TokenRefreshFilterTest {
             // given
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo notExpiredToken = new ExpiredTokenInfo(false, 1L, "tenant-1");
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(notExpiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(notExpiredToken);
             when(chain.filter(exchange)).thenReturn(Mono.empty());
 
             // when
@@ -181,7 +195,8 @@ class TokenRefreshFilterTest {
             // given
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredTokenWithoutIds = new ExpiredTokenInfo(true, null, null);
-            when(jwtPayloadParser.extractTokenInfo("access-token-123"))
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
                     .thenReturn(expiredTokenWithoutIds);
             when(chain.filter(exchange)).thenReturn(Mono.empty());
 
@@ -197,7 +212,8 @@ class TokenRefreshFilterTest {
         void shouldProceedWhenJwtParseFails() {
             // given
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
-            when(jwtPayloadParser.extractTokenInfo("access-token-123"))
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
                     .thenThrow(new JwtPayloadParser.JwtParseException("Invalid JWT"));
             when(chain.filter(exchange)).thenReturn(Mono.empty());
 
@@ -227,7 +243,9 @@ class TokenRefreshFilterTest {
             RefreshAccessTokenResponse refreshResponse =
                     new RefreshAccessTokenResponse(mockTokenPair);
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.just(refreshResponse));
             when(chain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
@@ -261,7 +279,9 @@ class TokenRefreshFilterTest {
             RefreshAccessTokenResponse refreshResponse =
                     new RefreshAccessTokenResponse(mockTokenPair);
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.just(refreshResponse));
             when(chain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
@@ -289,7 +309,9 @@ class TokenRefreshFilterTest {
             RefreshAccessTokenResponse refreshResponse =
                     new RefreshAccessTokenResponse(mockTokenPair);
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.just(refreshResponse));
             when(chain.filter(any(ServerWebExchange.class))).thenReturn(Mono.empty());
@@ -310,6 +332,133 @@ class TokenRefreshFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("filter() 테스트 - Refresh-Ahead")
+    class RefreshAheadTest {
+
+        private TokenRefreshFilter refreshAheadFilter;
+
+        @BeforeEach
+        void setUp() {
+            TokenRefreshProperties properties = new TokenRefreshProperties();
+            properties.setRefreshAheadSeconds(60);
+            refreshAheadFilter =
+                    new TokenRefreshFilter(
+                            refreshAccessTokenUseCase,
+                            jwtPayloadParser,
+                            errorResponder,
+                            properties);
+        }
+
+        @Test
+        @DisplayName("만료 임박 토큰은 기존 토큰으로 전달하고 응답 커밋 시 새 토큰을 설정")
+        void shouldForwardWithCurrentTokenAndApplyRotatedPairOnCommit() {
+            // given
+            ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
+            ExpiredTokenInfo expiringToken =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-1", Instant.now().plusSeconds(30));
+
+            TokenPair mockTokenPair = org.mockito.Mockito.mock(TokenPair.class);
+            when(mockTokenPair.accessTokenValue()).thenReturn("ahead-access-token");
+            when(mockTokenPair.refreshTokenValue()).thenReturn("ahead-refresh-token");
+
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiringToken);
+            when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
+                    .thenReturn(Mono.just(new RefreshAccessTokenResponse(mockTokenPair)));
+            when(chain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(refreshAheadFilter.filter(exchange, chain)).verifyComplete();
+            exchange.getResponse().setComplete().block();
+
+            // then
+            verify(chain).filter(exchange);
+            assertThat(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+                    .isEqualTo("Bearer access-token-123");
+            assertThat(exchange.getResponse().getHeaders().getFirst("X-New-Access-Token"))
+                    .isEqualTo("ahead-access-token");
+            var refreshTokenCookie =
+                    exchange.getResponse().getCookies().getFirst("refresh_token");
+            assertThat(refreshTokenCookie).isNotNull();
+            assertThat(refreshTokenCookie.getValue()).isEqualTo("ahead-refresh-token");
+            assertThat(refreshTokenCookie.isHttpOnly()).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료 임박 구간 밖의 토큰은 갱신하지 않음")
+        void shouldNotRefreshOutsideWindow() {
+            // given
+            ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
+            ExpiredTokenInfo freshToken =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-1", Instant.now().plusSeconds(600));
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(freshToken);
+            when(chain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(refreshAheadFilter.filter(exchange, chain)).verifyComplete();
+
+            // then
+            verify(chain).filter(exchange);
+            verify(refreshAccessTokenUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("클라이언트가 요청을 취소해도 시작된 Refresh는 한 번만 실행되고 예외 없이 취소됨")
+        void shouldDetachRefreshAheadWhenRequestCancelled() {
+            // given
+            ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
+            ExpiredTokenInfo expiringToken =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-1", Instant.now().plusSeconds(30));
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiringToken);
+            when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
+                    .thenReturn(Mono.never());
+            when(chain.filter(exchange)).thenReturn(Mono.never());
+
+            // when
+            StepVerifier.create(refreshAheadFilter.filter(exchange, chain))
+                    .expectSubscription()
+                    .thenCancel()
+                    .verify();
+
+            // then
+            verify(refreshAccessTokenUseCase).execute(any(RefreshAccessTokenCommand.class));
+            assertThat(exchange.getResponse().getHeaders().getFirst("X-New-Access-Token"))
+                    .isNull();
+        }
+
+        @Test
+        @DisplayName("Refresh-Ahead 실패 시에도 요청은 정상 처리되고 새 토큰은 설정되지 않음")
+        void shouldIgnoreRefreshAheadFailure() {
+            // given
+            ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
+            ExpiredTokenInfo expiringToken =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-1", Instant.now().plusSeconds(30));
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiringToken);
+            when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
+                    .thenReturn(Mono.error(new RefreshTokenReusedException("token-id-123")));
+            when(chain.filter(exchange)).thenReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(refreshAheadFilter.filter(exchange, chain)).verifyComplete();
+            exchange.getResponse().setComplete().block();
+
+            // then
+            verify(chain).filter(exchange);
+            verify(errorResponder, never()).unauthorized(any(), any(), any());
+            assertThat(exchange.getResponse().getHeaders().getFirst("X-New-Access-Token"))
+                    .isNull();
+            assertThat(exchange.getResponse().getCookies().getFirst("refresh_token")).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("filter() 테스트 - 토큰 갱신 실패")
     class TokenRefreshFailureTest {
@@ -321,7 +470,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenReusedException("token-id-123")));
 
@@ -338,7 +489,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenExpiredException()));
 
@@ -355,7 +508,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenInvalidException("Invalid signature")));
 
@@ -372,7 +527,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenMissingException()));
 
@@ -389,7 +546,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(
                             Mono.error(
@@ -411,7 +570,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenExpiredException()));
 
@@ -436,7 +597,9 @@ class TokenRefreshFilterTest {
             ServerWebExchange exchange = createExchangeWithAuthAndCookie("/api/v1/users");
             ExpiredTokenInfo expiredToken = new ExpiredTokenInfo(true, 123L, "tenant-1");
 
-            when(jwtPayloadParser.extractTokenInfo("access-token-123")).thenReturn(expiredToken);
+            when(jwtPayloadParser.extractTokenInfo(
+                            any(ServerWebExchange.class), eq("access-token-123")))
+                    .thenReturn(expiredToken);
             when(refreshAccessTokenUseCase.execute(any(RefreshAccessTokenCommand.class)))
                     .thenReturn(Mono.error(new RefreshTokenExpiredException()));
 
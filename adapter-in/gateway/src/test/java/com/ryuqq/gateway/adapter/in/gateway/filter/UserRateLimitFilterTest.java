@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.adapter.in.gateway.common.util.GatewayErrorResponder;
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
 import com.ryuqq.gateway.adapter.in.gateway.config.GatewayFilterOrder;
 import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
@@ -48,6 +49,8 @@ class UserRateLimitFilterTest {
 
     private UserRateLimitFilter userRateLimitFilter;
 
+    private final WarmupRequestMarker warmupRequestMarker = new WarmupRequestMarker();
+
     @BeforeEach
     void setUp() {
         lenient()
@@ -58,7 +61,9 @@ class UserRateLimitFilterTest {
                             exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
                             return Mono.empty();
                         });
-        userRateLimitFilter = new UserRateLimitFilter(checkRateLimitUseCase, errorResponder);
+        userRateLimitFilter =
+                new UserRateLimitFilter(
+                        checkRateLimitUseCase, errorResponder, warmupRequestMarker);
     }
 
     @Nested
@@ -0,0 +1,89 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.ReconcileBlockedIpsUseCase;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SubscribeIpBlockEventsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.publisher.PublisherProbe;
+
+/**
+ * BlockedIpMirrorScheduler 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockedIpMirrorScheduler 단위 테스트")
+class BlockedIpMirrorSchedulerTest {
+
+    @Mock private ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase;
+
+    @Mock private SubscribeIpBlockEventsUseCase subscribeIpBlockEventsUseCase;
+
+    @InjectMocks private BlockedIpMirrorScheduler blockedIpMirrorScheduler;
+
+    @Nested
+    @DisplayName("reconcile 메서드")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("주기적 전체 조회 시 ReconcileBlockedIpsUseCase를 실행한다")
+        void shouldReconcile() {
+            // given
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+
+            // when
+            blockedIpMirrorScheduler.reconcile();
+
+            // then
+            then(reconcileBlockedIpsUseCase).should().execute();
+        }
+
+        @Test
+        @DisplayName("전체 조회 실패 시 예외를 전파하지 않는다")
+        void shouldNotPropagateReconcileFailure() {
+            // given
+            given(reconcileBlockedIpsUseCase.execute())
+                    .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+            // when & then
+            assertThatCode(() -> blockedIpMirrorScheduler.reconcile()).doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 수명 주기")
+    class SubscriptionLifecycleTest {
+
+        @Test
+        @DisplayName("기동 완료 시 구독을 시작하고 종료 시 해제한다")
+        void shouldStartAndStopSubscription() {
+            // given
+            PublisherProbe<Void> probe = PublisherProbe.of(Mono.never());
+            given(subscribeIpBlockEventsUseCase.execute()).willReturn(probe.mono());
+
+            // when
+            blockedIpMirrorScheduler.startSubscription();
+            blockedIpMirrorScheduler.destroy();
+
+            // then
+            probe.assertWasSubscribed();
+            probe.assertWasCancelled();
+        }
+
+        @Test
+        @DisplayName("구독 전에 종료해도 예외를 던지지 않는다")
+        void shouldIgnoreDestroyBeforeStart() {
+            assertThatCode(() -> blockedIpMirrorScheduler.destroy()).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.FlushFailureCountsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+/**
+ * FailureCountFlushScheduler 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FailureCountFlushScheduler 단위 테스트")
+class FailureCountFlushSchedulerTest {
+
+    @Mock private FlushFailureCountsUseCase flushFailureCountsUseCase;
+
+    @InjectMocks private FailureCountFlushScheduler failureCountFlushScheduler;
+
+    @Test
+    @DisplayName("주기적 반영 시 FlushFailureCountsUseCase를 실행한다")
+    void shouldFlushFailureCounts() {
+        // given
+        given(flushFailureCountsUseCase.execute()).willReturn(Mono.empty());
+
+        // when
+        failureCountFlushScheduler.flushFailureCounts();
+
+        // then
+        then(flushFailureCountsUseCase).should().execute();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 예외를 전파하지 않는다")
+    void shouldNotPropagateFlushFailure() {
+        // given
+        given(flushFailureCountsUseCase.execute())
+                .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+        // when & then
+        assertThatCode(() -> failureCountFlushScheduler.flushFailureCounts())
+                .doesNotThrowAnyException();
+    }
+}
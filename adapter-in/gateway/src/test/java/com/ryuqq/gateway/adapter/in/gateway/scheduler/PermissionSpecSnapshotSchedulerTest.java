@@ -0,0 +1,53 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authorization.port.in.command.SyncPermissionSpecSnapshotUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+/**
+ * PermissionSpecSnapshotScheduler 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionSpecSnapshotScheduler 단위 테스트")
+class PermissionSpecSnapshotSchedulerTest {
+
+    @Mock private SyncPermissionSpecSnapshotUseCase syncPermissionSpecSnapshotUseCase;
+
+    @InjectMocks private PermissionSpecSnapshotScheduler permissionSpecSnapshotScheduler;
+
+    @Test
+    @DisplayName("주기적 동기화 시 SyncPermissionSpecSnapshotUseCase를 실행한다")
+    void shouldSyncSnapshot() {
+        // given
+        given(syncPermissionSpecSnapshotUseCase.execute()).willReturn(Mono.empty());
+
+        // when
+        permissionSpecSnapshotScheduler.syncSnapshot();
+
+        // then
+        then(syncPermissionSpecSnapshotUseCase).should().execute();
+    }
+
+    @Test
+    @DisplayName("동기화 실패 시 예외를 전파하지 않는다")
+    void shouldNotPropagateSyncFailure() {
+        // given
+        given(syncPermissionSpecSnapshotUseCase.execute())
+                .willReturn(Mono.error(new RuntimeException("AuthHub unavailable")));
+
+        // when & then
+        assertThatCode(() -> permissionSpecSnapshotScheduler.syncSnapshot())
+                .doesNotThrowAnyException();
+    }
+}
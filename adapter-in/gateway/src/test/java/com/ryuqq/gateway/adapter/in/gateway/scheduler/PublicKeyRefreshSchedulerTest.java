@@ -0,0 +1,53 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.port.in.command.RefreshPublicKeysUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+/**
+ * PublicKeyRefreshScheduler 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicKeyRefreshScheduler 단위 테스트")
+class PublicKeyRefreshSchedulerTest {
+
+    @Mock private RefreshPublicKeysUseCase refreshPublicKeysUseCase;
+
+    @InjectMocks private PublicKeyRefreshScheduler publicKeyRefreshScheduler;
+
+    @Test
+    @DisplayName("주기적 갱신 시 RefreshPublicKeysUseCase를 실행한다")
+    void shouldRefreshPublicKeys() {
+        // given
+        given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+
+        // when
+        publicKeyRefreshScheduler.refreshPublicKeys();
+
+        // then
+        then(refreshPublicKeysUseCase).should().execute();
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 예외를 전파하지 않는다")
+    void shouldNotPropagateRefreshFailure() {
+        // given
+        given(refreshPublicKeysUseCase.execute())
+                .willReturn(Mono.error(new RuntimeException("Failed to refresh public keys")));
+
+        // when & then
+        assertThatCode(() -> publicKeyRefreshScheduler.refreshPublicKeys())
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.gateway.adapter.in.gateway.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SyncRateLimitCountersUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+/**
+ * RateLimitCounterSyncScheduler 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitCounterSyncScheduler 단위 테스트")
+class RateLimitCounterSyncSchedulerTest {
+
+    @Mock private SyncRateLimitCountersUseCase syncRateLimitCountersUseCase;
+
+    @InjectMocks private RateLimitCounterSyncScheduler rateLimitCounterSyncScheduler;
+
+    @Test
+    @DisplayName("주기적 동기화 시 SyncRateLimitCountersUseCase를 실행한다")
+    void shouldSyncCounters() {
+        // given
+        given(syncRateLimitCountersUseCase.execute()).willReturn(Mono.empty());
+
+        // when
+        rateLimitCounterSyncScheduler.syncCounters();
+
+        // then
+        then(syncRateLimitCountersUseCase).should().execute();
+    }
+
+    @Test
+    @DisplayName("동기화 실패 시 예외를 전파하지 않는다")
+    void shouldNotPropagateSyncFailure() {
+        // given
+        given(syncRateLimitCountersUseCase.execute())
+                .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+        // when & then
+        assertThatCode(() -> rateLimitCounterSyncScheduler.syncCounters())
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.IpBlockEventMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.application.ratelimit.port.out.command.IpBlockEventPublishPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * IP 차단 이벤트 발행 Adapter
+ *
+ * <p>IpBlockEventPublishPort 구현체 (Redis Pub/Sub PUBLISH)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IpBlockEventPublishAdapter implements IpBlockEventPublishPort {
+
+    private final IpBlockRedisRepository ipBlockRedisRepository;
+    private final IpBlockEventMapper ipBlockEventMapper;
+
+    public IpBlockEventPublishAdapter(
+            IpBlockRedisRepository ipBlockRedisRepository, IpBlockEventMapper ipBlockEventMapper) {
+        this.ipBlockRedisRepository = ipBlockRedisRepository;
+        this.ipBlockEventMapper = ipBlockEventMapper;
+    }
+
+    /**
+     * IP 차단 이벤트 발행
+     *
+     * @param event IP 차단 이벤트
+     * @return Mono&lt;Void&gt; 발행 완료 시그널
+     */
+    @Override
+    public Mono<Void> publish(IpBlockEvent event) {
+        return ipBlockRedisRepository.publishEvent(ipBlockEventMapper.toMessage(event)).then();
+    }
+}
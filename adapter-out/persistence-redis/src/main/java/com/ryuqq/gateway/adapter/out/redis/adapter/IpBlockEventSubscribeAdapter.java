@@ -0,0 +1,54 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.IpBlockEventMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockEventSubscribePort;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * IP 차단 이벤트 구독 Adapter
+ *
+ * <p>IpBlockEventSubscribePort 구현체 (Redis Pub/Sub SUBSCRIBE)
+ *
+ * <p>형식이 잘못된 메시지는 건너뛰고 구독을 유지합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IpBlockEventSubscribeAdapter implements IpBlockEventSubscribePort {
+
+    private static final Logger log = LoggerFactory.getLogger(IpBlockEventSubscribeAdapter.class);
+
+    private final IpBlockRedisRepository ipBlockRedisRepository;
+    private final IpBlockEventMapper ipBlockEventMapper;
+
+    public IpBlockEventSubscribeAdapter(
+            IpBlockRedisRepository ipBlockRedisRepository, IpBlockEventMapper ipBlockEventMapper) {
+        this.ipBlockRedisRepository = ipBlockRedisRepository;
+        this.ipBlockEventMapper = ipBlockEventMapper;
+    }
+
+    /**
+     * IP 차단 이벤트 구독
+     *
+     * @return Flux&lt;IpBlockEvent&gt; 수신한 이벤트
+     */
+    @Override
+    public Flux<IpBlockEvent> subscribe() {
+        return ipBlockRedisRepository
+                .listenEvents()
+                .<IpBlockEvent>handle(
+                        (message, sink) -> {
+                            try {
+                                sink.next(ipBlockEventMapper.toEvent(message));
+                            } catch (IllegalArgumentException e) {
+                                log.warn("Skipping malformed ip block event: {}", message);
+                            }
+                        });
+    }
+}
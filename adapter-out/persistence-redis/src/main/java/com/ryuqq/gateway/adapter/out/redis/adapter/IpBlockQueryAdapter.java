@@ -16,6 +16,7 @@ import reactor.core.publisher.Mono;
  * <ul>
  *   <li>IP 차단 여부 조회
  *   <li>차단 남은 시간 조회
+ *   <li>차단된 IP 목록 페이지 조회
  * </ul>
  *
  * @author development-team
@@ -69,8 +70,33 @@ public class IpBlockQueryAdapter implements IpBlockQueryPort {
      */
     @Override
     public Flux<IpBlockQueryPort.BlockedIpWithTtl> findAllBlockedIpsWithTtl() {
+        return ipBlockRedisRepository.findAllBlockedIpsWithTtl().map(this::toBlockedIpWithTtl);
+    }
+
+    /**
+     * 차단된 IP 목록 페이지 조회 (만료 시각 순 정렬)
+     *
+     * @param offset 건너뛸 항목 수
+     * @param limit 조회할 최대 항목 수
+     * @param longestFirst true면 만료가 늦은 순
+     * @return Mono&lt;BlockedIpPage&gt; 전체 차단 수와 페이지 항목
+     */
+    @Override
+    public Mono<IpBlockQueryPort.BlockedIpPage> findBlockedIps(
+            long offset, int limit, boolean longestFirst) {
         return ipBlockRedisRepository
-                .findAllBlockedIpsWithTtl()
-                .map(dto -> new IpBlockQueryPort.BlockedIpWithTtl(dto.ip(), dto.ttlSeconds()));
+                .findBlockedIps(offset, limit, longestFirst)
+                .map(this::toBlockedIpPage);
+    }
+
+    private IpBlockQueryPort.BlockedIpPage toBlockedIpPage(
+            IpBlockRedisRepository.BlockedIpPage page) {
+        return new IpBlockQueryPort.BlockedIpPage(
+                page.totalCount(), page.items().stream().map(this::toBlockedIpWithTtl).toList());
+    }
+
+    private IpBlockQueryPort.BlockedIpWithTtl toBlockedIpWithTtl(
+            IpBlockRedisRepository.BlockedIpWithTtl dto) {
+        return new IpBlockQueryPort.BlockedIpWithTtl(dto.ip(), dto.ttlSeconds());
     }
 }
@@ -1,16 +1,14 @@
 package com.ryuqq.gateway.adapter.out.redis.adapter;
 
-import com.ryuqq.gateway.adapter.out.redis.mapper.PermissionSpecMapper;
 import com.ryuqq.gateway.adapter.out.redis.repository.PermissionSpecRedisRepository;
 import com.ryuqq.gateway.application.authorization.port.out.command.PermissionSpecCommandPort;
-import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 /**
  * Permission Spec Command Adapter
  *
- * <p>PermissionSpecCommandPort 구현체 (Redis Cache 저장/삭제)
+ * <p>PermissionSpecCommandPort 구현체 (Redis 공유 버전 저장)
  *
  * @author development-team
  * @since 1.0.0
@@ -19,36 +17,20 @@ import reactor.core.publisher.Mono;
 public class PermissionSpecCommandAdapter implements PermissionSpecCommandPort {
 
     private final PermissionSpecRedisRepository permissionSpecRedisRepository;
-    private final PermissionSpecMapper permissionSpecMapper;
 
     public PermissionSpecCommandAdapter(
-            PermissionSpecRedisRepository permissionSpecRedisRepository,
-            PermissionSpecMapper permissionSpecMapper) {
+            PermissionSpecRedisRepository permissionSpecRedisRepository) {
         this.permissionSpecRedisRepository = permissionSpecRedisRepository;
-        this.permissionSpecMapper = permissionSpecMapper;
     }
 
     /**
-     * Permission Spec 저장 (Cache)
+     * 공유 Permission Spec 버전 저장
      *
-     * @param permissionSpec Permission Spec
+     * @param version Spec 버전
      * @return 완료 Mono
      */
     @Override
-    public Mono<Void> save(PermissionSpec permissionSpec) {
-        return Mono.defer(
-                () ->
-                        permissionSpecRedisRepository.save(
-                                permissionSpecMapper.toEntity(permissionSpec)));
-    }
-
-    /**
-     * Permission Spec 캐시 무효화
-     *
-     * @return 완료 Mono
-     */
-    @Override
-    public Mono<Void> invalidate() {
-        return permissionSpecRedisRepository.delete();
+    public Mono<Void> saveSharedVersion(Long version) {
+        return permissionSpecRedisRepository.saveVersion(version);
     }
 }
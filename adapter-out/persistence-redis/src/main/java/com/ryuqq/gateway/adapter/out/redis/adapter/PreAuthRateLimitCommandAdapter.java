@@ -0,0 +1,110 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
+import com.ryuqq.gateway.application.ratelimit.port.out.command.PreAuthRateLimitCommandPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 전 Rate Limit 일괄 판정 Command Adapter
+ *
+ * <p>PreAuthRateLimitCommandPort 구현체 (Redis Lua Script)
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>IP 차단 Key 구성
+ *   <li>Lua Script 실행 (IP 차단 확인 + IP/Endpoint 카운터 증가)
+ *   <li>Script 결과 문자열을 PreAuthRateLimitResult로 변환
+ * </ul>
+ *
+ * <p>Script 호출은 {@link RateLimitRedisCircuitBreaker}로 보호합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PreAuthRateLimitCommandAdapter implements PreAuthRateLimitCommandPort {
+
+    private final RateLimitRedisRepository rateLimitRedisRepository;
+    private final RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker;
+
+    public PreAuthRateLimitCommandAdapter(
+            RateLimitRedisRepository rateLimitRedisRepository,
+            RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker) {
+        this.rateLimitRedisRepository = rateLimitRedisRepository;
+        this.rateLimitRedisCircuitBreaker = rateLimitRedisCircuitBreaker;
+    }
+
+    /**
+     * IP 차단 확인 및 IP/Endpoint 카운터 증가
+     *
+     * @param ipAddress 클라이언트 IP 주소
+     * @param ipKey IP Rate Limit Key
+     * @param ipLimit IP 한도
+     * @param endpointKey Endpoint Rate Limit Key
+     * @param endpointLimit Endpoint 한도
+     * @param window 시간 윈도우 (TTL)
+     * @param checkIpBlock IP 차단 확인 여부
+     * @return Mono&lt;PreAuthRateLimitResult&gt; 판정 결과 (Redis 사용 불가 시
+     *     RateLimitStoreUnavailableException)
+     */
+    @Override
+    public Mono<PreAuthRateLimitResult> check(
+            String ipAddress,
+            RateLimitKey ipKey,
+            int ipLimit,
+            RateLimitKey endpointKey,
+            int endpointLimit,
+            Duration window,
+            boolean checkIpBlock) {
+        return rateLimitRedisCircuitBreaker
+                .protect(
+                        rateLimitRedisRepository.checkPreAuth(
+                                IpBlockRedisRepository.buildKey(ipAddress),
+                                ipKey.value(),
+                                ipLimit,
+                                endpointKey.value(),
+                                endpointLimit,
+                                window,
+                                checkIpBlock))
+                .map(PreAuthRateLimitCommandAdapter::toResult);
+    }
+
+    /**
+     * Script 결과 변환
+     *
+     * @param raw {@code 판정,retryAfter,ipCount,endpointCount} 형식의 결과
+     * @return PreAuthRateLimitResult
+     * @throws IllegalStateException 형식이 올바르지 않은 경우
+     */
+    static PreAuthRateLimitResult toResult(String raw) {
+        String[] parts = raw.split(",");
+        if (parts.length != 4) {
+            throw new IllegalStateException("Unexpected pre-auth rate limit result: " + raw);
+        }
+        long retryAfterSeconds = Long.parseLong(parts[1]);
+        long ipCount = Long.parseLong(parts[2]);
+        long endpointCount = Long.parseLong(parts[3]);
+
+        return switch (parts[0]) {
+            case "B" -> PreAuthRateLimitResult.ipBlocked(retryAfterSeconds);
+            case "I" ->
+                    PreAuthRateLimitResult.exceeded(
+                            LimitType.IP, retryAfterSeconds, ipCount, endpointCount);
+            case "E" ->
+                    PreAuthRateLimitResult.exceeded(
+                            LimitType.ENDPOINT, retryAfterSeconds, ipCount, endpointCount);
+            case "A" -> PreAuthRateLimitResult.allowed(ipCount, endpointCount);
+            default ->
+                    throw new IllegalStateException(
+                            "Unexpected pre-auth rate limit result: " + raw);
+        };
+    }
+}
@@ -1,9 +1,14 @@
 package com.ryuqq.gateway.adapter.out.redis.adapter;
 
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
 import com.ryuqq.gateway.application.ratelimit.port.out.command.RateLimitCounterCommandPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -16,9 +21,13 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>카운터 증가 및 TTL 설정 (원자적 연산)
- *   <li>카운터 삭제
+ *   <li>로컬 증가분 일괄 반영 (원자적 연산)
+ *   <li>SLIDING_WINDOW, GCRA 판정 (원자적 연산) 및 Script 결과 변환
+ *   <li>카운터 삭제 (모든 알고리즘의 Key)
  * </ul>
  *
+ * <p>카운터 증가와 판정은 {@link RateLimitRedisCircuitBreaker}로 보호합니다. 관리 작업인 삭제는 보호하지 않습니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -26,9 +35,13 @@ import reactor.core.publisher.Mono;
 public class RateLimitCounterCommandAdapter implements RateLimitCounterCommandPort {
 
     private final RateLimitRedisRepository rateLimitRedisRepository;
+    private final RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker;
 
-    public RateLimitCounterCommandAdapter(RateLimitRedisRepository rateLimitRedisRepository) {
+    public RateLimitCounterCommandAdapter(
+            RateLimitRedisRepository rateLimitRedisRepository,
+            RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker) {
         this.rateLimitRedisRepository = rateLimitRedisRepository;
+        this.rateLimitRedisCircuitBreaker = rateLimitRedisCircuitBreaker;
     }
 
     /**
@@ -40,17 +53,84 @@ public class RateLimitCounterCommandAdapter implements RateLimitCounterCommandPo
      */
     @Override
     public Mono<Long> incrementAndGet(RateLimitKey key, Duration window) {
-        return rateLimitRedisRepository.incrementAndExpire(key.value(), window);
+        return rateLimitRedisCircuitBreaker.protect(
+                rateLimitRedisRepository.incrementAndExpire(key.value(), window));
+    }
+
+    /**
+     * 카운터를 지정한 값만큼 증가 및 TTL 설정
+     *
+     * @param key Rate Limit Key
+     * @param delta 증가량
+     * @param window 시간 윈도우 (TTL)
+     * @return Mono&lt;Long&gt; 증가 후 카운트 값
+     */
+    @Override
+    public Mono<Long> incrementBy(RateLimitKey key, long delta, Duration window) {
+        return rateLimitRedisCircuitBreaker.protect(
+                rateLimitRedisRepository.incrementByAndExpire(key.value(), delta, window));
+    }
+
+    /**
+     * 알고리즘별 판정 및 상태 갱신
+     *
+     * @param key Rate Limit Key (알고리즘 접미사 적용 전)
+     * @param algorithm 판정 알고리즘 (SLIDING_WINDOW 또는 GCRA)
+     * @param limit Window당 최대 요청 수
+     * @param window 시간 윈도우
+     * @return Mono&lt;RateLimitDecision&gt; 판정 결과
+     * @throws IllegalArgumentException FIXED_WINDOW인 경우 (incrementAndGet 사용)
+     */
+    @Override
+    public Mono<RateLimitDecision> acquire(
+            RateLimitKey key, RateLimitAlgorithm algorithm, int limit, Duration window) {
+        if (algorithm.isFixedWindow()) {
+            return Mono.error(new IllegalArgumentException("FIXED_WINDOW uses incrementAndGet"));
+        }
+        String algorithmKey = key.forAlgorithm(algorithm).value();
+        Mono<String> result =
+                algorithm == RateLimitAlgorithm.GCRA
+                        ? rateLimitRedisRepository.acquireGcra(algorithmKey, limit, window)
+                        : rateLimitRedisRepository.acquireSlidingWindow(
+                                algorithmKey, limit, window);
+        return rateLimitRedisCircuitBreaker
+                .protect(result)
+                .map(RateLimitCounterCommandAdapter::toDecision);
     }
 
     /**
      * 카운터 삭제
      *
+     * <p>알고리즘 변경 전후의 상태가 남지 않도록 모든 알고리즘의 Key를 한 번에 삭제합니다.
+     *
      * @param key Rate Limit Key
      * @return Mono&lt;Boolean&gt; 삭제 성공 여부
      */
     @Override
     public Mono<Boolean> delete(RateLimitKey key) {
-        return rateLimitRedisRepository.delete(key.value());
+        List<String> keys =
+                Arrays.stream(RateLimitAlgorithm.values())
+                        .map(algorithm -> key.forAlgorithm(algorithm).value())
+                        .toList();
+        return rateLimitRedisRepository.deleteAll(keys);
+    }
+
+    /**
+     * Script 결과 변환
+     *
+     * @param raw {@code 허용여부(1/0),remaining,retryAfterMillis} 형식의 결과
+     * @return RateLimitDecision
+     * @throws IllegalStateException 형식이 올바르지 않은 경우
+     */
+    static RateLimitDecision toDecision(String raw) {
+        String[] parts = raw.split(",");
+        if (parts.length != 3) {
+            throw new IllegalStateException("Unexpected rate limit decision: " + raw);
+        }
+        return switch (parts[0]) {
+            case "1" -> RateLimitDecision.allow(Long.parseLong(parts[1]));
+            case "0" -> RateLimitDecision.deny(Long.parseLong(parts[2]));
+            default -> throw new IllegalStateException("Unexpected rate limit decision: " + raw);
+        };
     }
 }
@@ -1,8 +1,10 @@
 package com.ryuqq.gateway.adapter.out.redis.adapter;
 
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
 import com.ryuqq.gateway.application.ratelimit.port.out.query.RateLimitCounterQueryPort;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -15,9 +17,12 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>현재 카운터 값 조회
+ *   <li>여러 카운터 합계 조회 (MGET 1회)
  *   <li>남은 TTL 조회
  * </ul>
  *
+ * <p>요청 경로에서 호출되는 합계 조회(SHARDED 모드)는 {@link RateLimitRedisCircuitBreaker}로 보호합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -25,9 +30,13 @@ import reactor.core.publisher.Mono;
 public class RateLimitCounterQueryAdapter implements RateLimitCounterQueryPort {
 
     private final RateLimitRedisRepository rateLimitRedisRepository;
+    private final RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker;
 
-    public RateLimitCounterQueryAdapter(RateLimitRedisRepository rateLimitRedisRepository) {
+    public RateLimitCounterQueryAdapter(
+            RateLimitRedisRepository rateLimitRedisRepository,
+            RateLimitRedisCircuitBreaker rateLimitRedisCircuitBreaker) {
         this.rateLimitRedisRepository = rateLimitRedisRepository;
+        this.rateLimitRedisCircuitBreaker = rateLimitRedisCircuitBreaker;
     }
 
     /**
@@ -41,6 +50,19 @@ public class RateLimitCounterQueryAdapter implements RateLimitCounterQueryPort {
         return rateLimitRedisRepository.getCount(key.value());
     }
 
+    /**
+     * 여러 카운터 값의 합계 조회
+     *
+     * @param keys Rate Limit Key 목록
+     * @return Mono&lt;Long&gt; 합계 (없는 Key는 0)
+     */
+    @Override
+    public Mono<Long> sumCounts(List<RateLimitKey> keys) {
+        return rateLimitRedisCircuitBreaker.protect(
+                rateLimitRedisRepository.sumCounts(
+                        keys.stream().map(RateLimitKey::value).toList()));
+    }
+
     /**
      * 남은 TTL 조회 (초)
      *
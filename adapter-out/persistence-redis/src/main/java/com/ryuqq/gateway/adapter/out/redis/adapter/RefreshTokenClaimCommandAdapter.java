@@ -0,0 +1,67 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.repository.RefreshTokenBlacklistRedisRepository;
+import com.ryuqq.gateway.application.authentication.port.out.command.RefreshTokenClaimCommandPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Refresh Token Claim Command Adapter
+ *
+ * <p>RefreshTokenClaimCommandPort 구현체 (Redis Lua Script)
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>Refresh Token 선점 (Lock + 재사용 확인 + 소비 표시, 1 Round Trip)
+ *   <li>Rotation 실패 시 자신의 선점 해제
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RefreshTokenClaimCommandAdapter implements RefreshTokenClaimCommandPort {
+
+    private final RefreshTokenBlacklistRedisRepository refreshTokenBlacklistRedisRepository;
+
+    public RefreshTokenClaimCommandAdapter(
+            RefreshTokenBlacklistRedisRepository refreshTokenBlacklistRedisRepository) {
+        this.refreshTokenBlacklistRedisRepository = refreshTokenBlacklistRedisRepository;
+    }
+
+    /**
+     * Refresh Token 선점 (Atomic)
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점할 Refresh Token
+     * @param claimId 선점 식별자
+     * @param leaseSeconds 선점 유지 시간 (초)
+     * @return Mono&lt;RefreshTokenClaimStatus&gt; 선점 결과
+     */
+    @Override
+    public Mono<RefreshTokenClaimStatus> claim(
+            String tenantId, RefreshToken refreshToken, String claimId, long leaseSeconds) {
+        return refreshTokenBlacklistRedisRepository
+                .claim(tenantId, refreshToken.value(), claimId, Duration.ofSeconds(leaseSeconds))
+                .map(RefreshTokenClaimStatus::valueOf);
+    }
+
+    /**
+     * Refresh Token 선점 해제
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점한 Refresh Token
+     * @param claimId 선점 식별자
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> release(String tenantId, RefreshToken refreshToken, String claimId) {
+        return refreshTokenBlacklistRedisRepository
+                .releaseClaim(tenantId, refreshToken.value(), claimId)
+                .then();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.RotatedTokenPairMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.RotatedTokenPairRedisRepository;
+import com.ryuqq.gateway.application.authentication.port.out.command.RotatedTokenPairCommandPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Command Adapter
+ *
+ * <p>RotatedTokenPairCommandPort 구현체 (Redis)
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>Rotation 결과 저장 (SET + 짧은 TTL)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RotatedTokenPairCommandAdapter implements RotatedTokenPairCommandPort {
+
+    private final RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository;
+    private final RotatedTokenPairMapper rotatedTokenPairMapper;
+
+    public RotatedTokenPairCommandAdapter(
+            RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository,
+            RotatedTokenPairMapper rotatedTokenPairMapper) {
+        this.rotatedTokenPairRedisRepository = rotatedTokenPairRedisRepository;
+        this.rotatedTokenPairMapper = rotatedTokenPairMapper;
+    }
+
+    /**
+     * Rotation 결과 저장
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @param rotatedPair 새로 발급된 Token Pair
+     * @param ttlSeconds TTL (초)
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> save(
+            String tenantId, RefreshToken consumedToken, TokenPair rotatedPair, long ttlSeconds) {
+        return rotatedTokenPairRedisRepository
+                .save(
+                        tenantId,
+                        consumedToken.value(),
+                        rotatedTokenPairMapper.toEntity(rotatedPair),
+                        Duration.ofSeconds(ttlSeconds))
+                .then();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.RotatedTokenPairMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.RotatedTokenPairRedisRepository;
+import com.ryuqq.gateway.application.authentication.port.out.query.RotatedTokenPairQueryPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Query Adapter
+ *
+ * <p>RotatedTokenPairQueryPort 구현체 (Redis)
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>소비된 Refresh Token으로 발급된 Token Pair 조회 (GET)
+ *   <li>공유 기간이 지났으면 empty Mono 반환
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RotatedTokenPairQueryAdapter implements RotatedTokenPairQueryPort {
+
+    private final RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository;
+    private final RotatedTokenPairMapper rotatedTokenPairMapper;
+
+    public RotatedTokenPairQueryAdapter(
+            RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository,
+            RotatedTokenPairMapper rotatedTokenPairMapper) {
+        this.rotatedTokenPairRedisRepository = rotatedTokenPairRedisRepository;
+        this.rotatedTokenPairMapper = rotatedTokenPairMapper;
+    }
+
+    /**
+     * 소비된 Refresh Token으로 발급된 Token Pair 조회
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @return Mono&lt;TokenPair&gt; (없으면 empty)
+     */
+    @Override
+    public Mono<TokenPair> findByConsumedToken(String tenantId, RefreshToken consumedToken) {
+        return rotatedTokenPairRedisRepository
+                .findByConsumedToken(tenantId, consumedToken.value())
+                .map(rotatedTokenPairMapper::toTokenPair);
+    }
+}
@@ -4,10 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ryuqq.gateway.adapter.out.redis.entity.PermissionHashEntity;
-import com.ryuqq.gateway.adapter.out.redis.entity.PermissionSpecEntity;
 import com.ryuqq.gateway.adapter.out.redis.entity.PublicKeyEntity;
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
 import com.ryuqq.gateway.adapter.out.redis.entity.TenantConfigEntity;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
 import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
 import io.lettuce.core.metrics.MicrometerOptions;
 import io.lettuce.core.resource.ClientResources;
@@ -39,6 +40,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  *   <li>ReactiveRedisConnectionFactory 생성
  *   <li>Entity별 ReactiveRedisTemplate 생성
  *   <li>JSON 직렬화 설정
+ *   <li>Hot Path 명령 묶음 전송용 RedisClient 생성 (RedisCommandBatcher)
  * </ul>
  *
  * <p><strong>Connection Pool 설정</strong>:
@@ -86,6 +88,17 @@ public class LettuceConfig {
                 .build();
     }
 
+    /**
+     * Command Batching 전용 RedisClient
+     *
+     * <p>RedisCommandBatcher가 Auto Flush를 끈 전용 Connection을 여는 데 사용합니다. 같은 ClientResources를 공유하여
+     * 명령 레이턴시 메트릭도 함께 수집됩니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient batchingRedisClient(ClientResources clientResources) {
+        return RedisClient.create(clientResources);
+    }
+
     /** Reactive Redis Connection Factory */
     @Bean
     @Primary
@@ -149,19 +162,19 @@ public class LettuceConfig {
         return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, context);
     }
 
-    /** ReactiveRedisTemplate for PermissionSpecEntity */
+    /** ReactiveRedisTemplate for PermissionHashEntity */
     @Bean
-    public ReactiveRedisTemplate<String, PermissionSpecEntity> permissionSpecRedisTemplate(
+    public ReactiveRedisTemplate<String, PermissionHashEntity> permissionHashRedisTemplate(
             ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-        Jackson2JsonRedisSerializer<PermissionSpecEntity> serializer =
-                new Jackson2JsonRedisSerializer<>(objectMapper, PermissionSpecEntity.class);
+        Jackson2JsonRedisSerializer<PermissionHashEntity> serializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, PermissionHashEntity.class);
 
-        RedisSerializationContext<String, PermissionSpecEntity> context =
-                RedisSerializationContext.<String, PermissionSpecEntity>newSerializationContext(
+        RedisSerializationContext<String, PermissionHashEntity> context =
+                RedisSerializationContext.<String, PermissionHashEntity>newSerializationContext(
                                 new StringRedisSerializer())
                         .key(new StringRedisSerializer())
                         .value(serializer)
@@ -172,19 +185,19 @@ public class LettuceConfig {
         return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, context);
     }
 
-    /** ReactiveRedisTemplate for PermissionHashEntity */
+    /** ReactiveRedisTemplate for TenantConfigEntity */
     @Bean
-    public ReactiveRedisTemplate<String, PermissionHashEntity> permissionHashRedisTemplate(
+    public ReactiveRedisTemplate<String, TenantConfigEntity> tenantConfigRedisTemplate(
             ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
-        Jackson2JsonRedisSerializer<PermissionHashEntity> serializer =
-                new Jackson2JsonRedisSerializer<>(objectMapper, PermissionHashEntity.class);
+        Jackson2JsonRedisSerializer<TenantConfigEntity> serializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, TenantConfigEntity.class);
 
-        RedisSerializationContext<String, PermissionHashEntity> context =
-                RedisSerializationContext.<String, PermissionHashEntity>newSerializationContext(
+        RedisSerializationContext<String, TenantConfigEntity> context =
+                RedisSerializationContext.<String, TenantConfigEntity>newSerializationContext(
                                 new StringRedisSerializer())
                         .key(new StringRedisSerializer())
                         .value(serializer)
@@ -195,19 +208,15 @@ public class LettuceConfig {
         return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, context);
     }
 
-    /** ReactiveRedisTemplate for TenantConfigEntity */
+    /** ReactiveRedisTemplate for RotatedTokenPairEntity */
     @Bean
-    public ReactiveRedisTemplate<String, TenantConfigEntity> tenantConfigRedisTemplate(
+    public ReactiveRedisTemplate<String, RotatedTokenPairEntity> rotatedTokenPairRedisTemplate(
             ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        Jackson2JsonRedisSerializer<TenantConfigEntity> serializer =
-                new Jackson2JsonRedisSerializer<>(objectMapper, TenantConfigEntity.class);
+        Jackson2JsonRedisSerializer<RotatedTokenPairEntity> serializer =
+                new Jackson2JsonRedisSerializer<>(new ObjectMapper(), RotatedTokenPairEntity.class);
 
-        RedisSerializationContext<String, TenantConfigEntity> context =
-                RedisSerializationContext.<String, TenantConfigEntity>newSerializationContext(
+        RedisSerializationContext<String, RotatedTokenPairEntity> context =
+                RedisSerializationContext.<String, RotatedTokenPairEntity>newSerializationContext(
                                 new StringRedisSerializer())
                         .key(new StringRedisSerializer())
                         .value(serializer)
@@ -0,0 +1,130 @@
+package com.ryuqq.gateway.adapter.out.redis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Rate Limit Redis Circuit Breaker Configuration Properties
+ *
+ * <p>요청 경로 Rate Limit Redis 호출의 Timeout 및 Circuit Breaker 설정
+ * (gateway.redis.rate-limit-circuit-breaker.* 기반)
+ *
+ * <pre>{@code
+ * gateway:
+ *   redis:
+ *     rate-limit-circuit-breaker:
+ *       enabled: true
+ *       call-timeout-ms: 100
+ *       sliding-window-size: 20
+ *       minimum-number-of-calls: 10
+ *       failure-rate-threshold: 50
+ *       slow-call-duration-threshold-ms: 50
+ *       slow-call-rate-threshold: 80
+ *       wait-duration-in-open-state-ms: 5000
+ *       permitted-calls-in-half-open: 5
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.redis.rate-limit-circuit-breaker")
+public class RateLimitCircuitBreakerProperties {
+
+    /** Circuit Breaker 활성화 여부 (false면 Timeout 없이 Redis 오류를 그대로 전파) (기본값: true) */
+    private boolean enabled = true;
+
+    /** 호출당 최대 대기 시간 - 초과 시 실패로 기록 (기본값: 100ms) */
+    private long callTimeoutMs = 100;
+
+    /** 실패율 계산에 사용하는 최근 호출 수 (기본값: 20) */
+    private int slidingWindowSize = 20;
+
+    /** 실패율을 계산하기 위한 최소 호출 수 (기본값: 10) */
+    private int minimumNumberOfCalls = 10;
+
+    /** Open 전환 실패율 (%) (기본값: 50) */
+    private float failureRateThreshold = 50;
+
+    /** 느린 호출로 판단하는 응답 시간 (기본값: 50ms) */
+    private long slowCallDurationThresholdMs = 50;
+
+    /** Open 전환 느린 호출 비율 (%) (기본값: 80) */
+    private float slowCallRateThreshold = 80;
+
+    /** Open 상태 유지 시간 - 이후 Half-Open으로 전환하여 Redis 복구 확인 (기본값: 5000ms) */
+    private long waitDurationInOpenStateMs = 5000;
+
+    /** Half-Open 상태에서 허용하는 확인 호출 수 (기본값: 5) */
+    private int permittedCallsInHalfOpen = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getCallTimeoutMs() {
+        return callTimeoutMs;
+    }
+
+    public void setCallTimeoutMs(long callTimeoutMs) {
+        this.callTimeoutMs = callTimeoutMs;
+    }
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(float failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public long getSlowCallDurationThresholdMs() {
+        return slowCallDurationThresholdMs;
+    }
+
+    public void setSlowCallDurationThresholdMs(long slowCallDurationThresholdMs) {
+        this.slowCallDurationThresholdMs = slowCallDurationThresholdMs;
+    }
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public long getWaitDurationInOpenStateMs() {
+        return waitDurationInOpenStateMs;
+    }
+
+    public void setWaitDurationInOpenStateMs(long waitDurationInOpenStateMs) {
+        this.waitDurationInOpenStateMs = waitDurationInOpenStateMs;
+    }
+
+    public int getPermittedCallsInHalfOpen() {
+        return permittedCallsInHalfOpen;
+    }
+
+    public void setPermittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+        this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+    }
+}
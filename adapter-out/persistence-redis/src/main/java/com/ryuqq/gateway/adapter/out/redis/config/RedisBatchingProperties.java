@@ -0,0 +1,57 @@
+package com.ryuqq.gateway.adapter.out.redis.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Redis Command Batching Configuration Properties
+ *
+ * <p>Hot Path Redis 명령 묶음 전송 설정 (gateway.redis.batching.* 기반)
+ *
+ * <pre>{@code
+ * gateway:
+ *   redis:
+ *     batching:
+ *       enabled: true
+ *       max-batch-size: 64
+ *       flush-window-micros: 50
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.redis.batching")
+public class RedisBatchingProperties {
+
+    /** 묶음 전송 활성화 여부 (false면 명령마다 즉시 Flush) (기본값: true) */
+    private boolean enabled = true;
+
+    /** 한 번에 Flush하는 최대 명령 수 - 도달 시 Window를 기다리지 않고 즉시 Flush (기본값: 64) */
+    private int maxBatchSize = 64;
+
+    /** 첫 명령 이후 Flush까지 기다리는 시간(마이크로초) (기본값: 50µs) */
+    private long flushWindowMicros = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getFlushWindowMicros() {
+        return flushWindowMicros;
+    }
+
+    public void setFlushWindowMicros(long flushWindowMicros) {
+        this.flushWindowMicros = flushWindowMicros;
+    }
+}
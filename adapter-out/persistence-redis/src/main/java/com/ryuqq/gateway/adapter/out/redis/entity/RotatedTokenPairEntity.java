@@ -0,0 +1,43 @@
+package com.ryuqq.gateway.adapter.out.redis.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Rotated Token Pair Entity (Plain Java, Lombok 금지)
+ *
+ * <p>Refresh Token Rotation 직후 다른 노드의 동시 요청에 공유하기 위해 Redis에 저장되는 Entity
+ *
+ * <p><strong>Redis Key</strong>: {@code tenant:{tenantId}:refresh:rotated:{tokenHash}}
+ *
+ * <p><strong>TTL</strong>: 30초 (gateway.token-refresh.rotated-pair-ttl-seconds)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class RotatedTokenPairEntity {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    @JsonCreator
+    public RotatedTokenPairEntity(
+            @JsonProperty("accessToken") String accessToken,
+            @JsonProperty("refreshToken") String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "RotatedTokenPairEntity{accessToken='***', refreshToken='***'}";
+    }
+}
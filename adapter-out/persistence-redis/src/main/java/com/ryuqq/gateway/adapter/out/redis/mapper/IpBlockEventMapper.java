@@ -0,0 +1,52 @@
+package com.ryuqq.gateway.adapter.out.redis.mapper;
+
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * IP Block Event Mapper
+ *
+ * <p>IpBlockEvent Domain ↔ Pub/Sub 메시지 변환
+ *
+ * <p><strong>메시지 형식</strong>: {@code {expiresAtEpochMillis}|{ipAddress}} (해제 이벤트는 만료 시각 0). IPv6
+ * 주소의 ':'와 겹치지 않도록 '|'로 구분하고 IP를 마지막에 둡니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IpBlockEventMapper {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Domain → 메시지 변환
+     *
+     * @param event IpBlockEvent
+     * @return 메시지
+     */
+    public String toMessage(IpBlockEvent event) {
+        return event.expiresAtEpochMillis() + String.valueOf(SEPARATOR) + event.ipAddress();
+    }
+
+    /**
+     * 메시지 → Domain 변환
+     *
+     * @param message 메시지
+     * @return IpBlockEvent
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public IpBlockEvent toEvent(String message) {
+        int separator = message.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Malformed ip block event: " + message);
+        }
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(message.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed ip block event: " + message, e);
+        }
+        return new IpBlockEvent(message.substring(separator + 1), expiresAt);
+    }
+}
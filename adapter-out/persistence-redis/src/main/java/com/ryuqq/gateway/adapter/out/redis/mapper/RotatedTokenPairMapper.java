@@ -0,0 +1,37 @@
+package com.ryuqq.gateway.adapter.out.redis.mapper;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rotated Token Pair Mapper
+ *
+ * <p>TokenPair Domain ↔ Redis Entity 변환
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RotatedTokenPairMapper {
+
+    /**
+     * Entity → Domain 변환
+     *
+     * @param entity RotatedTokenPairEntity
+     * @return TokenPair
+     */
+    public TokenPair toTokenPair(RotatedTokenPairEntity entity) {
+        return TokenPair.of(entity.getAccessToken(), entity.getRefreshToken());
+    }
+
+    /**
+     * Domain → Entity 변환
+     *
+     * @param domain TokenPair
+     * @return RotatedTokenPairEntity
+     */
+    public RotatedTokenPairEntity toEntity(TokenPair domain) {
+        return new RotatedTokenPairEntity(domain.accessTokenValue(), domain.refreshTokenValue());
+    }
+}
@@ -1,11 +1,16 @@
 package com.ryuqq.gateway.adapter.out.redis.repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -23,6 +28,15 @@ import reactor.core.publisher.Mono;
  *   <li>TTL: 차단 기간 (기본 30분)
  * </ul>
  *
+ * <p><strong>차단 목록 Index</strong>: {@code gateway:blocked_ip_index} (Sorted Set, Member: IP, Score:
+ * 만료 시각 epoch 밀리초). 차단/해제 시 Key와 함께 Lua Script로 원자적으로 갱신하며, 목록 조회는 SCAN + Key별 TTL 조회
+ * 대신 이 Index를 만료 시각 순으로 읽습니다. 만료된 Member는 차단 저장과 목록 조회 시 ZREMRANGEBYSCORE로 정리합니다.
+ *
+ * <p>요청마다 호출되는 차단 확인(EXISTS, TTL)은 {@link RedisCommandBatcher}로 묶어서 전송합니다.
+ *
+ * <p><strong>차단 이벤트 Channel</strong>: {@code gateway:blocked_ip:events} (Pub/Sub, Key가 아니므로 SCAN
+ * 대상 아님)
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -32,14 +46,124 @@ public class IpBlockRedisRepository {
     private static final Logger logger = LoggerFactory.getLogger(IpBlockRedisRepository.class);
     private static final String IP_BLOCK_PREFIX = "gateway:blocked_ip";
     private static final String BLOCKED_VALUE = "blocked";
+    private static final String EVENT_CHANNEL = IP_BLOCK_PREFIX + ":events";
+    private static final String INDEX_KEY = IP_BLOCK_PREFIX + "_index";
+    private static final String BACKFILL_MARKER_KEY = INDEX_KEY + "_backfill";
+    private static final String BACKFILL_RUNNING = "running";
+    private static final String BACKFILL_DONE = "done";
     private static final int SCAN_COUNT = 100;
 
+    /** Index Score - 만료 시간 없음 */
+    private static final String NO_EXPIRY_SCORE = "inf";
+
+    /** TTL 조회 결과 - 만료 시간 없음 */
+    private static final long NO_EXPIRY = -1L;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /** Backfill 진행 표시 유지 시간 - 진행 중인 노드가 죽으면 이 시간 후 다른 노드가 다시 시도 */
+    private static final Duration BACKFILL_RUNNING_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Lua Script: 차단 저장 + Index 갱신 + 만료 Member 정리
+     *
+     * <p>KEYS[1] = 차단 Key, KEYS[2] = Index Key, ARGV[1] = IP, ARGV[2] = TTL (밀리초), ARGV[3] = 차단
+     * 값
+     */
+    private static final String BLOCK_SCRIPT_SOURCE =
+            """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[2])
+            redis.call('ZADD', KEYS[2], now + tonumber(ARGV[2]), ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            return 1
+            """;
+
+    private static final RedisScript<Long> BLOCK_SCRIPT =
+            RedisScript.of(BLOCK_SCRIPT_SOURCE, Long.class);
+
+    /**
+     * Lua Script: 차단 해제 + Index 제거
+     *
+     * <p>KEYS[1] = 차단 Key, KEYS[2] = Index Key, ARGV[1] = IP
+     *
+     * @return 삭제한 차단 Key 수
+     */
+    private static final String UNBLOCK_SCRIPT_SOURCE =
+            """
+            local deleted = redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return deleted
+            """;
+
+    private static final RedisScript<Long> UNBLOCK_SCRIPT =
+            RedisScript.of(UNBLOCK_SCRIPT_SOURCE, Long.class);
+
+    /**
+     * Lua Script: 만료 Member 정리 후 만료 시각 순 범위 조회
+     *
+     * <p>KEYS[1] = Index Key, ARGV[1] = 시작 순위, ARGV[2] = 끝 순위 (포함, -1은 마지막), ARGV[3] = 역순 여부
+     * (1/0)
+     *
+     * <p>결과: {@code now,전체 수,ip1,score1,ip2,score2,...} 형식의 문자열
+     */
+    private static final String RANGE_SCRIPT_SOURCE =
+            """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            local total = redis.call('ZCARD', KEYS[1])
+            local members
+            if ARGV[3] == '1' then
+                members = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES')
+            else
+                members = redis.call('ZRANGE', KEYS[1], ARGV[1], ARGV[2], 'WITHSCORES')
+            end
+            local result = {tostring(now), tostring(total)}
+            for i = 1, #members do
+                result[#result + 1] = members[i]
+            end
+            return table.concat(result, ',')
+            """;
+
+    private static final RedisScript<String> RANGE_SCRIPT =
+            RedisScript.of(RANGE_SCRIPT_SOURCE, String.class);
+
+    /**
+     * Lua Script: Index 도입 전 차단 Key를 Index에 추가 (이미 있으면 유지)
+     *
+     * <p>KEYS[1] = 차단 Key, KEYS[2] = Index Key, ARGV[1] = IP
+     */
+    private static final String BACKFILL_SCRIPT_SOURCE =
+            """
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl == -2 then
+                return 0
+            end
+            local score = '+inf'
+            if ttl >= 0 then
+                local time = redis.call('TIME')
+                score = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) + ttl
+            end
+            return redis.call('ZADD', KEYS[2], 'NX', score, ARGV[1])
+            """;
+
+    private static final RedisScript<Long> BACKFILL_SCRIPT =
+            RedisScript.of(BACKFILL_SCRIPT_SOURCE, Long.class);
+
     private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
+
+    /** 이 노드에서 Backfill 필요 여부를 확인했는지 여부 */
+    private final AtomicBoolean indexBackfilled = new AtomicBoolean();
 
     public IpBlockRedisRepository(
             @Qualifier("reactiveStringRedisTemplate")
-                    ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
+                    ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
         this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.redisCommandBatcher = redisCommandBatcher;
     }
 
     /**
@@ -51,7 +175,14 @@ public class IpBlockRedisRepository {
      */
     public Mono<Boolean> block(String ipAddress, Duration ttl) {
         String key = buildKey(ipAddress);
-        return reactiveStringRedisTemplate.opsForValue().set(key, BLOCKED_VALUE, ttl);
+        return reactiveStringRedisTemplate
+                .execute(
+                        BLOCK_SCRIPT,
+                        List.of(key, INDEX_KEY),
+                        List.of(ipAddress, String.valueOf(ttl.toMillis()), BLOCKED_VALUE))
+                .next()
+                .map(result -> result == 1L)
+                .defaultIfEmpty(false);
     }
 
     /**
@@ -62,7 +193,11 @@ public class IpBlockRedisRepository {
      */
     public Mono<Boolean> unblock(String ipAddress) {
         String key = buildKey(ipAddress);
-        return reactiveStringRedisTemplate.delete(key).map(count -> count > 0);
+        return reactiveStringRedisTemplate
+                .execute(UNBLOCK_SCRIPT, List.of(key, INDEX_KEY), List.of(ipAddress))
+                .next()
+                .map(count -> count > 0)
+                .defaultIfEmpty(false);
     }
 
     /**
@@ -73,7 +208,7 @@ public class IpBlockRedisRepository {
      */
     public Mono<Boolean> isBlocked(String ipAddress) {
         String key = buildKey(ipAddress);
-        return reactiveStringRedisTemplate.hasKey(key);
+        return redisCommandBatcher.exists(key);
     }
 
     /**
@@ -84,37 +219,106 @@ public class IpBlockRedisRepository {
      */
     public Mono<Long> getBlockTtl(String ipAddress) {
         String key = buildKey(ipAddress);
-        return reactiveStringRedisTemplate
-                .getExpire(key)
-                .map(Duration::getSeconds)
-                .defaultIfEmpty(-2L);
+        return redisCommandBatcher.ttl(key).defaultIfEmpty(-2L);
+    }
+
+    /**
+     * 차단 이벤트 발행
+     *
+     * @param message 이벤트 메시지
+     * @return Mono&lt;Long&gt; 메시지를 수신한 구독자 수
+     */
+    public Mono<Long> publishEvent(String message) {
+        return reactiveStringRedisTemplate.convertAndSend(EVENT_CHANNEL, message);
+    }
+
+    /**
+     * 차단 이벤트 구독
+     *
+     * <p>구독 해제 시 전용 Listener Connection도 함께 닫힙니다.
+     *
+     * @return Flux&lt;String&gt; 수신한 이벤트 메시지
+     */
+    public Flux<String> listenEvents() {
+        return reactiveStringRedisTemplate.listenToChannel(EVENT_CHANNEL).map(Message::getMessage);
     }
 
     /**
      * 모든 차단된 IP 목록 조회
      *
-     * <p>SCAN 명령어를 사용하여 프로덕션 환경에서도 안전하게 조회합니다.
+     * <p>차단 목록 Index를 읽습니다 (SCAN 없음).
      *
      * @return Flux&lt;String&gt; 차단된 IP 주소 목록
      */
     public Flux<String> findAllBlockedIps() {
-        ScanOptions scanOptions =
-                ScanOptions.scanOptions().match(IP_BLOCK_PREFIX + ":*").count(SCAN_COUNT).build();
-
-        return reactiveStringRedisTemplate
-                .scan(scanOptions)
-                .map(this::extractIpFromKey)
-                .filter(ip -> ip != null); // malformed key 필터링
+        return findAllBlockedIpsWithTtl().map(BlockedIpWithTtl::ip);
     }
 
     /**
      * 모든 차단된 IP 목록과 TTL을 함께 조회
      *
-     * <p>N+1 문제를 방지하기 위해 SCAN + getExpire를 하나의 스트림에서 처리합니다.
+     * <p>차단 목록 Index를 만료 시각 순으로 한 번에 읽습니다 (SCAN, Key별 TTL 조회 없음).
      *
-     * @return Flux&lt;BlockedIpWithTtl&gt; IP 주소와 TTL 정보
+     * @return Flux&lt;BlockedIpWithTtl&gt; IP 주소와 TTL 정보 (만료가 가까운 순)
      */
     public Flux<BlockedIpWithTtl> findAllBlockedIpsWithTtl() {
+        return range(0, -1, false).flatMapIterable(BlockedIpPage::items);
+    }
+
+    /**
+     * 차단된 IP 목록 페이지 조회
+     *
+     * <p>차단 목록 Index를 만료 시각 순으로 범위 조회합니다. 만료된 Member는 조회 전에 정리합니다.
+     *
+     * @param offset 시작 위치 (0부터)
+     * @param limit 최대 개수 (1 이상)
+     * @param longestFirst true면 남은 시간이 긴 순, false면 만료가 가까운 순
+     * @return Mono&lt;BlockedIpPage&gt; 전체 차단 수와 페이지 항목
+     */
+    public Mono<BlockedIpPage> findBlockedIps(long offset, int limit, boolean longestFirst) {
+        if (offset < 0 || limit < 1) {
+            return Mono.error(
+                    new IllegalArgumentException(
+                            "Invalid blocked ip range: offset=" + offset + ", limit=" + limit));
+        }
+        return range(offset, offset + limit - 1, longestFirst);
+    }
+
+    private Mono<BlockedIpPage> range(long start, long stop, boolean longestFirst) {
+        List<String> args =
+                List.of(String.valueOf(start), String.valueOf(stop), longestFirst ? "1" : "0");
+        return backfillIndexOnce()
+                .then(
+                        reactiveStringRedisTemplate
+                                .execute(RANGE_SCRIPT, List.of(INDEX_KEY), args)
+                                .next())
+                .map(IpBlockRedisRepository::toPage);
+    }
+
+    /**
+     * Index 도입 전 차단 Key를 Index에 반영 (Cluster 전체에서 1회만 SCAN)
+     *
+     * <p>Marker Key({@code gateway:blocked_ip_index_backfill})를 SET NX로 선점한 노드만 SCAN하고, 완료 시
+     * Marker를 만료 없이 {@code done}으로 남깁니다. 다른 노드는 Marker가 있으면 SCAN하지 않습니다. 다른 노드가 진행 중인
+     * 동안의 목록 조회에는 Index 도입 전 Key가 빠질 수 있으며, 주기적 재적재에서 반영됩니다. SCAN이 실패하면 Marker를 지워
+     * 다음 조회에서 다시 시도합니다.
+     *
+     * <p>전환용 처리입니다. Index 도입 배포 후 최대 차단 기간(기본 30분)이 지나면 기존 차단 Key가 모두 만료되므로, 다음 배포에서
+     * 이 메서드와 {@link #BACKFILL_SCRIPT}, Marker Key를 제거합니다.
+     */
+    private Mono<Void> backfillIndexOnce() {
+        if (indexBackfilled.get()) {
+            return Mono.empty();
+        }
+        return reactiveStringRedisTemplate
+                .opsForValue()
+                .setIfAbsent(BACKFILL_MARKER_KEY, BACKFILL_RUNNING, BACKFILL_RUNNING_TTL)
+                .filter(Boolean.TRUE::equals)
+                .flatMap(acquired -> scanIntoIndex())
+                .doOnSuccess(ignored -> indexBackfilled.set(true));
+    }
+
+    private Mono<Void> scanIntoIndex() {
         ScanOptions scanOptions =
                 ScanOptions.scanOptions().match(IP_BLOCK_PREFIX + ":*").count(SCAN_COUNT).build();
 
@@ -127,11 +331,45 @@ public class IpBlockRedisRepository {
                                 return Mono.empty(); // malformed key 스킵
                             }
                             return reactiveStringRedisTemplate
-                                    .getExpire(key)
-                                    .map(Duration::getSeconds)
-                                    .defaultIfEmpty(-2L)
-                                    .map(ttl -> new BlockedIpWithTtl(ip, ttl));
-                        });
+                                    .execute(BACKFILL_SCRIPT, List.of(key, INDEX_KEY), List.of(ip))
+                                    .next();
+                        })
+                .then(
+                        reactiveStringRedisTemplate
+                                .opsForValue()
+                                .set(BACKFILL_MARKER_KEY, BACKFILL_DONE))
+                .then()
+                .onErrorResume(
+                        e ->
+                                reactiveStringRedisTemplate
+                                        .delete(BACKFILL_MARKER_KEY)
+                                        .then(Mono.error(e)));
+    }
+
+    /**
+     * Script 결과 변환
+     *
+     * @param raw {@code now,전체 수,ip1,score1,...} 형식의 결과 (IP에는 ','가 없음)
+     * @return BlockedIpPage
+     */
+    private static BlockedIpPage toPage(String raw) {
+        String[] parts = raw.split(",");
+        long now = Long.parseLong(parts[0]);
+        long total = Long.parseLong(parts[1]);
+        List<BlockedIpWithTtl> items = new ArrayList<>((parts.length - 2) / 2);
+        for (int i = 2; i + 1 < parts.length; i += 2) {
+            items.add(new BlockedIpWithTtl(parts[i], toTtlSeconds(parts[i + 1], now)));
+        }
+        return new BlockedIpPage(total, items);
+    }
+
+    /** 만료 시각 Score를 남은 시간(초, 올림)으로 변환 */
+    private static long toTtlSeconds(String score, long now) {
+        if (score.endsWith(NO_EXPIRY_SCORE)) {
+            return NO_EXPIRY;
+        }
+        long remainingMillis = (long) Double.parseDouble(score) - now;
+        return Math.max(1, (remainingMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND);
     }
 
     /**
@@ -142,6 +380,14 @@ public class IpBlockRedisRepository {
      */
     public record BlockedIpWithTtl(String ip, Long ttlSeconds) {}
 
+    /**
+     * 차단 IP 목록 페이지
+     *
+     * @param totalCount 전체 차단 IP 수
+     * @param items 페이지 항목
+     */
+    public record BlockedIpPage(long totalCount, List<BlockedIpWithTtl> items) {}
+
     /**
      * Redis Key에서 IP 주소 추출
      *
@@ -161,10 +407,12 @@ public class IpBlockRedisRepository {
     /**
      * Redis Key 생성
      *
+     * <p>다른 Repository의 Lua Script에서 차단 Key를 함께 다룰 때도 사용합니다.
+     *
      * @param ipAddress IP 주소
      * @return Redis Key
      */
-    private String buildKey(String ipAddress) {
+    public static String buildKey(String ipAddress) {
         return IP_BLOCK_PREFIX + ":" + ipAddress;
     }
 }
@@ -30,11 +30,14 @@ public class PermissionHashRedisRepository {
     private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
 
     private final ReactiveRedisTemplate<String, PermissionHashEntity> reactiveRedisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
 
     public PermissionHashRedisRepository(
             @Qualifier("permissionHashRedisTemplate")
-                    ReactiveRedisTemplate<String, PermissionHashEntity> reactiveRedisTemplate) {
+                    ReactiveRedisTemplate<String, PermissionHashEntity> reactiveRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.redisCommandBatcher = redisCommandBatcher;
     }
 
     /**
@@ -67,13 +70,17 @@ public class PermissionHashRedisRepository {
     /**
      * Permission Hash 조회
      *
+     * <p>요청마다 호출되는 Cache GET이므로 {@link RedisCommandBatcher}로 묶어서 전송합니다.
+     *
      * @param tenantId 테넌트 ID
      * @param userId 사용자 ID
      * @return PermissionHashEntity (없으면 Mono.empty())
      */
     public Mono<PermissionHashEntity> findByTenantAndUser(String tenantId, String userId) {
         String redisKey = buildRedisKey(tenantId, userId);
-        return reactiveRedisTemplate.opsForValue().get(redisKey);
+        return redisCommandBatcher.get(
+                redisKey,
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair());
     }
 
     /**
@@ -1,22 +1,22 @@
 package com.ryuqq.gateway.adapter.out.redis.repository;
 
-import com.ryuqq.gateway.adapter.out.redis.entity.PermissionSpecEntity;
-import java.time.Duration;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 /**
  * Permission Spec Redis Repository
  *
- * <p>Redis에 Permission Spec을 저장/조회하는 Repository
+ * <p>노드 간에 공유되는 최신 Permission Spec 버전을 저장/조회하는 Repository. Spec 본문은 각 노드의 Snapshot에만
+ * 보관하므로 Redis에는 버전만 저장합니다.
  *
  * <p><strong>Redis Key 규칙</strong>:
  *
  * <ul>
- *   <li>Key: {@code authhub:permission:spec}
- *   <li>TTL: 30초
+ *   <li>Key: {@code authhub:permission:spec:version}
+ *   <li>Value: Spec 버전 (숫자 문자열)
+ *   <li>TTL: 없음
  * </ul>
  *
  * @author development-team
@@ -25,56 +25,38 @@ import reactor.core.publisher.Mono;
 @Repository
 public class PermissionSpecRedisRepository {
 
-    private static final String PERMISSION_SPEC_KEY = "authhub:permission:spec";
-    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final String PERMISSION_SPEC_VERSION_KEY = "authhub:permission:spec:version";
 
-    private final ReactiveRedisTemplate<String, PermissionSpecEntity> reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
 
     public PermissionSpecRedisRepository(
-            @Qualifier("permissionSpecRedisTemplate")
-                    ReactiveRedisTemplate<String, PermissionSpecEntity> reactiveRedisTemplate) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
+            @Qualifier("reactiveStringRedisTemplate")
+                    ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
     }
 
     /**
-     * Permission Spec 저장 (TTL 포함)
+     * Permission Spec 버전 저장
      *
-     * @param permissionSpec PermissionSpecEntity
-     * @param ttl TTL (Duration)
+     * @param version Spec 버전
      * @return Void
      */
-    public Mono<Void> save(PermissionSpecEntity permissionSpec, Duration ttl) {
-        return reactiveRedisTemplate
+    public Mono<Void> saveVersion(Long version) {
+        return reactiveStringRedisTemplate
                 .opsForValue()
-                .set(PERMISSION_SPEC_KEY, permissionSpec, ttl)
+                .set(PERMISSION_SPEC_VERSION_KEY, String.valueOf(version))
                 .then();
     }
 
     /**
-     * Permission Spec 저장 (기본 TTL: 30초)
+     * Permission Spec 버전 조회
      *
-     * @param permissionSpec PermissionSpecEntity
-     * @return Void
+     * @return Spec 버전 (없으면 Mono.empty())
      */
-    public Mono<Void> save(PermissionSpecEntity permissionSpec) {
-        return save(permissionSpec, DEFAULT_TTL);
-    }
-
-    /**
-     * Permission Spec 조회
-     *
-     * @return PermissionSpecEntity (없으면 Mono.empty())
-     */
-    public Mono<PermissionSpecEntity> find() {
-        return reactiveRedisTemplate.opsForValue().get(PERMISSION_SPEC_KEY);
-    }
-
-    /**
-     * Permission Spec 삭제
-     *
-     * @return Void
-     */
-    public Mono<Void> delete() {
-        return reactiveRedisTemplate.delete(PERMISSION_SPEC_KEY).then();
+    public Mono<Long> findVersion() {
+        return reactiveStringRedisTemplate
+                .opsForValue()
+                .get(PERMISSION_SPEC_VERSION_KEY)
+                .map(Long::valueOf);
     }
 }
@@ -0,0 +1,131 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import com.ryuqq.gateway.adapter.out.redis.config.RateLimitCircuitBreakerProperties;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate Limit Redis Circuit Breaker
+ *
+ * <p>요청 경로의 Rate Limit Redis 호출을 짧은 Timeout과 Circuit Breaker로 감쌉니다. Redis가 느리거나 응답하지 않으면
+ * Lettuce Command Timeout(수 초)을 기다리지 않고 빠르게 실패하며, 실패율 또는 느린 호출 비율이 임계값을 넘으면 Open되어
+ * Redis를 호출하지 않습니다.
+ *
+ * <p>모든 실패(Redis 오류, Timeout, Open 상태의 호출 거부)는 {@link RateLimitStoreUnavailableException}으로
+ * 변환되며, Application 계층은 이 예외를 받으면 노드 로컬 Fallback Limiter로 판정합니다.
+ *
+ * <p><strong>메트릭</strong>:
+ *
+ * <ul>
+ *   <li>gateway_rate_limit_redis_circuit_state - 현재 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)
+ *   <li>gateway_rate_limit_redis_circuit_transitions_total{from,to} - 상태 전환 횟수
+ *   <li>gateway_rate_limit_redis_circuit_rejected_total - Open 상태에서 호출하지 않은 횟수
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RateLimitRedisCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitRedisCircuitBreaker.class);
+
+    static final String NAME = "rateLimitRedis";
+
+    private static final String METRIC_PREFIX = "gateway_rate_limit_redis_circuit";
+
+    private final RateLimitCircuitBreakerProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public RateLimitRedisCircuitBreaker(
+            RateLimitCircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = CircuitBreaker.of(NAME, toConfig(properties));
+        this.rejected =
+                Counter.builder(METRIC_PREFIX + "_rejected_total")
+                        .description("Rate limit Redis calls skipped while the circuit is open")
+                        .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + "_state", circuitBreaker, cb -> cb.getState().getOrder())
+                .description("Rate limit Redis circuit state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+
+        circuitBreaker
+                .getEventPublisher()
+                .onStateTransition(
+                        event ->
+                                onStateTransition(
+                                        event.getStateTransition().getFromState(),
+                                        event.getStateTransition().getToState()))
+                .onCallNotPermitted(event -> rejected.increment());
+    }
+
+    /**
+     * Redis 호출 보호
+     *
+     * @param call Redis 호출 (구독 시 실행)
+     * @return Mono&lt;T&gt; 호출 결과 (실패 시 RateLimitStoreUnavailableException)
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        return call.timeout(Duration.ofMillis(properties.getCallTimeoutMs()))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RateLimitStoreUnavailableException::new);
+    }
+
+    /** 현재 Circuit Breaker 상태 */
+    public CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    private void onStateTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        meterRegistry
+                .counter(
+                        METRIC_PREFIX + "_transitions_total",
+                        "from",
+                        from.name(),
+                        "to",
+                        to.name())
+                .increment();
+        if (to == CircuitBreaker.State.OPEN) {
+            log.warn(
+                    "[RATE_LIMIT] Redis circuit {} -> OPEN: failureRate={}%, slowCallRate={}%."
+                            + " Switching to local fallback limiter",
+                    from,
+                    circuitBreaker.getMetrics().getFailureRate(),
+                    circuitBreaker.getMetrics().getSlowCallRate());
+        } else {
+            log.info("[RATE_LIMIT] Redis circuit {} -> {}", from, to);
+        }
+    }
+
+    private static CircuitBreakerConfig toConfig(RateLimitCircuitBreakerProperties properties) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallDurationThreshold(
+                        Duration.ofMillis(properties.getSlowCallDurationThresholdMs()))
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .waitDurationInOpenState(
+                        Duration.ofMillis(properties.getWaitDurationInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpen())
+                .build();
+    }
+}
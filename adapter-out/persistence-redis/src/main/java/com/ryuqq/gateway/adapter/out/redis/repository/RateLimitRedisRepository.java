@@ -2,6 +2,8 @@ package com.ryuqq.gateway.adapter.out.redis.repository;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
@@ -19,6 +21,9 @@ import reactor.core.publisher.Mono;
  *   <li>Key: {@code gateway:rate_limit:{type}:{identifier}}
  *   <li>Value: 요청 횟수 (Long)
  *   <li>TTL: LimitType별 window 시간
+ *   <li>SLIDING_WINDOW: {@code {key}:sw} (Hash, Field = Window 번호, Value = 요청 횟수)
+ *   <li>GCRA: {@code {key}:gcra} (String, 이론적 도착 시각 TAT, 밀리초)
+ *   <li>SHARDED: {@code {key}:shard:{index}} (String, 하위 Key별 요청 횟수)
  * </ul>
  *
  * <p><strong>기술 스택</strong>:
@@ -27,6 +32,9 @@ import reactor.core.publisher.Mono;
  *   <li>ReactiveStringRedisTemplate (Reactive)
  *   <li>Lettuce (Connection Pool)
  *   <li>INCR + EXPIRE 원자적 연산
+ *   <li>인증 전 IP 차단 + IP/Endpoint 카운터 일괄 판정 (Lua Script)
+ *   <li>SLIDING_WINDOW, GCRA 판정 (Lua Script, 시각은 Redis TIME 기준)
+ *   <li>요청 경로 Script는 RedisCommandBatcher로 묶어서 전송 (HYBRID 동기화, 조회, 삭제는 Template 사용)
  * </ul>
  *
  * @author development-team
@@ -56,12 +64,171 @@ public class RateLimitRedisRepository {
     private static final RedisScript<Long> INCREMENT_EXPIRE_SCRIPT =
             RedisScript.of(INCREMENT_AND_EXPIRE_SCRIPT, Long.class);
 
+    /**
+     * Lua Script: INCRBY + EXPIRE 원자적 연산
+     *
+     * <p>노드 로컬 증가분을 한 번에 반영합니다. TTL이 없으면(-1) EXPIRE 설정
+     *
+     * <p>KEYS[1] = rate limit key, ARGV[1] = 증가량, ARGV[2] = TTL (초)
+     *
+     * @return 증가 후 카운트 값
+     */
+    private static final String INCREMENT_BY_AND_EXPIRE_SCRIPT =
+            """
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if redis.call('TTL', KEYS[1]) == -1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return count
+            """;
+
+    private static final RedisScript<Long> INCREMENT_BY_EXPIRE_SCRIPT =
+            RedisScript.of(INCREMENT_BY_AND_EXPIRE_SCRIPT, Long.class);
+
+    /**
+     * Lua Script: 인증 전 Rate Limit 일괄 판정
+     *
+     * <p>IP 차단 확인, IP 카운터 INCR + EXPIRE, Endpoint 카운터 INCR + EXPIRE를 한 번에 수행합니다. 차단 중이면
+     * 카운터를 증가시키지 않고, IP 한도에 도달하면 Endpoint 카운터를 증가시키지 않습니다.
+     *
+     * <p>KEYS[1] = IP 차단 key, KEYS[2] = IP rate limit key, KEYS[3] = Endpoint rate limit key
+     *
+     * <p>ARGV[1] = IP 한도, ARGV[2] = Endpoint 한도, ARGV[3] = TTL (초), ARGV[4] = 차단 확인 여부 (1/0)
+     *
+     * <p>Reactive Script 결과 타입을 단순하게 유지하기 위해 결과를 {@code 판정,retryAfter,ipCount,endpointCount}
+     * 형식의 문자열 하나로 반환합니다. 판정: B(차단), I(IP 초과), E(Endpoint 초과), A(허용)
+     *
+     * <p>Redis Cluster에서는 세 Key가 같은 Slot에 있어야 합니다 (현재 Standalone/Replication 구성).
+     */
+    private static final String PRE_AUTH_CHECK_SCRIPT_SOURCE =
+            """
+            if ARGV[4] == '1' then
+                local blockTtl = redis.call('TTL', KEYS[1])
+                if blockTtl ~= -2 then
+                    return 'B,' .. math.max(blockTtl, 0) .. ',0,0'
+                end
+            end
+            local ipCount = redis.call('INCR', KEYS[2])
+            if redis.call('TTL', KEYS[2]) == -1 then
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            if ipCount >= tonumber(ARGV[1]) then
+                return 'I,' .. math.max(redis.call('TTL', KEYS[2]), 0) .. ',' .. ipCount .. ',0'
+            end
+            local endpointCount = redis.call('INCR', KEYS[3])
+            if redis.call('TTL', KEYS[3]) == -1 then
+                redis.call('EXPIRE', KEYS[3], ARGV[3])
+            end
+            if endpointCount >= tonumber(ARGV[2]) then
+                return 'E,' .. math.max(redis.call('TTL', KEYS[3]), 0) .. ','
+                    .. ipCount .. ',' .. endpointCount
+            end
+            return 'A,0,' .. ipCount .. ',' .. endpointCount
+            """;
+
+    private static final RedisScript<String> PRE_AUTH_CHECK_SCRIPT =
+            RedisScript.of(PRE_AUTH_CHECK_SCRIPT_SOURCE, String.class);
+
+    /**
+     * Lua Script: GCRA (Generic Cell Rate Algorithm) 판정
+     *
+     * <p>요청 간 배출 간격(window / limit)과 이론적 도착 시각(TAT) 하나로 판정합니다. TAT - window 이전에 도착한 요청은
+     * 허용하고 TAT를 배출 간격만큼 늦춥니다. 허용 시에만 상태를 갱신하며, TTL은 TAT까지 남은 시간입니다.
+     *
+     * <p>노드 간 시계 차이를 피하기 위해 현재 시각은 Redis TIME을 사용합니다 (Redis 5+ Effects Replication 필요).
+     * TAT는 소수 밀리초 정밀도를 유지하도록 문자열로 포맷하고, 남은 요청 수는 부동소수점 오차를 보정하여 내림합니다.
+     *
+     * <p>KEYS[1] = GCRA key, ARGV[1] = 한도, ARGV[2] = window (밀리초)
+     *
+     * <p>결과: {@code 허용여부(1/0),remaining,retryAfterMillis} 형식의 문자열
+     */
+    private static final String GCRA_SCRIPT_SOURCE =
+            """
+            local limit = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local interval = period / limit
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if tat == nil or tat < now then
+                tat = now
+            end
+            local allowAt = tat + interval - period
+            if allowAt > now then
+                return '0,0,' .. math.ceil(allowAt - now)
+            end
+            local newTat = tat + interval
+            redis.call('SET', KEYS[1], string.format('%.3f', newTat),
+                'PX', math.max(math.ceil(newTat - now), 1))
+            return '1,' .. math.floor((now - allowAt) / interval + 1e-9) .. ',0'
+            """;
+
+    private static final RedisScript<String> GCRA_SCRIPT =
+            RedisScript.of(GCRA_SCRIPT_SOURCE, String.class);
+
+    /**
+     * Lua Script: Sliding Window Counter 판정
+     *
+     * <p>현재 Window 카운트 + 이전 Window 카운트 × (이전 Window가 슬라이딩 구간에 겹치는 비율)로 판정합니다. 허용 시에만
+     * 현재 Window 카운트를 증가시키고, 현재 Window가 판정에 쓰이지 않게 되는 시점(다음 Window 끝)을 TTL로 설정합니다.
+     * 지난 Window Field는 판정 시 정리합니다.
+     *
+     * <p>거부 시 재시도 대기 시간: 현재 Window가 한도에 도달했으면 다음 Window에서 가중치가 충분히 줄어드는 시점까지, 아니면
+     * 이전 Window 가중치가 줄어 1건이 들어갈 수 있는 시점까지
+     *
+     * <p>KEYS[1] = sliding window key, ARGV[1] = 한도, ARGV[2] = window (밀리초)
+     *
+     * <p>결과: {@code 허용여부(1/0),remaining,retryAfterMillis} 형식의 문자열
+     */
+    private static final String SLIDING_WINDOW_SCRIPT_SOURCE =
+            """
+            local limit = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local current = math.floor(now / period)
+            local elapsed = now - current * period
+            local currentCount = 0
+            local previousCount = 0
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+                local bucket = tonumber(fields[i])
+                if bucket == current then
+                    currentCount = tonumber(fields[i + 1])
+                elseif bucket == current - 1 then
+                    previousCount = tonumber(fields[i + 1])
+                else
+                    redis.call('HDEL', KEYS[1], fields[i])
+                end
+            end
+            local weighted = previousCount * (period - elapsed) / period
+            if weighted + currentCount + 1 > limit then
+                local retryAfter
+                if currentCount >= limit then
+                    retryAfter = (period - elapsed) + period * (1 - (limit - 1) / currentCount)
+                else
+                    retryAfter = (period - elapsed)
+                        - (limit - 1 - currentCount) * period / previousCount
+                end
+                return '0,0,' .. math.max(math.ceil(retryAfter), 1)
+            end
+            redis.call('HINCRBY', KEYS[1], string.format('%d', current), 1)
+            redis.call('PEXPIRE', KEYS[1], period * 2 - elapsed)
+            return '1,' .. math.floor(limit - weighted - currentCount - 1) .. ',0'
+            """;
+
+    private static final RedisScript<String> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(SLIDING_WINDOW_SCRIPT_SOURCE, String.class);
+
     private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
 
     public RateLimitRedisRepository(
             @Qualifier("reactiveStringRedisTemplate")
-                    ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
+                    ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
         this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.redisCommandBatcher = redisCommandBatcher;
     }
 
     /**
@@ -74,15 +241,94 @@ public class RateLimitRedisRepository {
      * @return Mono&lt;Long&gt; 증가 후 카운트 값
      */
     public Mono<Long> incrementAndExpire(String key, Duration ttl) {
-        return reactiveStringRedisTemplate
-                .execute(
+        return redisCommandBatcher
+                .eval(
                         INCREMENT_EXPIRE_SCRIPT,
                         Collections.singletonList(key),
                         Collections.singletonList(String.valueOf(ttl.getSeconds())))
+                .defaultIfEmpty(0L);
+    }
+
+    /**
+     * 카운터를 지정한 값만큼 증가 및 TTL 설정 (Atomic)
+     *
+     * @param key Redis Key
+     * @param delta 증가량
+     * @param ttl TTL (Duration)
+     * @return Mono&lt;Long&gt; 증가 후 카운트 값
+     */
+    public Mono<Long> incrementByAndExpire(String key, long delta, Duration ttl) {
+        return reactiveStringRedisTemplate
+                .execute(
+                        INCREMENT_BY_EXPIRE_SCRIPT,
+                        Collections.singletonList(key),
+                        List.of(String.valueOf(delta), String.valueOf(ttl.getSeconds())))
                 .next()
                 .defaultIfEmpty(0L);
     }
 
+    /**
+     * 인증 전 Rate Limit 일괄 판정 (Atomic, Redis 왕복 1회)
+     *
+     * @param blockKey IP 차단 Redis Key
+     * @param ipKey IP Rate Limit Redis Key
+     * @param ipLimit IP 한도
+     * @param endpointKey Endpoint Rate Limit Redis Key
+     * @param endpointLimit Endpoint 한도
+     * @param ttl 카운터 TTL (Duration)
+     * @param checkBlock IP 차단 확인 여부
+     * @return Mono&lt;String&gt; {@code 판정,retryAfter,ipCount,endpointCount} 형식의 결과
+     */
+    public Mono<String> checkPreAuth(
+            String blockKey,
+            String ipKey,
+            int ipLimit,
+            String endpointKey,
+            int endpointLimit,
+            Duration ttl,
+            boolean checkBlock) {
+        return redisCommandBatcher.eval(
+                PRE_AUTH_CHECK_SCRIPT,
+                List.of(blockKey, ipKey, endpointKey),
+                List.of(
+                        String.valueOf(ipLimit),
+                        String.valueOf(endpointLimit),
+                        String.valueOf(ttl.getSeconds()),
+                        checkBlock ? "1" : "0"));
+    }
+
+    /**
+     * GCRA 판정 (Atomic)
+     *
+     * @param key GCRA Redis Key
+     * @param limit Window당 최대 요청 수
+     * @param window 시간 윈도우
+     * @return Mono&lt;String&gt; {@code 허용여부,remaining,retryAfterMillis} 형식의 결과
+     */
+    public Mono<String> acquireGcra(String key, int limit, Duration window) {
+        return executeAlgorithm(GCRA_SCRIPT, key, limit, window);
+    }
+
+    /**
+     * Sliding Window Counter 판정 (Atomic)
+     *
+     * @param key Sliding Window Redis Key
+     * @param limit Window당 최대 요청 수
+     * @param window 시간 윈도우
+     * @return Mono&lt;String&gt; {@code 허용여부,remaining,retryAfterMillis} 형식의 결과
+     */
+    public Mono<String> acquireSlidingWindow(String key, int limit, Duration window) {
+        return executeAlgorithm(SLIDING_WINDOW_SCRIPT, key, limit, window);
+    }
+
+    private Mono<String> executeAlgorithm(
+            RedisScript<String> script, String key, int limit, Duration window) {
+        return redisCommandBatcher.eval(
+                script,
+                Collections.singletonList(key),
+                List.of(String.valueOf(limit), String.valueOf(window.toMillis())));
+    }
+
     /**
      * 현재 카운터 값 조회
      *
@@ -97,6 +343,28 @@ public class RateLimitRedisRepository {
                 .defaultIfEmpty(0L);
     }
 
+    /**
+     * 여러 카운터 값의 합계 조회 (MGET 1회)
+     *
+     * @param keys Redis Key 목록
+     * @return Mono&lt;Long&gt; 합계 (없는 키는 0)
+     */
+    public Mono<Long> sumCounts(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return reactiveStringRedisTemplate
+                .opsForValue()
+                .multiGet(keys)
+                .map(
+                        values ->
+                                values.stream()
+                                        .filter(Objects::nonNull)
+                                        .mapToLong(Long::parseLong)
+                                        .sum())
+                .defaultIfEmpty(0L);
+    }
+
     /**
      * 남은 TTL 조회 (초)
      *
@@ -120,6 +388,18 @@ public class RateLimitRedisRepository {
         return reactiveStringRedisTemplate.delete(key).map(count -> count > 0);
     }
 
+    /**
+     * 여러 키 일괄 삭제 (DEL 1회)
+     *
+     * @param keys Redis Key 목록
+     * @return Mono&lt;Boolean&gt; 하나 이상 삭제되었는지 여부
+     */
+    public Mono<Boolean> deleteAll(List<String> keys) {
+        return reactiveStringRedisTemplate
+                .delete(keys.toArray(String[]::new))
+                .map(count -> count > 0);
+    }
+
     /**
      * 키 존재 여부 확인
      *
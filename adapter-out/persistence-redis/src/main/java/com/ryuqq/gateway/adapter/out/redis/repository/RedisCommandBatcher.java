@@ -0,0 +1,288 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import com.ryuqq.gateway.adapter.out.redis.config.RedisBatchingProperties;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Redis Command Batcher
+ *
+ * <p>Hot Path Redis 명령(Rate Limit Script, IP 차단 확인, Cache GET)을 짧은 Window 동안 모아 한 번의 Pipelined
+ * Write로 전송합니다. 전용 Lettuce Connection의 Auto Flush를 끄고, 명령은 즉시 Connection 버퍼에 쓰되 Flush만
+ * 묶습니다.
+ *
+ * <p><strong>Flush 조건</strong> (먼저 도달한 쪽):
+ *
+ * <ul>
+ *   <li>묶음의 첫 명령 이후 flush-window-micros 경과 (0이면 Flush 스레드가 다음 작업을 처리하는 즉시)
+ *   <li>대기 중인 명령 수가 max-batch-size 도달
+ * </ul>
+ *
+ * <p>모든 명령은 자신을 버퍼에 쓴 뒤 대기 카운트를 올리므로, 카운트를 0에서 1로 올린 명령이 예약한 Flush 또는 그 이후의 Flush가
+ * 반드시 해당 명령을 전송합니다.
+ *
+ * <p><strong>메트릭</strong>:
+ *
+ * <ul>
+ *   <li>gateway_redis_batch_size - Flush당 명령 수 (Histogram)
+ *   <li>gateway_redis_batch_flush_latency_seconds - 묶음의 첫 명령부터 Flush까지 걸린 시간 (Histogram)
+ * </ul>
+ *
+ * <p>Connection은 LettuceConfig의 Reactive Connection과 같은 Host/Port로 첫 명령 시점에 비동기로 연결합니다. 연결
+ * 실패는 캐싱하지 않고 다음 명령에서 재시도합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RedisCommandBatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCommandBatcher.class);
+
+    private static final String METRIC_PREFIX = "gateway_redis_batch";
+
+    private final RedisBatchingProperties redisBatchingProperties;
+    private final Mono<StatefulRedisConnection<String, String>> connection;
+    private final Scheduler flushScheduler;
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile long batchStartedAt;
+    private volatile StatefulRedisConnection<String, String> connected;
+
+    @Autowired
+    public RedisCommandBatcher(
+            @Qualifier("batchingRedisClient") RedisClient batchingRedisClient,
+            RedisProperties redisProperties,
+            RedisBatchingProperties redisBatchingProperties,
+            MeterRegistry meterRegistry) {
+        this(
+                Mono.defer(
+                        () ->
+                                Mono.fromCompletionStage(
+                                        batchingRedisClient.connectAsync(
+                                                StringCodec.UTF8, toRedisUri(redisProperties)))),
+                redisBatchingProperties,
+                meterRegistry);
+    }
+
+    RedisCommandBatcher(
+            Mono<StatefulRedisConnection<String, String>> connector,
+            RedisBatchingProperties redisBatchingProperties,
+            MeterRegistry meterRegistry) {
+        this.redisBatchingProperties = redisBatchingProperties;
+        this.connection =
+                connector
+                        .doOnNext(this::configure)
+                        .cache(
+                                value -> Duration.ofMillis(Long.MAX_VALUE),
+                                error -> Duration.ZERO,
+                                () -> Duration.ZERO);
+        this.flushScheduler = Schedulers.newSingle("redis-batch-flush", true);
+        this.batchSize =
+                DistributionSummary.builder(METRIC_PREFIX + "_size")
+                        .description("Redis commands sent per pipelined flush")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        this.flushLatency =
+                Timer.builder(METRIC_PREFIX + "_flush_latency")
+                        .description("Time from the first buffered command to the flush")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+    }
+
+    /**
+     * 명령 실행
+     *
+     * @param command Async 명령 (Connection 버퍼에 쓰고 Future 반환)
+     * @return Mono&lt;T&gt; 명령 결과 (nil이면 empty)
+     */
+    public <T> Mono<T> execute(
+            Function<RedisAsyncCommands<String, String>, RedisFuture<T>> command) {
+        return connection.flatMap(
+                conn -> {
+                    RedisFuture<T> future = command.apply(conn.async());
+                    if (redisBatchingProperties.isEnabled()) {
+                        onBuffered(conn);
+                    }
+                    return Mono.fromCompletionStage(future);
+                });
+    }
+
+    /**
+     * GET
+     *
+     * @param key Redis Key
+     * @return Mono&lt;String&gt; 값 (없으면 empty)
+     */
+    public Mono<String> get(String key) {
+        return execute(commands -> commands.get(key));
+    }
+
+    /**
+     * GET 후 Template의 Value Serializer로 역직렬화
+     *
+     * <p>JSON Entity Cache를 Template과 같은 형식으로 읽을 때 사용합니다 (값은 UTF-8 문자열이어야 함).
+     *
+     * @param key Redis Key
+     * @param valuePair Template의 Value SerializationPair
+     * @return Mono&lt;V&gt; 역직렬화된 값 (없으면 empty)
+     */
+    public <V> Mono<V> get(String key, SerializationPair<V> valuePair) {
+        return get(key).map(
+                value -> valuePair.read(ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * EXISTS
+     *
+     * @param key Redis Key
+     * @return Mono&lt;Boolean&gt; 존재 여부
+     */
+    public Mono<Boolean> exists(String key) {
+        return execute(commands -> commands.exists(key)).map(count -> count > 0);
+    }
+
+    /**
+     * TTL (초)
+     *
+     * @param key Redis Key
+     * @return Mono&lt;Long&gt; 남은 TTL (키 없으면 -2, TTL 없으면 -1)
+     */
+    public Mono<Long> ttl(String key) {
+        return execute(commands -> commands.ttl(key));
+    }
+
+    /**
+     * Lua Script 실행 (EVALSHA, Script Cache에 없으면 EVAL로 재시도)
+     *
+     * @param script RedisScript (결과 타입: Long, Boolean, String)
+     * @param keys KEYS
+     * @param args ARGV
+     * @return Mono&lt;T&gt; Script 결과 (nil이면 empty)
+     */
+    public <T> Mono<T> eval(RedisScript<T> script, List<String> keys, List<String> args) {
+        ScriptOutputType outputType = outputType(script.getResultType());
+        String[] keyArray = keys.toArray(String[]::new);
+        String[] argArray = args.toArray(String[]::new);
+        return this.<T>execute(
+                        commands ->
+                                commands.evalsha(
+                                        script.getSha1(), outputType, keyArray, argArray))
+                .onErrorResume(
+                        RedisNoScriptException.class,
+                        e ->
+                                this.<T>execute(
+                                        commands ->
+                                                commands.eval(
+                                                        script.getScriptAsString(),
+                                                        outputType,
+                                                        keyArray,
+                                                        argArray)));
+    }
+
+    private void configure(StatefulRedisConnection<String, String> conn) {
+        conn.setAutoFlushCommands(!redisBatchingProperties.isEnabled());
+        this.connected = conn;
+    }
+
+    private void onBuffered(StatefulRedisConnection<String, String> conn) {
+        int count = pending.incrementAndGet();
+        if (count == 1) {
+            batchStartedAt = System.nanoTime();
+            long windowMicros = redisBatchingProperties.getFlushWindowMicros();
+            if (windowMicros > 0) {
+                flushScheduler.schedule(() -> flush(conn), windowMicros, TimeUnit.MICROSECONDS);
+            } else {
+                flushScheduler.schedule(() -> flush(conn));
+            }
+        }
+        if (count >= redisBatchingProperties.getMaxBatchSize()) {
+            flush(conn);
+        }
+    }
+
+    private void flush(StatefulRedisConnection<String, String> conn) {
+        int size = pending.getAndSet(0);
+        if (size == 0) {
+            return;
+        }
+        long startedAt = batchStartedAt;
+        try {
+            conn.flushCommands();
+        } catch (RuntimeException e) {
+            log.debug("Redis batch flush failed: size={}, {}", size, e.getMessage());
+        }
+        batchSize.record(size);
+        flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        flushScheduler.dispose();
+        StatefulRedisConnection<String, String> conn = connected;
+        if (conn != null) {
+            conn.flushCommands();
+            conn.closeAsync();
+        }
+    }
+
+    private static ScriptOutputType outputType(Class<?> resultType) {
+        if (resultType == Long.class) {
+            return ScriptOutputType.INTEGER;
+        }
+        if (resultType == Boolean.class) {
+            return ScriptOutputType.BOOLEAN;
+        }
+        if (resultType == String.class) {
+            return ScriptOutputType.VALUE;
+        }
+        throw new IllegalArgumentException("Unsupported script result type: " + resultType);
+    }
+
+    /**
+     * Reactive Connection Factory와 같은 서버로 연결하는 RedisURI 생성
+     *
+     * <p>LettuceConfig와 동일하게 Host/Port만 사용합니다 (Database/SSL 설정을 달리하면 두 Connection이 서로 다른 데이터를
+     * 보게 됨).
+     */
+    static RedisURI toRedisUri(RedisProperties redisProperties) {
+        RedisURI.Builder builder =
+                RedisURI.builder()
+                        .withHost(redisProperties.getHost())
+                        .withPort(redisProperties.getPort());
+        if (redisProperties.getTimeout() != null) {
+            builder.withTimeout(redisProperties.getTimeout());
+        }
+        return builder.build();
+    }
+}
@@ -1,27 +1,29 @@
 package com.ryuqq.gateway.adapter.out.redis.repository;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 /**
  * Refresh Token Blacklist Redis Repository
  *
- * <p>Redis에 Blacklist 등록된 Refresh Token을 저장/조회하는 Repository
+ * <p>Redis에 Blacklist 등록된 Refresh Token을 저장하고 선점하는 Repository
  *
  * <p><strong>Redis Key 규칙</strong>:
  *
  * <ul>
  *   <li>Key: {@code tenant:{tenantId}:refresh:blacklist:{tokenHash}}
- *   <li>Value: "blacklisted"
- *   <li>TTL: Refresh Token 만료 시간 (일반적으로 7일)
+ *   <li>Value: "blacklisted" (소비 완료) 또는 "claimed:{claimId}" (Rotation 진행 중)
+ *   <li>TTL: Refresh Token 만료 시간 (일반적으로 7일), 진행 중 표시는 Lease 시간 (일반적으로 10초)
  * </ul>
  *
+ * <p><strong>원자적 선점</strong>: Lock 획득, 재사용 확인, 소비 표시를 하나의 Lua Script(한 번의 왕복)로 처리합니다.
+ *
  * <p><strong>보안</strong>:
  *
  * <ul>
@@ -38,6 +40,49 @@ public class RefreshTokenBlacklistRedisRepository {
     private static final String KEY_PREFIX = "tenant";
     private static final String KEY_SUFFIX = "refresh:blacklist";
     private static final String BLACKLISTED_VALUE = "blacklisted";
+    private static final String CLAIM_VALUE_PREFIX = "claimed:";
+
+    /**
+     * Lua Script: 선점 (Lock + 재사용 확인 + 소비 표시)
+     *
+     * <p>KEYS[1] = blacklist key, ARGV[1] = 선점 표시 값, ARGV[2] = Lease TTL (초), ARGV[3] =
+     * Blacklist 값
+     *
+     * @return ACQUIRED | IN_PROGRESS | CONSUMED
+     */
+    private static final String CLAIM_SCRIPT_SOURCE =
+            """
+            local state = redis.call('GET', KEYS[1])
+            if not state then
+                redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+                return 'ACQUIRED'
+            end
+            if state == ARGV[3] then
+                return 'CONSUMED'
+            end
+            return 'IN_PROGRESS'
+            """;
+
+    /**
+     * Lua Script: 자신의 선점만 해제
+     *
+     * <p>KEYS[1] = blacklist key, ARGV[1] = 선점 표시 값
+     *
+     * @return 삭제된 Key 수 (0 또는 1)
+     */
+    private static final String RELEASE_SCRIPT_SOURCE =
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private static final RedisScript<String> CLAIM_SCRIPT =
+            RedisScript.of(CLAIM_SCRIPT_SOURCE, String.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(RELEASE_SCRIPT_SOURCE, Long.class);
 
     private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
 
@@ -61,62 +106,58 @@ public class RefreshTokenBlacklistRedisRepository {
     }
 
     /**
-     * Refresh Token이 Blacklist에 존재하는지 확인
+     * Refresh Token 선점 (Atomic, 1 Round Trip)
      *
      * @param tenantId Tenant 식별자
      * @param tokenValue Refresh Token 원본 값
-     * @return Mono&lt;Boolean&gt; Blacklist 존재 여부
+     * @param claimId 선점 식별자
+     * @param lease 선점 유지 시간
+     * @return Mono&lt;String&gt; ACQUIRED | IN_PROGRESS | CONSUMED
      */
-    public Mono<Boolean> isBlacklisted(String tenantId, String tokenValue) {
+    public Mono<String> claim(String tenantId, String tokenValue, String claimId, Duration lease) {
         String key = buildKey(tenantId, tokenValue);
-        return reactiveStringRedisTemplate.hasKey(key);
+        return reactiveStringRedisTemplate
+                .execute(
+                        CLAIM_SCRIPT,
+                        Collections.singletonList(key),
+                        List.of(
+                                CLAIM_VALUE_PREFIX + claimId,
+                                String.valueOf(lease.getSeconds()),
+                                BLACKLISTED_VALUE))
+                .next();
     }
 
     /**
-     * Redis Key 생성
-     *
-     * <p>Format: tenant:{tenantId}:refresh:blacklist:{tokenHash}
+     * Refresh Token 선점 해제 (claimId가 일치할 때만)
      *
      * @param tenantId Tenant 식별자
      * @param tokenValue Refresh Token 원본 값
-     * @return Redis Key
+     * @param claimId 선점 식별자
+     * @return Mono&lt;Boolean&gt; 해제 여부
      */
-    private String buildKey(String tenantId, String tokenValue) {
-        String tokenHash = hashToken(tokenValue);
-        return KEY_PREFIX + ":" + tenantId + ":" + KEY_SUFFIX + ":" + tokenHash;
+    public Mono<Boolean> releaseClaim(String tenantId, String tokenValue, String claimId) {
+        String key = buildKey(tenantId, tokenValue);
+        return reactiveStringRedisTemplate
+                .execute(
+                        RELEASE_SCRIPT,
+                        Collections.singletonList(key),
+                        Collections.singletonList(CLAIM_VALUE_PREFIX + claimId))
+                .next()
+                .map(deleted -> deleted > 0)
+                .defaultIfEmpty(false);
     }
 
     /**
-     * Token 해시 생성 (SHA-256)
+     * Redis Key 생성
      *
-     * @param tokenValue Token 원본 값
-     * @return SHA-256 해시 (Hex)
-     */
-    private String hashToken(String tokenValue) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashBytes = digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hashBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 algorithm not available", e);
-        }
-    }
-
-    /**
-     * Byte 배열을 Hex 문자열로 변환
+     * <p>Format: tenant:{tenantId}:refresh:blacklist:{tokenHash}
      *
-     * @param bytes Byte 배열
-     * @return Hex 문자열
+     * @param tenantId Tenant 식별자
+     * @param tokenValue Refresh Token 원본 값
+     * @return Redis Key
      */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder(2 * bytes.length);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
+    private String buildKey(String tenantId, String tokenValue) {
+        String tokenHash = TokenDigests.sha256Hex(tokenValue);
+        return KEY_PREFIX + ":" + tenantId + ":" + KEY_SUFFIX + ":" + tokenHash;
     }
 }
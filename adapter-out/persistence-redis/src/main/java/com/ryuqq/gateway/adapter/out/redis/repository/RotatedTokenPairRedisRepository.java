@@ -0,0 +1,89 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Redis Repository
+ *
+ * <p>Refresh Token Rotation 결과(새 Token Pair)를 짧은 시간 동안 저장/조회하는 Repository
+ *
+ * <p><strong>Redis Key 규칙</strong>:
+ *
+ * <ul>
+ *   <li>Key: {@code tenant:{tenantId}:refresh:rotated:{tokenHash}} (소비된 Refresh Token의 SHA-256)
+ *   <li>Value: RotatedTokenPairEntity (JSON)
+ *   <li>TTL: 재사용 유예 시간 (일반적으로 30초)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Repository
+public class RotatedTokenPairRedisRepository {
+
+    private static final String KEY_PREFIX = "tenant";
+    private static final String KEY_SUFFIX = "refresh:rotated";
+
+    private final ReactiveRedisTemplate<String, RotatedTokenPairEntity> reactiveRedisTemplate;
+
+    public RotatedTokenPairRedisRepository(
+            @Qualifier("rotatedTokenPairRedisTemplate")
+                    ReactiveRedisTemplate<String, RotatedTokenPairEntity> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    /**
+     * Rotation 결과 저장
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedTokenValue 소비된 Refresh Token 원본 값
+     * @param entity 새 Token Pair
+     * @param ttl TTL
+     * @return Mono&lt;Boolean&gt; 저장 성공 여부
+     */
+    public Mono<Boolean> save(
+            String tenantId,
+            String consumedTokenValue,
+            RotatedTokenPairEntity entity,
+            Duration ttl) {
+        String key = buildKey(tenantId, consumedTokenValue);
+        return reactiveRedisTemplate.opsForValue().set(key, entity, ttl);
+    }
+
+    /**
+     * Rotation 결과 조회
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedTokenValue 소비된 Refresh Token 원본 값
+     * @return Mono&lt;RotatedTokenPairEntity&gt; (없으면 Mono.empty())
+     */
+    public Mono<RotatedTokenPairEntity> findByConsumedToken(
+            String tenantId, String consumedTokenValue) {
+        String key = buildKey(tenantId, consumedTokenValue);
+        return reactiveRedisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * Redis Key 생성
+     *
+     * <p>Format: tenant:{tenantId}:refresh:rotated:{tokenHash}
+     *
+     * @param tenantId Tenant 식별자
+     * @param tokenValue Refresh Token 원본 값
+     * @return Redis Key
+     */
+    private String buildKey(String tenantId, String tokenValue) {
+        return KEY_PREFIX
+                + ":"
+                + tenantId
+                + ":"
+                + KEY_SUFFIX
+                + ":"
+                + TokenDigests.sha256Hex(tokenValue);
+    }
+}
@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
  * <ul>
  *   <li>ReactiveRedisTemplate (Reactive)
  *   <li>Lettuce (Connection Pool)
+ *   <li>조회는 RedisCommandBatcher로 묶어서 전송 (Hot Path Cache GET)
  * </ul>
  *
  * @author development-team
@@ -36,11 +37,14 @@ public class TenantConfigRedisRepository {
     private static final Duration DEFAULT_TTL = Duration.ofHours(1);
 
     private final ReactiveRedisTemplate<String, TenantConfigEntity> reactiveRedisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
 
     public TenantConfigRedisRepository(
             @Qualifier("tenantConfigRedisTemplate")
-                    ReactiveRedisTemplate<String, TenantConfigEntity> reactiveRedisTemplate) {
+                    ReactiveRedisTemplate<String, TenantConfigEntity> reactiveRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.redisCommandBatcher = redisCommandBatcher;
     }
 
     /**
@@ -75,7 +79,9 @@ public class TenantConfigRedisRepository {
      */
     public Mono<TenantConfigEntity> findByTenantId(String tenantId) {
         String redisKey = buildRedisKey(tenantId);
-        return reactiveRedisTemplate.opsForValue().get(redisKey);
+        return redisCommandBatcher.get(
+                redisKey,
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair());
     }
 
     /**
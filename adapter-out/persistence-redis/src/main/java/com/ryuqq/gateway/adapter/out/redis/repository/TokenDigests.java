@@ -0,0 +1,52 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Token Digest Utility
+ *
+ * <p>Token 원본 대신 Redis Key에 사용할 SHA-256 해시(Hex)를 생성합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class TokenDigests {
+
+    private TokenDigests() {}
+
+    /**
+     * Token 해시 생성 (SHA-256)
+     *
+     * @param tokenValue Token 원본 값
+     * @return SHA-256 해시 (Hex, 64자)
+     */
+    static String sha256Hex(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+            return bytesToHex(hashBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * Byte 배열을 Hex 문자열로 변환
+     *
+     * @param bytes Byte 배열
+     * @return Hex 문자열
+     */
+    private static String bytesToHex(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(2 * bytes.length);
+        for (byte b : bytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) {
+                hexString.append('0');
+            }
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.IpBlockEventMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * IpBlockEventPublishAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IpBlockEventPublishAdapter 단위 테스트")
+class IpBlockEventPublishAdapterTest {
+
+    @Mock private IpBlockRedisRepository ipBlockRedisRepository;
+
+    private IpBlockEventPublishAdapter ipBlockEventPublishAdapter;
+
+    @BeforeEach
+    void setUp() {
+        ipBlockEventPublishAdapter =
+                new IpBlockEventPublishAdapter(ipBlockRedisRepository, new IpBlockEventMapper());
+    }
+
+    @Test
+    @DisplayName("이벤트를 메시지로 변환하여 발행해야 한다")
+    void shouldPublishMessage() {
+        // given
+        IpBlockEvent event = IpBlockEvent.blocked("192.168.1.1", 1_700_000_000_000L);
+        given(ipBlockRedisRepository.publishEvent("1700000000000|192.168.1.1"))
+                .willReturn(Mono.just(3L));
+
+        // when & then
+        StepVerifier.create(ipBlockEventPublishAdapter.publish(event)).verifyComplete();
+
+        then(ipBlockRedisRepository).should().publishEvent("1700000000000|192.168.1.1");
+    }
+}
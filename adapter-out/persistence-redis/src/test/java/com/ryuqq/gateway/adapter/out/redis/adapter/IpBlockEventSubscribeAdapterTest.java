@@ -0,0 +1,63 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.gateway.adapter.out.redis.mapper.IpBlockEventMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * IpBlockEventSubscribeAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IpBlockEventSubscribeAdapter 단위 테스트")
+class IpBlockEventSubscribeAdapterTest {
+
+    @Mock private IpBlockRedisRepository ipBlockRedisRepository;
+
+    private IpBlockEventSubscribeAdapter ipBlockEventSubscribeAdapter;
+
+    @BeforeEach
+    void setUp() {
+        ipBlockEventSubscribeAdapter =
+                new IpBlockEventSubscribeAdapter(ipBlockRedisRepository, new IpBlockEventMapper());
+    }
+
+    @Test
+    @DisplayName("수신한 메시지를 이벤트로 변환해야 한다")
+    void shouldMapMessagesToEvents() {
+        // given
+        given(ipBlockRedisRepository.listenEvents())
+                .willReturn(Flux.just("1700000000000|192.168.1.1", "0|192.168.1.1"));
+
+        // when & then
+        StepVerifier.create(ipBlockEventSubscribeAdapter.subscribe())
+                .expectNext(IpBlockEvent.blocked("192.168.1.1", 1_700_000_000_000L))
+                .expectNext(IpBlockEvent.unblocked("192.168.1.1"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 건너뛰고 구독을 유지해야 한다")
+    void shouldSkipMalformedMessages() {
+        // given
+        given(ipBlockRedisRepository.listenEvents())
+                .willReturn(Flux.just("garbage", "0|10.0.0.1"));
+
+        // when & then
+        StepVerifier.create(ipBlockEventSubscribeAdapter.subscribe())
+                .expectNext(IpBlockEvent.unblocked("10.0.0.1"))
+                .verifyComplete();
+    }
+}
@@ -1,10 +1,13 @@
 package com.ryuqq.gateway.adapter.out.redis.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockQueryPort;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -219,4 +222,42 @@ class IpBlockQueryAdapterTest {
             StepVerifier.create(result).expectError(RuntimeException.class).verify();
         }
     }
+
+    @Nested
+    @DisplayName("findBlockedIps 메서드")
+    class FindBlockedIpsTest {
+
+        @Test
+        @DisplayName("Repository 페이지를 Port DTO로 변환해야 한다")
+        void shouldMapRepositoryPage() {
+            // given
+            IpBlockRedisRepository.BlockedIpPage page =
+                    new IpBlockRedisRepository.BlockedIpPage(
+                            3L,
+                            List.of(
+                                    new IpBlockRedisRepository.BlockedIpWithTtl("10.0.0.1", 60L),
+                                    new IpBlockRedisRepository.BlockedIpWithTtl(
+                                            "2001:db8::1", -1L)));
+
+            given(ipBlockRedisRepository.findBlockedIps(0L, 2, false)).willReturn(Mono.just(page));
+
+            // when
+            Mono<IpBlockQueryPort.BlockedIpPage> result =
+                    ipBlockQueryAdapter.findBlockedIps(0L, 2, false);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            actual -> {
+                                assertThat(actual.totalCount()).isEqualTo(3L);
+                                assertThat(actual.items())
+                                        .containsExactly(
+                                                new IpBlockQueryPort.BlockedIpWithTtl(
+                                                        "10.0.0.1", 60L),
+                                                new IpBlockQueryPort.BlockedIpWithTtl(
+                                                        "2001:db8::1", -1L));
+                            })
+                    .verifyComplete();
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.gateway.adapter.out.redis.config.RateLimitCircuitBreakerProperties;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * PreAuthRateLimitCommandAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PreAuthRateLimitCommandAdapter 단위 테스트")
+class PreAuthRateLimitCommandAdapterTest {
+
+    private static final String IP = "192.168.1.1";
+    private static final RateLimitKey IP_KEY = RateLimitKey.of(LimitType.IP, IP);
+    private static final RateLimitKey ENDPOINT_KEY =
+            RateLimitKey.of(LimitType.ENDPOINT, "/api/test", "GET");
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    @Mock private RateLimitRedisRepository rateLimitRedisRepository;
+
+    private PreAuthRateLimitCommandAdapter preAuthRateLimitCommandAdapter;
+
+    @BeforeEach
+    void setUp() {
+        preAuthRateLimitCommandAdapter =
+                new PreAuthRateLimitCommandAdapter(
+                        rateLimitRedisRepository,
+                        new RateLimitRedisCircuitBreaker(
+                                new RateLimitCircuitBreakerProperties(),
+                                new SimpleMeterRegistry()));
+    }
+
+    @Nested
+    @DisplayName("check 메서드")
+    class CheckTest {
+
+        @Test
+        @DisplayName("IP 차단 Key와 두 카운터 Key로 Script를 실행하고 결과를 변환해야 한다")
+        void shouldRunScriptWithAllKeys() {
+            // given
+            given(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    "gateway:blocked_ip:" + IP,
+                                    IP_KEY.value(),
+                                    500,
+                                    ENDPOINT_KEY.value(),
+                                    1000,
+                                    WINDOW,
+                                    true))
+                    .willReturn(Mono.just("A,0,5,10"));
+
+            // when
+            Mono<PreAuthRateLimitResult> result =
+                    preAuthRateLimitCommandAdapter.check(
+                            IP, IP_KEY, 500, ENDPOINT_KEY, 1000, WINDOW, true);
+
+            // then
+            StepVerifier.create(result)
+                    .expectNext(PreAuthRateLimitResult.allowed(5, 10))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Redis 에러 발생 시 RateLimitStoreUnavailableException으로 전파해야 한다")
+        void shouldMapRedisErrorToUnavailable() {
+            // given
+            given(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    "gateway:blocked_ip:" + IP,
+                                    IP_KEY.value(),
+                                    500,
+                                    ENDPOINT_KEY.value(),
+                                    1000,
+                                    WINDOW,
+                                    true))
+                    .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+            // when
+            Mono<PreAuthRateLimitResult> result =
+                    preAuthRateLimitCommandAdapter.check(
+                            IP, IP_KEY, 500, ENDPOINT_KEY, 1000, WINDOW, true);
+
+            // then
+            StepVerifier.create(result)
+                    .expectError(RateLimitStoreUnavailableException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("toResult 메서드")
+    class ToResultTest {
+
+        @Test
+        @DisplayName("차단 결과를 변환해야 한다")
+        void shouldConvertBlocked() {
+            assertThat(PreAuthRateLimitCommandAdapter.toResult("B,1800,0,0"))
+                    .isEqualTo(PreAuthRateLimitResult.ipBlocked(1800));
+        }
+
+        @Test
+        @DisplayName("IP 초과 결과를 변환해야 한다")
+        void shouldConvertIpExceeded() {
+            assertThat(PreAuthRateLimitCommandAdapter.toResult("I,42,500,0"))
+                    .isEqualTo(PreAuthRateLimitResult.exceeded(LimitType.IP, 42, 500, 0));
+        }
+
+        @Test
+        @DisplayName("Endpoint 초과 결과를 변환해야 한다")
+        void shouldConvertEndpointExceeded() {
+            assertThat(PreAuthRateLimitCommandAdapter.toResult("E,17,3,1000"))
+                    .isEqualTo(PreAuthRateLimitResult.exceeded(LimitType.ENDPOINT, 17, 3, 1000));
+        }
+
+        @Test
+        @DisplayName("형식이 올바르지 않으면 예외가 발생해야 한다")
+        void shouldRejectMalformedResult() {
+            assertThatThrownBy(() -> PreAuthRateLimitCommandAdapter.toResult("X,1"))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> PreAuthRateLimitCommandAdapter.toResult("X,1,2,3"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
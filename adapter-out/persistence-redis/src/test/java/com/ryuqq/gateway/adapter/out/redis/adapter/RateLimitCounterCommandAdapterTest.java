@@ -1,12 +1,21 @@
 package com.ryuqq.gateway.adapter.out.redis.adapter;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.gateway.adapter.out.redis.config.RateLimitCircuitBreakerProperties;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
 import java.time.Duration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,7 +43,11 @@ class RateLimitCounterCommandAdapterTest {
     @BeforeEach
     void setUp() {
         rateLimitCounterCommandAdapter =
-                new RateLimitCounterCommandAdapter(rateLimitRedisRepository);
+                new RateLimitCounterCommandAdapter(
+                        rateLimitRedisRepository,
+                        new RateLimitRedisCircuitBreaker(
+                                new RateLimitCircuitBreakerProperties(),
+                                new SimpleMeterRegistry()));
     }
 
     @Nested
@@ -95,7 +108,7 @@ class RateLimitCounterCommandAdapterTest {
         }
 
         @Test
-        @DisplayName("Redis 에러 발생 시 에러를 전파해야 한다")
+        @DisplayName("Redis 에러 발생 시 RateLimitStoreUnavailableException으로 전파해야 한다")
         void shouldPropagateRedisError() {
             // given
             RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:10.0.0.1");
@@ -108,7 +121,113 @@ class RateLimitCounterCommandAdapterTest {
             Mono<Long> result = rateLimitCounterCommandAdapter.incrementAndGet(key, window);
 
             // then
-            StepVerifier.create(result).expectError(RuntimeException.class).verify();
+            StepVerifier.create(result)
+                    .expectError(RateLimitStoreUnavailableException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementBy 메서드")
+    class IncrementByTest {
+
+        @Test
+        @DisplayName("로컬 증가분을 반영하고 전체 카운트를 반환해야 한다")
+        void shouldIncrementByDeltaAndReturnTotalCount() {
+            // given
+            RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:192.168.1.1");
+            Duration window = Duration.ofMinutes(1);
+
+            given(rateLimitRedisRepository.incrementByAndExpire(key.value(), 7L, window))
+                    .willReturn(Mono.just(42L));
+
+            // when
+            Mono<Long> result = rateLimitCounterCommandAdapter.incrementBy(key, 7L, window);
+
+            // then
+            StepVerifier.create(result).expectNext(42L).verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("acquire 메서드")
+    class AcquireTest {
+
+        private final RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:192.168.1.1");
+        private final Duration window = Duration.ofMinutes(1);
+
+        @Test
+        @DisplayName("GCRA는 접미사를 붙인 Key로 판정하고 결과를 변환해야 한다")
+        void shouldAcquireWithGcra() {
+            // given
+            given(rateLimitRedisRepository.acquireGcra(key.value() + ":gcra", 10, window))
+                    .willReturn(Mono.just("1,9,0"));
+
+            // when
+            Mono<RateLimitDecision> result =
+                    rateLimitCounterCommandAdapter.acquire(
+                            key, RateLimitAlgorithm.GCRA, 10, window);
+
+            // then
+            StepVerifier.create(result).expectNext(RateLimitDecision.allow(9)).verifyComplete();
+        }
+
+        @Test
+        @DisplayName("SLIDING_WINDOW는 접미사를 붙인 Key로 판정하고 결과를 변환해야 한다")
+        void shouldAcquireWithSlidingWindow() {
+            // given
+            given(rateLimitRedisRepository.acquireSlidingWindow(key.value() + ":sw", 10, window))
+                    .willReturn(Mono.just("0,0,1500"));
+
+            // when
+            Mono<RateLimitDecision> result =
+                    rateLimitCounterCommandAdapter.acquire(
+                            key, RateLimitAlgorithm.SLIDING_WINDOW, 10, window);
+
+            // then
+            StepVerifier.create(result)
+                    .expectNext(RateLimitDecision.deny(1500))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("FIXED_WINDOW는 에러를 반환해야 한다")
+        void shouldRejectFixedWindow() {
+            // when
+            Mono<RateLimitDecision> result =
+                    rateLimitCounterCommandAdapter.acquire(
+                            key, RateLimitAlgorithm.FIXED_WINDOW, 10, window);
+
+            // then
+            StepVerifier.create(result).expectError(IllegalArgumentException.class).verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("toDecision 메서드")
+    class ToDecisionTest {
+
+        @Test
+        @DisplayName("허용 결과를 변환해야 한다")
+        void shouldParseAllowed() {
+            assertThat(RateLimitCounterCommandAdapter.toDecision("1,4,0"))
+                    .isEqualTo(RateLimitDecision.allow(4));
+        }
+
+        @Test
+        @DisplayName("거부 결과를 변환해야 한다")
+        void shouldParseDenied() {
+            assertThat(RateLimitCounterCommandAdapter.toDecision("0,0,20000"))
+                    .isEqualTo(RateLimitDecision.deny(20000));
+        }
+
+        @Test
+        @DisplayName("형식이 올바르지 않으면 예외가 발생해야 한다")
+        void shouldRejectMalformedResult() {
+            assertThatThrownBy(() -> RateLimitCounterCommandAdapter.toDecision("1,4"))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> RateLimitCounterCommandAdapter.toDecision("X,0,0"))
+                    .isInstanceOf(IllegalStateException.class);
         }
     }
 
@@ -122,7 +241,8 @@ class RateLimitCounterCommandAdapterTest {
             // given
             RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:192.168.1.1");
 
-            given(rateLimitRedisRepository.delete(eq(key.value()))).willReturn(Mono.just(true));
+            given(rateLimitRedisRepository.deleteAll(eq(allKeys(key))))
+                    .willReturn(Mono.just(true));
 
             // when
             Mono<Boolean> result = rateLimitCounterCommandAdapter.delete(key);
@@ -130,7 +250,7 @@ class RateLimitCounterCommandAdapterTest {
             // then
             StepVerifier.create(result).expectNext(true).verifyComplete();
 
-            then(rateLimitRedisRepository).should().delete(key.value());
+            then(rateLimitRedisRepository).should().deleteAll(allKeys(key));
         }
 
         @Test
@@ -139,7 +259,8 @@ class RateLimitCounterCommandAdapterTest {
             // given
             RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:non-existent");
 
-            given(rateLimitRedisRepository.delete(eq(key.value()))).willReturn(Mono.just(false));
+            given(rateLimitRedisRepository.deleteAll(eq(allKeys(key))))
+                    .willReturn(Mono.just(false));
 
             // when
             Mono<Boolean> result = rateLimitCounterCommandAdapter.delete(key);
@@ -154,7 +275,7 @@ class RateLimitCounterCommandAdapterTest {
             // given
             RateLimitKey key = RateLimitKey.of("gateway:rate_limit:ip:10.0.0.1");
 
-            given(rateLimitRedisRepository.delete(eq(key.value())))
+            given(rateLimitRedisRepository.deleteAll(eq(allKeys(key))))
                     .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
 
             // when
@@ -164,4 +285,8 @@ class RateLimitCounterCommandAdapterTest {
             StepVerifier.create(result).expectError(RuntimeException.class).verify();
         }
     }
+
+    private static List<String> allKeys(RateLimitKey key) {
+        return List.of(key.value(), key.value() + ":sw", key.value() + ":gcra");
+    }
 }
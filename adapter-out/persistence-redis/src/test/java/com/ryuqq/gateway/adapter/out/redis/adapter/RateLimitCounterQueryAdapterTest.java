@@ -4,8 +4,12 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.gateway.adapter.out.redis.config.RateLimitCircuitBreakerProperties;
+import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisCircuitBreaker;
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,7 +36,12 @@ class RateLimitCounterQueryAdapterTest {
 
     @BeforeEach
     void setUp() {
-        rateLimitCounterQueryAdapter = new RateLimitCounterQueryAdapter(rateLimitRedisRepository);
+        rateLimitCounterQueryAdapter =
+                new RateLimitCounterQueryAdapter(
+                        rateLimitRedisRepository,
+                        new RateLimitRedisCircuitBreaker(
+                                new RateLimitCircuitBreakerProperties(),
+                                new SimpleMeterRegistry()));
     }
 
     @Nested
@@ -104,6 +113,29 @@ class RateLimitCounterQueryAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("sumCounts 메서드")
+    class SumCountsTest {
+
+        @Test
+        @DisplayName("Key 문자열 목록으로 합계를 조회해야 한다")
+        void shouldSumByKeyValues() {
+            // given
+            RateLimitKey key = RateLimitKey.of("gateway:rate_limit:endpoint:/api:GET");
+            given(
+                            rateLimitRedisRepository.sumCounts(
+                                    List.of(key.shard(0).value(), key.shard(1).value())))
+                    .willReturn(Mono.just(12L));
+
+            // when
+            Mono<Long> result =
+                    rateLimitCounterQueryAdapter.sumCounts(List.of(key.shard(0), key.shard(1)));
+
+            // then
+            StepVerifier.create(result).expectNext(12L).verifyComplete();
+        }
+    }
+
     @Nested
     @DisplayName("getTtlSeconds 메서드")
     class GetTtlSecondsTest {
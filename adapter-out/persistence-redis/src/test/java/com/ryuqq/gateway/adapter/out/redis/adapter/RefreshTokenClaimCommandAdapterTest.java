@@ -0,0 +1,80 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.gateway.adapter.out.redis.repository.RefreshTokenBlacklistRedisRepository;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * RefreshTokenClaimCommandAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenClaimCommandAdapter 단위 테스트")
+class RefreshTokenClaimCommandAdapterTest {
+
+    private static final String TENANT_ID = "tenant-123";
+    private static final String TOKEN_VALUE = "a".repeat(64);
+
+    @Mock private RefreshTokenBlacklistRedisRepository refreshTokenBlacklistRedisRepository;
+
+    private RefreshTokenClaimCommandAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RefreshTokenClaimCommandAdapter(refreshTokenBlacklistRedisRepository);
+    }
+
+    @Nested
+    @DisplayName("claim 메서드")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("Script 결과를 RefreshTokenClaimStatus로 변환해야 한다")
+        void shouldMapScriptResultToStatus() {
+            // given
+            given(
+                            refreshTokenBlacklistRedisRepository.claim(
+                                    TENANT_ID, TOKEN_VALUE, "claim-1", Duration.ofSeconds(10)))
+                    .willReturn(Mono.just("IN_PROGRESS"));
+
+            // when & then
+            StepVerifier.create(
+                            adapter.claim(TENANT_ID, RefreshToken.of(TOKEN_VALUE), "claim-1", 10L))
+                    .expectNext(RefreshTokenClaimStatus.IN_PROGRESS)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메서드")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("선점 해제 결과와 관계없이 완료 시그널을 반환해야 한다")
+        void shouldCompleteAfterRelease() {
+            // given
+            given(
+                            refreshTokenBlacklistRedisRepository.releaseClaim(
+                                    TENANT_ID, TOKEN_VALUE, "claim-1"))
+                    .willReturn(Mono.just(false));
+
+            // when & then
+            StepVerifier.create(adapter.release(TENANT_ID, RefreshToken.of(TOKEN_VALUE), "claim-1"))
+                    .verifyComplete();
+        }
+    }
+}
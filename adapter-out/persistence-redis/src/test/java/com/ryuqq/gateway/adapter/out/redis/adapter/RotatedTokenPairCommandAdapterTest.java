@@ -0,0 +1,73 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import com.ryuqq.gateway.adapter.out.redis.mapper.RotatedTokenPairMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.RotatedTokenPairRedisRepository;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RotatedTokenPairCommandAdapter 단위 테스트")
+class RotatedTokenPairCommandAdapterTest {
+
+    @Mock private RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository;
+
+    @Mock private RotatedTokenPairMapper rotatedTokenPairMapper;
+
+    // JWT Header: {"alg":"RS256","typ":"JWT","kid":"new-key"} base64url encoded
+    private final TokenPair tokenPair =
+            TokenPair.of(
+                    "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCIsImtpZCI6Im5ldy1rZXkifQ"
+                            + ".eyJzdWIiOiJuZXcifQ"
+                            + ".new-signature",
+                    "new-refresh-token-abcdefghijklmnopqr");
+
+    private RotatedTokenPairCommandAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter =
+                new RotatedTokenPairCommandAdapter(
+                        rotatedTokenPairRedisRepository, rotatedTokenPairMapper);
+    }
+
+    @Test
+    @DisplayName("소비된 토큰 값과 TTL로 새 Token Pair를 저장해야 한다")
+    void shouldSaveRotatedPair() {
+        // given
+        String tenantId = "tenant-123";
+        String consumedValue = "consumed-refresh-token-0123456789abcdef";
+        RotatedTokenPairEntity entity = new RotatedTokenPairEntity("access", "refresh");
+
+        given(rotatedTokenPairMapper.toEntity(tokenPair)).willReturn(entity);
+        given(
+                        rotatedTokenPairRedisRepository.save(
+                                eq(tenantId),
+                                eq(consumedValue),
+                                eq(entity),
+                                eq(Duration.ofSeconds(30))))
+                .willReturn(Mono.just(true));
+
+        // when & then
+        StepVerifier.create(
+                        adapter.save(tenantId, RefreshToken.of(consumedValue), tokenPair, 30L))
+                .verifyComplete();
+
+        then(rotatedTokenPairRedisRepository)
+                .should()
+                .save(tenantId, consumedValue, entity, Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ryuqq.gateway.adapter.out.redis.adapter;
+
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import com.ryuqq.gateway.adapter.out.redis.mapper.RotatedTokenPairMapper;
+import com.ryuqq.gateway.adapter.out.redis.repository.RotatedTokenPairRedisRepository;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RotatedTokenPairQueryAdapter 단위 테스트")
+class RotatedTokenPairQueryAdapterTest {
+
+    private static final String TENANT_ID = "tenant-123";
+    private static final String CONSUMED_VALUE = "consumed-refresh-token-0123456789abcdef";
+
+    @Mock private RotatedTokenPairRedisRepository rotatedTokenPairRedisRepository;
+
+    @Mock private RotatedTokenPairMapper rotatedTokenPairMapper;
+
+    // JWT Header: {"alg":"RS256","typ":"JWT","kid":"new-key"} base64url encoded
+    private final TokenPair tokenPair =
+            TokenPair.of(
+                    "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCIsImtpZCI6Im5ldy1rZXkifQ"
+                            + ".eyJzdWIiOiJuZXcifQ"
+                            + ".new-signature",
+                    "new-refresh-token-abcdefghijklmnopqr");
+
+    private RotatedTokenPairQueryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter =
+                new RotatedTokenPairQueryAdapter(
+                        rotatedTokenPairRedisRepository, rotatedTokenPairMapper);
+    }
+
+    @Test
+    @DisplayName("공유된 Token Pair가 있으면 Domain으로 변환하여 반환")
+    void shouldReturnRotatedPair() {
+        // given
+        RotatedTokenPairEntity entity = new RotatedTokenPairEntity("access", "refresh");
+        given(rotatedTokenPairRedisRepository.findByConsumedToken(TENANT_ID, CONSUMED_VALUE))
+                .willReturn(Mono.just(entity));
+        given(rotatedTokenPairMapper.toTokenPair(entity)).willReturn(tokenPair);
+
+        // when & then
+        StepVerifier.create(
+                        adapter.findByConsumedToken(TENANT_ID, RefreshToken.of(CONSUMED_VALUE)))
+                .expectNext(tokenPair)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("공유된 Token Pair가 없으면 empty 반환")
+    void shouldReturnEmptyWhenMissing() {
+        // given
+        given(rotatedTokenPairRedisRepository.findByConsumedToken(TENANT_ID, CONSUMED_VALUE))
+                .willReturn(Mono.empty());
+
+        // when & then
+        StepVerifier.create(
+                        adapter.findByConsumedToken(TENANT_ID, RefreshToken.of(CONSUMED_VALUE)))
+                .verifyComplete();
+    }
+}
@@ -3,6 +3,7 @@ package com.ryuqq.gateway.adapter.out.redis.integration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
+import com.ryuqq.gateway.adapter.out.redis.repository.RedisCommandBatcher;
 import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -163,4 +164,176 @@ class IpBlockRedisRepositoryIntegrationTest extends RedisTestSupport {
                     .verifyComplete();
         }
     }
+
+    @Nested
+    @DisplayName("findBlockedIps 메서드")
+    class FindBlockedIpsTest {
+
+        @Test
+        @DisplayName("만료가 가까운 순으로 페이지를 반환해야 한다")
+        void shouldReturnPageOrderedByExpiry() {
+            // given
+            ipBlockRedisRepository.block("10.0.0.3", Duration.ofMinutes(30)).block();
+            ipBlockRedisRepository.block("10.0.0.1", Duration.ofMinutes(10)).block();
+            ipBlockRedisRepository.block("2001:db8::1", Duration.ofMinutes(20)).block();
+
+            // when & then
+            StepVerifier.create(ipBlockRedisRepository.findBlockedIps(0, 2, false))
+                    .assertNext(
+                            page -> {
+                                assertThat(page.totalCount()).isEqualTo(3L);
+                                assertThat(page.items())
+                                        .extracting(IpBlockRedisRepository.BlockedIpWithTtl::ip)
+                                        .containsExactly("10.0.0.1", "2001:db8::1");
+                                assertThat(page.items().get(0).ttlSeconds())
+                                        .isPositive()
+                                        .isLessThanOrEqualTo(600L);
+                            })
+                    .verifyComplete();
+
+            StepVerifier.create(ipBlockRedisRepository.findBlockedIps(2, 2, false))
+                    .assertNext(
+                            page ->
+                                    assertThat(page.items())
+                                            .extracting(IpBlockRedisRepository.BlockedIpWithTtl::ip)
+                                            .containsExactly("10.0.0.3"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("longestFirst면 남은 시간이 긴 순으로 반환해야 한다")
+        void shouldReturnLongestFirst() {
+            // given
+            ipBlockRedisRepository.block("10.0.0.1", Duration.ofMinutes(10)).block();
+            ipBlockRedisRepository.block("10.0.0.2", Duration.ofMinutes(30)).block();
+
+            // when & then
+            StepVerifier.create(ipBlockRedisRepository.findBlockedIps(0, 10, true))
+                    .assertNext(
+                            page ->
+                                    assertThat(page.items())
+                                            .extracting(IpBlockRedisRepository.BlockedIpWithTtl::ip)
+                                            .containsExactly("10.0.0.2", "10.0.0.1"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("차단 해제한 IP는 목록에서 제외해야 한다")
+        void shouldExcludeUnblockedIp() {
+            // given
+            ipBlockRedisRepository.block("10.0.0.1", Duration.ofMinutes(10)).block();
+            ipBlockRedisRepository.block("10.0.0.2", Duration.ofMinutes(10)).block();
+            ipBlockRedisRepository.unblock("10.0.0.1").block();
+
+            // when & then
+            StepVerifier.create(ipBlockRedisRepository.findAllBlockedIps())
+                    .expectNext("10.0.0.2")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("만료된 차단은 정리하고 전체 수에서 제외해야 한다")
+        void shouldPruneExpiredBlocks() throws InterruptedException {
+            // given
+            ipBlockRedisRepository.block("10.0.0.1", Duration.ofMillis(100)).block();
+            ipBlockRedisRepository.block("10.0.0.2", Duration.ofMinutes(10)).block();
+            Thread.sleep(200);
+
+            // when & then
+            StepVerifier.create(ipBlockRedisRepository.findBlockedIps(0, 10, false))
+                    .assertNext(
+                            page -> {
+                                assertThat(page.totalCount()).isEqualTo(1L);
+                                assertThat(page.items())
+                                        .extracting(IpBlockRedisRepository.BlockedIpWithTtl::ip)
+                                        .containsExactly("10.0.0.2");
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("잘못된 범위는 IllegalArgumentException을 반환해야 한다")
+        void shouldRejectInvalidRange() {
+            // when & then
+            StepVerifier.create(ipBlockRedisRepository.findBlockedIps(0, 0, false))
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Index Backfill")
+    class IndexBackfillTest {
+
+        private static final String LEGACY_KEY = "gateway:blocked_ip:10.9.9.9";
+        private static final String MARKER_KEY = "gateway:blocked_ip_index_backfill";
+
+        @Autowired private RedisCommandBatcher redisCommandBatcher;
+
+        @Test
+        @DisplayName("Marker가 없으면 Index 도입 전 차단 Key를 반영하고 Marker를 남겨야 한다")
+        void shouldBackfillLegacyKeysAndLeaveMarker() {
+            // given
+            reactiveStringRedisTemplate
+                    .opsForValue()
+                    .set(LEGACY_KEY, "blocked", Duration.ofMinutes(10))
+                    .block();
+            IpBlockRedisRepository freshNode = newNode();
+
+            // when & then
+            StepVerifier.create(freshNode.findAllBlockedIps())
+                    .expectNext("10.9.9.9")
+                    .verifyComplete();
+            StepVerifier.create(reactiveStringRedisTemplate.opsForValue().get(MARKER_KEY))
+                    .expectNext("done")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Marker가 있으면 SCAN하지 않아야 한다")
+        void shouldSkipScanWhenMarkerExists() {
+            // given
+            reactiveStringRedisTemplate
+                    .opsForValue()
+                    .set(LEGACY_KEY, "blocked", Duration.ofMinutes(10))
+                    .block();
+            reactiveStringRedisTemplate.opsForValue().set(MARKER_KEY, "done").block();
+            IpBlockRedisRepository freshNode = newNode();
+
+            // when & then
+            StepVerifier.create(freshNode.findAllBlockedIps()).verifyComplete();
+        }
+
+        private IpBlockRedisRepository newNode() {
+            return new IpBlockRedisRepository(reactiveStringRedisTemplate, redisCommandBatcher);
+        }
+    }
+
+    @Nested
+    @DisplayName("publishEvent / listenEvents 메서드")
+    class EventChannelTest {
+
+        @Test
+        @DisplayName("발행한 이벤트 메시지를 구독자가 수신해야 한다")
+        void shouldDeliverPublishedMessage() {
+            // given
+            String message = "1700000000000|2001:db8::1";
+
+            // when & then - 구독 등록이 끝나 수신자가 생길 때까지 발행 재시도
+            StepVerifier.create(ipBlockRedisRepository.listenEvents().take(1))
+                    .then(
+                            () ->
+                                    ipBlockRedisRepository
+                                            .publishEvent(message)
+                                            .filter(receivers -> receivers > 0)
+                                            .repeatWhenEmpty(
+                                                    attempts ->
+                                                            attempts.delayElements(
+                                                                    Duration.ofMillis(50)))
+                                            .block(Duration.ofSeconds(5)))
+                    .expectNext(message)
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+        }
+    }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
 import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -98,6 +99,38 @@ class RateLimitRedisRepositoryIntegrationTest extends RedisTestSupport {
         }
     }
 
+    @Nested
+    @DisplayName("sumCounts 메서드")
+    class SumCountsTest {
+
+        @Test
+        @DisplayName("여러 키의 값을 합산하고 없는 키는 0으로 계산해야 한다")
+        void shouldSumExistingKeysAndIgnoreMissing() {
+            // given
+            String base = "gateway:rate_limit:endpoint:/api/sum:GET:shard:";
+            Duration ttl = Duration.ofSeconds(60);
+            rateLimitRedisRepository.incrementAndExpire(base + "0", ttl).block();
+            rateLimitRedisRepository.incrementAndExpire(base + "0", ttl).block();
+            rateLimitRedisRepository.incrementAndExpire(base + "2", ttl).block();
+
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.sumCounts(
+                                    List.of(base + "0", base + "1", base + "2")))
+                    .assertNext(sum -> assertThat(sum).isEqualTo(3))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("빈 목록은 Redis를 호출하지 않고 0을 반환해야 한다")
+        void shouldReturnZeroForEmptyKeys() {
+            // when & then
+            StepVerifier.create(rateLimitRedisRepository.sumCounts(List.of()))
+                    .assertNext(sum -> assertThat(sum).isZero())
+                    .verifyComplete();
+        }
+    }
+
     @Nested
     @DisplayName("delete 메서드")
     class DeleteTest {
@@ -162,4 +195,255 @@ class RateLimitRedisRepositoryIntegrationTest extends RedisTestSupport {
                     .verifyComplete();
         }
     }
+
+    @Nested
+    @DisplayName("checkPreAuth 메서드")
+    class CheckPreAuthTest {
+
+        private static final String BLOCK_KEY = "gateway:blocked_ip:10.0.0.1";
+        private static final String IP_KEY = "gateway:rate_limit:ip:10.0.0.1";
+        private static final String ENDPOINT_KEY = "gateway:rate_limit:endpoint:/api/test:GET";
+        private static final Duration TTL = Duration.ofSeconds(60);
+
+        @Test
+        @DisplayName("한도 미만이면 두 카운터를 증가시키고 허용 결과를 반환해야 한다")
+        void shouldIncrementBothCountersWhenAllowed() {
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    BLOCK_KEY, IP_KEY, 10, ENDPOINT_KEY, 10, TTL, true))
+                    .expectNext("A,0,1,1")
+                    .verifyComplete();
+
+            StepVerifier.create(rateLimitRedisRepository.getTtl(ENDPOINT_KEY))
+                    .assertNext(remainingTtl -> assertThat(remainingTtl).isBetween(1L, 60L))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("IP 차단 중이면 카운터를 증가시키지 않고 차단 남은 시간을 반환해야 한다")
+        void shouldReturnBlockTtlWithoutCounting() {
+            // given
+            reactiveStringRedisTemplate
+                    .opsForValue()
+                    .set(BLOCK_KEY, "blocked", Duration.ofSeconds(1800))
+                    .block();
+
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    BLOCK_KEY, IP_KEY, 10, ENDPOINT_KEY, 10, TTL, true))
+                    .assertNext(
+                            result -> {
+                                String[] parts = result.split(",");
+                                assertThat(parts[0]).isEqualTo("B");
+                                assertThat(Long.parseLong(parts[1])).isBetween(1L, 1800L);
+                            })
+                    .verifyComplete();
+
+            StepVerifier.create(rateLimitRedisRepository.exists(IP_KEY))
+                    .assertNext(exists -> assertThat(exists).isFalse())
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("차단 확인을 끄면 차단 Key를 무시해야 한다")
+        void shouldIgnoreBlockKeyWhenDisabled() {
+            // given
+            reactiveStringRedisTemplate
+                    .opsForValue()
+                    .set(BLOCK_KEY, "blocked", Duration.ofSeconds(1800))
+                    .block();
+
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    BLOCK_KEY, IP_KEY, 10, ENDPOINT_KEY, 10, TTL, false))
+                    .expectNext("A,0,1,1")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("IP 한도에 도달하면 Endpoint 카운터를 증가시키지 않아야 한다")
+        void shouldStopAtIpLimit() {
+            // given
+            rateLimitRedisRepository
+                    .checkPreAuth(BLOCK_KEY, IP_KEY, 2, ENDPOINT_KEY, 10, TTL, true)
+                    .block();
+
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    BLOCK_KEY, IP_KEY, 2, ENDPOINT_KEY, 10, TTL, true))
+                    .assertNext(
+                            result -> {
+                                String[] parts = result.split(",");
+                                assertThat(parts[0]).isEqualTo("I");
+                                assertThat(Long.parseLong(parts[1])).isBetween(1L, 60L);
+                                assertThat(parts[2]).isEqualTo("2");
+                            })
+                    .verifyComplete();
+
+            StepVerifier.create(rateLimitRedisRepository.getCount(ENDPOINT_KEY))
+                    .assertNext(count -> assertThat(count).isEqualTo(1L))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Endpoint 한도에 도달하면 Endpoint 초과 결과를 반환해야 한다")
+        void shouldReportEndpointLimit() {
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.checkPreAuth(
+                                    BLOCK_KEY, IP_KEY, 10, ENDPOINT_KEY, 1, TTL, true))
+                    .assertNext(result -> assertThat(result).startsWith("E,").endsWith(",1,1"))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("acquireGcra 메서드")
+    class AcquireGcraTest {
+
+        private static final String KEY = "gateway:rate_limit:ip:192.168.1.1:gcra";
+        private static final Duration WINDOW = Duration.ofSeconds(60);
+
+        @Test
+        @DisplayName("한도만큼 허용하며 남은 요청 수를 하나씩 줄여야 한다")
+        void shouldAllowUpToLimit() {
+            // when & then
+            StepVerifier.create(rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW))
+                    .expectNext("1,2,0")
+                    .verifyComplete();
+            StepVerifier.create(rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW))
+                    .expectNext("1,1,0")
+                    .verifyComplete();
+            StepVerifier.create(rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW))
+                    .expectNext("1,0,0")
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("한도 초과 시 배출 간격 이내의 대기 시간을 반환하고 상태를 바꾸지 않아야 한다")
+        void shouldDenyWithRetryAfterWithinEmissionInterval() {
+            // given
+            for (int i = 0; i < 3; i++) {
+                rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW).block();
+            }
+            String tat = reactiveStringRedisTemplate.opsForValue().get(KEY).block();
+
+            // when & then
+            StepVerifier.create(rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW))
+                    .assertNext(
+                            result -> {
+                                String[] parts = result.split(",");
+                                assertThat(parts[0]).isEqualTo("0");
+                                assertThat(Long.parseLong(parts[2])).isBetween(1L, 20_000L);
+                            })
+                    .verifyComplete();
+            StepVerifier.create(reactiveStringRedisTemplate.opsForValue().get(KEY))
+                    .expectNext(tat)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Key당 TTL이 있는 값 하나만 저장해야 한다")
+        void shouldStoreSingleValueWithTtl() {
+            // when
+            rateLimitRedisRepository.acquireGcra(KEY, 3, WINDOW).block();
+
+            // then
+            StepVerifier.create(rateLimitRedisRepository.getTtl(KEY))
+                    .assertNext(ttl -> assertThat(ttl).isBetween(1L, 20L))
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("acquireSlidingWindow 메서드")
+    class AcquireSlidingWindowTest {
+
+        private static final String KEY = "gateway:rate_limit:ip:192.168.1.1:sw";
+        private static final Duration WINDOW = Duration.ofHours(1);
+
+        @Test
+        @DisplayName("한도만큼 허용한 뒤 거부하며 재시도 대기 시간을 반환해야 한다")
+        void shouldDenyAfterLimitWithRetryAfter() {
+            // given
+            StepVerifier.create(rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW))
+                    .expectNext("1,2,0")
+                    .verifyComplete();
+            rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW).block();
+            rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW).block();
+
+            // when & then
+            StepVerifier.create(rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW))
+                    .assertNext(
+                            result -> {
+                                String[] parts = result.split(",");
+                                assertThat(parts[0]).isEqualTo("0");
+                                assertThat(Long.parseLong(parts[2]))
+                                        .isBetween(1L, WINDOW.toMillis() * 2);
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("이전 Window 카운트를 겹치는 비율만큼 반영해야 한다")
+        void shouldWeightPreviousWindow() {
+            // given - 이전 Window에 한도보다 훨씬 많은 요청 기록 (Window 끝 무렵에도 가중치가 남도록)
+            long windowMillis = WINDOW.toMillis();
+            long previous = System.currentTimeMillis() / windowMillis - 1;
+            reactiveStringRedisTemplate
+                    .opsForHash()
+                    .put(KEY, String.valueOf(previous), "1000000")
+                    .block();
+
+            // when & then - 이전 Window 가중치가 남아 있으면 거부
+            StepVerifier.create(rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW))
+                    .assertNext(result -> assertThat(result).startsWith("0,0,"))
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("판정에 쓰이지 않는 오래된 Window Field를 정리해야 한다")
+        void shouldPruneStaleWindows() {
+            // given
+            reactiveStringRedisTemplate.opsForHash().put(KEY, "1", "100").block();
+
+            // when
+            StepVerifier.create(rateLimitRedisRepository.acquireSlidingWindow(KEY, 3, WINDOW))
+                    .expectNext("1,2,0")
+                    .verifyComplete();
+
+            // then
+            StepVerifier.create(reactiveStringRedisTemplate.opsForHash().hasKey(KEY, "1"))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteAll 메서드")
+    class DeleteAllTest {
+
+        @Test
+        @DisplayName("여러 키를 한 번에 삭제해야 한다")
+        void shouldDeleteAllKeys() {
+            // given
+            String key = "gateway:rate_limit:ip:10.0.0.1";
+            rateLimitRedisRepository.incrementAndExpire(key, Duration.ofSeconds(60)).block();
+            rateLimitRedisRepository.acquireGcra(key + ":gcra", 3, Duration.ofSeconds(60)).block();
+
+            // when & then
+            StepVerifier.create(
+                            rateLimitRedisRepository.deleteAll(
+                                    List.of(key, key + ":sw", key + ":gcra")))
+                    .expectNext(true)
+                    .verifyComplete();
+            StepVerifier.create(rateLimitRedisRepository.exists(key + ":gcra"))
+                    .expectNext(false)
+                    .verifyComplete();
+        }
+    }
 }
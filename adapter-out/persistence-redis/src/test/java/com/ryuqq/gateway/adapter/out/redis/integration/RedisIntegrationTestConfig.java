@@ -3,12 +3,18 @@ package com.ryuqq.gateway.adapter.out.redis.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ryuqq.gateway.adapter.out.redis.config.RedisBatchingProperties;
 import com.ryuqq.gateway.adapter.out.redis.entity.TenantConfigEntity;
 import com.ryuqq.gateway.adapter.out.redis.repository.AccountLockRedisRepository;
 import com.ryuqq.gateway.adapter.out.redis.repository.IpBlockRedisRepository;
 import com.ryuqq.gateway.adapter.out.redis.repository.RateLimitRedisRepository;
+import com.ryuqq.gateway.adapter.out.redis.repository.RedisCommandBatcher;
 import com.ryuqq.gateway.adapter.out.redis.repository.TenantConfigRedisRepository;
+import io.lettuce.core.RedisClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -82,14 +88,42 @@ public class RedisIntegrationTestConfig {
         return new ReactiveRedisTemplate<>(connectionFactory, context);
     }
 
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public RedisClient batchingRedisClient() {
+        return RedisClient.create();
+    }
+
+    @Bean
+    public RedisBatchingProperties redisBatchingProperties() {
+        return new RedisBatchingProperties();
+    }
+
+    @Bean
+    public RedisCommandBatcher redisCommandBatcher(
+            RedisClient batchingRedisClient,
+            RedisBatchingProperties redisBatchingProperties,
+            MeterRegistry meterRegistry) {
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost(redisHost);
+        redisProperties.setPort(redisPort);
+        return new RedisCommandBatcher(
+                batchingRedisClient, redisProperties, redisBatchingProperties, meterRegistry);
+    }
+
     // ========================================
     // Repository Beans (명시적 등록)
     // ========================================
 
     @Bean
     public RateLimitRedisRepository rateLimitRedisRepository(
-            ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
-        return new RateLimitRedisRepository(reactiveStringRedisTemplate);
+            ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
+        return new RateLimitRedisRepository(reactiveStringRedisTemplate, redisCommandBatcher);
     }
 
     @Bean
@@ -100,13 +134,15 @@ public class RedisIntegrationTestConfig {
 
     @Bean
     public IpBlockRedisRepository ipBlockRedisRepository(
-            ReactiveStringRedisTemplate reactiveStringRedisTemplate) {
-        return new IpBlockRedisRepository(reactiveStringRedisTemplate);
+            ReactiveStringRedisTemplate reactiveStringRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
+        return new IpBlockRedisRepository(reactiveStringRedisTemplate, redisCommandBatcher);
     }
 
     @Bean
     public TenantConfigRedisRepository tenantConfigRedisRepository(
-            ReactiveRedisTemplate<String, TenantConfigEntity> tenantConfigRedisTemplate) {
-        return new TenantConfigRedisRepository(tenantConfigRedisTemplate);
+            ReactiveRedisTemplate<String, TenantConfigEntity> tenantConfigRedisTemplate,
+            RedisCommandBatcher redisCommandBatcher) {
+        return new TenantConfigRedisRepository(tenantConfigRedisTemplate, redisCommandBatcher);
     }
 }
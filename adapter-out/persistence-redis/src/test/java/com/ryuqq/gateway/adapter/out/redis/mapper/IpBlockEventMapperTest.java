@@ -0,0 +1,58 @@
+package com.ryuqq.gateway.adapter.out.redis.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IpBlockEventMapper 단위 테스트")
+class IpBlockEventMapperTest {
+
+    private IpBlockEventMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new IpBlockEventMapper();
+    }
+
+    @Test
+    @DisplayName("차단 이벤트는 Domain → 메시지 → Domain 변환 시 값이 유지된다")
+    void roundTripBlocked() {
+        // given
+        IpBlockEvent event = IpBlockEvent.blocked("192.168.1.1", 1_700_000_000_000L);
+
+        // when
+        String message = mapper.toMessage(event);
+
+        // then
+        assertThat(message).isEqualTo("1700000000000|192.168.1.1");
+        assertThat(mapper.toEvent(message)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("IPv6 해제 이벤트도 변환 시 값이 유지된다")
+    void roundTripUnblockedIpv6() {
+        // given
+        IpBlockEvent event = IpBlockEvent.unblocked("2001:0db8:85a3:0000:0000:8a2e:0370:7334");
+
+        // when
+        IpBlockEvent restored = mapper.toEvent(mapper.toMessage(event));
+
+        // then
+        assertThat(restored).isEqualTo(event);
+        assertThat(restored.isBlock()).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 IllegalArgumentException을 던진다")
+    void rejectMalformedMessage() {
+        assertThatThrownBy(() -> mapper.toEvent("192.168.1.1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mapper.toEvent("abc|192.168.1.1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mapper.toEvent("100|"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
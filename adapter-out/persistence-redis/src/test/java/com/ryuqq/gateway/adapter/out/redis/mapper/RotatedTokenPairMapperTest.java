@@ -0,0 +1,45 @@
+package com.ryuqq.gateway.adapter.out.redis.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RotatedTokenPairMapper 단위 테스트")
+class RotatedTokenPairMapperTest {
+
+    // JWT Header: {"alg":"RS256","typ":"JWT","kid":"new-key"} base64url encoded
+    private static final String ACCESS_TOKEN =
+            "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCIsImtpZCI6Im5ldy1rZXkifQ"
+                    + ".eyJzdWIiOiJuZXcifQ"
+                    + ".new-signature";
+    private static final String REFRESH_TOKEN = "new-refresh-token-abcdefghijklmnopqr";
+
+    private RotatedTokenPairMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new RotatedTokenPairMapper();
+    }
+
+    @Test
+    @DisplayName("Domain → Entity → Domain 변환 시 토큰 값이 유지된다")
+    void roundTrip() {
+        // given
+        TokenPair tokenPair = TokenPair.of(ACCESS_TOKEN, REFRESH_TOKEN);
+
+        // when
+        RotatedTokenPairEntity entity = mapper.toEntity(tokenPair);
+        TokenPair restored = mapper.toTokenPair(entity);
+
+        // then
+        assertThat(entity.getAccessToken()).isEqualTo(ACCESS_TOKEN);
+        assertThat(entity.getRefreshToken()).isEqualTo(REFRESH_TOKEN);
+        assertThat(entity.toString()).doesNotContain(REFRESH_TOKEN);
+        assertThat(restored.accessTokenValue()).isEqualTo(ACCESS_TOKEN);
+        assertThat(restored.refreshTokenValue()).isEqualTo(REFRESH_TOKEN);
+    }
+}
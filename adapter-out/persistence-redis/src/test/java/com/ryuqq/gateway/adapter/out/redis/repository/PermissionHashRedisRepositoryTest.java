@@ -8,6 +8,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.ryuqq.gateway.adapter.out.redis.entity.PermissionHashEntity;
 import java.time.Duration;
 import java.time.Instant;
@@ -19,6 +22,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -34,6 +40,8 @@ class PermissionHashRedisRepositoryTest {
 
     private ReactiveRedisTemplate<String, PermissionHashEntity> reactiveRedisTemplate;
     private ReactiveValueOperations<String, PermissionHashEntity> valueOperations;
+    private RedisCommandBatcher redisCommandBatcher;
+    private RedisSerializationContext<String, PermissionHashEntity> serializationContext;
     private PermissionHashRedisRepository repository;
 
     @BeforeEach
@@ -41,8 +49,23 @@ class PermissionHashRedisRepositoryTest {
     void setUp() {
         reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
         valueOperations = mock(ReactiveValueOperations.class);
+        redisCommandBatcher = mock(RedisCommandBatcher.class);
         when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        repository = new PermissionHashRedisRepository(reactiveRedisTemplate);
+        serializationContext = serializationContext();
+        when(reactiveRedisTemplate.getSerializationContext()).thenReturn(serializationContext);
+        repository = new PermissionHashRedisRepository(reactiveRedisTemplate, redisCommandBatcher);
+    }
+
+    private static RedisSerializationContext<String, PermissionHashEntity> serializationContext() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Jackson2JsonRedisSerializer<PermissionHashEntity> serializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, PermissionHashEntity.class);
+        return RedisSerializationContext.<String, PermissionHashEntity>newSerializationContext(
+                        new StringRedisSerializer())
+                .value(serializer)
+                .build();
     }
 
     private PermissionHashEntity createTestEntity() {
@@ -108,14 +131,16 @@ class PermissionHashRedisRepositoryTest {
     class FindByTenantAndUserTest {
 
         @Test
-        @DisplayName("존재하는 데이터 조회 성공")
+        @DisplayName("존재하는 데이터 조회 성공 (Template Serializer로 묶음 전송 GET)")
         void shouldFindExistingData() {
             // given
             String tenantId = "tenant-001";
             String userId = "user-001";
             PermissionHashEntity entity = createTestEntity();
+            String redisKey = "authhub:permission:hash:" + tenantId + ":" + userId;
 
-            when(valueOperations.get("authhub:permission:hash:" + tenantId + ":" + userId))
+            when(redisCommandBatcher.get(
+                            redisKey, serializationContext.getValueSerializationPair()))
                     .thenReturn(Mono.just(entity));
 
             // when & then
@@ -136,7 +161,8 @@ class PermissionHashRedisRepositoryTest {
             String tenantId = "non-existing-tenant";
             String userId = "non-existing-user";
 
-            when(valueOperations.get("authhub:permission:hash:" + tenantId + ":" + userId))
+            when(redisCommandBatcher.get(
+                            eq("authhub:permission:hash:" + tenantId + ":" + userId), any()))
                     .thenReturn(Mono.empty());
 
             // when & then
@@ -0,0 +1,170 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.gateway.adapter.out.redis.config.RateLimitCircuitBreakerProperties;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * RateLimitRedisCircuitBreaker 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("RateLimitRedisCircuitBreaker 테스트")
+class RateLimitRedisCircuitBreakerTest {
+
+    private RateLimitCircuitBreakerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitCircuitBreakerProperties();
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumNumberOfCalls(2);
+        properties.setFailureRateThreshold(50);
+        properties.setWaitDurationInOpenStateMs(60_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private RateLimitRedisCircuitBreaker createCircuitBreaker() {
+        return new RateLimitRedisCircuitBreaker(properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("protect 메서드")
+    class ProtectTest {
+
+        @Test
+        @DisplayName("성공한 호출 결과를 그대로 반환한다")
+        void shouldPassThroughResult() {
+            // given
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+
+            // when & then
+            StepVerifier.create(circuitBreaker.protect(Mono.just(7L)))
+                    .expectNext(7L)
+                    .verifyComplete();
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("Redis 오류를 RateLimitStoreUnavailableException으로 변환한다")
+        void shouldMapErrorToUnavailable() {
+            // given
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+            RuntimeException cause = new RuntimeException("Redis connection failed");
+
+            // when & then
+            StepVerifier.create(circuitBreaker.protect(Mono.error(cause)))
+                    .expectErrorSatisfies(
+                            e ->
+                                    assertThat(e)
+                                            .isInstanceOf(RateLimitStoreUnavailableException.class)
+                                            .hasCause(cause))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("호출 Timeout을 넘으면 기다리지 않고 실패한다")
+        void shouldFailFastOnTimeout() {
+            // given
+            properties.setCallTimeoutMs(20);
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+
+            // when & then
+            StepVerifier.create(circuitBreaker.protect(Mono.never()))
+                    .expectErrorSatisfies(
+                            e ->
+                                    assertThat(e)
+                                            .isInstanceOf(RateLimitStoreUnavailableException.class)
+                                            .hasCauseInstanceOf(TimeoutException.class))
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("비활성화 시 Timeout과 예외 변환 없이 호출한다")
+        void shouldNotProtectWhenDisabled() {
+            // given
+            properties.setEnabled(false);
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+
+            // when & then
+            StepVerifier.create(
+                            circuitBreaker.protect(Mono.error(new IllegalStateException("down"))))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit Open")
+    class OpenTest {
+
+        @Test
+        @DisplayName("실패율이 임계값을 넘으면 Open되어 Redis를 호출하지 않는다")
+        void shouldSkipRedisWhenOpen() {
+            // given
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+            Mono<Long> failing = Mono.error(new RuntimeException("Redis connection failed"));
+            circuitBreaker.protect(failing).onErrorResume(e -> Mono.empty()).block();
+            circuitBreaker.protect(failing).onErrorResume(e -> Mono.empty()).block();
+            AtomicInteger calls = new AtomicInteger();
+
+            // when & then
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            StepVerifier.create(
+                            circuitBreaker.protect(
+                                    Mono.fromCallable(() -> (long) calls.incrementAndGet())))
+                    .expectErrorSatisfies(
+                            e ->
+                                    assertThat(e)
+                                            .isInstanceOf(RateLimitStoreUnavailableException.class)
+                                            .hasCauseInstanceOf(CallNotPermittedException.class))
+                    .verify();
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("상태와 상태 전환, 호출 거부 횟수를 메트릭으로 기록한다")
+        void shouldRecordMetrics() {
+            // given
+            RateLimitRedisCircuitBreaker circuitBreaker = createCircuitBreaker();
+            Mono<Long> failing = Mono.error(new RuntimeException("Redis connection failed"));
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                circuitBreaker.protect(failing).onErrorResume(e -> Mono.empty()).block();
+            }
+
+            // then
+            assertThat(meterRegistry.get("gateway_rate_limit_redis_circuit_state").gauge().value())
+                    .isEqualTo(1.0);
+            assertThat(
+                            meterRegistry
+                                    .get("gateway_rate_limit_redis_circuit_transitions_total")
+                                    .tag("from", "CLOSED")
+                                    .tag("to", "OPEN")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+            assertThat(
+                            meterRegistry
+                                    .get("gateway_rate_limit_redis_circuit_rejected_total")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+        }
+    }
+}
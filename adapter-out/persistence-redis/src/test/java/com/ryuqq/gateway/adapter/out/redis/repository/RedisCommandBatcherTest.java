@@ -0,0 +1,240 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.gateway.adapter.out.redis.config.RedisBatchingProperties;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * RedisCommandBatcher 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("RedisCommandBatcher 테스트")
+class RedisCommandBatcherTest {
+
+    private StatefulRedisConnection<String, String> connection;
+    private RedisAsyncCommands<String, String> commands;
+    private RedisBatchingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisCommandBatcher batcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        connection = mock(StatefulRedisConnection.class);
+        commands = mock(RedisAsyncCommands.class);
+        when(connection.async()).thenReturn(commands);
+        properties = new RedisBatchingProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.destroy();
+        }
+    }
+
+    private RedisCommandBatcher createBatcher() {
+        batcher = new RedisCommandBatcher(Mono.just(connection), properties, meterRegistry);
+        return batcher;
+    }
+
+    private DistributionSummary batchSize() {
+        return meterRegistry.get("gateway_redis_batch_size").summary();
+    }
+
+    @Nested
+    @DisplayName("묶음 전송")
+    class BatchingTest {
+
+        @Test
+        @DisplayName("Auto Flush를 끄고 최대 묶음 크기에 도달하면 즉시 Flush한다")
+        void shouldFlushWhenBatchIsFull() {
+            // given
+            properties.setMaxBatchSize(2);
+            properties.setFlushWindowMicros(TimeUnit.SECONDS.toMicros(10));
+            when(commands.get(anyString())).thenReturn(completed("value"));
+            createBatcher();
+
+            // when
+            StepVerifier.create(batcher.get("key-1")).expectNext("value").verifyComplete();
+            StepVerifier.create(batcher.get("key-2")).expectNext("value").verifyComplete();
+
+            // then
+            verify(connection).setAutoFlushCommands(false);
+            verify(connection).flushCommands();
+            assertThat(batchSize().count()).isEqualTo(1);
+            assertThat(batchSize().max()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("묶음 크기에 도달하지 않으면 Window가 지난 뒤 Flush한다")
+        void shouldFlushAfterWindow() {
+            // given
+            properties.setMaxBatchSize(100);
+            properties.setFlushWindowMicros(1_000);
+            when(commands.exists(anyString())).thenReturn(completed(1L));
+            createBatcher();
+
+            // when
+            StepVerifier.create(batcher.exists("key")).expectNext(true).verifyComplete();
+
+            // then
+            verify(connection, timeout(1_000)).flushCommands();
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있으면 Auto Flush를 유지하고 직접 Flush하지 않는다")
+        void shouldKeepAutoFlushWhenDisabled() {
+            // given
+            properties.setEnabled(false);
+            when(commands.ttl(anyString())).thenReturn(completed(30L));
+            createBatcher();
+
+            // when
+            StepVerifier.create(batcher.ttl("key")).expectNext(30L).verifyComplete();
+
+            // then
+            verify(connection).setAutoFlushCommands(true);
+            verify(connection, never()).flushCommands();
+        }
+    }
+
+    @Nested
+    @DisplayName("Script 실행")
+    class EvalTest {
+
+        private final RedisScript<Long> script = RedisScript.of("return 1", Long.class);
+
+        @Test
+        @DisplayName("EVALSHA로 실행한다")
+        void shouldUseEvalSha() {
+            // given
+            properties.setEnabled(false);
+            when(commands.<Long>evalsha(
+                            eq(script.getSha1()),
+                            eq(ScriptOutputType.INTEGER),
+                            any(String[].class),
+                            any(String[].class)))
+                    .thenReturn(completed(1L));
+            createBatcher();
+
+            // when & then
+            StepVerifier.create(batcher.eval(script, List.of("key"), List.of("arg")))
+                    .expectNext(1L)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("Script Cache에 없으면 EVAL로 재시도한다")
+        void shouldFallbackToEval() {
+            // given
+            properties.setEnabled(false);
+            when(commands.<Long>evalsha(
+                            anyString(),
+                            any(ScriptOutputType.class),
+                            any(String[].class),
+                            any(String[].class)))
+                    .thenReturn(failed(new RedisNoScriptException("NOSCRIPT")));
+            when(commands.<Long>eval(
+                            eq("return 1"),
+                            eq(ScriptOutputType.INTEGER),
+                            any(String[].class),
+                            any(String[].class)))
+                    .thenReturn(completed(1L));
+            createBatcher();
+
+            // when & then
+            StepVerifier.create(batcher.eval(script, List.of("key"), List.of()))
+                    .expectNext(1L)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("연결")
+    class ConnectionTest {
+
+        @Test
+        @DisplayName("연결 실패는 캐싱하지 않고 다음 명령에서 다시 연결한다")
+        void shouldRetryConnectAfterFailure() {
+            // given
+            AtomicInteger attempts = new AtomicInteger();
+            properties.setEnabled(false);
+            when(commands.get("key")).thenReturn(completed("value"));
+            batcher =
+                    new RedisCommandBatcher(
+                            Mono.defer(
+                                    () ->
+                                            attempts.incrementAndGet() == 1
+                                                    ? Mono.error(
+                                                            new IllegalStateException("refused"))
+                                                    : Mono.just(connection)),
+                            properties,
+                            meterRegistry);
+
+            // when & then
+            StepVerifier.create(batcher.get("key"))
+                    .expectError(IllegalStateException.class)
+                    .verify();
+            StepVerifier.create(batcher.get("key")).expectNext("value").verifyComplete();
+            assertThat(attempts).hasValue(2);
+        }
+    }
+
+    private static <T> RedisFuture<T> completed(T value) {
+        TestRedisFuture<T> future = new TestRedisFuture<>();
+        future.complete(value);
+        return future;
+    }
+
+    private static <T> RedisFuture<T> failed(Throwable error) {
+        TestRedisFuture<T> future = new TestRedisFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
+    /** 테스트용 RedisFuture (CompletableFuture 기반) */
+    private static final class TestRedisFuture<T> extends CompletableFuture<T>
+            implements RedisFuture<T> {
+
+        @Override
+        public String getError() {
+            return null;
+        }
+
+        @Override
+        public boolean await(long timeout, TimeUnit unit) {
+            return isDone();
+        }
+    }
+}
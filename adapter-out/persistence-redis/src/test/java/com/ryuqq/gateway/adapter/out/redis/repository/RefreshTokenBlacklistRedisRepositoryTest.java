@@ -1,12 +1,15 @@
 package com.ryuqq.gateway.adapter.out.redis.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.time.Duration;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +17,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -150,168 +155,158 @@ class RefreshTokenBlacklistRedisRepositoryTest {
     }
 
     @Nested
-    @DisplayName("isBlacklisted() 테스트")
-    class IsBlacklistedTest {
+    @DisplayName("Hash 일관성 테스트")
+    class HashConsistencyTest {
 
         @Test
-        @DisplayName("Blacklist에 존재하는 Token 확인 시 true 반환")
-        void shouldReturnTrueWhenTokenIsBlacklisted() {
+        @DisplayName("addToBlacklist와 claim이 동일 Key 사용")
+        @SuppressWarnings("unchecked")
+        void shouldUseSameKeyForAddAndClaim() {
             // given
-            String tenantId = "tenant-1";
-            String tokenValue = "blacklisted-token";
+            String tenantId = "tenant-consistency";
+            String tokenValue = "consistency-test-token";
+            Duration ttl = Duration.ofDays(7);
 
-            given(reactiveStringRedisTemplate.hasKey(anyString())).willReturn(Mono.just(true));
+            ArgumentCaptor<String> addKeyCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<List<String>> claimKeysCaptor = ArgumentCaptor.forClass(List.class);
 
-            // when & then
-            StepVerifier.create(repository.isBlacklisted(tenantId, tokenValue))
+            given(valueOperations.set(addKeyCaptor.capture(), eq("blacklisted"), eq(ttl)))
+                    .willReturn(Mono.just(true));
+            given(
+                            reactiveStringRedisTemplate.execute(
+                                    any(RedisScript.class), claimKeysCaptor.capture(), anyList()))
+                    .willReturn(Flux.just("CONSUMED"));
+
+            // when - add
+            StepVerifier.create(repository.addToBlacklist(tenantId, tokenValue, ttl))
                     .assertNext(result -> assertThat(result).isTrue())
                     .verifyComplete();
-        }
-
-        @Test
-        @DisplayName("Blacklist에 존재하지 않는 Token 확인 시 false 반환")
-        void shouldReturnFalseWhenTokenIsNotBlacklisted() {
-            // given
-            String tenantId = "tenant-2";
-            String tokenValue = "valid-token";
 
-            given(reactiveStringRedisTemplate.hasKey(anyString())).willReturn(Mono.just(false));
-
-            // when & then
-            StepVerifier.create(repository.isBlacklisted(tenantId, tokenValue))
-                    .assertNext(result -> assertThat(result).isFalse())
+            // when - claim
+            StepVerifier.create(
+                            repository.claim(
+                                    tenantId, tokenValue, "claim-1", Duration.ofSeconds(10)))
+                    .expectNext("CONSUMED")
                     .verifyComplete();
+
+            // then - keys should be identical
+            assertThat(claimKeysCaptor.getValue()).containsExactly(addKeyCaptor.getValue());
         }
 
         @Test
-        @DisplayName("올바른 Key Format으로 조회")
-        void shouldQueryWithCorrectKeyFormat() {
+        @DisplayName("다른 Token은 다른 Hash 생성")
+        void shouldGenerateDifferentHashesForDifferentTokens() {
             // given
-            String tenantId = "tenant-3";
-            String tokenValue = "token-for-key-check";
+            String tenantId = "tenant-hash";
+            Duration ttl = Duration.ofDays(7);
 
             ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-            given(reactiveStringRedisTemplate.hasKey(keyCaptor.capture()))
-                    .willReturn(Mono.just(false));
+            given(valueOperations.set(keyCaptor.capture(), eq("blacklisted"), eq(ttl)))
+                    .willReturn(Mono.just(true));
 
             // when
-            StepVerifier.create(repository.isBlacklisted(tenantId, tokenValue))
-                    .assertNext(result -> assertThat(result).isFalse())
+            StepVerifier.create(repository.addToBlacklist(tenantId, "first-token", ttl))
+                    .expectNext(true)
+                    .verifyComplete();
+            StepVerifier.create(repository.addToBlacklist(tenantId, "second-token", ttl))
+                    .expectNext(true)
                     .verifyComplete();
 
-            // then
-            String capturedKey = keyCaptor.getValue();
-            assertThat(capturedKey).startsWith("tenant:tenant-3:refresh:blacklist:");
-            assertThat(capturedKey).hasSize("tenant:tenant-3:refresh:blacklist:".length() + 64);
+            // then - keys should be different due to different token hashes
+            List<String> keys = keyCaptor.getAllValues();
+            assertThat(keys).hasSize(2);
+            assertThat(keys.get(0)).isNotEqualTo(keys.get(1));
         }
 
         @Test
         @DisplayName("다른 Tenant의 동일 Token은 다른 Key 생성")
         void shouldGenerateDifferentKeysForDifferentTenants() {
             // given
-            String tenant1 = "tenant-A";
-            String tenant2 = "tenant-B";
-            String sameToken = "same-token-value";
-
-            ArgumentCaptor<String> keyCaptor1 = ArgumentCaptor.forClass(String.class);
-            ArgumentCaptor<String> keyCaptor2 = ArgumentCaptor.forClass(String.class);
+            String sameToken = "shared-token";
+            Duration ttl = Duration.ofDays(7);
 
-            given(reactiveStringRedisTemplate.hasKey(keyCaptor1.capture()))
-                    .willReturn(Mono.just(false));
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            given(valueOperations.set(keyCaptor.capture(), eq("blacklisted"), eq(ttl)))
+                    .willReturn(Mono.just(true));
 
-            // when - first tenant
-            StepVerifier.create(repository.isBlacklisted(tenant1, sameToken))
-                    .assertNext(result -> assertThat(result).isFalse())
+            // when
+            StepVerifier.create(repository.addToBlacklist("tenant-a", sameToken, ttl))
+                    .expectNext(true)
                     .verifyComplete();
-
-            String key1 = keyCaptor1.getValue();
-
-            // reset for second call
-            given(reactiveStringRedisTemplate.hasKey(keyCaptor2.capture()))
-                    .willReturn(Mono.just(false));
-
-            // when - second tenant
-            StepVerifier.create(repository.isBlacklisted(tenant2, sameToken))
-                    .assertNext(result -> assertThat(result).isFalse())
+            StepVerifier.create(repository.addToBlacklist("tenant-b", sameToken, ttl))
+                    .expectNext(true)
                     .verifyComplete();
 
-            String key2 = keyCaptor2.getValue();
-
-            // then - keys should be different due to different tenantIds
-            assertThat(key1).isNotEqualTo(key2);
-            assertThat(key1).contains("tenant-A");
-            assertThat(key2).contains("tenant-B");
+            // then
+            List<String> keys = keyCaptor.getAllValues();
+            assertThat(keys.get(0)).startsWith("tenant:tenant-a:refresh:blacklist:");
+            assertThat(keys.get(1)).startsWith("tenant:tenant-b:refresh:blacklist:");
         }
     }
 
     @Nested
-    @DisplayName("Hash 일관성 테스트")
-    class HashConsistencyTest {
+    @DisplayName("claim() 테스트")
+    class ClaimTest {
 
         @Test
-        @DisplayName("addToBlacklist와 isBlacklisted가 동일 Key 사용")
-        void shouldUseSameKeyForAddAndCheck() {
+        @DisplayName("Blacklist Key 하나로 선점 Script를 실행하고 결과를 반환")
+        @SuppressWarnings("unchecked")
+        void shouldExecuteClaimScriptOnBlacklistKey() {
             // given
-            String tenantId = "tenant-consistency";
-            String tokenValue = "consistency-test-token";
-            Duration ttl = Duration.ofDays(7);
-
-            ArgumentCaptor<String> addKeyCaptor = ArgumentCaptor.forClass(String.class);
-            ArgumentCaptor<String> checkKeyCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<List<String>> argsCaptor = ArgumentCaptor.forClass(List.class);
+            given(
+                            reactiveStringRedisTemplate.execute(
+                                    any(RedisScript.class),
+                                    keysCaptor.capture(),
+                                    argsCaptor.capture()))
+                    .willReturn(Flux.just("ACQUIRED"));
 
-            given(valueOperations.set(addKeyCaptor.capture(), eq("blacklisted"), eq(ttl)))
-                    .willReturn(Mono.just(true));
-            given(reactiveStringRedisTemplate.hasKey(checkKeyCaptor.capture()))
-                    .willReturn(Mono.just(true));
-
-            // when - add
-            StepVerifier.create(repository.addToBlacklist(tenantId, tokenValue, ttl))
-                    .assertNext(result -> assertThat(result).isTrue())
-                    .verifyComplete();
-
-            // when - check
-            StepVerifier.create(repository.isBlacklisted(tenantId, tokenValue))
-                    .assertNext(result -> assertThat(result).isTrue())
+            // when & then
+            StepVerifier.create(
+                            repository.claim(
+                                    "tenant-1", "token-value", "claim-1", Duration.ofSeconds(10)))
+                    .expectNext("ACQUIRED")
                     .verifyComplete();
 
-            // then - keys should be identical
-            assertThat(addKeyCaptor.getValue()).isEqualTo(checkKeyCaptor.getValue());
+            assertThat(keysCaptor.getValue()).hasSize(1);
+            assertThat(keysCaptor.getValue().get(0))
+                    .startsWith("tenant:tenant-1:refresh:blacklist:");
+            assertThat(argsCaptor.getValue())
+                    .containsExactly("claimed:claim-1", "10", "blacklisted");
         }
+    }
+
+    @Nested
+    @DisplayName("releaseClaim() 테스트")
+    class ReleaseClaimTest {
 
         @Test
-        @DisplayName("다른 Token은 다른 Hash 생성")
-        void shouldGenerateDifferentHashesForDifferentTokens() {
+        @DisplayName("자신의 선점 표시가 삭제되면 true 반환")
+        @SuppressWarnings("unchecked")
+        void shouldReturnTrueWhenOwnClaimDeleted() {
             // given
-            String tenantId = "tenant-hash";
-            String token1 = "first-token";
-            String token2 = "second-token";
+            given(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                    .willReturn(Flux.just(1L));
 
-            ArgumentCaptor<String> keyCaptor1 = ArgumentCaptor.forClass(String.class);
-            ArgumentCaptor<String> keyCaptor2 = ArgumentCaptor.forClass(String.class);
-
-            given(reactiveStringRedisTemplate.hasKey(keyCaptor1.capture()))
-                    .willReturn(Mono.just(false));
-
-            // when - first token
-            StepVerifier.create(repository.isBlacklisted(tenantId, token1))
-                    .assertNext(result -> assertThat(result).isFalse())
+            // when & then
+            StepVerifier.create(repository.releaseClaim("tenant-1", "token-value", "claim-1"))
+                    .assertNext(result -> assertThat(result).isTrue())
                     .verifyComplete();
+        }
 
-            String key1 = keyCaptor1.getValue();
-
-            // reset for second call
-            given(reactiveStringRedisTemplate.hasKey(keyCaptor2.capture()))
-                    .willReturn(Mono.just(false));
+        @Test
+        @DisplayName("다른 선점이거나 이미 Blacklist에 등록되었으면 false 반환")
+        @SuppressWarnings("unchecked")
+        void shouldReturnFalseWhenClaimNotOwned() {
+            // given
+            given(reactiveStringRedisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+                    .willReturn(Flux.just(0L));
 
-            // when - second token
-            StepVerifier.create(repository.isBlacklisted(tenantId, token2))
+            // when & then
+            StepVerifier.create(repository.releaseClaim("tenant-1", "token-value", "claim-1"))
                     .assertNext(result -> assertThat(result).isFalse())
                     .verifyComplete();
-
-            String key2 = keyCaptor2.getValue();
-
-            // then - keys should be different due to different token hashes
-            assertThat(key1).isNotEqualTo(key2);
         }
     }
 }
@@ -0,0 +1,101 @@
+package com.ryuqq.gateway.adapter.out.redis.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.ryuqq.gateway.adapter.out.redis.entity.RotatedTokenPairEntity;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("RotatedTokenPairRedisRepository 테스트")
+class RotatedTokenPairRedisRepositoryTest {
+
+    private static final String TENANT_ID = "tenant-1";
+    private static final String CONSUMED_TOKEN = "consumed-refresh-token-0123456789abcdef";
+
+    private ReactiveValueOperations<String, RotatedTokenPairEntity> valueOperations;
+    private RotatedTokenPairRedisRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReactiveRedisTemplate<String, RotatedTokenPairEntity> reactiveRedisTemplate =
+                mock(ReactiveRedisTemplate.class);
+        valueOperations = mock(ReactiveValueOperations.class);
+        repository = new RotatedTokenPairRedisRepository(reactiveRedisTemplate);
+
+        given(reactiveRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Nested
+    @DisplayName("save() 테스트")
+    class SaveTest {
+
+        @Test
+        @DisplayName("소비된 토큰의 해시를 Key로 TTL과 함께 저장")
+        void shouldSaveWithConsumedTokenHashKey() {
+            // given
+            RotatedTokenPairEntity entity = new RotatedTokenPairEntity("access", "refresh");
+            Duration ttl = Duration.ofSeconds(30);
+            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+            given(valueOperations.set(keyCaptor.capture(), eq(entity), eq(ttl)))
+                    .willReturn(Mono.just(true));
+
+            // when
+            StepVerifier.create(repository.save(TENANT_ID, CONSUMED_TOKEN, entity, ttl))
+                    .assertNext(result -> assertThat(result).isTrue())
+                    .verifyComplete();
+
+            // then
+            String key = keyCaptor.getValue();
+            assertThat(key).startsWith("tenant:tenant-1:refresh:rotated:");
+            assertThat(key).hasSize("tenant:tenant-1:refresh:rotated:".length() + 64);
+            assertThat(key).doesNotContain(CONSUMED_TOKEN);
+        }
+    }
+
+    @Nested
+    @DisplayName("findByConsumedToken() 테스트")
+    class FindByConsumedTokenTest {
+
+        @Test
+        @DisplayName("저장 시와 같은 Key로 조회")
+        void shouldFindWithSameKeyAsSave() {
+            // given
+            RotatedTokenPairEntity entity = new RotatedTokenPairEntity("access", "refresh");
+            ArgumentCaptor<String> saveKeyCaptor = ArgumentCaptor.forClass(String.class);
+            Duration ttl = Duration.ofSeconds(30);
+            given(valueOperations.set(saveKeyCaptor.capture(), eq(entity), eq(ttl)))
+                    .willReturn(Mono.just(true));
+            repository.save(TENANT_ID, CONSUMED_TOKEN, entity, ttl).block();
+            given(valueOperations.get(saveKeyCaptor.getValue())).willReturn(Mono.just(entity));
+
+            // when & then
+            StepVerifier.create(repository.findByConsumedToken(TENANT_ID, CONSUMED_TOKEN))
+                    .expectNext(entity)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("공유 기간이 지나 Key가 없으면 empty 반환")
+        void shouldReturnEmptyWhenExpired() {
+            // given
+            given(valueOperations.get(anyString())).willReturn(Mono.empty());
+
+            // when & then
+            StepVerifier.create(repository.findByConsumedToken(TENANT_ID, CONSUMED_TOKEN))
+                    .verifyComplete();
+        }
+    }
+}
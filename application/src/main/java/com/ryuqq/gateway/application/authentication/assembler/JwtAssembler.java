@@ -3,7 +3,7 @@ package com.ryuqq.gateway.application.authentication.assembler;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
 import com.ryuqq.gateway.application.authentication.dto.response.GetPublicKeyResponse;
 import com.ryuqq.gateway.application.authentication.dto.response.ValidateJwtResponse;
-import com.ryuqq.gateway.domain.authentication.vo.AccessToken;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
 import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
 import org.springframework.stereotype.Component;
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Component;
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>ValidateJwtCommand → AccessToken 변환
+ *   <li>ValidateJwtCommand → ParsedJwt 변환 (이미 파싱된 JWT 재사용)
  *   <li>JwtClaims → ValidateJwtResponse 변환
  *   <li>PublicKey → GetPublicKeyResponse 변환
  * </ul>
@@ -32,17 +32,24 @@ import org.springframework.stereotype.Component;
 public class JwtAssembler {
 
     /**
-     * ValidateJwtCommand를 AccessToken으로 변환
+     * ValidateJwtCommand를 ParsedJwt로 변환
+     *
+     * <p>Command에 파싱된 JWT가 있으면 그대로 사용하고, 없으면 한 번 파싱합니다.
      *
      * @param command ValidateJwtCommand
-     * @return AccessToken (Domain VO)
-     * @throws IllegalArgumentException command가 null이거나 accessToken이 유효하지 않은 경우
+     * @return ParsedJwt
+     * @throws IllegalArgumentException command가 null인 경우
+     * @throws com.ryuqq.gateway.domain.authentication.exception.JwtInvalidException JWT 형식이 잘못된
+     *     경우
      */
-    public AccessToken toAccessToken(ValidateJwtCommand command) {
+    public ParsedJwt toParsedJwt(ValidateJwtCommand command) {
         if (command == null) {
             throw new IllegalArgumentException("ValidateJwtCommand cannot be null");
         }
-        return AccessToken.of(command.accessToken());
+        if (command.parsedJwt() != null) {
+            return command.parsedJwt();
+        }
+        return ParsedJwt.parse(command.accessToken());
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.ryuqq.gateway.application.authentication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JWKS Cache Configuration Properties
+ *
+ * <p>In-Process JWKS Snapshot 보호 설정 (gateway.jwks.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   jwks:
+ *     min-fetch-interval-seconds: 10
+ *     negative-cache-ttl-seconds: 30
+ *     negative-cache-max-size: 10000
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.jwks")
+public class JwksCacheProperties {
+
+    /** 알 수 없는 kid로 인한 AuthHub JWKS 재조회 최소 간격(초) - 노드 전체 기준 (기본값: 10초) */
+    private long minFetchIntervalSeconds = 10;
+
+    /** 알 수 없는 kid Negative Cache 유지 시간(초) (기본값: 30초) */
+    private long negativeCacheTtlSeconds = 30;
+
+    /** 알 수 없는 kid Negative Cache 최대 크기 (기본값: 10000) */
+    private int negativeCacheMaxSize = 10_000;
+
+    public long getMinFetchIntervalSeconds() {
+        return minFetchIntervalSeconds;
+    }
+
+    public void setMinFetchIntervalSeconds(long minFetchIntervalSeconds) {
+        this.minFetchIntervalSeconds = minFetchIntervalSeconds;
+    }
+
+    public long getNegativeCacheTtlSeconds() {
+        return negativeCacheTtlSeconds;
+    }
+
+    public void setNegativeCacheTtlSeconds(long negativeCacheTtlSeconds) {
+        this.negativeCacheTtlSeconds = negativeCacheTtlSeconds;
+    }
+
+    public int getNegativeCacheMaxSize() {
+        return negativeCacheMaxSize;
+    }
+
+    public void setNegativeCacheMaxSize(int negativeCacheMaxSize) {
+        this.negativeCacheMaxSize = negativeCacheMaxSize;
+    }
+}
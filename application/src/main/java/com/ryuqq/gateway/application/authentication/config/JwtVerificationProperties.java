@@ -0,0 +1,76 @@
+package com.ryuqq.gateway.application.authentication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JWT Verification Configuration Properties
+ *
+ * <p>JWT 서명 검증(RSA 연산) 실행 방식 설정 (gateway.jwt.verification.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   jwt:
+ *     verification:
+ *       mode: PARALLEL   # INLINE | PARALLEL
+ *       parallelism: 0   # 0이면 CPU 코어 수
+ *       max-queue-size: 1024
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.jwt.verification")
+public class JwtVerificationProperties {
+
+    /** 서명 검증 실행 방식 (기본값: PARALLEL) */
+    private Mode mode = Mode.PARALLEL;
+
+    /** PARALLEL 모드 Thread 수 (기본값: 0 = CPU 코어 수) */
+    private int parallelism;
+
+    /** PARALLEL 모드 최대 대기 작업 수 - 초과 시 호출 Thread에서 직접 실행 (기본값: 1024) */
+    private int maxQueueSize = 1024;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * 실제 적용할 PARALLEL 모드 Thread 수
+     *
+     * @return 설정값이 0 이하면 CPU 코어 수
+     */
+    public int resolveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /** 서명 검증 실행 방식 */
+    public enum Mode {
+        /** 호출 Thread(Event Loop)에서 즉시 실행 - Thread 전환 없음 */
+        INLINE,
+        /** CPU 코어 수 크기의 전용 Parallel Scheduler에서 실행 */
+        PARALLEL
+    }
+}
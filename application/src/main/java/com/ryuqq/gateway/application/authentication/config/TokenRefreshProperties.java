@@ -0,0 +1,84 @@
+package com.ryuqq.gateway.application.authentication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Token Refresh Configuration Properties
+ *
+ * <p>동시 Token Refresh 병합 및 Refresh-Ahead 설정 (gateway.token-refresh.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   token-refresh:
+ *     claim-lease-seconds: 10
+ *     rotated-pair-ttl-seconds: 30
+ *     await-attempts: 20
+ *     await-interval-millis: 100
+ *     refresh-ahead-seconds: 60
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.token-refresh")
+public class TokenRefreshProperties {
+
+    /** Refresh Token 선점 유지 시간(초) - Rotation 중 노드 장애 시 자동 해제 (기본값: 10초) */
+    private long claimLeaseSeconds = 10;
+
+    /** Rotation 결과(새 Token Pair)를 Redis에 공유하는 시간(초) - 재사용 유예 시간 (기본값: 30초) */
+    private long rotatedPairTtlSeconds = 30;
+
+    /** Lock을 얻지 못한 요청이 공유된 Token Pair를 조회하는 최대 횟수 (기본값: 20회) */
+    private int awaitAttempts = 20;
+
+    /** 공유된 Token Pair 조회 간격(밀리초) (기본값: 100ms) */
+    private long awaitIntervalMillis = 100;
+
+    /**
+     * 만료 임박 구간(초) - 이 구간 안의 Access Token은 그대로 전달하면서 새 Token Pair를 함께 발급 (기본값: 0, 비활성화)
+     */
+    private long refreshAheadSeconds = 0;
+
+    public long getClaimLeaseSeconds() {
+        return claimLeaseSeconds;
+    }
+
+    public void setClaimLeaseSeconds(long claimLeaseSeconds) {
+        this.claimLeaseSeconds = claimLeaseSeconds;
+    }
+
+    public long getRotatedPairTtlSeconds() {
+        return rotatedPairTtlSeconds;
+    }
+
+    public void setRotatedPairTtlSeconds(long rotatedPairTtlSeconds) {
+        this.rotatedPairTtlSeconds = rotatedPairTtlSeconds;
+    }
+
+    public int getAwaitAttempts() {
+        return awaitAttempts;
+    }
+
+    public void setAwaitAttempts(int awaitAttempts) {
+        this.awaitAttempts = awaitAttempts;
+    }
+
+    public long getAwaitIntervalMillis() {
+        return awaitIntervalMillis;
+    }
+
+    public void setAwaitIntervalMillis(long awaitIntervalMillis) {
+        this.awaitIntervalMillis = awaitIntervalMillis;
+    }
+
+    public long getRefreshAheadSeconds() {
+        return refreshAheadSeconds;
+    }
+
+    public void setRefreshAheadSeconds(long refreshAheadSeconds) {
+        this.refreshAheadSeconds = refreshAheadSeconds;
+    }
+}
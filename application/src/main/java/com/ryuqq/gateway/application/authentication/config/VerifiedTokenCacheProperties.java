@@ -0,0 +1,47 @@
+package com.ryuqq.gateway.application.authentication.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Verified Token Cache Configuration Properties
+ *
+ * <p>서명 검증이 끝난 Access Token의 Claims Cache 설정 (gateway.jwt.verified-cache.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   jwt:
+ *     verified-cache:
+ *       enabled: true
+ *       max-size: 10000
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.jwt.verified-cache")
+public class VerifiedTokenCacheProperties {
+
+    /** Verified Token Cache 활성화 여부 (기본값: true) */
+    private boolean enabled = true;
+
+    /** 최대 Entry 수 (기본값: 10000) */
+    private int maxSize = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
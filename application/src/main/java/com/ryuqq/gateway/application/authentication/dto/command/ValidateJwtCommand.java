@@ -1,13 +1,27 @@
 package com.ryuqq.gateway.application.authentication.dto.command;
 
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
+
 /**
  * JWT 검증 Command DTO
  *
  * <p>JWT Access Token 검증 요청을 나타내는 불변 Command 객체
  *
+ * <p>이전 Filter에서 이미 파싱한 JWT가 있으면 {@code parsedJwt}로 전달하여 재파싱을 피합니다.
+ *
  * @param accessToken JWT Access Token
+ * @param parsedJwt 이미 파싱된 JWT (nullable, 없으면 Service에서 파싱)
  */
-public record ValidateJwtCommand(String accessToken) {
+public record ValidateJwtCommand(String accessToken, ParsedJwt parsedJwt) {
+
+    /**
+     * 파싱된 JWT 없이 생성
+     *
+     * @param accessToken JWT Access Token
+     */
+    public ValidateJwtCommand(String accessToken) {
+        this(accessToken, null);
+    }
 
     /**
      * 정적 팩토리 메서드
@@ -18,4 +32,14 @@ public record ValidateJwtCommand(String accessToken) {
     public static ValidateJwtCommand of(String accessToken) {
         return new ValidateJwtCommand(accessToken);
     }
+
+    /**
+     * 정적 팩토리 메서드 (파싱된 JWT 재사용)
+     *
+     * @param parsedJwt 파싱된 JWT
+     * @return ValidateJwtCommand 인스턴스
+     */
+    public static ValidateJwtCommand of(ParsedJwt parsedJwt) {
+        return new ValidateJwtCommand(parsedJwt.value(), parsedJwt);
+    }
 }
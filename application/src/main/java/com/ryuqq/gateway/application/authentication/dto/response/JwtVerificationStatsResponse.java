@@ -0,0 +1,21 @@
+package com.ryuqq.gateway.application.authentication.dto.response;
+
+/**
+ * JWT 서명 검증 실행 통계 Response DTO
+ *
+ * <p>서명 검증 실행 방식별 누적 실행/대기 시간과 현재 대기열 깊이 (애플리케이션 시작 이후 누적값)
+ *
+ * @param mode 실행 방식 (INLINE, PARALLEL)
+ * @param executions 실행 횟수
+ * @param totalExecutionNanos 실행 시간 합계 (나노초)
+ * @param totalQueueWaitNanos 대기 시간 합계 (나노초, PARALLEL 모드)
+ * @param queueDepth 현재 대기 작업 수 (PARALLEL 모드)
+ * @param callerRuns 대기열 초과로 호출 Thread에서 실행한 횟수
+ */
+public record JwtVerificationStatsResponse(
+        String mode,
+        long executions,
+        long totalExecutionNanos,
+        long totalQueueWaitNanos,
+        int queueDepth,
+        long callerRuns) {}
@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.authentication.dto.response;
+
+/**
+ * Public Key Cache 통계 Response DTO
+ *
+ * <p>In-Process JWKS Snapshot의 누적 Hit/Miss/Refresh 횟수 (애플리케이션 시작 이후 누적값)
+ *
+ * @param localHits In-Process Snapshot Hit 횟수
+ * @param redisHits Snapshot Miss 후 Redis Hit 횟수
+ * @param misses Snapshot/Redis 모두 Miss 횟수
+ * @param negativeHits Negative Cache로 즉시 거부한 횟수
+ * @param authHubFetches 실제 AuthHub JWKS 호출 횟수
+ * @param coalescedFetches 진행 중인 JWKS 호출에 합류한 횟수
+ * @param throttledFetches 재조회 제한으로 AuthHub 호출을 생략한 횟수
+ * @param refreshSuccesses 전체 갱신 성공 횟수
+ * @param refreshFailures 전체 갱신 실패 횟수
+ * @param cachedKeys 현재 Snapshot의 kid 수
+ */
+public record PublicKeyCacheStatsResponse(
+        long localHits,
+        long redisHits,
+        long misses,
+        long negativeHits,
+        long authHubFetches,
+        long coalescedFetches,
+        long throttledFetches,
+        long refreshSuccesses,
+        long refreshFailures,
+        int cachedKeys) {}
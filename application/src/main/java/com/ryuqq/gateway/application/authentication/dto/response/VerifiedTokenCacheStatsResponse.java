@@ -0,0 +1,14 @@
+package com.ryuqq.gateway.application.authentication.dto.response;
+
+/**
+ * Verified Token Cache 통계 Response DTO
+ *
+ * <p>검증된 Access Token Cache의 누적 Hit/Miss 횟수 (애플리케이션 시작 이후 누적값)
+ *
+ * @param hits Cache Hit 횟수 (서명 검증 생략)
+ * @param misses Cache Miss 횟수 (서명 검증 수행)
+ * @param invalidations kid 제거/교체로 무효화된 Entry 수
+ * @param size 현재 Entry 수
+ */
+public record VerifiedTokenCacheStatsResponse(
+        long hits, long misses, long invalidations, int size) {}
@@ -1,10 +1,20 @@
 package com.ryuqq.gateway.application.authentication.internal;
 
+import com.ryuqq.gateway.application.authentication.dto.response.PublicKeyCacheStatsResponse;
 import com.ryuqq.gateway.application.authentication.manager.PublicKeyCommandManager;
 import com.ryuqq.gateway.application.authentication.manager.PublicKeyQueryManager;
 import com.ryuqq.gateway.application.authentication.port.out.client.AuthHubClient;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerifierKeyRing;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
 import com.ryuqq.gateway.domain.authentication.exception.PublicKeyNotFoundException;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -16,11 +26,22 @@ import reactor.core.publisher.Mono;
  * <p><strong>Cache 전략</strong>:
  *
  * <ol>
- *   <li>Redis Cache에서 조회 (PublicKeyQueryManager)
- *   <li>Cache Miss 시 AuthHub JWKS 호출 (AuthHubClient)
- *   <li>조회된 Public Key를 Redis에 저장 (PublicKeyCommandManager)
+ *   <li>In-Process JWKS Snapshot에서 조회 (I/O 없음)
+ *   <li>최근 알 수 없던 kid면 즉시 거부 (Negative Cache, I/O 없음)
+ *   <li>Snapshot Miss 시 Redis Cache에서 조회 (PublicKeyQueryManager) 후 Snapshot에 병합
+ *   <li>Redis Miss 시 AuthHub JWKS 호출 (AuthHubClient) - Key Rotation으로 간주, 최소 간격당 한 번으로 제한
+ *   <li>조회된 JWKS로 Snapshot을 교체하고 Redis에 저장 (PublicKeyCommandManager)
  * </ol>
  *
+ * <p><strong>JWKS 조회 병합</strong>: 알 수 없는 kid로 동시에 여러 요청이 들어와도 AuthHub JWKS 호출은 한 번만 수행하고, 진행 중인
+ * 호출 결과를 모든 요청이 공유합니다. 주기적 갱신({@link #refreshAllKeys()})도 같은 호출을 공유합니다.
+ *
+ * <p><strong>알 수 없는 kid 보호</strong>: JWKS 재조회가 제한된 상태이거나 최신 JWKS에도 없는 kid는 {@link
+ * UnknownKidGuard}에 기록되어 이후 요청은 Redis/AuthHub 호출 없이 {@link PublicKeyNotFoundException}으로 실패합니다.
+ *
+ * <p>AuthHub에서 JWKS를 새로 받아올 때마다 {@link JwtVerifierKeyRing}도 함께 갱신하여 새 kid의 Verifier를 미리
+ * 생성하고 사라진 kid를 제거합니다. 제거되거나 교체된 kid로 검증된 토큰은 {@link VerifiedTokenCache}에서 무효화합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -30,69 +51,206 @@ public class PublicKeyCacheCoordinator {
     private final PublicKeyQueryManager publicKeyQueryManager;
     private final PublicKeyCommandManager publicKeyCommandManager;
     private final AuthHubClient authHubClient;
+    private final JwtVerifierKeyRing jwtVerifierKeyRing;
+    private final UnknownKidGuard unknownKidGuard;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /** kid → PublicKey 불변 Snapshot (교체 방식으로만 갱신) */
+    private final AtomicReference<Map<String, PublicKey>> snapshot =
+            new AtomicReference<>(Map.of());
+
+    /** 진행 중인 AuthHub JWKS 호출 (없으면 null) */
+    private final AtomicReference<Mono<List<PublicKey>>> inFlightFetch = new AtomicReference<>();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder throttledFetches = new LongAdder();
+    private final LongAdder authHubFetches = new LongAdder();
+    private final LongAdder coalescedFetches = new LongAdder();
+    private final LongAdder refreshSuccesses = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
 
     public PublicKeyCacheCoordinator(
             PublicKeyQueryManager publicKeyQueryManager,
             PublicKeyCommandManager publicKeyCommandManager,
-            AuthHubClient authHubClient) {
+            AuthHubClient authHubClient,
+            JwtVerifierKeyRing jwtVerifierKeyRing,
+            UnknownKidGuard unknownKidGuard,
+            VerifiedTokenCache verifiedTokenCache) {
         this.publicKeyQueryManager = publicKeyQueryManager;
         this.publicKeyCommandManager = publicKeyCommandManager;
         this.authHubClient = authHubClient;
+        this.jwtVerifierKeyRing = jwtVerifierKeyRing;
+        this.unknownKidGuard = unknownKidGuard;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
-     * Public Key 조회 (Cache Hit/Miss 전략)
+     * Public Key 조회 (Snapshot → Redis → AuthHub)
      *
      * @param kid Key ID
      * @return Mono&lt;PublicKey&gt;
      */
     public Mono<PublicKey> getPublicKey(String kid) {
+        PublicKey localKey = snapshot.get().get(kid);
+        if (localKey != null) {
+            localHits.increment();
+            return Mono.just(localKey);
+        }
+        if (unknownKidGuard.isKnownUnknown(kid)) {
+            negativeHits.increment();
+            return Mono.error(new PublicKeyNotFoundException(kid));
+        }
+
         return publicKeyQueryManager
                 .findByKid(kid)
-                .switchIfEmpty(fetchFromAuthHubAndCache(kid))
+                .doOnNext(
+                        publicKey -> {
+                            redisHits.increment();
+                            mergeIntoSnapshot(publicKey);
+                        })
+                .switchIfEmpty(
+                        Mono.defer(
+                                () -> {
+                                    misses.increment();
+                                    return fetchFromAuthHubAndCache(kid);
+                                }))
                 .onErrorMap(
                         e -> !(e instanceof PublicKeyNotFoundException),
                         e -> new RuntimeException("Failed to get public key for kid: " + kid, e));
     }
 
     /**
-     * AuthHub에서 Public Key 조회 후 Redis에 캐싱
+     * AuthHub에서 JWKS 조회 후 대상 kid 반환
+     *
+     * <p>진행 중인 JWKS 조회가 없고 재조회도 제한된 상태면 AuthHub를 호출하지 않고 실패합니다. 어느 경우든 kid를 찾지 못하면
+     * Negative Cache에 기록합니다.
      *
      * @param kid Key ID
      * @return Mono&lt;PublicKey&gt;
      */
     private Mono<PublicKey> fetchFromAuthHubAndCache(String kid) {
-        return authHubClient
-                .fetchPublicKeys()
-                .collectList()
+        if (inFlightFetch.get() == null && !unknownKidGuard.tryAcquireFetch()) {
+            throttledFetches.increment();
+            unknownKidGuard.markUnknown(kid);
+            return Mono.error(new PublicKeyNotFoundException(kid));
+        }
+
+        return fetchJwks()
                 .flatMap(
                         publicKeys -> {
-                            var targetKey =
-                                    publicKeys.stream()
-                                            .filter(pk -> pk.kid().equals(kid))
-                                            .findFirst()
-                                            .orElse(null);
-
-                            if (targetKey == null) {
-                                return Mono.error(new PublicKeyNotFoundException(kid));
+                            for (PublicKey publicKey : publicKeys) {
+                                if (publicKey.kid().equals(kid)) {
+                                    return Mono.just(publicKey);
+                                }
                             }
-
-                            return publicKeyCommandManager
-                                    .saveAll(publicKeys)
-                                    .thenReturn(targetKey);
+                            unknownKidGuard.markUnknown(kid);
+                            return Mono.error(new PublicKeyNotFoundException(kid));
                         });
     }
 
     /**
      * Public Key Cache 전체 갱신
      *
+     * <p>주기적 갱신 Scheduler와 수동 갱신 API에서 호출합니다.
+     *
      * @return Mono&lt;Void&gt;
      */
     public Mono<Void> refreshAllKeys() {
-        return authHubClient
-                .fetchPublicKeys()
-                .collectList()
-                .flatMap(publicKeyCommandManager::saveAll)
+        return Mono.defer(
+                        () -> {
+                            unknownKidGuard.recordFetch();
+                            return fetchJwks();
+                        })
+                .doOnSuccess(publicKeys -> refreshSuccesses.increment())
+                .doOnError(e -> refreshFailures.increment())
+                .then()
                 .onErrorMap(e -> new RuntimeException("Failed to refresh public keys", e));
     }
+
+    /**
+     * Cache 통계 조회
+     *
+     * @return PublicKeyCacheStatsResponse
+     */
+    public PublicKeyCacheStatsResponse stats() {
+        return new PublicKeyCacheStatsResponse(
+                localHits.sum(),
+                redisHits.sum(),
+                misses.sum(),
+                negativeHits.sum(),
+                authHubFetches.sum(),
+                coalescedFetches.sum(),
+                throttledFetches.sum(),
+                refreshSuccesses.sum(),
+                refreshFailures.sum(),
+                snapshot.get().size());
+    }
+
+    /**
+     * AuthHub JWKS 조회 (진행 중인 호출이 있으면 공유)
+     *
+     * <p>호출이 끝나면 (성공/실패 모두) 진행 중 상태를 해제하여 다음 Miss가 새 호출을 시작할 수 있게 합니다.
+     *
+     * @return Mono&lt;List&lt;PublicKey&gt;&gt; 최신 JWKS
+     */
+    private Mono<List<PublicKey>> fetchJwks() {
+        return Mono.defer(
+                () -> {
+                    Mono<List<PublicKey>> inFlight = inFlightFetch.get();
+                    if (inFlight != null) {
+                        coalescedFetches.increment();
+                        return inFlight;
+                    }
+
+                    Mono<List<PublicKey>> fetch =
+                            authHubClient
+                                    .fetchPublicKeys()
+                                    .collectList()
+                                    .flatMap(this::applyJwks)
+                                    .doFinally(signal -> inFlightFetch.set(null))
+                                    .cache();
+
+                    if (!inFlightFetch.compareAndSet(null, fetch)) {
+                        return fetchJwks();
+                    }
+                    authHubFetches.increment();
+                    return fetch;
+                });
+    }
+
+    /**
+     * 최신 JWKS 반영 (Snapshot 교체 + Verifier Key Ring 갱신 + 검증 결과 무효화 + Redis 저장)
+     *
+     * <p>빈 JWKS는 AuthHub 일시 장애로 간주하여 기존 Snapshot을 유지합니다.
+     *
+     * @param publicKeys 최신 JWKS
+     * @return Mono&lt;List&lt;PublicKey&gt;&gt; 반영된 JWKS
+     */
+    private Mono<List<PublicKey>> applyJwks(List<PublicKey> publicKeys) {
+        if (publicKeys.isEmpty()) {
+            return Mono.just(publicKeys);
+        }
+        snapshot.set(
+                publicKeys.stream()
+                        .collect(
+                                Collectors.toUnmodifiableMap(
+                                        PublicKey::kid,
+                                        Function.identity(),
+                                        (first, second) -> second)));
+        verifiedTokenCache.invalidateKids(jwtVerifierKeyRing.replaceAll(publicKeys));
+        unknownKidGuard.forget(publicKeys.stream().map(PublicKey::kid).toList());
+        return publicKeyCommandManager.saveAll(publicKeys).thenReturn(publicKeys);
+    }
+
+    private void mergeIntoSnapshot(PublicKey publicKey) {
+        snapshot.updateAndGet(
+                current -> {
+                    Map<String, PublicKey> merged = new HashMap<>(current);
+                    merged.put(publicKey.kid(), publicKey);
+                    return Map.copyOf(merged);
+                });
+    }
 }
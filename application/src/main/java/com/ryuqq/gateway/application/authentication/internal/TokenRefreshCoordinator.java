@@ -1,17 +1,25 @@
 package com.ryuqq.gateway.application.authentication.internal;
 
+import com.ryuqq.gateway.application.authentication.config.TokenRefreshProperties;
 import com.ryuqq.gateway.application.authentication.dto.response.RefreshAccessTokenResponse;
-import com.ryuqq.gateway.application.authentication.manager.RedisLockCommandManager;
 import com.ryuqq.gateway.application.authentication.manager.RefreshTokenBlacklistCommandManager;
-import com.ryuqq.gateway.application.authentication.manager.RefreshTokenBlacklistQueryManager;
+import com.ryuqq.gateway.application.authentication.manager.RefreshTokenClaimCommandManager;
+import com.ryuqq.gateway.application.authentication.manager.RotatedTokenPairCommandManager;
+import com.ryuqq.gateway.application.authentication.manager.RotatedTokenPairQueryManager;
 import com.ryuqq.gateway.application.authentication.port.out.client.AuthHubClient;
 import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenReusedException;
 import com.ryuqq.gateway.domain.authentication.exception.TokenRefreshFailedException;
 import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
 import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -22,14 +30,23 @@ import reactor.core.publisher.Mono;
  * <p><strong>처리 흐름</strong>:
  *
  * <ol>
- *   <li>Redis Lock 획득 (Race Condition 방지)
- *   <li>Refresh Token Blacklist 확인 (재사용 탐지)
+ *   <li>같은 노드에서 진행 중인 동일 Refresh 요청이 있으면 그 결과를 공유 (요청 병합)
+ *   <li>Refresh Token 선점 - Lock, 재사용 탐지, 소비 표시를 한 번의 Redis Script로 처리 (토큰 해시 기준)
  *   <li>AuthHub Token Refresh 호출
- *   <li>기존 Refresh Token Blacklist 등록 (Rotation)
+ *   <li>새 Token Pair를 짧은 시간 Redis에 공유 후 기존 Refresh Token Blacklist 등록 (Rotation)
  *   <li>새 Token Pair 반환
- *   <li>Redis Lock 해제 (finally)
+ *   <li>Rotation 실패 시 선점 해제 (재시도 허용)
  * </ol>
  *
+ * <p><strong>동시 요청 처리</strong>:
+ *
+ * <ul>
+ *   <li>노드 내: (tenantId, userId, Refresh Token) 단위로 진행 중인 Refresh를 하나로 병합
+ *   <li>노드 간: 다른 요청이 선점 중이거나 이미 Blacklist에 등록된 토큰이라도, 공유 기간 내에 발급된 Token Pair가 있으면
+ *       같은 Token Pair를 반환 (SPA 병렬 요청의 재시도 폭주 방지)
+ *   <li>공유 기간이 지난 뒤의 재사용은 기존과 동일하게 {@link RefreshTokenReusedException}으로 탐지
+ * </ul>
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -41,25 +58,38 @@ public class TokenRefreshCoordinator {
     /** Refresh Token Blacklist TTL (7일, 초 단위) */
     private static final long BLACKLIST_TTL_SECONDS = 7L * 24 * 60 * 60;
 
-    private final RedisLockCommandManager redisLockCommandManager;
-    private final RefreshTokenBlacklistQueryManager blacklistQueryManager;
+    private final RefreshTokenClaimCommandManager claimCommandManager;
     private final RefreshTokenBlacklistCommandManager blacklistCommandManager;
+    private final RotatedTokenPairQueryManager rotatedTokenPairQueryManager;
+    private final RotatedTokenPairCommandManager rotatedTokenPairCommandManager;
     private final AuthHubClient authHubClient;
+    private final TokenRefreshProperties tokenRefreshProperties;
+
+    /** 노드 내 진행 중인 Refresh (key: tenantId:userId:refreshToken) */
+    private final ConcurrentMap<String, Mono<RefreshAccessTokenResponse>> inFlightRefreshes =
+            new ConcurrentHashMap<>();
 
     public TokenRefreshCoordinator(
-            RedisLockCommandManager redisLockCommandManager,
-            RefreshTokenBlacklistQueryManager blacklistQueryManager,
+            RefreshTokenClaimCommandManager claimCommandManager,
             RefreshTokenBlacklistCommandManager blacklistCommandManager,
-            AuthHubClient authHubClient) {
-        this.redisLockCommandManager = redisLockCommandManager;
-        this.blacklistQueryManager = blacklistQueryManager;
+            RotatedTokenPairQueryManager rotatedTokenPairQueryManager,
+            RotatedTokenPairCommandManager rotatedTokenPairCommandManager,
+            AuthHubClient authHubClient,
+            TokenRefreshProperties tokenRefreshProperties) {
+        this.claimCommandManager = claimCommandManager;
         this.blacklistCommandManager = blacklistCommandManager;
+        this.rotatedTokenPairQueryManager = rotatedTokenPairQueryManager;
+        this.rotatedTokenPairCommandManager = rotatedTokenPairCommandManager;
         this.authHubClient = authHubClient;
+        this.tokenRefreshProperties = tokenRefreshProperties;
     }
 
     /**
      * Token Refresh 조율 실행
      *
+     * <p>같은 노드에서 동일한 Refresh Token으로 진행 중인 Refresh가 있으면 새로 시작하지 않고 그 결과를 공유합니다. 서로 다른
+     * Refresh Token(다른 세션/기기)은 병합하지 않습니다.
+     *
      * @param tenantId Tenant 식별자
      * @param userId 사용자 식별자
      * @param currentRefreshToken 현재 Refresh Token
@@ -68,83 +98,115 @@ public class TokenRefreshCoordinator {
     public Mono<RefreshAccessTokenResponse> coordinate(
             String tenantId, Long userId, RefreshToken currentRefreshToken) {
 
-        return acquireLock(tenantId, userId)
+        String refreshKey = tenantId + ":" + userId + ":" + currentRefreshToken.value();
+        Mono<RefreshAccessTokenResponse> inFlight = inFlightRefreshes.get(refreshKey);
+        if (inFlight != null) {
+            log.debug("Joining in-flight token refresh for tenant:{}, user:{}", tenantId, userId);
+            return inFlight;
+        }
+
+        Mono<RefreshAccessTokenResponse> refresh =
+                Mono.defer(() -> coordinateAcrossNodes(tenantId, userId, currentRefreshToken))
+                        .doFinally(signal -> inFlightRefreshes.remove(refreshKey))
+                        .cache();
+        Mono<RefreshAccessTokenResponse> existing =
+                inFlightRefreshes.putIfAbsent(refreshKey, refresh);
+        return existing != null ? existing : refresh;
+    }
+
+    /** 노드 간 조율 (선점 결과에 따라 Rotation 수행, 결과 대기, 재사용 탐지) */
+    private Mono<RefreshAccessTokenResponse> coordinateAcrossNodes(
+            String tenantId, Long userId, RefreshToken currentRefreshToken) {
+
+        String claimId = UUID.randomUUID().toString();
+        return claimCommandManager
+                .claim(
+                        tenantId,
+                        currentRefreshToken,
+                        claimId,
+                        tokenRefreshProperties.getClaimLeaseSeconds())
                 .flatMap(
-                        lockAcquired -> {
-                            if (!lockAcquired) {
-                                return Mono.error(
-                                        new TokenRefreshFailedException(
-                                                "Failed to acquire lock for token refresh"));
-                            }
-                            return executeRefresh(tenantId, userId, currentRefreshToken)
-                                    .doFinally(signal -> releaseLock(tenantId, userId).subscribe());
-                        });
+                        status ->
+                                handleClaim(
+                                        status, tenantId, userId, currentRefreshToken, claimId));
     }
 
-    /** Lock 획득 */
-    private Mono<Boolean> acquireLock(String tenantId, Long userId) {
-        return redisLockCommandManager
-                .tryLock(tenantId, userId)
-                .doOnNext(
-                        acquired -> {
-                            if (acquired) {
-                                log.debug("Lock acquired for tenant:{}, user:{}", tenantId, userId);
-                            } else {
-                                log.warn(
-                                        "Failed to acquire lock for tenant:{}, user:{}",
-                                        tenantId,
-                                        userId);
-                            }
-                        });
+    /** 선점 결과 처리 */
+    private Mono<RefreshAccessTokenResponse> handleClaim(
+            RefreshTokenClaimStatus status,
+            String tenantId,
+            Long userId,
+            RefreshToken currentRefreshToken,
+            String claimId) {
+
+        return switch (status) {
+            case ACQUIRED ->
+                    refreshAndRotate(tenantId, currentRefreshToken)
+                            .onErrorResume(
+                                    e ->
+                                            releaseClaim(tenantId, currentRefreshToken, claimId)
+                                                    .then(Mono.error(e)));
+            case IN_PROGRESS -> awaitRotatedPair(tenantId, currentRefreshToken);
+            case CONSUMED ->
+                    findRotatedPair(tenantId, currentRefreshToken)
+                            .switchIfEmpty(Mono.defer(() -> reuseDetected(tenantId, userId)));
+        };
     }
 
-    /** Lock 해제 */
-    private Mono<Void> releaseLock(String tenantId, Long userId) {
-        return redisLockCommandManager
-                .unlock(tenantId, userId)
-                .doOnSuccess(
-                        v -> log.debug("Lock released for tenant:{}, user:{}", tenantId, userId))
-                .onErrorResume(
-                        e -> {
-                            log.warn(
-                                    "Failed to release lock for tenant:{}, user:{}",
-                                    tenantId,
-                                    userId,
-                                    e);
-                            return Mono.empty();
-                        });
+    /**
+     * 다른 노드가 공유한 Token Pair 대기
+     *
+     * <p>선점한 요청이 Rotation을 마칠 때까지 설정된 간격으로 조회하고, 끝내 공유되지 않으면 실패합니다.
+     */
+    private Mono<RefreshAccessTokenResponse> awaitRotatedPair(
+            String tenantId, RefreshToken currentRefreshToken) {
+
+        Duration interval = Duration.ofMillis(tokenRefreshProperties.getAwaitIntervalMillis());
+        Mono<RefreshAccessTokenResponse> lookup = findRotatedPair(tenantId, currentRefreshToken);
+
+        return Flux.range(0, Math.max(tokenRefreshProperties.getAwaitAttempts(), 1))
+                .concatMap(attempt -> attempt == 0 ? lookup : Mono.delay(interval).then(lookup))
+                .next()
+                .switchIfEmpty(
+                        Mono.error(
+                                () ->
+                                        new TokenRefreshFailedException(
+                                                "Token refresh in progress - rotated token pair"
+                                                        + " not available")));
     }
 
-    /** Token Refresh 실행 (Lock 획득 후) */
-    private Mono<RefreshAccessTokenResponse> executeRefresh(
-            String tenantId, Long userId, RefreshToken currentRefreshToken) {
+    /** 공유된 Token Pair 조회 */
+    private Mono<RefreshAccessTokenResponse> findRotatedPair(
+            String tenantId, RefreshToken currentRefreshToken) {
 
-        return checkBlacklist(tenantId, currentRefreshToken)
-                .flatMap(
-                        isBlacklisted -> {
-                            if (isBlacklisted) {
-                                log.warn(
-                                        "Refresh token reuse detected for tenant:{}, user:{}",
-                                        tenantId,
-                                        userId);
-                                return Mono.error(
-                                        new RefreshTokenReusedException(
-                                                "Refresh token reuse detected - possible token"
-                                                        + " theft"));
-                            }
-                            return refreshAndRotate(tenantId, currentRefreshToken);
-                        });
+        return Mono.defer(
+                () ->
+                        rotatedTokenPairQueryManager
+                                .findByConsumedToken(tenantId, currentRefreshToken)
+                                .map(RefreshAccessTokenResponse::from)
+                                .doOnNext(
+                                        response ->
+                                                log.debug(
+                                                        "Reusing rotated token pair for tenant:{}",
+                                                        tenantId)));
     }
 
-    /** Blacklist 확인 */
-    private Mono<Boolean> checkBlacklist(String tenantId, RefreshToken refreshToken) {
-        return blacklistQueryManager
-                .isBlacklisted(tenantId, refreshToken)
-                .doOnNext(
-                        isBlacklisted -> {
-                            if (isBlacklisted) {
-                                log.warn("Blacklisted token attempted for tenant:{}", tenantId);
-                            }
+    /** 공유 기간이 지난 Refresh Token 재사용 */
+    private Mono<RefreshAccessTokenResponse> reuseDetected(String tenantId, Long userId) {
+        log.warn("Refresh token reuse detected for tenant:{}, user:{}", tenantId, userId);
+        return Mono.error(
+                new RefreshTokenReusedException(
+                        "Refresh token reuse detected - possible token theft"));
+    }
+
+    /** 선점 해제 (실패해도 Lease 만료로 자동 해제) */
+    private Mono<Void> releaseClaim(String tenantId, RefreshToken refreshToken, String claimId) {
+        return claimCommandManager
+                .release(tenantId, refreshToken, claimId)
+                .onErrorResume(
+                        e -> {
+                            log.warn("Failed to release refresh claim for tenant:{}", tenantId, e);
+                            return Mono.empty();
                         });
     }
 
@@ -167,12 +229,18 @@ public class TokenRefreshCoordinator {
                         });
     }
 
-    /** 기존 Token Blacklist 등록 후 새 Token 반환 */
+    /**
+     * 새 Token Pair 공유 및 기존 Token Blacklist 등록 후 새 Token 반환
+     *
+     * <p>Blacklist보다 먼저 공유해야 Blacklist를 확인한 다른 노드의 요청이 재사용으로 오탐지되지 않습니다.
+     */
     private Mono<RefreshAccessTokenResponse> addToBlacklistAndReturn(
             String tenantId, RefreshToken oldToken, TokenPair newTokenPair) {
 
-        return blacklistCommandManager
-                .addToBlacklist(tenantId, oldToken, BLACKLIST_TTL_SECONDS)
+        return publishRotatedPair(tenantId, oldToken, newTokenPair)
+                .then(
+                        blacklistCommandManager.addToBlacklist(
+                                tenantId, oldToken, BLACKLIST_TTL_SECONDS))
                 .thenReturn(RefreshAccessTokenResponse.from(newTokenPair))
                 .doOnSuccess(
                         response ->
@@ -181,6 +249,26 @@ public class TokenRefreshCoordinator {
                                         tenantId));
     }
 
+    /** 새 Token Pair 공유 (실패해도 Rotation은 계속 진행) */
+    private Mono<Void> publishRotatedPair(
+            String tenantId, RefreshToken oldToken, TokenPair newTokenPair) {
+
+        return rotatedTokenPairCommandManager
+                .save(
+                        tenantId,
+                        oldToken,
+                        newTokenPair,
+                        tokenRefreshProperties.getRotatedPairTtlSeconds())
+                .onErrorResume(
+                        e -> {
+                            log.warn(
+                                    "Failed to publish rotated token pair for tenant:{}",
+                                    tenantId,
+                                    e);
+                            return Mono.empty();
+                        });
+    }
+
     /** 외부 서비스 오류인지 확인 */
     private boolean isExternalServiceError(Throwable e) {
         return !(e instanceof RefreshTokenReusedException)
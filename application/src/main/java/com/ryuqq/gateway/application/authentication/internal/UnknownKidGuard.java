@@ -0,0 +1,136 @@
+package com.ryuqq.gateway.application.authentication.internal;
+
+import com.ryuqq.gateway.application.authentication.config.JwksCacheProperties;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Unknown Kid Guard
+ *
+ * <p>알 수 없는 kid로 인한 AuthHub JWKS 호출과 Redis 쓰기 폭주를 막는 보호 장치
+ *
+ * <p><strong>보호 전략</strong>:
+ *
+ * <ul>
+ *   <li>Negative Cache: 최근 JWKS에 없던 kid를 TTL 동안 기억하여 I/O 없이 즉시 거부
+ *   <li>Fetch Throttle: 알 수 없는 kid로 인한 JWKS 재조회를 노드 전체에서 최소 간격당 한 번으로 제한
+ *   <li>Negative Cache 크기 제한: 기록 순서를 유지하여 가득 차면 가장 오래된 kid를 제거하고 새 kid를 항상 기록
+ * </ul>
+ *
+ * <p>JWKS 갱신으로 kid가 확인되면 해당 kid는 Negative Cache에서 즉시 제거됩니다.
+ *
+ * <p>모든 항목의 TTL이 같으므로 기록 순서가 곧 만료 순서입니다. 가장 오래된 항목 제거는 O(1)이므로, 임의 kid가 쏟아져도
+ * 새 kid는 항상 기록되고 이후 요청은 Redis 조회 없이 거부됩니다. Negative Cache는 단일 Lock으로 보호하며, 알 수 없는
+ * kid 경로에서만 접근합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class UnknownKidGuard {
+
+    private final JwksCacheProperties jwksCacheProperties;
+    private final TimeProvider timeProvider;
+
+    /** kid → Negative Cache 만료 시각 (기록 순서, {@code this}로 동기화) */
+    private final LinkedHashMap<String, Instant> unknownKids;
+
+    /** 마지막 JWKS 조회 시작 시각 */
+    private final AtomicReference<Instant> lastFetchAt = new AtomicReference<>(Instant.EPOCH);
+
+    public UnknownKidGuard(JwksCacheProperties jwksCacheProperties, TimeProvider timeProvider) {
+        this.jwksCacheProperties = jwksCacheProperties;
+        this.timeProvider = timeProvider;
+        this.unknownKids =
+                new LinkedHashMap<>() {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+                        return size() > jwksCacheProperties.getNegativeCacheMaxSize();
+                    }
+                };
+    }
+
+    /**
+     * Negative Cache 조회
+     *
+     * @param kid Key ID
+     * @return 최근 알 수 없는 kid로 기록되어 있으면 true
+     */
+    public boolean isKnownUnknown(String kid) {
+        Instant now = timeProvider.now();
+        synchronized (this) {
+            Instant expiresAt = unknownKids.get(kid);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (now.isBefore(expiresAt)) {
+                return true;
+            }
+            unknownKids.remove(kid);
+            return false;
+        }
+    }
+
+    /**
+     * 알 수 없는 kid 기록
+     *
+     * <p>가득 차 있으면 가장 오래 전에 기록된 kid를 제거합니다. 이미 기록된 kid는 만료 시각을 갱신하고 가장 최근 위치로
+     * 옮깁니다.
+     *
+     * @param kid Key ID
+     */
+    public void markUnknown(String kid) {
+        Instant expiresAt =
+                timeProvider.now().plusSeconds(jwksCacheProperties.getNegativeCacheTtlSeconds());
+        synchronized (this) {
+            unknownKids.remove(kid);
+            unknownKids.put(kid, expiresAt);
+        }
+    }
+
+    /**
+     * JWKS에서 확인된 kid를 Negative Cache에서 제거
+     *
+     * @param kids 확인된 kid 목록
+     */
+    public synchronized void forget(Collection<String> kids) {
+        kids.forEach(unknownKids::remove);
+    }
+
+    /**
+     * 알 수 없는 kid로 인한 JWKS 재조회 허용 여부 (허용 시 조회 시각 기록)
+     *
+     * <p>여러 Thread가 동시에 호출해도 최소 간격당 한 번만 true를 반환합니다.
+     *
+     * @return 재조회가 허용되면 true
+     */
+    public boolean tryAcquireFetch() {
+        Instant now = timeProvider.now();
+        Instant last = lastFetchAt.get();
+        Duration minInterval = Duration.ofSeconds(jwksCacheProperties.getMinFetchIntervalSeconds());
+        if (now.isBefore(last.plus(minInterval))) {
+            return false;
+        }
+        return lastFetchAt.compareAndSet(last, now);
+    }
+
+    /** 주기적 갱신 등 Throttle 대상이 아닌 JWKS 조회 시각 기록 */
+    public void recordFetch() {
+        lastFetchAt.set(timeProvider.now());
+    }
+
+    /**
+     * Negative Cache 크기
+     *
+     * @return 기록된 kid 수 (만료 항목 포함)
+     */
+    public synchronized int unknownKidCount() {
+        return unknownKids.size();
+    }
+}
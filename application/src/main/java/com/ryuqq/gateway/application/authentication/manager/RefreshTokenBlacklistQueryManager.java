@@ -1,36 +0,0 @@
-package com.ryuqq.gateway.application.authentication.manager;
-
-import com.ryuqq.gateway.application.authentication.port.out.query.RefreshTokenBlacklistQueryPort;
-import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
-import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
-
-/**
- * Refresh Token Blacklist Query Manager
- *
- * <p>RefreshTokenBlacklistQueryPort를 래핑하는 Manager
- *
- * @author development-team
- * @since 1.0.0
- */
-@Component
-public class RefreshTokenBlacklistQueryManager {
-
-    private final RefreshTokenBlacklistQueryPort refreshTokenBlacklistQueryPort;
-
-    public RefreshTokenBlacklistQueryManager(
-            RefreshTokenBlacklistQueryPort refreshTokenBlacklistQueryPort) {
-        this.refreshTokenBlacklistQueryPort = refreshTokenBlacklistQueryPort;
-    }
-
-    /**
-     * Refresh Token이 Blacklist에 존재하는지 확인
-     *
-     * @param tenantId Tenant 식별자
-     * @param refreshToken 확인할 Refresh Token
-     * @return Mono&lt;Boolean&gt; Blacklist 존재 여부
-     */
-    public Mono<Boolean> isBlacklisted(String tenantId, RefreshToken refreshToken) {
-        return refreshTokenBlacklistQueryPort.isBlacklisted(tenantId, refreshToken);
-    }
-}
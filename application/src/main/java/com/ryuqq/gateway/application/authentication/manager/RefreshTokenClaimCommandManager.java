@@ -0,0 +1,52 @@
+package com.ryuqq.gateway.application.authentication.manager;
+
+import com.ryuqq.gateway.application.authentication.port.out.command.RefreshTokenClaimCommandPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Refresh Token Claim Command Manager
+ *
+ * <p>RefreshTokenClaimCommandPort를 래핑하는 Manager
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RefreshTokenClaimCommandManager {
+
+    private final RefreshTokenClaimCommandPort refreshTokenClaimCommandPort;
+
+    public RefreshTokenClaimCommandManager(
+            RefreshTokenClaimCommandPort refreshTokenClaimCommandPort) {
+        this.refreshTokenClaimCommandPort = refreshTokenClaimCommandPort;
+    }
+
+    /**
+     * Refresh Token 선점 (Atomic)
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점할 Refresh Token
+     * @param claimId 선점 식별자
+     * @param leaseSeconds 선점 유지 시간 (초)
+     * @return Mono&lt;RefreshTokenClaimStatus&gt; 선점 결과
+     */
+    public Mono<RefreshTokenClaimStatus> claim(
+            String tenantId, RefreshToken refreshToken, String claimId, long leaseSeconds) {
+        return refreshTokenClaimCommandPort.claim(tenantId, refreshToken, claimId, leaseSeconds);
+    }
+
+    /**
+     * Refresh Token 선점 해제
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점한 Refresh Token
+     * @param claimId 선점 식별자
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    public Mono<Void> release(String tenantId, RefreshToken refreshToken, String claimId) {
+        return refreshTokenClaimCommandPort.release(tenantId, refreshToken, claimId);
+    }
+}
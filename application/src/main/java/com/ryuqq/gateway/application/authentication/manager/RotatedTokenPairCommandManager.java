@@ -0,0 +1,40 @@
+package com.ryuqq.gateway.application.authentication.manager;
+
+import com.ryuqq.gateway.application.authentication.port.out.command.RotatedTokenPairCommandPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Command Manager
+ *
+ * <p>RotatedTokenPairCommandPort를 래핑하는 Manager
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RotatedTokenPairCommandManager {
+
+    private final RotatedTokenPairCommandPort rotatedTokenPairCommandPort;
+
+    public RotatedTokenPairCommandManager(
+            RotatedTokenPairCommandPort rotatedTokenPairCommandPort) {
+        this.rotatedTokenPairCommandPort = rotatedTokenPairCommandPort;
+    }
+
+    /**
+     * Rotation 결과 공유
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @param rotatedPair 새로 발급된 Token Pair
+     * @param ttlSeconds TTL (초)
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    public Mono<Void> save(
+            String tenantId, RefreshToken consumedToken, TokenPair rotatedPair, long ttlSeconds) {
+        return rotatedTokenPairCommandPort.save(tenantId, consumedToken, rotatedPair, ttlSeconds);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ryuqq.gateway.application.authentication.manager;
+
+import com.ryuqq.gateway.application.authentication.port.out.query.RotatedTokenPairQueryPort;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Query Manager
+ *
+ * <p>RotatedTokenPairQueryPort를 래핑하는 Manager
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class RotatedTokenPairQueryManager {
+
+    private final RotatedTokenPairQueryPort rotatedTokenPairQueryPort;
+
+    public RotatedTokenPairQueryManager(RotatedTokenPairQueryPort rotatedTokenPairQueryPort) {
+        this.rotatedTokenPairQueryPort = rotatedTokenPairQueryPort;
+    }
+
+    /**
+     * 소비된 Refresh Token으로 발급된 Token Pair 조회
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @return Mono&lt;TokenPair&gt; (없으면 empty)
+     */
+    public Mono<TokenPair> findByConsumedToken(String tenantId, RefreshToken consumedToken) {
+        return rotatedTokenPairQueryPort.findByConsumedToken(tenantId, consumedToken);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.authentication.port.in.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.JwtVerificationStatsResponse;
+
+/**
+ * JWT 서명 검증 실행 통계 조회 UseCase (Query Port-In)
+ *
+ * <p>서명 검증 실행 방식(INLINE/PARALLEL)의 대기열/실행 시간 통계를 조회하는 Inbound Port (메트릭 수집용)
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>GetJwtVerificationStatsService (application.authentication.service.query)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetJwtVerificationStatsUseCase {
+
+    /**
+     * JWT 서명 검증 실행 통계 조회 실행
+     *
+     * <p>I/O 없이 메모리의 누적값만 반환합니다.
+     *
+     * @return JwtVerificationStatsResponse
+     */
+    JwtVerificationStatsResponse execute();
+}
@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.authentication.port.in.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.PublicKeyCacheStatsResponse;
+
+/**
+ * Public Key Cache 통계 조회 UseCase (Query Port-In)
+ *
+ * <p>In-Process JWKS Snapshot의 Hit/Miss/Refresh 통계를 조회하는 Inbound Port (메트릭 수집용)
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>GetPublicKeyCacheStatsService (application.authentication.service.query)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetPublicKeyCacheStatsUseCase {
+
+    /**
+     * Public Key Cache 통계 조회 실행
+     *
+     * <p>I/O 없이 메모리의 누적값만 반환합니다.
+     *
+     * @return PublicKeyCacheStatsResponse
+     */
+    PublicKeyCacheStatsResponse execute();
+}
@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.authentication.port.in.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.VerifiedTokenCacheStatsResponse;
+
+/**
+ * Verified Token Cache 통계 조회 UseCase (Query Port-In)
+ *
+ * <p>검증된 Access Token Cache의 Hit/Miss 통계를 조회하는 Inbound Port (메트릭 수집용)
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>GetVerifiedTokenCacheStatsService (application.authentication.service.query)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetVerifiedTokenCacheStatsUseCase {
+
+    /**
+     * Verified Token Cache 통계 조회 실행
+     *
+     * <p>I/O 없이 메모리의 누적값만 반환합니다.
+     *
+     * @return VerifiedTokenCacheStatsResponse
+     */
+    VerifiedTokenCacheStatsResponse execute();
+}
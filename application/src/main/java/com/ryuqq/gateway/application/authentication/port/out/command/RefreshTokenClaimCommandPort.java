@@ -0,0 +1,58 @@
+package com.ryuqq.gateway.application.authentication.port.out.command;
+
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
+import reactor.core.publisher.Mono;
+
+/**
+ * Refresh Token Claim Command Port (Outbound)
+ *
+ * <p>Token Refresh 시작 시 Refresh Token을 원자적으로 선점하는 Outbound Port
+ *
+ * <p><strong>Redis Key 패턴</strong>: {@code tenant:{tenantId}:refresh:blacklist:{tokenHash}}
+ * (Blacklist와 같은 Key를 사용하여 Lock, 재사용 확인, 소비 표시를 한 번의 Script로 처리)
+ *
+ * <p><strong>선점 전략</strong>:
+ *
+ * <ul>
+ *   <li>Key가 없으면 선점 표시(claimId)를 Lease TTL로 저장하고 ACQUIRED 반환
+ *   <li>선점 표시가 있으면 IN_PROGRESS, Blacklist 값이면 CONSUMED 반환
+ *   <li>Rotation 성공 시 Blacklist 등록이 선점 표시를 덮어씀
+ *   <li>Rotation 실패 시 {@link #release}로 자신의 선점만 해제
+ * </ul>
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>RefreshTokenClaimCommandAdapter (adapter-out.persistence-redis) - Lua Script 사용
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface RefreshTokenClaimCommandPort {
+
+    /**
+     * Refresh Token 선점 (Atomic)
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점할 Refresh Token
+     * @param claimId 선점 식별자 (요청별 고유값)
+     * @param leaseSeconds 선점 유지 시간 (초) - 노드 장애 시 자동 해제
+     * @return Mono&lt;RefreshTokenClaimStatus&gt; 선점 결과
+     */
+    Mono<RefreshTokenClaimStatus> claim(
+            String tenantId, RefreshToken refreshToken, String claimId, long leaseSeconds);
+
+    /**
+     * Refresh Token 선점 해제
+     *
+     * <p>claimId가 일치할 때만 해제합니다 (이미 Blacklist에 등록되었거나 다른 요청의 선점이면 무시).
+     *
+     * @param tenantId Tenant 식별자
+     * @param refreshToken 선점한 Refresh Token
+     * @param claimId 선점 식별자
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    Mono<Void> release(String tenantId, RefreshToken refreshToken, String claimId);
+}
@@ -0,0 +1,42 @@
+package com.ryuqq.gateway.application.authentication.port.out.command;
+
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Command Port (Outbound)
+ *
+ * <p>Refresh Token Rotation 결과(새 Token Pair)를 짧은 시간 동안 공유하는 Outbound Port
+ *
+ * <p><strong>Redis Key 패턴</strong>: {@code tenant:{tenantId}:refresh:rotated:{tokenHash}}
+ *
+ * <p><strong>사용 시점</strong>:
+ *
+ * <ul>
+ *   <li>Rotation 성공 직후, 같은 Refresh Token으로 동시에 들어온 다른 노드의 요청에 동일한 Token Pair 전달
+ * </ul>
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>RotatedTokenPairCommandAdapter (adapter-out.persistence-redis)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface RotatedTokenPairCommandPort {
+
+    /**
+     * Rotation 결과 저장
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @param rotatedPair 새로 발급된 Token Pair
+     * @param ttlSeconds TTL (초)
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    Mono<Void> save(
+            String tenantId, RefreshToken consumedToken, TokenPair rotatedPair, long ttlSeconds);
+}
@@ -0,0 +1,33 @@
+package com.ryuqq.gateway.application.authentication.port.out.query;
+
+import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rotated Token Pair Query Port (Outbound)
+ *
+ * <p>다른 요청(노드)이 방금 Rotation한 결과(새 Token Pair)를 조회하는 Outbound Port
+ *
+ * <p><strong>Redis Key 패턴</strong>: {@code tenant:{tenantId}:refresh:rotated:{tokenHash}}
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>RotatedTokenPairQueryAdapter (adapter-out.persistence-redis)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface RotatedTokenPairQueryPort {
+
+    /**
+     * 소비된 Refresh Token으로 발급된 Token Pair 조회
+     *
+     * @param tenantId Tenant 식별자
+     * @param consumedToken Rotation으로 소비된 기존 Refresh Token
+     * @return Mono&lt;TokenPair&gt; (공유 기간이 지났거나 없으면 empty)
+     */
+    Mono<TokenPair> findByConsumedToken(String tenantId, RefreshToken consumedToken);
+}
@@ -6,7 +6,10 @@ import com.ryuqq.gateway.application.authentication.dto.response.ValidateJwtResp
 import com.ryuqq.gateway.application.authentication.port.in.command.ValidateJwtUseCase;
 import com.ryuqq.gateway.application.authentication.service.query.GetPublicKeyService;
 import com.ryuqq.gateway.application.authentication.validator.JwtValidator;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
 import com.ryuqq.gateway.domain.authentication.vo.AccessToken;
+import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
 import com.ryuqq.gateway.domain.common.exception.DomainException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -19,11 +22,13 @@ import reactor.core.publisher.Mono;
  * <p><strong>오케스트레이션 역할만 수행</strong>:
  *
  * <ol>
- *   <li>Command → Domain VO 변환 (Assembler)
+ *   <li>Verified Token Cache 조회 (Hit 시 서명 검증/Claims 추출 생략, Scheduler 전환 없음)
+ *   <li>Command → ParsedJwt 변환 (Assembler, 이미 파싱된 JWT는 재사용)
  *   <li>Public Key 조회 (GetPublicKeyService)
- *   <li>JWT 서명 검증 (JwtValidationService)
- *   <li>JWT Claims 추출 (JwtValidationService)
+ *   <li>JWT 서명 검증 (JwtValidator, ParsedJwt 재사용)
+ *   <li>JWT Claims 추출 (JwtValidator, ParsedJwt 재사용)
  *   <li>JWT 만료 검증 (Domain VO)
+ *   <li>검증 성공 결과를 Verified Token Cache에 저장 (토큰 exp까지 유지)
  *   <li>Domain VO → Response 변환 (Assembler)
  * </ol>
  *
@@ -45,15 +50,18 @@ public class ValidateJwtService implements ValidateJwtUseCase {
     private final JwtValidator jwtValidator;
     private final GetPublicKeyService getPublicKeyService;
     private final JwtAssembler jwtAssembler;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /** 생성자 (Lombok 금지) */
     public ValidateJwtService(
             JwtValidator jwtValidator,
             GetPublicKeyService getPublicKeyService,
-            JwtAssembler jwtAssembler) {
+            JwtAssembler jwtAssembler,
+            VerifiedTokenCache verifiedTokenCache) {
         this.jwtValidator = jwtValidator;
         this.getPublicKeyService = getPublicKeyService;
         this.jwtAssembler = jwtAssembler;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
@@ -64,7 +72,13 @@ public class ValidateJwtService implements ValidateJwtUseCase {
      */
     @Override
     public Mono<ValidateJwtResponse> execute(ValidateJwtCommand command) {
-        return Mono.fromCallable(() -> jwtAssembler.toAccessToken(command))
+        JwtClaims cachedClaims =
+                command != null ? verifiedTokenCache.find(command.accessToken()) : null;
+        if (cachedClaims != null) {
+            return Mono.just(jwtAssembler.toValidateJwtResponse(cachedClaims));
+        }
+
+        return Mono.fromCallable(() -> jwtAssembler.toParsedJwt(command))
                 .flatMap(this::validateJwt)
                 .onErrorResume(
                         this::isJwtValidationException,
@@ -81,32 +95,29 @@ public class ValidateJwtService implements ValidateJwtUseCase {
         return e instanceof DomainException || e instanceof IllegalStateException;
     }
 
-    private Mono<ValidateJwtResponse> validateJwt(AccessToken accessToken) {
+    private Mono<ValidateJwtResponse> validateJwt(ParsedJwt parsedJwt) {
+        AccessToken accessToken = parsedJwt.toAccessToken();
+        long cacheGeneration = verifiedTokenCache.generation();
         return getPublicKeyService
                 .getPublicKey(accessToken.kid())
+                .flatMap(publicKey -> jwtValidator.verifySignature(parsedJwt, publicKey))
                 .flatMap(
-                        publicKey ->
-                                jwtValidator
-                                        .verifySignature(accessToken.value(), publicKey)
-                                        .flatMap(
-                                                isValid -> {
-                                                    if (!isValid) {
-                                                        return Mono.just(
-                                                                jwtAssembler
-                                                                        .toFailedValidateJwtResponse());
-                                                    }
-                                                    return jwtValidator
-                                                            .extractClaims(accessToken.value())
-                                                            .map(
-                                                                    claims -> {
-                                                                        if (claims.isExpired()) {
-                                                                            return jwtAssembler
-                                                                                    .toFailedValidateJwtResponse();
-                                                                        }
-                                                                        return jwtAssembler
-                                                                                .toValidateJwtResponse(
-                                                                                        claims);
-                                                                    });
-                                                }));
+                        isValid -> {
+                            if (!isValid) {
+                                return Mono.just(jwtAssembler.toFailedValidateJwtResponse());
+                            }
+                            return jwtValidator
+                                    .extractClaims(parsedJwt)
+                                    .map(claims -> toResponse(parsedJwt, claims, cacheGeneration));
+                        });
+    }
+
+    private ValidateJwtResponse toResponse(
+            ParsedJwt parsedJwt, JwtClaims claims, long cacheGeneration) {
+        if (claims.isExpired()) {
+            return jwtAssembler.toFailedValidateJwtResponse();
+        }
+        verifiedTokenCache.put(parsedJwt.value(), parsedJwt.kid(), claims, cacheGeneration);
+        return jwtAssembler.toValidateJwtResponse(claims);
     }
 }
@@ -0,0 +1,46 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.JwtVerificationStatsResponse;
+import com.ryuqq.gateway.application.authentication.port.in.query.GetJwtVerificationStatsUseCase;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerificationExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Get JWT Verification Stats Service
+ *
+ * <p>JWT 서명 검증 실행 통계 조회 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>JwtVerificationExecutor 누적값을 Response로 변환
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetJwtVerificationStatsService implements GetJwtVerificationStatsUseCase {
+
+    private final JwtVerificationExecutor jwtVerificationExecutor;
+
+    public GetJwtVerificationStatsService(JwtVerificationExecutor jwtVerificationExecutor) {
+        this.jwtVerificationExecutor = jwtVerificationExecutor;
+    }
+
+    /**
+     * JWT 서명 검증 실행 통계 조회
+     *
+     * @return JwtVerificationStatsResponse
+     */
+    @Override
+    public JwtVerificationStatsResponse execute() {
+        return new JwtVerificationStatsResponse(
+                jwtVerificationExecutor.mode().name(),
+                jwtVerificationExecutor.executionCount(),
+                jwtVerificationExecutor.totalExecutionNanos(),
+                jwtVerificationExecutor.totalQueueWaitNanos(),
+                jwtVerificationExecutor.queueDepth(),
+                jwtVerificationExecutor.callerRunCount());
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.PublicKeyCacheStatsResponse;
+import com.ryuqq.gateway.application.authentication.internal.PublicKeyCacheCoordinator;
+import com.ryuqq.gateway.application.authentication.port.in.query.GetPublicKeyCacheStatsUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * Get Public Key Cache Stats Service
+ *
+ * <p>Public Key Cache 통계 조회 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>PublicKeyCacheCoordinator에 통계 조회 위임
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetPublicKeyCacheStatsService implements GetPublicKeyCacheStatsUseCase {
+
+    private final PublicKeyCacheCoordinator publicKeyCacheCoordinator;
+
+    public GetPublicKeyCacheStatsService(PublicKeyCacheCoordinator publicKeyCacheCoordinator) {
+        this.publicKeyCacheCoordinator = publicKeyCacheCoordinator;
+    }
+
+    /**
+     * Public Key Cache 통계 조회
+     *
+     * @return PublicKeyCacheStatsResponse
+     */
+    @Override
+    public PublicKeyCacheStatsResponse execute() {
+        return publicKeyCacheCoordinator.stats();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import com.ryuqq.gateway.application.authentication.dto.response.VerifiedTokenCacheStatsResponse;
+import com.ryuqq.gateway.application.authentication.port.in.query.GetVerifiedTokenCacheStatsUseCase;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * Get Verified Token Cache Stats Service
+ *
+ * <p>Verified Token Cache 통계 조회 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>VerifiedTokenCache 누적값을 Response로 변환
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetVerifiedTokenCacheStatsService implements GetVerifiedTokenCacheStatsUseCase {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public GetVerifiedTokenCacheStatsService(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Verified Token Cache 통계 조회
+     *
+     * @return VerifiedTokenCacheStatsResponse
+     */
+    @Override
+    public VerifiedTokenCacheStatsResponse execute() {
+        return new VerifiedTokenCacheStatsResponse(
+                verifiedTokenCache.hitCount(),
+                verifiedTokenCache.missCount(),
+                verifiedTokenCache.invalidationCount(),
+                verifiedTokenCache.size());
+    }
+}
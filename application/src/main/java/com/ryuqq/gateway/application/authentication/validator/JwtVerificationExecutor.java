@@ -0,0 +1,170 @@
+package com.ryuqq.gateway.application.authentication.validator;
+
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties;
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties.Mode;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JWT Verification Executor
+ *
+ * <p>JWT 서명 검증처럼 CPU만 사용하는 작업을 설정된 방식으로 실행합니다.
+ *
+ * <p><strong>실행 방식</strong>:
+ *
+ * <ul>
+ *   <li>INLINE: 호출 Thread(Event Loop)에서 즉시 실행 - Thread 전환 비용 없음
+ *   <li>PARALLEL: CPU 코어 수 크기의 전용 Parallel Scheduler에서 실행 - Event Loop 점유 없음
+ * </ul>
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Blocking I/O용 boundedElastic 대신 CPU 작업용 Parallel Scheduler 사용
+ *   <li>PARALLEL 모드 대기 작업이 maxQueueSize를 넘으면 호출 Thread에서 직접 실행 (Caller-Runs, 무한 대기열 방지)
+ *   <li>대기열 깊이, 대기 시간, 실행 시간을 누적하여 메트릭으로 노출 (모드 선택 근거)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class JwtVerificationExecutor implements DisposableBean {
+
+    private final Mode mode;
+    private final int maxQueueSize;
+    private final Scheduler scheduler;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    public JwtVerificationExecutor(JwtVerificationProperties properties) {
+        this.mode = properties.getMode();
+        this.maxQueueSize = properties.getMaxQueueSize();
+        this.scheduler =
+                mode == Mode.PARALLEL
+                        ? Schedulers.newParallel(
+                                "jwt-verification", properties.resolveParallelism(), true)
+                        : null;
+    }
+
+    /**
+     * CPU 작업 실행
+     *
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return Mono&lt;T&gt; 작업 결과
+     */
+    public <T> Mono<T> execute(Callable<T> task) {
+        if (scheduler == null) {
+            return Mono.fromCallable(() -> timed(task));
+        }
+
+        return Mono.defer(
+                () -> {
+                    if (queueDepth.incrementAndGet() > maxQueueSize) {
+                        queueDepth.decrementAndGet();
+                        callerRuns.increment();
+                        return Mono.fromCallable(() -> timed(task));
+                    }
+
+                    long enqueuedAt = System.nanoTime();
+                    AtomicBoolean dequeued = new AtomicBoolean();
+                    Runnable dequeue =
+                            () -> {
+                                if (dequeued.compareAndSet(false, true)) {
+                                    queueDepth.decrementAndGet();
+                                }
+                            };
+                    return Mono.fromCallable(
+                                    () -> {
+                                        dequeue.run();
+                                        queueWaitNanos.add(System.nanoTime() - enqueuedAt);
+                                        return timed(task);
+                                    })
+                            .subscribeOn(scheduler)
+                            .doFinally(signal -> dequeue.run());
+                });
+    }
+
+    /**
+     * 실행 방식
+     *
+     * @return INLINE 또는 PARALLEL
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * 현재 대기 작업 수 (PARALLEL 모드)
+     *
+     * @return 대기 작업 수
+     */
+    public int queueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * 누적 실행 횟수
+     *
+     * @return 실행 횟수
+     */
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * 누적 실행 시간
+     *
+     * @return 실행 시간 합계 (나노초)
+     */
+    public long totalExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    /**
+     * 누적 대기 시간 (PARALLEL 모드)
+     *
+     * @return 대기 시간 합계 (나노초)
+     */
+    public long totalQueueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    /**
+     * 대기열 초과로 호출 Thread에서 실행한 횟수
+     *
+     * @return Caller-Runs 횟수
+     */
+    public long callerRunCount() {
+        return callerRuns.sum();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    private <T> T timed(Callable<T> task) throws Exception {
+        long startedAt = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            executionNanos.add(System.nanoTime() - startedAt);
+            executions.increment();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.ryuqq.gateway.application.authentication.validator;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT Verifier Key Ring
+ *
+ * <p>kid별로 생성 완료된 RSAPublicKey와 JWSVerifier를 보관하는 In-Process Key Ring
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>RSAPublicKey 생성(BigInteger 디코딩, KeyFactory 조회)과 RSASSAVerifier 생성은 kid당 한 번만 수행
+ *   <li>같은 kid라도 PublicKey 값이 바뀌면 (Key Rotation) Verifier를 다시 생성
+ *   <li>{@link #replaceAll(Collection)}으로 JWKS 전체 갱신 시 사라진 kid는 제거하고, 제거/교체된 kid를 반환
+ *   <li>RSASSAVerifier는 Thread-Safe하므로 요청 간 공유
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class JwtVerifierKeyRing {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * PublicKey에 해당하는 Verifier 조회 (없으면 생성 후 등록)
+     *
+     * @param publicKey PublicKey
+     * @return JWSVerifier
+     * @throws IllegalStateException RSA Public Key 생성 실패 시
+     */
+    public JWSVerifier verifierFor(PublicKey publicKey) {
+        Entry entry = entries.get(publicKey.kid());
+        if (entry != null && entry.publicKey().equals(publicKey)) {
+            return entry.verifier();
+        }
+        return entries.compute(
+                        publicKey.kid(),
+                        (kid, current) ->
+                                current != null && current.publicKey().equals(publicKey)
+                                        ? current
+                                        : Entry.from(publicKey))
+                .verifier();
+    }
+
+    /**
+     * JWKS 전체 갱신 반영
+     *
+     * <p>새 kid 또는 값이 바뀐 kid는 Verifier를 미리 생성하고, 목록에 없는 kid는 제거합니다. 생성에 실패한 키는 건너뛰고 첫 검증
+     * 시점에 다시 시도합니다.
+     *
+     * @param publicKeys 최신 Public Key 목록
+     * @return 제거되었거나 키 값이 바뀐 kid 목록 (해당 kid로 검증된 결과는 더 이상 신뢰할 수 없음)
+     */
+    public Set<String> replaceAll(Collection<PublicKey> publicKeys) {
+        Set<String> activeKids =
+                publicKeys.stream().map(PublicKey::kid).collect(Collectors.toSet());
+        Set<String> invalidatedKids = new HashSet<>();
+
+        for (PublicKey publicKey : publicKeys) {
+            Entry current = entries.get(publicKey.kid());
+            if (current != null && !current.publicKey().equals(publicKey)) {
+                invalidatedKids.add(publicKey.kid());
+            }
+            try {
+                verifierFor(publicKey);
+            } catch (RuntimeException e) {
+                entries.remove(publicKey.kid());
+            }
+        }
+
+        Set<String> removedKids =
+                entries.keySet().stream()
+                        .filter(kid -> !activeKids.contains(kid))
+                        .collect(Collectors.toSet());
+        removedKids.forEach(entries::remove);
+        invalidatedKids.addAll(removedKids);
+        return invalidatedKids;
+    }
+
+    /**
+     * 등록된 kid 목록
+     *
+     * @return kid 목록 (불변)
+     */
+    public Set<String> kids() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    private record Entry(PublicKey publicKey, JWSVerifier verifier) {
+
+        static Entry from(PublicKey publicKey) {
+            return new Entry(publicKey, new RSASSAVerifier(publicKey.toRSAPublicKey()));
+        }
+    }
+}
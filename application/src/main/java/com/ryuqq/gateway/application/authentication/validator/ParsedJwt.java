@@ -0,0 +1,199 @@
+package com.ryuqq.gateway.application.authentication.validator;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.ryuqq.gateway.domain.authentication.exception.JwtInvalidException;
+import com.ryuqq.gateway.domain.authentication.vo.AccessToken;
+import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
+import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 파싱된 JWT
+ *
+ * <p>요청당 한 번만 JWT를 파싱하여 Filter Chain 전체에서 재사용하기 위한 객체입니다.
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Header/Payload의 Base64 디코딩과 JSON 파싱은 {@link #parse(String)} 시점에 한 번만 수행
+ *   <li>nimbus-jose-jwt 타입은 외부에 노출하지 않음 (서명 검증은 {@link JwtValidator}만 수행)
+ *   <li>kid는 nullable (Token Refresh는 kid 없이도 동작, 서명 검증 시점에 검증)
+ *   <li>불변 객체 (서명 검증 결과는 보관하지 않음)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class ParsedJwt {
+
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String TENANT_ID_CLAIM = "tenantId";
+
+    private final String value;
+    private final String kid;
+    private final SignedJWT signedJwt;
+    private final JWTClaimsSet claimsSet;
+
+    private ParsedJwt(String value, SignedJWT signedJwt, JWTClaimsSet claimsSet) {
+        this.value = value;
+        this.kid = signedJwt.getHeader().getKeyID();
+        this.signedJwt = signedJwt;
+        this.claimsSet = claimsSet;
+    }
+
+    /**
+     * JWT 문자열 파싱
+     *
+     * <p>Header, Payload를 한 번에 디코딩합니다. 서명은 검증하지 않습니다.
+     *
+     * @param token JWT 문자열
+     * @return ParsedJwt
+     * @throws JwtInvalidException JWT 형식 또는 Payload가 유효하지 않은 경우
+     */
+    public static ParsedJwt parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new JwtInvalidException("Access token cannot be null or blank");
+        }
+
+        SignedJWT signedJwt;
+        try {
+            signedJwt = SignedJWT.parse(token);
+        } catch (ParseException e) {
+            throw new JwtInvalidException("Invalid JWT format: " + e.getMessage());
+        }
+
+        try {
+            return new ParsedJwt(token, signedJwt, signedJwt.getJWTClaimsSet());
+        } catch (ParseException e) {
+            throw new JwtInvalidException("Failed to parse JWT claims: " + e.getMessage());
+        }
+    }
+
+    /**
+     * JWT 원본 문자열
+     *
+     * @return JWT 문자열
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * JWT Header의 Key ID
+     *
+     * @return kid (없으면 null)
+     */
+    public String kid() {
+        return kid;
+    }
+
+    /**
+     * 동일한 JWT 문자열에서 파싱된 것인지 확인
+     *
+     * @param token 비교할 JWT 문자열
+     * @return 동일하면 true
+     */
+    public boolean isParsedFrom(String token) {
+        return value.equals(token);
+    }
+
+    /**
+     * AccessToken VO 변환
+     *
+     * @return AccessToken
+     * @throws JwtInvalidException kid가 없는 경우
+     */
+    public AccessToken toAccessToken() {
+        return new AccessToken(value, kid);
+    }
+
+    /**
+     * JwtClaims VO 변환
+     *
+     * <p>AuthHub JWT claim 이름: tid, oid, permission_hash, mfa_verified (snake_case)
+     *
+     * @return JwtClaims
+     * @throws ParseException claim 타입이 올바르지 않은 경우
+     * @throws IllegalArgumentException 필수 claim이 누락된 경우
+     */
+    public JwtClaims toJwtClaims() throws ParseException {
+        List<String> roles = claimsSet.getStringListClaim("roles");
+        List<String> permissions = claimsSet.getStringListClaim("permissions");
+        Boolean mfaVerifiedClaim = claimsSet.getBooleanClaim("mfa_verified");
+
+        return JwtClaims.of(
+                claimsSet.getSubject(),
+                claimsSet.getIssuer(),
+                toInstant(claimsSet.getExpirationTime()),
+                toInstant(claimsSet.getIssueTime()),
+                roles != null ? roles : List.of(),
+                permissions != null ? permissions : List.of(),
+                claimsSet.getStringClaim("tid"),
+                claimsSet.getStringClaim("oid"),
+                claimsSet.getStringClaim("permission_hash"),
+                mfaVerifiedClaim != null && mfaVerifiedClaim);
+    }
+
+    /**
+     * Token Refresh용 정보 추출
+     *
+     * <p>exp claim이 없으면 만료된 것으로 처리합니다.
+     *
+     * @param now 현재 시각
+     * @return ExpiredTokenInfo (만료 여부, userId, tenantId, 만료 시각)
+     */
+    public ExpiredTokenInfo toExpiredTokenInfo(Instant now) {
+        Date expirationTime = claimsSet.getExpirationTime();
+        boolean expired =
+                expirationTime == null
+                        || now.getEpochSecond() >= expirationTime.toInstant().getEpochSecond();
+        return ExpiredTokenInfo.of(
+                expired, extractUserId(), extractTenantId(), toInstant(expirationTime));
+    }
+
+    /**
+     * 서명 검증 (JwtValidator 전용)
+     *
+     * @param verifier JWS Verifier
+     * @return 서명이 유효하면 true
+     * @throws JOSEException 서명 검증 중 오류 발생 시
+     */
+    boolean verify(JWSVerifier verifier) throws JOSEException {
+        return signedJwt.verify(verifier);
+    }
+
+    private Long extractUserId() {
+        Object userId = claimsSet.getClaim(USER_ID_CLAIM);
+        if (userId instanceof Number number) {
+            return number.longValue();
+        }
+        if (userId instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private String extractTenantId() {
+        Object tenantId = claimsSet.getClaim(TENANT_ID_CLAIM);
+        return tenantId != null ? String.valueOf(tenantId) : null;
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedJwt{kid='" + kid + "'}";
+    }
+}
@@ -0,0 +1,202 @@
+package com.ryuqq.gateway.application.authentication.validator;
+
+import com.ryuqq.gateway.application.authentication.config.VerifiedTokenCacheProperties;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Verified Token Cache
+ *
+ * <p>서명 검증과 Claims 추출이 끝난 Access Token의 결과를 보관하는 In-Process Cache
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Key는 토큰 원문이 아닌 SHA-256 Digest (메모리에 토큰 원문을 남기지 않음)
+ *   <li>Entry는 토큰의 exp 시각에 만료 (만료된 Entry는 조회 시 제거)
+ *   <li>서명 kid가 Key Ring에서 제거되거나 교체되면 해당 kid의 Entry를 모두 무효화
+ *   <li>무효화마다 세대(Generation)를 올리고, 검증 시작 시점의 세대가 저장 시점과 다르면 저장하지 않음 (무효화 이전에
+ *       조회한 키로 검증한 결과가 무효화 이후에 다시 저장되는 것을 방지)
+ *   <li>최대 크기 도달 시 만료 Entry를 정리하고, 그래도 가득 차면 전체를 비움 (Insert 비용 상각)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final VerifiedTokenCacheProperties properties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /** kid 무효화 세대 (무효화마다 증가) */
+    private final AtomicLong generation = new AtomicLong();
+
+    public VerifiedTokenCache(VerifiedTokenCacheProperties properties, TimeProvider timeProvider) {
+        this.properties = properties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 검증된 Claims 조회
+     *
+     * @param accessToken JWT Access Token
+     * @return 만료 전 검증된 Claims (없으면 null)
+     */
+    public JwtClaims find(String accessToken) {
+        if (!properties.isEnabled() || accessToken == null) {
+            return null;
+        }
+
+        String digest = digest(accessToken);
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (!timeProvider.now().isBefore(entry.claims().expiresAt())) {
+            entries.remove(digest, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims();
+    }
+
+    /**
+     * 현재 무효화 세대
+     *
+     * <p>검증을 시작하기 전 (Public Key 조회 전)에 읽어 {@link #put}에 전달합니다.
+     *
+     * @return 무효화 세대
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 검증된 Claims 저장
+     *
+     * <p>검증 도중 kid 무효화가 일어났으면 (세대가 바뀌었으면) 저장하지 않습니다. 저장 직후에도 세대를 다시 확인하여, 저장과
+     * 무효화가 동시에 일어나도 무효화 이후에 Entry가 남지 않습니다.
+     *
+     * @param accessToken JWT Access Token
+     * @param kid 서명 Key ID
+     * @param claims 검증된 Claims
+     * @param verifiedGeneration 검증 시작 시점의 무효화 세대 ({@link #generation()})
+     */
+    public void put(String accessToken, String kid, JwtClaims claims, long verifiedGeneration) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Instant now = timeProvider.now();
+        if (!now.isBefore(claims.expiresAt())) {
+            return;
+        }
+        if (entries.size() >= properties.getMaxSize()) {
+            entries.values().removeIf(entry -> !now.isBefore(entry.claims().expiresAt()));
+            if (entries.size() >= properties.getMaxSize()) {
+                entries.clear();
+            }
+        }
+        if (generation.get() != verifiedGeneration) {
+            return;
+        }
+        String digest = digest(accessToken);
+        Entry entry = new Entry(kid, claims);
+        entries.put(digest, entry);
+        if (generation.get() != verifiedGeneration) {
+            entries.remove(digest, entry);
+        }
+    }
+
+    /**
+     * 지정한 kid로 서명된 Entry 무효화
+     *
+     * @param kids 제거되거나 교체된 kid 목록
+     */
+    public void invalidateKids(Collection<String> kids) {
+        if (kids.isEmpty()) {
+            return;
+        }
+        Set<String> targets = Set.copyOf(kids);
+        generation.incrementAndGet();
+        entries.values()
+                .removeIf(
+                        entry -> {
+                            boolean matched = targets.contains(entry.kid());
+                            if (matched) {
+                                invalidations.increment();
+                            }
+                            return matched;
+                        });
+    }
+
+    /**
+     * Cache Hit 횟수
+     *
+     * @return 누적 Hit 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Cache Miss 횟수
+     *
+     * @return 누적 Miss 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * kid 무효화로 제거된 Entry 수
+     *
+     * @return 누적 무효화 Entry 수
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * 현재 Entry 수
+     *
+     * @return Entry 수 (만료 Entry 포함)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static String digest(String accessToken) {
+        try {
+            byte[] hash =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(accessToken.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record Entry(String kid, JwtClaims claims) {}
+}
@@ -0,0 +1,71 @@
+package com.ryuqq.gateway.application.authorization.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Permission Hash Local Cache Configuration Properties
+ *
+ * <p>노드 로컬 Permission Hash 저장소 설정 (gateway.permission-hash.local-cache.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   permission-hash:
+ *     local-cache:
+ *       enabled: true
+ *       max-hashes: 10000
+ *       max-users: 100000
+ *       user-binding-ttl-seconds: 30
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.permission-hash.local-cache")
+public class PermissionHashCacheProperties {
+
+    /** 노드 로컬 저장소 활성화 여부 (기본값: true) */
+    private boolean enabled = true;
+
+    /** Hash 값별 PermissionHash 최대 보관 수 (기본값: 10000) */
+    private int maxHashes = 10_000;
+
+    /** (Tenant, User) → Hash 연결 최대 보관 수 (기본값: 100000) */
+    private int maxUsers = 100_000;
+
+    /** (Tenant, User) → Hash 연결 유지 시간(초) - 지나면 Redis/AuthHub에서 다시 확인 (기본값: 30) */
+    private long userBindingTtlSeconds = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxHashes() {
+        return maxHashes;
+    }
+
+    public void setMaxHashes(int maxHashes) {
+        this.maxHashes = maxHashes;
+    }
+
+    public int getMaxUsers() {
+        return maxUsers;
+    }
+
+    public void setMaxUsers(int maxUsers) {
+        this.maxUsers = maxUsers;
+    }
+
+    public long getUserBindingTtlSeconds() {
+        return userBindingTtlSeconds;
+    }
+
+    public void setUserBindingTtlSeconds(long userBindingTtlSeconds) {
+        this.userBindingTtlSeconds = userBindingTtlSeconds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.gateway.application.authorization.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Permission Spec Snapshot Configuration Properties
+ *
+ * <p>노드 로컬 Permission Spec Snapshot 동기화 설정 (gateway.permission-spec.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   permission-spec:
+ *     sync-interval-ms: 1000
+ *     max-age-seconds: 30
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.permission-spec")
+public class PermissionSpecProperties {
+
+    /** 공유 Spec 버전 확인 주기(ms) - 다른 노드가 받은 Webhook 반영 지연 상한 (기본값: 1000) */
+    private long syncIntervalMs = 1000;
+
+    /**
+     * Snapshot 최대 유지 시간(초) - Webhook 유실에 대비해 이 시간이 지나면 AuthHub에서 다시 조회 (기본값: 30)
+     *
+     * <p>Webhook이 유실되었을 때 변경된 권한이 반영되지 않는 최대 시간입니다. Snapshot 도입 전 Redis Spec Cache TTL(30초)과
+     * 같게 유지하여 유실 시 노출 구간이 늘어나지 않도록 합니다.
+     */
+    private long maxAgeSeconds = 30;
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public long getMaxAgeSeconds() {
+        return maxAgeSeconds;
+    }
+
+    public void setMaxAgeSeconds(long maxAgeSeconds) {
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ryuqq.gateway.application.authorization.dto.query;
+
+/**
+ * FindEndpointTemplateQuery - 요청 경로의 엔드포인트 템플릿 조회 Query
+ *
+ * @param requestPath 요청 경로
+ * @param requestMethod HTTP 메서드
+ * @author development-team
+ * @since 1.0.0
+ */
+public record FindEndpointTemplateQuery(String requestPath, String requestMethod) {}
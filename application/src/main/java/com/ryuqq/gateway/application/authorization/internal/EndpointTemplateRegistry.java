@@ -0,0 +1,52 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import com.ryuqq.gateway.domain.authorization.vo.EndpointPermission;
+import com.ryuqq.gateway.domain.authorization.vo.HttpMethod;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Template Registry
+ *
+ * <p>마지막으로 조회된 Permission Spec을 노드 로컬에 보관하고, 요청 경로를 EndpointPermission의 경로 템플릿
+ * (예: {@code /api/v1/orders/{orderId}})으로 변환합니다. Rate Limit Key 정규화 등 I/O 없이 템플릿이 필요한 곳에서
+ * 사용합니다.
+ *
+ * <p>Permission Spec은 {@link PermissionSpecCoordinator}가 Snapshot을 교체할 때마다 갱신되며, 아직 조회된 적이 없으면
+ * 모든 경로가 매칭되지 않은 것으로 처리됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class EndpointTemplateRegistry {
+
+    private volatile PermissionSpec permissionSpec;
+
+    /**
+     * Permission Spec 갱신
+     *
+     * @param spec 조회된 Permission Spec
+     */
+    public void update(PermissionSpec spec) {
+        if (spec != null && spec != permissionSpec) {
+            permissionSpec = spec;
+        }
+    }
+
+    /**
+     * 요청 경로의 템플릿 조회
+     *
+     * @param requestPath 요청 경로
+     * @param method HTTP 메서드
+     * @return 매칭되는 EndpointPermission의 경로 템플릿 (없으면 empty)
+     */
+    public Optional<String> findTemplate(String requestPath, HttpMethod method) {
+        PermissionSpec spec = permissionSpec;
+        if (spec == null) {
+            return Optional.empty();
+        }
+        return spec.findPermission(requestPath, method).map(EndpointPermission::path);
+    }
+}
@@ -12,20 +12,24 @@ import reactor.core.publisher.Mono;
 /**
  * Permission Hash Coordinator (Reactive)
  *
- * <p>2-Tier 캐시 전략을 조율하는 Coordinator: JWT Payload → Redis → AuthHub
+ * <p>3-Tier 캐시 전략을 조율하는 Coordinator: JWT Payload → 노드 로컬 → Redis → AuthHub
  *
  * <p><strong>Cache 전략</strong>:
  *
  * <ol>
+ *   <li>PermissionHashStore에서 사용자에게 연결된 Hash가 JWT permissionHash와 같으면 I/O 없이 반환
  *   <li>PermissionHashQueryManager로 Redis Cache 조회
  *   <li>Cache Hit 시 JWT permissionHash와 비교하여 유효성 검증
  *   <li>Cache Miss 또는 Hash 불일치 시 PermissionClientManager로 AuthHub API 호출
  *   <li>조회된 Permission Hash를 PermissionHashCommandManager로 Redis에 저장
+ *   <li>Redis/AuthHub에서 얻은 Permission Hash는 PermissionHashStore에 Hash 값 기준으로 보관 (같은 Hash의 사용자는
+ *       하나의 객체를 공유)
  * </ol>
  *
  * <p><strong>의존성</strong>:
  *
  * <ul>
+ *   <li>PermissionHashStore - 노드 로컬 Hash 저장소
  *   <li>PermissionHashQueryManager - Redis Cache 조회
  *   <li>PermissionClientManager - AuthHub API 호출 (Cache Miss Fallback)
  *   <li>PermissionHashCommandManager - Redis Cache 저장
@@ -42,22 +46,27 @@ public class PermissionHashCoordinator {
     private final PermissionHashQueryManager permissionHashQueryManager;
     private final PermissionClientManager permissionClientManager;
     private final PermissionHashCommandManager permissionHashCommandManager;
+    private final PermissionHashStore permissionHashStore;
 
     public PermissionHashCoordinator(
             PermissionHashQueryManager permissionHashQueryManager,
             PermissionClientManager permissionClientManager,
-            PermissionHashCommandManager permissionHashCommandManager) {
+            PermissionHashCommandManager permissionHashCommandManager,
+            PermissionHashStore permissionHashStore) {
         this.permissionHashQueryManager = permissionHashQueryManager;
         this.permissionClientManager = permissionClientManager;
         this.permissionHashCommandManager = permissionHashCommandManager;
+        this.permissionHashStore = permissionHashStore;
     }
 
     /**
-     * Permission Hash 조회 (2-Tier Cache 전략)
+     * Permission Hash 조회 (3-Tier Cache 전략)
      *
-     * <p>1. JWT Payload의 permissionHash로 Redis 캐시 검증
+     * <p>1. JWT Payload의 permissionHash로 노드 로컬 저장소 검증
      *
-     * <p>2. Redis 캐시 없으면 AuthHub에서 조회 후 캐시
+     * <p>2. 로컬에 없으면 Redis 캐시 검증
+     *
+     * <p>3. Redis 캐시 없으면 AuthHub에서 조회 후 캐시
      *
      * @param tenantId 테넌트 ID
      * @param userId 사용자 ID
@@ -67,6 +76,11 @@ public class PermissionHashCoordinator {
     public Mono<PermissionHash> findByTenantAndUser(
             String tenantId, String userId, String jwtPermissionHash) {
 
+        PermissionHash local = permissionHashStore.find(tenantId, userId, jwtPermissionHash);
+        if (local != null) {
+            return Mono.just(local);
+        }
+
         return permissionHashQueryManager
                 .findByTenantAndUser(tenantId, userId)
                 .flatMap(cached -> validateAndReturn(cached, jwtPermissionHash, tenantId, userId))
@@ -90,7 +104,7 @@ public class PermissionHashCoordinator {
                     "Permission hash validated from cache: tenantId={}, userId={}",
                     tenantId,
                     userId);
-            return Mono.just(cached);
+            return Mono.just(permissionHashStore.put(tenantId, userId, cached));
         }
 
         log.info("Permission hash mismatch, refetching: tenantId={}, userId={}", tenantId, userId);
@@ -116,7 +130,11 @@ public class PermissionHashCoordinator {
                         hash ->
                                 permissionHashCommandManager
                                         .save(tenantId, userId, hash)
-                                        .thenReturn(hash)
+                                        .then(
+                                                Mono.fromSupplier(
+                                                        () ->
+                                                                permissionHashStore.put(
+                                                                        tenantId, userId, hash)))
                                         .doOnSuccess(
                                                 h ->
                                                         log.info(
@@ -0,0 +1,197 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import com.ryuqq.gateway.application.authorization.config.PermissionHashCacheProperties;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionHash;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Permission Hash Store
+ *
+ * <p>Hash 값을 Key로 PermissionHash를 보관하는 노드 로컬 저장소. 같은 역할의 사용자들은 같은 Hash를 가지므로 하나의 불변
+ * 객체를 공유합니다.
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Hash가 같으면 권한 집합도 같으므로 Hash별 Entry는 만료되지 않음 (Content-addressed)
+ *   <li>(Tenant, User) → Hash 연결은 Hash 문자열만 보관하며, 권한 변경 Webhook이 다른 노드에 도달한 경우를 위해 {@code
+ *       user-binding-ttl-seconds} 후 만료
+ *   <li>최대 크기 도달 시 만료 연결을 정리하고, 그래도 가득 차면 전체를 비움 (Insert 비용 상각)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PermissionHashStore {
+
+    private final PermissionHashCacheProperties properties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, PermissionHash> hashes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UserKey, UserBinding> bindings = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public PermissionHashStore(
+            PermissionHashCacheProperties properties, TimeProvider timeProvider) {
+        this.properties = properties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 사용자의 Permission Hash 조회
+     *
+     * <p>사용자에게 연결된 Hash가 JWT의 Hash와 같고, 그 Hash의 PermissionHash를 보관 중일 때만 반환합니다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID
+     * @param jwtPermissionHash JWT에 포함된 Permission Hash
+     * @return 보관 중인 PermissionHash (없으면 null)
+     */
+    public PermissionHash find(String tenantId, String userId, String jwtPermissionHash) {
+        if (!properties.isEnabled() || jwtPermissionHash == null) {
+            return null;
+        }
+
+        UserKey key = new UserKey(tenantId, userId);
+        UserBinding binding = bindings.get(key);
+        if (binding == null) {
+            misses.increment();
+            return null;
+        }
+        if (!timeProvider.now().isBefore(binding.expiresAt())) {
+            bindings.remove(key, binding);
+            misses.increment();
+            return null;
+        }
+        if (!binding.hash().equals(jwtPermissionHash)) {
+            misses.increment();
+            return null;
+        }
+        PermissionHash permissionHash = hashes.get(jwtPermissionHash);
+        if (permissionHash == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return permissionHash;
+    }
+
+    /**
+     * PermissionHash 보관 및 사용자 연결
+     *
+     * <p>같은 Hash의 PermissionHash를 이미 보관 중이면 새 객체 대신 보관 중인 객체를 반환합니다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID
+     * @param permissionHash Redis 또는 AuthHub에서 조회한 PermissionHash
+     * @return 공유되는 PermissionHash
+     */
+    public PermissionHash put(String tenantId, String userId, PermissionHash permissionHash) {
+        if (!properties.isEnabled()) {
+            return permissionHash;
+        }
+
+        PermissionHash interned = intern(permissionHash);
+        bind(tenantId, userId, interned.hash());
+        return interned;
+    }
+
+    /**
+     * 사용자 연결 제거 (권한 변경 Webhook 수신 시)
+     *
+     * <p>Hash별 PermissionHash는 내용이 바뀌지 않으므로 유지합니다.
+     *
+     * @param tenantId 테넌트 ID
+     * @param userId 사용자 ID
+     */
+    public void unbind(String tenantId, String userId) {
+        bindings.remove(new UserKey(tenantId, userId));
+    }
+
+    private PermissionHash intern(PermissionHash permissionHash) {
+        PermissionHash existing = hashes.get(permissionHash.hash());
+        if (existing != null) {
+            shared.increment();
+            return existing;
+        }
+        if (hashes.size() >= properties.getMaxHashes()) {
+            hashes.clear();
+        }
+        existing = hashes.putIfAbsent(permissionHash.hash(), permissionHash);
+        if (existing != null) {
+            shared.increment();
+            return existing;
+        }
+        return permissionHash;
+    }
+
+    private void bind(String tenantId, String userId, String hash) {
+        Instant now = timeProvider.now();
+        if (bindings.size() >= properties.getMaxUsers()) {
+            bindings.values().removeIf(binding -> !now.isBefore(binding.expiresAt()));
+            if (bindings.size() >= properties.getMaxUsers()) {
+                bindings.clear();
+            }
+        }
+        Instant expiresAt = now.plusSeconds(properties.getUserBindingTtlSeconds());
+        bindings.put(new UserKey(tenantId, userId), new UserBinding(hash, expiresAt));
+    }
+
+    /**
+     * 로컬 조회 Hit 횟수
+     *
+     * @return 누적 Hit 횟수
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 로컬 조회 Miss 횟수
+     *
+     * @return 누적 Miss 횟수
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 보관 중인 객체를 재사용한 횟수
+     *
+     * @return 누적 공유 횟수
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    /**
+     * 보관 중인 Hash 수
+     *
+     * @return Hash 수
+     */
+    public int hashCount() {
+        return hashes.size();
+    }
+
+    /**
+     * 사용자 연결 수
+     *
+     * @return 연결 수 (만료 연결 포함)
+     */
+    public int userCount() {
+        return bindings.size();
+    }
+
+    private record UserKey(String tenantId, String userId) {}
+
+    private record UserBinding(String hash, Instant expiresAt) {}
+}
@@ -1,9 +1,16 @@
 package com.ryuqq.gateway.application.authorization.internal;
 
+import com.ryuqq.gateway.application.authorization.config.PermissionSpecProperties;
 import com.ryuqq.gateway.application.authorization.manager.PermissionClientManager;
 import com.ryuqq.gateway.application.authorization.manager.PermissionSpecCommandManager;
 import com.ryuqq.gateway.application.authorization.manager.PermissionSpecQueryManager;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
 import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,22 +19,33 @@ import reactor.core.publisher.Mono;
 /**
  * Permission Spec Coordinator (Reactive)
  *
- * <p>Redis Cache + AuthHub Fallback 전략을 조율하는 Coordinator
+ * <p>노드 로컬 Permission Spec Snapshot과 AuthHub 조회, 노드 간 버전 공유를 조율하는 Coordinator
  *
- * <p><strong>Cache 전략</strong>:
+ * <p><strong>Snapshot 전략</strong>:
  *
  * <ol>
- *   <li>PermissionSpecQueryManager로 Redis Cache 조회
- *   <li>Cache Miss 시 PermissionClientManager로 AuthHub API 호출
- *   <li>조회된 Permission Spec을 PermissionSpecCommandManager로 Redis에 저장
+ *   <li>요청 경로는 불변 Snapshot만 조회 (Redis 조회, 역직렬화 없음)
+ *   <li>Snapshot이 없으면 (기동 직후) AuthHub에서 조회하여 적재
+ *   <li>Webhook 수신 노드는 AuthHub에서 최신 Spec을 조회해 Snapshot을 교체하고, Spec 버전을 Redis에 공유
+ *   <li>다른 노드는 {@link #syncWithSharedVersion()}으로 공유 버전을 확인하고, 자신의 Snapshot 버전과 다르면
+ *       AuthHub에서 다시 조회
  * </ol>
  *
+ * <p>Redis에는 Spec 버전만 저장합니다. Spec 버전은 AuthHub 버전 문자열의 Hash이므로 크기 비교 대신 일치 여부로 판단하며,
+ * Webhook 유실에 대비해 Snapshot이 {@code max-age-seconds}보다 오래되면 다시 조회합니다.
+ *
+ * <p><strong>조회 병합</strong>: 동시에 여러 요청이나 갱신이 AuthHub 조회를 시작해도 진행 중인 호출 하나를 공유합니다.
+ *
+ * <p><strong>Webhook 순서</strong>: Webhook 버전이 이미 받은 버전 이하이면 무시하고, 조회 중 더 새로운 Webhook이 도착하면
+ * 이전 조회 결과는 반영하지 않습니다. Webhook 이전에 시작된 전체 조회 결과도 Webhook 반영 내용을 덮어쓰지 않습니다.
+ *
  * <p><strong>의존성</strong>:
  *
  * <ul>
- *   <li>PermissionSpecQueryManager - Redis Cache 조회
- *   <li>PermissionClientManager - AuthHub API 호출 (Cache Miss Fallback)
- *   <li>PermissionSpecCommandManager - Redis Cache 저장
+ *   <li>PermissionSpecQueryManager - 공유 Spec 버전 조회
+ *   <li>PermissionClientManager - AuthHub API 호출
+ *   <li>PermissionSpecCommandManager - 공유 Spec 버전 저장
+ *   <li>EndpointTemplateRegistry - 교체된 Snapshot을 경로 템플릿 조회에 반영
  * </ul>
  *
  * @author development-team
@@ -41,55 +59,246 @@ public class PermissionSpecCoordinator {
     private final PermissionSpecQueryManager permissionSpecQueryManager;
     private final PermissionClientManager permissionClientManager;
     private final PermissionSpecCommandManager permissionSpecCommandManager;
+    private final EndpointTemplateRegistry endpointTemplateRegistry;
+    private final PermissionSpecProperties permissionSpecProperties;
+    private final TimeProvider timeProvider;
+
+    /** 현재 Snapshot (교체 방식으로만 갱신, 아직 적재 전이면 null) */
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /** 진행 중인 AuthHub 조회 (없으면 null) */
+    private final AtomicReference<Mono<PermissionSpec>> inFlightFetch = new AtomicReference<>();
+
+    /** 마지막으로 받은 Webhook 버전 (받은 적 없으면 Long.MIN_VALUE) */
+    private final AtomicLong lastWebhookVersion = new AtomicLong(Long.MIN_VALUE);
 
     public PermissionSpecCoordinator(
             PermissionSpecQueryManager permissionSpecQueryManager,
             PermissionClientManager permissionClientManager,
-            PermissionSpecCommandManager permissionSpecCommandManager) {
+            PermissionSpecCommandManager permissionSpecCommandManager,
+            EndpointTemplateRegistry endpointTemplateRegistry,
+            PermissionSpecProperties permissionSpecProperties,
+            TimeProvider timeProvider) {
         this.permissionSpecQueryManager = permissionSpecQueryManager;
         this.permissionClientManager = permissionClientManager;
         this.permissionSpecCommandManager = permissionSpecCommandManager;
+        this.endpointTemplateRegistry = endpointTemplateRegistry;
+        this.permissionSpecProperties = permissionSpecProperties;
+        this.timeProvider = timeProvider;
     }
 
     /**
-     * Permission Spec 조회 (Cache Hit/Miss 전략)
+     * Permission Spec 조회
      *
-     * <p>Redis Cache에서 먼저 조회하고, Cache Miss 시 AuthHub API를 호출합니다.
+     * <p>Snapshot이 있으면 I/O 없이 반환하고, 없으면 AuthHub에서 조회하여 적재합니다.
      *
      * @return Mono&lt;PermissionSpec&gt;
      */
     public Mono<PermissionSpec> findPermissionSpec() {
-        return permissionSpecQueryManager
-                .findPermissionSpec()
-                .doOnNext(spec -> log.debug("Permission spec found in cache"))
-                .switchIfEmpty(Mono.defer(this::fetchFromAuthHubAndCache));
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return Mono.just(current.spec());
+        }
+        return fetchFromAuthHub();
     }
 
     /**
-     * AuthHub에서 Permission Spec 조회 후 Redis에 캐싱
+     * AuthHub에서 최신 Permission Spec을 조회하여 Snapshot 교체 (Webhook 수신 시)
      *
-     * @return Mono&lt;PermissionSpec&gt;
+     * @return Mono&lt;PermissionSpec&gt; 교체된 Spec
+     */
+    public Mono<PermissionSpec> refresh() {
+        return fetchFromAuthHub();
+    }
+
+    /**
+     * AuthHub에서 최신 Spec을 조회하여 Snapshot 전체 교체 (Webhook 수신 시, 버전 순서 보장)
+     *
+     * <p>AuthHub SDK는 전체 Spec 조회만 제공하므로 조회한 Spec을 그대로 적용합니다. Webhook의 변경된 서비스 목록만 반영하면
+     * 유실된 이전 Webhook의 변경이 새 버전으로 표시된 채 남기 때문입니다. Spec 버전과 경로 템플릿 Index는 어차피 전체를
+     * 다시 만들므로 부분 교체로 아낄 비용도 없습니다.
+     *
+     * <p>진행 중인 조회를 공유하지 않습니다. Webhook 이전에 시작된 조회는 변경 전 Spec을 받을 수 있기 때문입니다.
+     *
+     * @param webhookVersion Webhook 버전 (null이면 순서 검사 생략)
+     * @return Mono&lt;PermissionSpec&gt; 교체된 Spec (오래된 Webhook이면 empty)
      */
-    private Mono<PermissionSpec> fetchFromAuthHubAndCache() {
-        log.info("Permission spec not found in cache, fetching from AuthHub");
+    public Mono<PermissionSpec> refreshForWebhook(Long webhookVersion) {
+        return Mono.defer(
+                () -> {
+                    if (!acceptWebhookVersion(webhookVersion)) {
+                        log.info(
+                                "Ignoring stale permission spec webhook: version={}, latest={}",
+                                webhookVersion,
+                                lastWebhookVersion.get());
+                        return Mono.empty();
+                    }
+
+                    return permissionClientManager
+                            .fetchPermissionSpec()
+                            .flatMap(
+                                    fetched -> {
+                                        if (isSuperseded(webhookVersion)) {
+                                            log.info(
+                                                    "Skipping superseded permission spec webhook:"
+                                                            + " version={}, latest={}",
+                                                    webhookVersion,
+                                                    lastWebhookVersion.get());
+                                            return Mono.empty();
+                                        }
+                                        return applySpec(fetched);
+                                    });
+                });
+    }
 
-        return permissionClientManager
-                .fetchPermissionSpec()
+    /**
+     * 공유 Spec 버전과 Snapshot 동기화 (주기적 호출)
+     *
+     * <ul>
+     *   <li>Snapshot이 없으면 적재
+     *   <li>공유 버전이 Snapshot 버전과 다르거나 Snapshot이 max-age보다 오래되었으면 다시 조회
+     *   <li>공유 버전이 없으면 (Redis 초기화 등) 현재 Snapshot 버전을 공유
+     * </ul>
+     *
+     * @return Mono&lt;Void&gt;
+     */
+    public Mono<Void> syncWithSharedVersion() {
+        return permissionSpecQueryManager
+                .findSharedVersion()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
                 .flatMap(
-                        spec ->
-                                permissionSpecCommandManager
-                                        .save(spec)
-                                        .thenReturn(spec)
-                                        .doOnSuccess(
-                                                s ->
-                                                        log.info(
-                                                                "Permission spec cached: {}"
-                                                                        + " endpoints",
-                                                                s.permissions().size())))
-                .doOnError(
-                        e ->
-                                log.error(
-                                        "Failed to fetch permission spec from AuthHub: {}",
-                                        e.getMessage()));
+                        sharedVersion -> {
+                            Snapshot current = snapshot.get();
+                            if (current == null
+                                    || isStale(current)
+                                    || sharedVersion
+                                            .filter(v -> !v.equals(current.spec().version()))
+                                            .isPresent()) {
+                                return fetchFromAuthHub().then();
+                            }
+                            if (sharedVersion.isEmpty()) {
+                                return permissionSpecCommandManager.saveSharedVersion(
+                                        current.spec().version());
+                            }
+                            return Mono.empty();
+                        });
+    }
+
+    private boolean acceptWebhookVersion(Long webhookVersion) {
+        if (webhookVersion == null) {
+            return true;
+        }
+        long latest = lastWebhookVersion.get();
+        while (webhookVersion > latest) {
+            if (lastWebhookVersion.compareAndSet(latest, webhookVersion)) {
+                return true;
+            }
+            latest = lastWebhookVersion.get();
+        }
+        return false;
+    }
+
+    private boolean isSuperseded(Long webhookVersion) {
+        return webhookVersion != null && lastWebhookVersion.get() != webhookVersion;
     }
+
+    private boolean isStale(Snapshot current) {
+        Duration maxAge = Duration.ofSeconds(permissionSpecProperties.getMaxAgeSeconds());
+        return !current.loadedAt().plus(maxAge).isAfter(timeProvider.now());
+    }
+
+    /**
+     * AuthHub Permission Spec 조회 (진행 중인 호출이 있으면 공유)
+     *
+     * <p>호출이 끝나면 (성공/실패 모두) 진행 중 상태를 해제하여 다음 조회가 새 호출을 시작할 수 있게 합니다.
+     *
+     * @return Mono&lt;PermissionSpec&gt; 최신 Spec
+     */
+    private Mono<PermissionSpec> fetchFromAuthHub() {
+        return Mono.defer(
+                () -> {
+                    Mono<PermissionSpec> inFlight = inFlightFetch.get();
+                    if (inFlight != null) {
+                        return inFlight;
+                    }
+
+                    long webhookVersionAtStart = lastWebhookVersion.get();
+                    Mono<PermissionSpec> fetch =
+                            permissionClientManager
+                                    .fetchPermissionSpec()
+                                    .flatMap(
+                                            spec ->
+                                                    applyUnlessWebhookArrived(
+                                                            spec, webhookVersionAtStart))
+                                    .doOnError(
+                                            e ->
+                                                    log.error(
+                                                            "Failed to fetch permission spec from"
+                                                                    + " AuthHub: {}",
+                                                            e.getMessage()))
+                                    .doFinally(signal -> inFlightFetch.set(null))
+                                    .cache();
+
+                    if (!inFlightFetch.compareAndSet(null, fetch)) {
+                        return fetchFromAuthHub();
+                    }
+                    return fetch;
+                });
+    }
+
+    /**
+     * 전체 조회 결과 반영 (조회 중 Webhook이 반영되었으면 현재 Snapshot 유지)
+     *
+     * @param spec AuthHub에서 조회한 Spec
+     * @param webhookVersionAtStart 조회 시작 시점의 Webhook 버전
+     * @return Mono&lt;PermissionSpec&gt; 반영된 Spec 또는 현재 Snapshot Spec
+     */
+    private Mono<PermissionSpec> applyUnlessWebhookArrived(
+            PermissionSpec spec, long webhookVersionAtStart) {
+        Snapshot current = snapshot.get();
+        if (current != null && lastWebhookVersion.get() != webhookVersionAtStart) {
+            return Mono.just(current.spec());
+        }
+        return applySpec(spec);
+    }
+
+    /**
+     * 조회한 Spec 반영 (Snapshot 교체 + 경로 템플릿 갱신 + 버전 공유)
+     *
+     * <p>버전 공유 실패는 Spec 조회 결과에 영향을 주지 않으며, 다음 동기화 주기에 다시 공유합니다.
+     *
+     * @param spec AuthHub에서 조회한 Spec
+     * @return Mono&lt;PermissionSpec&gt; 반영된 Spec
+     */
+    private Mono<PermissionSpec> applySpec(PermissionSpec spec) {
+        Snapshot previous = snapshot.getAndSet(new Snapshot(spec, timeProvider.now()));
+        endpointTemplateRegistry.update(spec);
+        if (previous == null || !previous.spec().version().equals(spec.version())) {
+            log.info(
+                    "Permission spec snapshot replaced: version={}, endpoints={}",
+                    spec.version(),
+                    spec.permissions().size());
+        }
+        return permissionSpecCommandManager
+                .saveSharedVersion(spec.version())
+                .onErrorResume(
+                        e -> {
+                            log.warn(
+                                    "Failed to share permission spec version: version={},"
+                                            + " error={}",
+                                    spec.version(),
+                                    e.getMessage());
+                            return Mono.empty();
+                        })
+                .thenReturn(spec);
+    }
+
+    /**
+     * 노드 로컬 Permission Spec Snapshot
+     *
+     * @param spec Permission Spec
+     * @param loadedAt AuthHub에서 조회한 시각
+     */
+    private record Snapshot(PermissionSpec spec, Instant loadedAt) {}
 }
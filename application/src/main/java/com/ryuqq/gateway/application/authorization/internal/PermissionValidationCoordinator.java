@@ -118,7 +118,7 @@ public class PermissionValidationCoordinator {
     private Mono<ValidatePermissionResponse> validatePermissions(
             EndpointPermission endpoint, PermissionHash permissionHash) {
 
-        boolean hasPermissions = permissionHash.hasAllPermissions(endpoint.requiredPermissions());
+        boolean hasPermissions = permissionHash.hasAllPermissions(endpoint.requiredPermissionSet());
         boolean hasRoles =
                 endpoint.requiredRoles().isEmpty()
                         || permissionHash.hasAnyRole(endpoint.requiredRoles());
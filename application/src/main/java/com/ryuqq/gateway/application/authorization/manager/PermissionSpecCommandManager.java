@@ -1,26 +1,24 @@
 package com.ryuqq.gateway.application.authorization.manager;
 
 import com.ryuqq.gateway.application.authorization.port.out.command.PermissionSpecCommandPort;
-import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 /**
  * Permission Spec Command Manager (Reactive)
  *
- * <p>Redis Cache에 Permission Spec을 저장하거나 삭제하는 Manager
+ * <p>노드가 받은 Permission Spec 버전을 다른 노드와 공유하는 Manager
  *
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>Redis Cache에 Permission Spec 저장
- *   <li>Redis Cache에서 Permission Spec 삭제 (캐시 무효화)
+ *   <li>Redis에 최신 Spec 버전 저장
  * </ul>
  *
  * <p><strong>의존성</strong>:
  *
  * <ul>
- *   <li>PermissionSpecCommandPort - Redis Cache 저장/삭제
+ *   <li>PermissionSpecCommandPort - Redis 저장
  * </ul>
  *
  * @author development-team
@@ -36,21 +34,12 @@ public class PermissionSpecCommandManager {
     }
 
     /**
-     * Permission Spec 저장 (Redis Cache)
+     * 공유 Permission Spec 버전 저장
      *
-     * @param permissionSpec 저장할 Permission Spec
+     * @param version 최신 Spec 버전
      * @return Mono&lt;Void&gt;
      */
-    public Mono<Void> save(PermissionSpec permissionSpec) {
-        return permissionSpecCommandPort.save(permissionSpec);
-    }
-
-    /**
-     * Permission Spec 캐시 무효화
-     *
-     * @return Mono&lt;Void&gt;
-     */
-    public Mono<Void> invalidate() {
-        return permissionSpecCommandPort.invalidate();
+    public Mono<Void> saveSharedVersion(Long version) {
+        return permissionSpecCommandPort.saveSharedVersion(version);
     }
 }
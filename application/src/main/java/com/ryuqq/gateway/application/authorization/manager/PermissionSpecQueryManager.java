@@ -1,27 +1,25 @@
 package com.ryuqq.gateway.application.authorization.manager;
 
 import com.ryuqq.gateway.application.authorization.port.out.query.PermissionSpecQueryPort;
-import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 /**
  * Permission Spec 조회 Manager (Reactive)
  *
- * <p>Redis Cache에서 Permission Spec을 조회하는 Manager
+ * <p>노드 간에 공유되는 Permission Spec 버전을 조회하는 Manager
  *
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>Redis Cache에서 Permission Spec 조회
- *   <li>Cache Hit 시 PermissionSpec 반환
- *   <li>Cache Miss 시 빈 Mono 반환
+ *   <li>Redis에서 공유 Spec 버전 조회
+ *   <li>공유된 버전이 없으면 빈 Mono 반환
  * </ul>
  *
  * <p><strong>의존성</strong>:
  *
  * <ul>
- *   <li>PermissionSpecQueryPort - Redis Cache 조회
+ *   <li>PermissionSpecQueryPort - Redis 조회
  * </ul>
  *
  * @author development-team
@@ -37,11 +35,11 @@ public class PermissionSpecQueryManager {
     }
 
     /**
-     * Permission Spec 조회 (Redis Cache)
+     * 공유 Permission Spec 버전 조회
      *
-     * @return Mono&lt;PermissionSpec&gt; (Cache Miss 시 빈 Mono)
+     * @return Mono&lt;Long&gt; (공유된 버전이 없으면 빈 Mono)
      */
-    public Mono<PermissionSpec> findPermissionSpec() {
-        return permissionSpecQueryPort.findPermissionSpec();
+    public Mono<Long> findSharedVersion() {
+        return permissionSpecQueryPort.findSharedVersion();
     }
 }
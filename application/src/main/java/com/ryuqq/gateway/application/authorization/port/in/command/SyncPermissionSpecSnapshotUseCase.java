@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.authorization.port.in.command;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sync Permission Spec Snapshot UseCase
+ *
+ * <p>노드 로컬 Permission Spec Snapshot을 노드 간 공유 버전과 맞추는 UseCase
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>기동 시 Snapshot 적재
+ *   <li>다른 노드가 받은 Webhook으로 변경된 Spec 반영
+ *   <li>오래된 Snapshot 재조회
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SyncPermissionSpecSnapshotUseCase {
+
+    /**
+     * 공유 버전과 Snapshot 동기화
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    Mono<Void> execute();
+}
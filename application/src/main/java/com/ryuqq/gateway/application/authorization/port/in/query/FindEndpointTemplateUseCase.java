@@ -0,0 +1,24 @@
+package com.ryuqq.gateway.application.authorization.port.in.query;
+
+import com.ryuqq.gateway.application.authorization.dto.query.FindEndpointTemplateQuery;
+import java.util.Optional;
+
+/**
+ * FindEndpointTemplateUseCase - 엔드포인트 템플릿 조회 UseCase
+ *
+ * <p>요청 경로를 Permission Spec의 경로 템플릿으로 변환합니다. 노드 로컬에 보관된 Permission Spec만 사용하므로 I/O가
+ * 없습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface FindEndpointTemplateUseCase {
+
+    /**
+     * 엔드포인트 템플릿 조회
+     *
+     * @param query 조회 요청
+     * @return 경로 템플릿 (매칭되는 엔드포인트가 없거나 지원하지 않는 메서드이면 empty)
+     */
+    Optional<String> execute(FindEndpointTemplateQuery query);
+}
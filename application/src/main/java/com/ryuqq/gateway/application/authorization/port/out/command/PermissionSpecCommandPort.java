@@ -1,12 +1,11 @@
 package com.ryuqq.gateway.application.authorization.port.out.command;
 
-import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
 import reactor.core.publisher.Mono;
 
 /**
- * PermissionSpecCommandPort - Permission Spec 저장/삭제 Port
+ * PermissionSpecCommandPort - 공유 Permission Spec 버전 저장 Port
  *
- * <p>Redis Cache에 Permission Spec을 저장/삭제하는 Port입니다.
+ * <p>노드가 AuthHub에서 받은 Permission Spec 버전을 다른 노드와 공유하는 Port입니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -14,17 +13,10 @@ import reactor.core.publisher.Mono;
 public interface PermissionSpecCommandPort {
 
     /**
-     * Permission Spec 저장 (Cache)
+     * 공유 Permission Spec 버전 저장
      *
-     * @param permissionSpec Permission Spec
+     * @param version 최신 Spec 버전
      * @return 완료 Mono
      */
-    Mono<Void> save(PermissionSpec permissionSpec);
-
-    /**
-     * Permission Spec 캐시 무효화
-     *
-     * @return 완료 Mono
-     */
-    Mono<Void> invalidate();
+    Mono<Void> saveSharedVersion(Long version);
 }
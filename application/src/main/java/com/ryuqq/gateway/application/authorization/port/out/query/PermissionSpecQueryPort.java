@@ -1,12 +1,11 @@
 package com.ryuqq.gateway.application.authorization.port.out.query;
 
-import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
 import reactor.core.publisher.Mono;
 
 /**
- * PermissionSpecQueryPort - Permission Spec 조회 Port
+ * PermissionSpecQueryPort - 공유 Permission Spec 버전 조회 Port
  *
- * <p>Redis Cache에서 Permission Spec을 조회하는 Port입니다.
+ * <p>노드 간에 공유되는 최신 Permission Spec 버전을 조회합니다. Spec 본문은 각 노드의 Snapshot에만 보관합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -14,9 +13,9 @@ import reactor.core.publisher.Mono;
 public interface PermissionSpecQueryPort {
 
     /**
-     * Permission Spec 조회 (Cache)
+     * 공유 Permission Spec 버전 조회
      *
-     * @return Permission Spec (Cache Miss 시 empty)
+     * @return Mono&lt;Long&gt; 최신 Spec 버전 (아직 공유된 버전이 없으면 empty)
      */
-    Mono<PermissionSpec> findPermissionSpec();
+    Mono<Long> findSharedVersion();
 }
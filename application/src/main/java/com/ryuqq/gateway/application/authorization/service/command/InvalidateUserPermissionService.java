@@ -1,6 +1,7 @@
 package com.ryuqq.gateway.application.authorization.service.command;
 
 import com.ryuqq.gateway.application.authorization.dto.command.InvalidateUserPermissionCommand;
+import com.ryuqq.gateway.application.authorization.internal.PermissionHashStore;
 import com.ryuqq.gateway.application.authorization.manager.PermissionHashCommandManager;
 import com.ryuqq.gateway.application.authorization.port.in.command.InvalidateUserPermissionUseCase;
 import org.slf4j.Logger;
@@ -11,14 +12,15 @@ import reactor.core.publisher.Mono;
 /**
  * 사용자 권한 캐시 무효화 Service
  *
- * <p>AuthHub Webhook을 받아 사용자별 Permission Hash 캐시를 무효화합니다.
+ * <p>AuthHub Webhook을 받아 사용자별 Permission Hash 캐시를 무효화합니다. 노드 로컬 저장소에서는 사용자와 Hash의 연결만
+ * 제거하며, 다른 사용자와 공유하는 Hash별 PermissionHash는 유지합니다.
  *
  * <p><strong>의존성 방향</strong>:
  *
  * <pre>
  * InvalidateUserPermissionService (Application Service)
  *   ↓ (calls)
- * PermissionHashCommandManager (Application Manager)
+ * PermissionHashStore (Application - internal) + PermissionHashCommandManager (Application Manager)
  *   ↓ (calls)
  * PermissionHashCommandPort (Port)
  * </pre>
@@ -33,10 +35,13 @@ public class InvalidateUserPermissionService implements InvalidateUserPermission
             LoggerFactory.getLogger(InvalidateUserPermissionService.class);
 
     private final PermissionHashCommandManager permissionHashCommandManager;
+    private final PermissionHashStore permissionHashStore;
 
     public InvalidateUserPermissionService(
-            PermissionHashCommandManager permissionHashCommandManager) {
+            PermissionHashCommandManager permissionHashCommandManager,
+            PermissionHashStore permissionHashStore) {
         this.permissionHashCommandManager = permissionHashCommandManager;
+        this.permissionHashStore = permissionHashStore;
     }
 
     @Override
@@ -46,6 +51,8 @@ public class InvalidateUserPermissionService implements InvalidateUserPermission
                 command.tenantId(),
                 command.userId());
 
+        permissionHashStore.unbind(command.tenantId(), command.userId());
+
         return permissionHashCommandManager
                 .invalidate(command.tenantId(), command.userId())
                 .doOnSuccess(
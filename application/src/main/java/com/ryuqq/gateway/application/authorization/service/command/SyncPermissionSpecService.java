@@ -1,7 +1,7 @@
 package com.ryuqq.gateway.application.authorization.service.command;
 
 import com.ryuqq.gateway.application.authorization.dto.command.SyncPermissionSpecCommand;
-import com.ryuqq.gateway.application.authorization.manager.PermissionSpecCommandManager;
+import com.ryuqq.gateway.application.authorization.internal.PermissionSpecCoordinator;
 import com.ryuqq.gateway.application.authorization.port.in.command.SyncPermissionSpecUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,16 +11,21 @@ import reactor.core.publisher.Mono;
 /**
  * Permission Spec 동기화 Service
  *
- * <p>AuthHub Webhook을 받아 Permission Spec 캐시를 무효화합니다.
+ * <p>AuthHub Webhook을 받아 최신 Permission Spec을 조회하고, 노드 로컬 Snapshot을 교체합니다. 변경된 서비스 목록은
+ * 로그에만 남기며, 유실된 Webhook의 변경도 반영되도록 항상 조회한 Spec 전체를 적용합니다. 교체된 Spec 버전은 Redis를
+ * 통해 다른 노드에 공유됩니다.
+ *
+ * <p>Spec 조회는 백그라운드에서 진행하고 Webhook에는 즉시 응답합니다. 조회가 끝날 때까지 요청은 기존 Snapshot으로
+ * 처리되며, 조회 실패 시 기존 Snapshot을 유지합니다 (Snapshot 동기화 주기에 다시 조회).
  *
  * <p><strong>의존성 방향</strong>:
  *
  * <pre>
  * SyncPermissionSpecService (Application Service)
  *   ↓ (calls)
- * PermissionSpecCommandManager (Application Manager)
+ * PermissionSpecCoordinator (Application Manager - internal)
  *   ↓ (calls)
- * PermissionSpecCommandPort (Port)
+ * PermissionClientManager + PermissionSpecCommandManager
  * </pre>
  *
  * @author development-team
@@ -31,32 +36,40 @@ public class SyncPermissionSpecService implements SyncPermissionSpecUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(SyncPermissionSpecService.class);
 
-    private final PermissionSpecCommandManager permissionSpecCommandManager;
+    private final PermissionSpecCoordinator permissionSpecCoordinator;
 
-    public SyncPermissionSpecService(PermissionSpecCommandManager permissionSpecCommandManager) {
-        this.permissionSpecCommandManager = permissionSpecCommandManager;
+    public SyncPermissionSpecService(PermissionSpecCoordinator permissionSpecCoordinator) {
+        this.permissionSpecCoordinator = permissionSpecCoordinator;
     }
 
     @Override
     public Mono<Void> execute(SyncPermissionSpecCommand command) {
-        log.info(
-                "Syncing permission spec: version={}, changedServices={}",
-                command.version(),
-                command.changedServices());
+        return Mono.fromRunnable(
+                () -> {
+                    log.info(
+                            "Syncing permission spec: version={}, changedServices={}",
+                            command.version(),
+                            command.changedServices());
 
-        return permissionSpecCommandManager
-                .invalidate()
-                .doOnSuccess(
-                        v ->
-                                log.info(
-                                        "Permission spec cache invalidated: version={}",
-                                        command.version()))
-                .doOnError(
-                        e ->
-                                log.error(
-                                        "Failed to invalidate permission spec cache: version={},"
-                                                + " error={}",
-                                        command.version(),
-                                        e.getMessage()));
+                    permissionSpecCoordinator
+                            .refreshForWebhook(command.version())
+                            .doOnNext(
+                                    spec ->
+                                            log.info(
+                                                    "Permission spec snapshot refreshed:"
+                                                            + " version={}, specVersion={}",
+                                                    command.version(),
+                                                    spec.version()))
+                            .onErrorResume(
+                                    e -> {
+                                        log.error(
+                                                "Failed to refresh permission spec snapshot:"
+                                                        + " version={}, error={}",
+                                                command.version(),
+                                                e.getMessage());
+                                        return Mono.empty();
+                                    })
+                            .subscribe();
+                });
     }
 }
@@ -0,0 +1,44 @@
+package com.ryuqq.gateway.application.authorization.service.command;
+
+import com.ryuqq.gateway.application.authorization.internal.PermissionSpecCoordinator;
+import com.ryuqq.gateway.application.authorization.port.in.command.SyncPermissionSpecSnapshotUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sync Permission Spec Snapshot Service
+ *
+ * <p>Redis에 공유된 Permission Spec 버전과 노드 로컬 Snapshot을 맞추는 서비스
+ *
+ * <p><strong>의존성 방향</strong>:
+ *
+ * <pre>
+ * SyncPermissionSpecSnapshotService (Application Service)
+ *   ↓ (calls)
+ * PermissionSpecCoordinator (Application Manager - internal)
+ *   ↓ (calls)
+ * PermissionSpecQueryManager + PermissionClientManager + PermissionSpecCommandManager
+ * </pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SyncPermissionSpecSnapshotService implements SyncPermissionSpecSnapshotUseCase {
+
+    private final PermissionSpecCoordinator permissionSpecCoordinator;
+
+    public SyncPermissionSpecSnapshotService(PermissionSpecCoordinator permissionSpecCoordinator) {
+        this.permissionSpecCoordinator = permissionSpecCoordinator;
+    }
+
+    /**
+     * 공유 버전과 Snapshot 동기화
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> execute() {
+        return permissionSpecCoordinator.syncWithSharedVersion();
+    }
+}
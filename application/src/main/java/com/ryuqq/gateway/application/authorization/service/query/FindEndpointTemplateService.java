@@ -0,0 +1,37 @@
+package com.ryuqq.gateway.application.authorization.service.query;
+
+import com.ryuqq.gateway.application.authorization.dto.query.FindEndpointTemplateQuery;
+import com.ryuqq.gateway.application.authorization.internal.EndpointTemplateRegistry;
+import com.ryuqq.gateway.application.authorization.port.in.query.FindEndpointTemplateUseCase;
+import com.ryuqq.gateway.domain.authorization.vo.HttpMethod;
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Endpoint Template 조회 Service
+ *
+ * <p>Permission Spec에 정의되지 않은 HTTP 메서드(HEAD, OPTIONS 등)는 매칭되지 않은 것으로 처리합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class FindEndpointTemplateService implements FindEndpointTemplateUseCase {
+
+    private final EndpointTemplateRegistry endpointTemplateRegistry;
+
+    public FindEndpointTemplateService(EndpointTemplateRegistry endpointTemplateRegistry) {
+        this.endpointTemplateRegistry = endpointTemplateRegistry;
+    }
+
+    @Override
+    public Optional<String> execute(FindEndpointTemplateQuery query) {
+        HttpMethod method;
+        try {
+            method = HttpMethod.from(query.requestMethod());
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return endpointTemplateRegistry.findTemplate(query.requestPath(), method);
+    }
+}
@@ -17,7 +17,7 @@ import reactor.core.publisher.Mono;
  *   ↓ (calls)
  * PermissionSpecCoordinator (Application Manager - internal)
  *   ↓ (calls)
- * PermissionSpecQueryManager + PermissionClientManager + PermissionSpecCommandManager
+ * PermissionClientManager (Snapshot이 없을 때만)
  * </pre>
  *
  * @author development-team
@@ -33,7 +33,7 @@ public class GetPermissionSpecService {
     }
 
     /**
-     * Permission Spec 조회 (Cache-aside 패턴)
+     * Permission Spec 조회 (노드 로컬 Snapshot)
      *
      * @return Permission Spec
      */
@@ -1,5 +1,11 @@
 package com.ryuqq.gateway.application.ratelimit.config;
 
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -17,10 +23,30 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     ip-limit: 5
  *     window-seconds: 60
  *     ip-block-enabled: true
+ *     ip-block-reconcile-interval-ms: 30000
  *     login-failure-threshold: 10
  *     login-block-duration-minutes: 5
  *     invalid-jwt-failure-threshold: 10
  *     invalid-jwt-block-duration-minutes: 10
+ *     failure-aggregation-enabled: true
+ *     failure-flush-interval-ms: 200
+ *     failure-max-keys: 100000
+ *     modes:
+ *       IP: HYBRID
+ *       USER: HYBRID
+ *       ENDPOINT: SHARDED
+ *     hybrid-sync-interval-ms: 100
+ *     hybrid-sync-batch-size: 256
+ *     hybrid-max-keys: 100000
+ *     sharded-shard-count: 8
+ *     sharded-sum-interval-ms: 200
+ *     sharded-sum-probability: 0.0
+ *     sharded-max-keys: 10000
+ *     fallback-node-count: 4
+ *     fallback-max-keys: 100000
+ *     algorithms:
+ *       IP: GCRA
+ *       ENDPOINT: SLIDING_WINDOW
  * }</pre>
  *
  * @author development-team
@@ -59,6 +85,9 @@ public class RateLimitProperties {
     /** IP 차단 기능 활성화 여부 (기본값: true) - Stage에서는 false로 설정하여 IP 차단 비활성화 */
     private boolean ipBlockEnabled = true;
 
+    /** 노드 로컬 차단 IP 목록을 Redis와 맞추는 주기(밀리초) - 누락된 Pub/Sub 이벤트 복구 (기본값: 30초) */
+    private long ipBlockReconcileIntervalMs = 30_000;
+
     /** 로그인 실패 시 IP 차단 임계값 (기본값: LimitType.LOGIN의 failureThreshold 사용) */
     private Integer loginFailureThreshold;
 
@@ -71,6 +100,54 @@ public class RateLimitProperties {
     /** 잘못된 JWT 실패 시 IP 차단 기간(분) (기본값: 30분) */
     private Integer invalidJwtBlockDurationMinutes;
 
+    /** 실패 횟수를 노드 로컬에서 집계하고 주기적으로 Redis에 반영할지 여부 - false면 실패마다 Redis INCR (기본값: true) */
+    private boolean failureAggregationEnabled = true;
+
+    /** 로컬 집계한 실패 횟수의 Redis 반영 주기(밀리초) (기본값: 200ms) */
+    private long failureFlushIntervalMs = 200;
+
+    /** 실패 횟수 로컬 집계 최대 Key 수 - 초과 시 새 Key는 실패마다 Redis INCR (기본값: 100,000) */
+    private int failureMaxKeys = 100_000;
+
+    /** LimitType별 카운팅 방식 (미설정 타입은 EXACT) */
+    private Map<LimitType, RateLimitMode> modes = new EnumMap<>(LimitType.class);
+
+    /** LimitType별 판정 알고리즘 (미설정 타입은 FIXED_WINDOW) */
+    private Map<LimitType, RateLimitAlgorithm> algorithms = new EnumMap<>(LimitType.class);
+
+    /** HYBRID 로컬 카운터의 Redis 동기화 주기(밀리초) (기본값: 100ms) */
+    private long hybridSyncIntervalMs = 100;
+
+    /** HYBRID 동기화 시 한 번에 Redis로 보내는 Key 수 (기본값: 256) */
+    private int hybridSyncBatchSize = 256;
+
+    /** HYBRID 로컬 카운터 최대 Key 수 - 초과 시 새 Key는 EXACT로 판정 (기본값: 100,000) */
+    private int hybridMaxKeys = 100_000;
+
+    /** SHARDED 하위 Key 수 - 클수록 Key당 부하는 줄고 합계 조회 비용은 늘어남 (기본값: 8) */
+    private int shardedShardCount = 8;
+
+    /** SHARDED 합계 재조회 주기(밀리초) - 짧을수록 정확하고 Redis 조회가 늘어남 (기본값: 200ms) */
+    private long shardedSumIntervalMs = 200;
+
+    /** SHARDED 요청마다 합계를 재조회할 확률 (0.0~1.0, 주기와 별도로 적용, 기본값: 0.0) */
+    private double shardedSumProbability = 0.0;
+
+    /**
+     * SHARDED 합계를 보관하는 최대 Key 수 - 도달 시 한 Window 동안 요청이 없던 Key를 정리하고, 그래도 가득 차면 새 Key는
+     * 요청마다 합계 조회 (기본값: 10,000)
+     */
+    private int shardedMaxKeys = 10_000;
+
+    /**
+     * Redis 장애 시 로컬 Fallback Limiter가 한도를 나누는 Gateway 노드 수 - 각 노드는 (한도 / 노드 수)까지 허용
+     * (기본값: 1)
+     */
+    private int fallbackNodeCount = 1;
+
+    /** 로컬 Fallback Limiter 최대 Key 수 - 초과 시 새 Key는 제한하지 않음 (기본값: 100,000) */
+    private int fallbackMaxKeys = 100_000;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -151,6 +228,14 @@ public class RateLimitProperties {
         this.ipBlockEnabled = ipBlockEnabled;
     }
 
+    public long getIpBlockReconcileIntervalMs() {
+        return ipBlockReconcileIntervalMs;
+    }
+
+    public void setIpBlockReconcileIntervalMs(long ipBlockReconcileIntervalMs) {
+        this.ipBlockReconcileIntervalMs = ipBlockReconcileIntervalMs;
+    }
+
     public Integer getLoginFailureThreshold() {
         return loginFailureThreshold;
     }
@@ -182,4 +267,142 @@ public class RateLimitProperties {
     public void setInvalidJwtBlockDurationMinutes(Integer invalidJwtBlockDurationMinutes) {
         this.invalidJwtBlockDurationMinutes = invalidJwtBlockDurationMinutes;
     }
+
+    public Map<LimitType, RateLimitMode> getModes() {
+        return Collections.unmodifiableMap(modes);
+    }
+
+    public void setModes(Map<LimitType, RateLimitMode> modes) {
+        this.modes = new EnumMap<>(LimitType.class);
+        if (modes != null) {
+            this.modes.putAll(modes);
+        }
+    }
+
+    /**
+     * LimitType별 카운팅 방식 조회
+     *
+     * @param limitType Rate Limit 타입
+     * @return 설정된 방식 (미설정 시 EXACT)
+     */
+    public RateLimitMode getMode(LimitType limitType) {
+        return modes.getOrDefault(limitType, RateLimitMode.EXACT);
+    }
+
+    public Map<LimitType, RateLimitAlgorithm> getAlgorithms() {
+        return Collections.unmodifiableMap(algorithms);
+    }
+
+    public void setAlgorithms(Map<LimitType, RateLimitAlgorithm> algorithms) {
+        this.algorithms = new EnumMap<>(LimitType.class);
+        if (algorithms != null) {
+            this.algorithms.putAll(algorithms);
+        }
+    }
+
+    /**
+     * LimitType별 판정 알고리즘 조회
+     *
+     * @param limitType Rate Limit 타입
+     * @return 설정된 알고리즘 (미설정 시 FIXED_WINDOW)
+     */
+    public RateLimitAlgorithm getAlgorithm(LimitType limitType) {
+        return algorithms.getOrDefault(limitType, RateLimitAlgorithm.FIXED_WINDOW);
+    }
+
+    public long getHybridSyncIntervalMs() {
+        return hybridSyncIntervalMs;
+    }
+
+    public void setHybridSyncIntervalMs(long hybridSyncIntervalMs) {
+        this.hybridSyncIntervalMs = hybridSyncIntervalMs;
+    }
+
+    public int getHybridSyncBatchSize() {
+        return hybridSyncBatchSize;
+    }
+
+    public void setHybridSyncBatchSize(int hybridSyncBatchSize) {
+        this.hybridSyncBatchSize = hybridSyncBatchSize;
+    }
+
+    public int getHybridMaxKeys() {
+        return hybridMaxKeys;
+    }
+
+    public void setHybridMaxKeys(int hybridMaxKeys) {
+        this.hybridMaxKeys = hybridMaxKeys;
+    }
+
+    public int getShardedShardCount() {
+        return shardedShardCount;
+    }
+
+    public void setShardedShardCount(int shardedShardCount) {
+        this.shardedShardCount = shardedShardCount;
+    }
+
+    public long getShardedSumIntervalMs() {
+        return shardedSumIntervalMs;
+    }
+
+    public void setShardedSumIntervalMs(long shardedSumIntervalMs) {
+        this.shardedSumIntervalMs = shardedSumIntervalMs;
+    }
+
+    public double getShardedSumProbability() {
+        return shardedSumProbability;
+    }
+
+    public void setShardedSumProbability(double shardedSumProbability) {
+        this.shardedSumProbability = shardedSumProbability;
+    }
+
+    public int getShardedMaxKeys() {
+        return shardedMaxKeys;
+    }
+
+    public void setShardedMaxKeys(int shardedMaxKeys) {
+        this.shardedMaxKeys = shardedMaxKeys;
+    }
+
+    public boolean isFailureAggregationEnabled() {
+        return failureAggregationEnabled;
+    }
+
+    public void setFailureAggregationEnabled(boolean failureAggregationEnabled) {
+        this.failureAggregationEnabled = failureAggregationEnabled;
+    }
+
+    public long getFailureFlushIntervalMs() {
+        return failureFlushIntervalMs;
+    }
+
+    public void setFailureFlushIntervalMs(long failureFlushIntervalMs) {
+        this.failureFlushIntervalMs = failureFlushIntervalMs;
+    }
+
+    public int getFailureMaxKeys() {
+        return failureMaxKeys;
+    }
+
+    public void setFailureMaxKeys(int failureMaxKeys) {
+        this.failureMaxKeys = failureMaxKeys;
+    }
+
+    public int getFallbackNodeCount() {
+        return fallbackNodeCount;
+    }
+
+    public void setFallbackNodeCount(int fallbackNodeCount) {
+        this.fallbackNodeCount = fallbackNodeCount;
+    }
+
+    public int getFallbackMaxKeys() {
+        return fallbackMaxKeys;
+    }
+
+    public void setFallbackMaxKeys(int fallbackMaxKeys) {
+        this.fallbackMaxKeys = fallbackMaxKeys;
+    }
 }
@@ -0,0 +1,33 @@
+package com.ryuqq.gateway.application.ratelimit.dto.command;
+
+/**
+ * 인증 전 Rate Limit 일괄 체크 Command DTO
+ *
+ * <p>IP 차단 여부, IP Rate Limit, Endpoint Rate Limit을 한 번에 체크하는 요청
+ *
+ * <p>Endpoint Rate Limit Key의 Cardinality를 제한하기 위해 endpoint에는 요청 경로 대신 경로 템플릿(예: {@code
+ * /api/v1/orders/{orderId}})을 전달합니다. 어떤 템플릿에도 매칭되지 않는 요청은 {@link #unmatched(String)}로 하나의
+ * Bucket을 공유합니다.
+ *
+ * @param ipAddress 클라이언트 IP 주소
+ * @param endpoint 엔드포인트 경로 템플릿
+ * @param method HTTP 메서드
+ */
+public record CheckPreAuthRateLimitCommand(String ipAddress, String endpoint, String method) {
+
+    /** 매칭되는 템플릿이 없는 요청이 공유하는 엔드포인트 */
+    public static final String UNMATCHED_ENDPOINT = "_unmatched";
+
+    /** 매칭되는 템플릿이 없는 요청의 메서드 (메서드 구분 없이 하나의 Bucket) */
+    public static final String ANY_METHOD = "*";
+
+    /**
+     * 템플릿에 매칭되지 않은 요청의 Command 생성
+     *
+     * @param ipAddress 클라이언트 IP 주소
+     * @return CheckPreAuthRateLimitCommand
+     */
+    public static CheckPreAuthRateLimitCommand unmatched(String ipAddress) {
+        return new CheckPreAuthRateLimitCommand(ipAddress, UNMATCHED_ENDPOINT, ANY_METHOD);
+    }
+}
@@ -30,7 +30,7 @@ public record CheckRateLimitCommand(
     /**
      * Endpoint Rate Limit Command 생성
      *
-     * @param path 엔드포인트 경로
+     * @param path 엔드포인트 경로 템플릿 (요청 경로를 그대로 사용하면 경로 변수마다 Key가 생성됨)
      * @param method HTTP 메서드
      * @return CheckRateLimitCommand
      */
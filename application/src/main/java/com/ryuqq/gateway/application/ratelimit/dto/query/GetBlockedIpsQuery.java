@@ -0,0 +1,43 @@
+package com.ryuqq.gateway.application.ratelimit.dto.query;
+
+/**
+ * 차단된 IP 목록 조회 Query DTO
+ *
+ * <p>차단된 IP 목록을 만료 시각 순으로 페이지 조회하기 위한 Query 객체
+ *
+ * <p><strong>검증 규칙</strong>:
+ *
+ * <ul>
+ *   <li>page는 0 이상이어야 한다
+ *   <li>size는 1 이상 {@value #MAX_SIZE} 이하여야 한다
+ * </ul>
+ *
+ * @param page 페이지 번호 (0부터 시작)
+ * @param size 페이지 크기
+ * @param longestFirst true면 남은 차단 시간이 긴 순, false면 짧은 순
+ */
+public record GetBlockedIpsQuery(int page, int size, boolean longestFirst) {
+
+    /** 최대 페이지 크기 */
+    public static final int MAX_SIZE = 500;
+
+    /** Compact Constructor - 검증 로직 */
+    public GetBlockedIpsQuery {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must be zero or positive: " + page);
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    "Size must be between 1 and " + MAX_SIZE + ": " + size);
+        }
+    }
+
+    public static GetBlockedIpsQuery of(int page, int size, boolean longestFirst) {
+        return new GetBlockedIpsQuery(page, size, longestFirst);
+    }
+
+    /** 건너뛸 항목 수 */
+    public long offset() {
+        return (long) page * size;
+    }
+}
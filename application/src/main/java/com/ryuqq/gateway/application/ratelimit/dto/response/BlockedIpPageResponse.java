@@ -0,0 +1,24 @@
+package com.ryuqq.gateway.application.ratelimit.dto.response;
+
+import java.util.List;
+
+/**
+ * 차단된 IP 페이지 응답 DTO
+ *
+ * @param content 페이지 항목 (만료 시각 순)
+ * @param page 페이지 번호 (0부터 시작)
+ * @param size 페이지 크기
+ * @param totalElements 전체 차단 IP 수
+ * @param hasNext 다음 페이지 존재 여부
+ * @author development-team
+ * @since 1.0.0
+ */
+public record BlockedIpPageResponse(
+        List<BlockedIpResponse> content, int page, int size, long totalElements, boolean hasNext) {
+
+    public static BlockedIpPageResponse of(
+            List<BlockedIpResponse> content, int page, int size, long totalElements) {
+        boolean hasNext = (long) page * size + content.size() < totalElements;
+        return new BlockedIpPageResponse(List.copyOf(content), page, size, totalElements, hasNext);
+    }
+}
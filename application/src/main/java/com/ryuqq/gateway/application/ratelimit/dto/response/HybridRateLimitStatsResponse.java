@@ -0,0 +1,22 @@
+package com.ryuqq.gateway.application.ratelimit.dto.response;
+
+/**
+ * Hybrid Rate Limit 통계 Response DTO
+ *
+ * <p>HYBRID 모드 로컬 카운터의 누적 통계 (애플리케이션 시작 이후 누적값). 로컬 판정 수 대비 동기화 Key 수로 Redis 호출 감소량을
+ * 계산합니다.
+ *
+ * @param localDecisions 로컬 판정 횟수 (Redis 호출을 생략한 요청 수)
+ * @param overflowDecisions 추적 Key 수 상한 초과로 Redis로 판정한 횟수
+ * @param syncedKeys Redis에 반영한 Key 수 (동기화 Redis 호출 수)
+ * @param syncBatches 동기화 배치 수
+ * @param syncFailures 동기화 실패 Key 수
+ * @param trackedKeys 현재 추적 중인 Key 수
+ */
+public record HybridRateLimitStatsResponse(
+        long localDecisions,
+        long overflowDecisions,
+        long syncedKeys,
+        long syncBatches,
+        long syncFailures,
+        int trackedKeys) {}
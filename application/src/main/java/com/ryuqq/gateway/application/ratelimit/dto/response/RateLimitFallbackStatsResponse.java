@@ -0,0 +1,21 @@
+package com.ryuqq.gateway.application.ratelimit.dto.response;
+
+/**
+ * Rate Limit Fallback 통계 Response DTO
+ *
+ * <p>Redis 장애 시 사용하는 노드 로컬 Fallback Limiter의 현재 상태와 누적 통계 (애플리케이션 시작 이후 누적값)
+ *
+ * @param active 현재 로컬 판정 중인지 여부
+ * @param decisions 로컬 판정 횟수
+ * @param untrackedDecisions Key 수 상한 초과로 제한하지 않은 판정 횟수
+ * @param activations 로컬 판정 전환 횟수
+ * @param recoveries Redis 판정 복귀 횟수
+ * @param trackedKeys 현재 추적 중인 Key 수
+ */
+public record RateLimitFallbackStatsResponse(
+        boolean active,
+        long decisions,
+        long untrackedDecisions,
+        long activations,
+        long recoveries,
+        int trackedKeys) {}
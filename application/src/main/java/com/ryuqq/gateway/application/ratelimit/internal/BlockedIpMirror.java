@@ -0,0 +1,161 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blocked IP Mirror
+ *
+ * <p>차단된 IP → 만료 시각의 노드 로컬 사본. 요청 경로의 IP 차단 확인과 Retry-After 계산을 Redis 호출 없이 수행합니다.
+ *
+ * <p><strong>갱신 경로</strong>:
+ *
+ * <ul>
+ *   <li>{@link #apply(IpBlockEvent)} - Pub/Sub으로 수신한 차단/해제 이벤트 반영
+ *   <li>{@link #reconcile(Map, long)} - Redis 전체 조회 결과로 교체 (기동 시 적재, 누락 이벤트 복구)
+ * </ul>
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>해제 이벤트는 즉시 제거하지 않고 만료된 항목(Tombstone)으로 남겨, 진행 중인 전체 조회가 해제 전 상태로 되돌리지
+ *       못하게 함
+ *   <li>전체 조회 시작 이후 이벤트로 바뀐 항목은 전체 조회 결과보다 우선
+ *   <li>만료된 항목은 조회 시점과 전체 조회 시점에 제거
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class BlockedIpMirror {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder appliedEvents = new LongAdder();
+    private final LongAdder reconciles = new LongAdder();
+
+    public BlockedIpMirror(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 차단 남은 시간 조회
+     *
+     * @param ipAddress IP 주소
+     * @return 남은 시간 (초, 올림, 최소 1) - 차단되지 않았으면 empty
+     */
+    public OptionalLong remainingSeconds(String ipAddress) {
+        Entry entry = entries.get(ipAddress);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        long remainingMillis = entry.expiresAt() - nowMillis();
+        if (remainingMillis <= 0) {
+            if (entry.isBlock()) {
+                entries.remove(ipAddress, entry);
+            }
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(
+                Math.max(1, (remainingMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND));
+    }
+
+    /**
+     * 차단/해제 이벤트 반영
+     *
+     * @param event IP 차단 이벤트
+     */
+    public void apply(IpBlockEvent event) {
+        entries.put(
+                event.ipAddress(),
+                new Entry(event.expiresAtEpochMillis(), sequence.incrementAndGet()));
+        appliedEvents.increment();
+    }
+
+    /**
+     * 전체 조회 시작 시점 표시
+     *
+     * <p>반환값을 {@link #reconcile(Map, long)}에 전달하면, 이 시점 이후 이벤트로 바뀐 항목은 전체 조회 결과로 덮어쓰지
+     * 않습니다.
+     *
+     * @return 현재 이벤트 순번
+     */
+    public long mark() {
+        return sequence.get();
+    }
+
+    /**
+     * 전체 조회 결과로 교체
+     *
+     * @param snapshot 차단된 IP → 만료 시각 (epoch 밀리초)
+     * @param mark 전체 조회 시작 전 {@link #mark()} 값
+     */
+    public void reconcile(Map<String, Long> snapshot, long mark) {
+        long now = nowMillis();
+        entries.forEach(
+                (ip, entry) -> {
+                    if (entry.sequence() > mark) {
+                        return;
+                    }
+                    if (!snapshot.containsKey(ip) || entry.expiresAt() <= now) {
+                        entries.remove(ip, entry);
+                    }
+                });
+        snapshot.forEach(
+                (ip, expiresAt) -> {
+                    if (expiresAt > now) {
+                        entries.merge(
+                                ip,
+                                new Entry(expiresAt, 0),
+                                (current, loaded) ->
+                                        current.sequence() > mark ? current : loaded);
+                    }
+                });
+        reconciles.increment();
+    }
+
+    private long nowMillis() {
+        return timeProvider.now().toEpochMilli();
+    }
+
+    /** 반영한 이벤트 수 */
+    public long appliedEventCount() {
+        return appliedEvents.sum();
+    }
+
+    /** 전체 조회 교체 횟수 */
+    public long reconcileCount() {
+        return reconciles.sum();
+    }
+
+    /** 현재 보관 중인 항목 수 (해제 Tombstone 포함) */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * IP별 항목
+     *
+     * @param expiresAt 만료 시각 (epoch 밀리초, 해제 Tombstone은 0)
+     * @param sequence 반영한 이벤트 순번 (전체 조회로 적재한 항목은 0)
+     */
+    private record Entry(long expiresAt, long sequence) {
+
+        boolean isBlock() {
+            return expiresAt > 0;
+        }
+    }
+}
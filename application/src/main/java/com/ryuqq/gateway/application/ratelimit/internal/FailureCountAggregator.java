@@ -0,0 +1,383 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockCommandManager;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Failure Count Aggregator
+ *
+ * <p>IP별 실패 횟수(Invalid JWT 등)의 노드 로컬 집계. 요청 경로에서는 Redis를 호출하지 않고 로컬 카운트만 증가시키며,
+ * {@link #flush()}가 주기적으로 증가분을 Redis에 묶음 반영합니다. 공격 트래픽이 몰려도 Redis 쓰기는 (Key 수 × 반영 횟수)로
+ * 제한됩니다.
+ *
+ * <p><strong>IP 차단</strong>:
+ *
+ * <ul>
+ *   <li>로컬 판정 기준 카운트가 임계값에 도달하면 즉시 노드 로컬 차단 목록({@link BlockedIpMirror})에 반영 (Fast Path)
+ *   <li>Redis 차단 저장과 이벤트 발행은 다음 반영 시점에 수행 (다른 노드에 전파)
+ *   <li>Redis 합계가 임계값에 도달한 경우(여러 노드의 실패 합산)에도 반영 시점에 차단
+ * </ul>
+ *
+ * <p><strong>판정 기준 카운트</strong>: 마지막 반영 시점의 Redis 합계 + 반영 중인 증가분 + 아직 반영하지 않은 증가분
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Redis Key와 TTL은 실패마다 INCR하던 방식과 동일 (설정 전환, 리셋과 호환)
+ *   <li>반영 실패 시 증가분과 차단 저장을 유지하고 다음 주기에 재시도
+ *   <li>Window가 끝나고 반영할 내용이 없는 Key는 반영 시점에 제거
+ *   <li>집계 Key 수가 상한을 넘으면 새 Key는 집계하지 않음 (호출 측이 실패마다 Redis INCR)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class FailureCountAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(FailureCountAggregator.class);
+
+    /** 한 번의 반영에서 동시에 진행하는 Redis 호출 수 */
+    private static final int FLUSH_CONCURRENCY = 256;
+
+    private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
+    private final IpBlockCommandManager ipBlockCommandManager;
+    private final BlockedIpMirror blockedIpMirror;
+    private final RateLimitProperties rateLimitProperties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, LocalFailure> failures = new ConcurrentHashMap<>();
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder localBlocks = new LongAdder();
+    private final LongAdder flushedKeys = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    public FailureCountAggregator(
+            RateLimitCounterCommandManager rateLimitCounterCommandManager,
+            IpBlockCommandManager ipBlockCommandManager,
+            BlockedIpMirror blockedIpMirror,
+            RateLimitProperties rateLimitProperties,
+            TimeProvider timeProvider) {
+        this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
+        this.ipBlockCommandManager = ipBlockCommandManager;
+        this.blockedIpMirror = blockedIpMirror;
+        this.rateLimitProperties = rateLimitProperties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 실패 횟수 로컬 증가
+     *
+     * @param key 실패 카운터 Key
+     * @param ipAddress 실패한 IP 주소
+     * @param window 시간 윈도우
+     * @param blockThreshold IP 차단 임계값 (0 이하면 차단하지 않음)
+     * @param blockDuration IP 차단 기간
+     * @return 집계했으면 true, 집계 Key 수 상한 초과로 집계하지 못했으면 false
+     */
+    public boolean record(
+            RateLimitKey key,
+            String ipAddress,
+            Duration window,
+            int blockThreshold,
+            Duration blockDuration) {
+        long now = nowMillis();
+        while (true) {
+            LocalFailure failure = failures.get(key.value());
+            if (failure == null) {
+                if (failures.size() >= rateLimitProperties.getFailureMaxKeys()) {
+                    overflows.increment();
+                    return false;
+                }
+                failure =
+                        failures.computeIfAbsent(
+                                key.value(), k -> new LocalFailure(key, ipAddress, window, now));
+            }
+            long count = failure.increment(now, blockThreshold, blockDuration);
+            if (count > 0) {
+                recorded.increment();
+                if (failure.tryBlockLocally(count)) {
+                    blockLocally(ipAddress, blockDuration, now);
+                }
+                return true;
+            }
+            // 반영 중 제거된 항목 - 새 항목으로 재시도
+            failures.remove(key.value(), failure);
+        }
+    }
+
+    /**
+     * 로컬 증가분과 차단을 Redis에 묶음 반영
+     *
+     * @return Mono&lt;Void&gt; (개별 Key 실패는 전파하지 않음)
+     */
+    public Mono<Void> flush() {
+        return Mono.defer(
+                () -> {
+                    long now = nowMillis();
+                    List<LocalFailure> dirty = new ArrayList<>();
+                    failures.forEach(
+                            (value, failure) -> {
+                                if (failure.tryRetire(now)) {
+                                    failures.remove(value, failure);
+                                } else if (failure.isDirty()) {
+                                    dirty.add(failure);
+                                }
+                            });
+                    if (dirty.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return Flux.fromIterable(dirty)
+                            .flatMap(this::flushFailure, FLUSH_CONCURRENCY)
+                            .then();
+                });
+    }
+
+    private void blockLocally(String ipAddress, Duration blockDuration, long now) {
+        blockedIpMirror.apply(IpBlockEvent.blocked(ipAddress, now + blockDuration.toMillis()));
+        localBlocks.increment();
+        log.info(
+                "[IP_BLOCK] Failure threshold reached, blocked locally: ip={}, duration={}",
+                ipAddress,
+                blockDuration);
+    }
+
+    private Mono<Void> flushFailure(LocalFailure failure) {
+        long delta = failure.beginFlush();
+        Mono<Long> total =
+                delta == 0
+                        ? Mono.fromSupplier(failure::total)
+                        : rateLimitCounterCommandManager
+                                .incrementBy(failure.key(), delta, failure.window())
+                                .doOnNext(
+                                        sum -> {
+                                            failure.completeFlush(sum);
+                                            flushedKeys.increment();
+                                        })
+                                .onErrorResume(
+                                        e -> {
+                                            failure.failFlush();
+                                            flushFailures.increment();
+                                            log.debug(
+                                                    "Failure count flush failed: key={}, delta={},"
+                                                            + " {}",
+                                                    failure.key().value(),
+                                                    delta,
+                                                    e.getMessage());
+                                            return Mono.empty();
+                                        });
+        return total.flatMap(sum -> storeBlock(failure, sum));
+    }
+
+    private Mono<Void> storeBlock(LocalFailure failure, long total) {
+        Duration blockDuration = failure.tryBeginBlock(total);
+        if (blockDuration == null) {
+            return Mono.empty();
+        }
+        return ipBlockCommandManager
+                .block(failure.ipAddress(), blockDuration)
+                .doOnNext(blocked -> failure.completeBlock())
+                .onErrorResume(
+                        e -> {
+                            failure.failBlock();
+                            log.warn(
+                                    "Failed to store ip block: ip={}, {}",
+                                    failure.ipAddress(),
+                                    e.getMessage());
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    private long nowMillis() {
+        return timeProvider.now().toEpochMilli();
+    }
+
+    /** 로컬 집계한 실패 횟수 */
+    public long recordedCount() {
+        return recorded.sum();
+    }
+
+    /** 집계 Key 수 상한 초과로 집계하지 못한 횟수 */
+    public long overflowCount() {
+        return overflows.sum();
+    }
+
+    /** 로컬 차단 목록에 즉시 반영한 차단 수 */
+    public long localBlockCount() {
+        return localBlocks.sum();
+    }
+
+    /** Redis에 반영한 Key 수 */
+    public long flushedKeyCount() {
+        return flushedKeys.sum();
+    }
+
+    /** 반영 실패 Key 수 */
+    public long flushFailureCount() {
+        return flushFailures.sum();
+    }
+
+    /** 현재 집계 중인 Key 수 */
+    public int size() {
+        return failures.size();
+    }
+
+    /** Key별 로컬 실패 집계 (모든 상태 변경은 인스턴스 잠금 하에서 수행) */
+    private static final class LocalFailure {
+
+        private final RateLimitKey key;
+        private final String ipAddress;
+        private final Duration window;
+        private final long windowMillis;
+
+        private long windowEndsAt;
+        private long globalCount;
+        private long inFlight;
+        private long pending;
+        private int blockThreshold;
+        private Duration blockDuration;
+        private boolean blockRequired;
+        private boolean blockStoring;
+        private boolean blockStored;
+        private boolean retired;
+
+        private LocalFailure(RateLimitKey key, String ipAddress, Duration window, long now) {
+            this.key = key;
+            this.ipAddress = ipAddress;
+            this.window = window;
+            this.windowMillis = window.toMillis();
+            this.windowEndsAt = now + windowMillis;
+        }
+
+        RateLimitKey key() {
+            return key;
+        }
+
+        String ipAddress() {
+            return ipAddress;
+        }
+
+        Duration window() {
+            return window;
+        }
+
+        /** 증가 후 판정 기준 카운트 반환 (제거된 항목이면 0) */
+        synchronized long increment(long now, int threshold, Duration duration) {
+            if (retired) {
+                return 0;
+            }
+            if (now >= windowEndsAt) {
+                windowEndsAt = now + windowMillis;
+                globalCount = 0;
+                pending = 0;
+                if (!blockStoring) {
+                    blockRequired = false;
+                    blockStored = false;
+                }
+            }
+            blockThreshold = threshold;
+            blockDuration = duration;
+            pending++;
+            return globalCount + inFlight + pending;
+        }
+
+        /** 임계값에 처음 도달한 경우 차단 필요 상태로 전환 */
+        synchronized boolean tryBlockLocally(long count) {
+            if (blockThreshold <= 0 || count < blockThreshold || blockRequired || blockStored) {
+                return false;
+            }
+            blockRequired = true;
+            return true;
+        }
+
+        synchronized long total() {
+            return globalCount + inFlight + pending;
+        }
+
+        synchronized boolean isDirty() {
+            return pending > 0 || (blockRequired && !blockStored && !blockStoring);
+        }
+
+        /** 반영할 증가분을 반영 중 상태로 이동 */
+        synchronized long beginFlush() {
+            if (inFlight > 0) {
+                return 0;
+            }
+            inFlight = pending;
+            pending = 0;
+            return inFlight;
+        }
+
+        /** Redis 합계 반영 (반영한 증가분 포함) */
+        synchronized void completeFlush(long total) {
+            if (inFlight > 0) {
+                globalCount = total;
+            }
+            inFlight = 0;
+        }
+
+        /** 반영 실패 - 증가분을 되돌려 다음 주기에 재시도 */
+        synchronized void failFlush() {
+            pending += inFlight;
+            inFlight = 0;
+        }
+
+        /**
+         * Redis 차단 저장 시작
+         *
+         * @return 저장할 차단 기간 (저장할 필요가 없으면 null)
+         */
+        synchronized Duration tryBeginBlock(long total) {
+            if (blockThreshold <= 0 || blockStored || blockStoring) {
+                return null;
+            }
+            if (!blockRequired && total < blockThreshold) {
+                return null;
+            }
+            blockRequired = true;
+            blockStoring = true;
+            return blockDuration;
+        }
+
+        synchronized void completeBlock() {
+            blockStoring = false;
+            blockStored = true;
+        }
+
+        /** 차단 저장 실패 - 다음 주기에 재시도 */
+        synchronized void failBlock() {
+            blockStoring = false;
+        }
+
+        /** Window가 끝나고 반영할 내용이 없으면 제거 상태로 전환 */
+        synchronized boolean tryRetire(long now) {
+            if (!retired
+                    && now >= windowEndsAt
+                    && pending == 0
+                    && inFlight == 0
+                    && !blockStoring
+                    && (!blockRequired || blockStored)) {
+                retired = true;
+            }
+            return retired;
+        }
+    }
+}
@@ -22,6 +22,10 @@ import reactor.core.publisher.Mono;
  *   <li>임계값 초과 시 IP 차단 처리
  * </ul>
  *
+ * <p><strong>로컬 집계</strong> ({@code failure-aggregation-enabled}, 기본값): 실패 횟수를 {@link
+ * FailureCountAggregator}에 로컬로 집계하고 즉시 완료합니다. Redis 반영과 차단 저장은 주기적인 반영 시점에 수행되므로 401
+ * 응답이 Redis를 기다리지 않습니다. 집계 Key 수 상한을 넘었거나 비활성화된 경우 실패마다 Redis INCR 후 차단합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -34,14 +38,17 @@ public class FailureRecordCoordinator {
     private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
     private final IpBlockCommandManager ipBlockCommandManager;
     private final RateLimitProperties rateLimitProperties;
+    private final FailureCountAggregator failureCountAggregator;
 
     public FailureRecordCoordinator(
             RateLimitCounterCommandManager rateLimitCounterCommandManager,
             IpBlockCommandManager ipBlockCommandManager,
-            RateLimitProperties rateLimitProperties) {
+            RateLimitProperties rateLimitProperties,
+            FailureCountAggregator failureCountAggregator) {
         this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
         this.ipBlockCommandManager = ipBlockCommandManager;
         this.rateLimitProperties = rateLimitProperties;
+        this.failureCountAggregator = failureCountAggregator;
     }
 
     /**
@@ -55,6 +62,34 @@ public class FailureRecordCoordinator {
         RateLimitKey key = RateLimitKey.of(limitType, command.identifier());
         Duration window = limitType.getDefaultWindow();
 
+        if (rateLimitProperties.isFailureAggregationEnabled()) {
+            return Mono.defer(
+                    () -> {
+                        if (recordLocally(command, key, window)) {
+                            return Mono.empty();
+                        }
+                        return recordToRedis(command, key, window);
+                    });
+        }
+        return recordToRedis(command, key, window);
+    }
+
+    /** 로컬 집계 (집계 Key 수 상한 초과 시 false) */
+    private boolean recordLocally(RecordFailureCommand command, RateLimitKey key, Duration window) {
+        LimitType limitType = command.limitType();
+        boolean blockable = rateLimitProperties.isIpBlockEnabled() && limitType.requiresIpBlock();
+        return failureCountAggregator.record(
+                key,
+                command.identifier(),
+                window,
+                blockable ? getFailureThreshold(limitType) : 0,
+                getBlockDuration(limitType));
+    }
+
+    /** 실패마다 Redis INCR 후 임계값 초과 시 차단 */
+    private Mono<Void> recordToRedis(
+            RecordFailureCommand command, RateLimitKey key, Duration window) {
+        LimitType limitType = command.limitType();
         return rateLimitCounterCommandManager
                 .incrementAndGet(key, window)
                 .flatMap(
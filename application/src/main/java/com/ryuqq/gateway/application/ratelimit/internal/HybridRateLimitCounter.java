@@ -0,0 +1,284 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hybrid Rate Limit Counter
+ *
+ * <p>HYBRID 모드 LimitType의 노드 로컬 카운터. 요청 경로에서는 Redis를 호출하지 않고 로컬에서 판정하며, {@link #sync()}가
+ * 주기적으로 로컬 증가분을 Redis에 묶음 반영하고 모든 노드의 합계를 받아옵니다.
+ *
+ * <p><strong>판정 기준 카운트</strong>: 마지막 동기화 시점의 Redis 합계 + 동기화 중인 증가분 + 아직 반영하지 않은 증가분
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>Redis Key와 TTL은 EXACT 모드와 동일 (모드 전환, 상태 조회, 리셋과 호환)
+ *   <li>로컬 Window는 Key를 처음 본 시점부터 시작하며, 동기화 결과로 Redis 합계에 수렴
+ *   <li>동기화 실패 시 증가분을 되돌려 다음 주기에 재시도
+ *   <li>Window가 끝나고 반영할 증가분이 없는 Key는 동기화 시점에 제거
+ *   <li>추적 Key 수가 상한을 넘으면 새 Key는 로컬 판정하지 않음 (호출 측이 EXACT로 판정)
+ * </ul>
+ *
+ * <p>오차: 다른 노드의 증가분은 다음 동기화 전까지 보이지 않으므로, 최대 (노드 수 × 동기화 주기 동안의 요청 수)만큼 한도를 초과할 수
+ * 있습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class HybridRateLimitCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(HybridRateLimitCounter.class);
+
+    private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
+    private final RateLimitProperties rateLimitProperties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, LocalCounter> counters = new ConcurrentHashMap<>();
+
+    private final LongAdder localDecisions = new LongAdder();
+    private final LongAdder overflowDecisions = new LongAdder();
+    private final LongAdder syncedKeys = new LongAdder();
+    private final LongAdder syncBatches = new LongAdder();
+    private final LongAdder syncFailures = new LongAdder();
+
+    public HybridRateLimitCounter(
+            RateLimitCounterCommandManager rateLimitCounterCommandManager,
+            RateLimitProperties rateLimitProperties,
+            TimeProvider timeProvider) {
+        this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
+        this.rateLimitProperties = rateLimitProperties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 로컬 카운터 증가
+     *
+     * @param key Rate Limit Key
+     * @param window 시간 윈도우
+     * @return 증가 후 판정 기준 카운트 (추적 Key 수 상한 초과 시 empty)
+     */
+    public OptionalLong tryIncrement(RateLimitKey key, Duration window) {
+        long now = nowMillis();
+        while (true) {
+            LocalCounter counter = counters.get(key.value());
+            if (counter == null) {
+                if (counters.size() >= rateLimitProperties.getHybridMaxKeys()) {
+                    overflowDecisions.increment();
+                    return OptionalLong.empty();
+                }
+                counter =
+                        counters.computeIfAbsent(
+                                key.value(), k -> new LocalCounter(key, window, now));
+            }
+            long count = counter.increment(now);
+            if (count > 0) {
+                localDecisions.increment();
+                return OptionalLong.of(count);
+            }
+            // 동기화 중 제거된 Counter - 새 Counter로 재시도
+            counters.remove(key.value(), counter);
+        }
+    }
+
+    /**
+     * 로컬 증가분을 Redis에 묶음 반영
+     *
+     * <p>반영할 증가분이 있는 Key를 배치 크기 단위로 나누어 배치 안에서는 병렬로, 배치 간에는 순차로 전송합니다.
+     *
+     * @return Mono&lt;Void&gt; (개별 Key 실패는 전파하지 않음)
+     */
+    public Mono<Void> sync() {
+        return Mono.defer(
+                () -> {
+                    long now = nowMillis();
+                    List<LocalCounter> dirty = new ArrayList<>();
+                    counters.forEach(
+                            (value, counter) -> {
+                                if (counter.tryRetire(now)) {
+                                    counters.remove(value, counter);
+                                } else if (counter.hasPending()) {
+                                    dirty.add(counter);
+                                }
+                            });
+                    if (dirty.isEmpty()) {
+                        return Mono.empty();
+                    }
+
+                    int batchSize = Math.max(1, rateLimitProperties.getHybridSyncBatchSize());
+                    return Flux.fromIterable(dirty)
+                            .buffer(batchSize)
+                            .concatMap(
+                                    batch -> {
+                                        syncBatches.increment();
+                                        return Flux.fromIterable(batch)
+                                                .flatMap(this::syncCounter, batchSize);
+                                    })
+                            .then();
+                });
+    }
+
+    /**
+     * 로컬 카운터 제거 (리셋 시)
+     *
+     * @param key Rate Limit Key
+     */
+    public void invalidate(RateLimitKey key) {
+        counters.remove(key.value());
+    }
+
+    private Mono<Void> syncCounter(LocalCounter counter) {
+        long delta = counter.beginSync();
+        if (delta == 0) {
+            return Mono.empty();
+        }
+        return rateLimitCounterCommandManager
+                .incrementBy(counter.key(), delta, counter.window())
+                .doOnNext(
+                        total -> {
+                            counter.completeSync(total);
+                            syncedKeys.increment();
+                        })
+                .onErrorResume(
+                        e -> {
+                            counter.failSync();
+                            syncFailures.increment();
+                            log.debug(
+                                    "Hybrid rate limit sync failed: key={}, delta={}, {}",
+                                    counter.key().value(),
+                                    delta,
+                                    e.getMessage());
+                            return Mono.empty();
+                        })
+                .then();
+    }
+
+    private long nowMillis() {
+        return timeProvider.now().toEpochMilli();
+    }
+
+    /** 로컬 판정 횟수 (Redis 호출을 생략한 요청 수) */
+    public long localDecisionCount() {
+        return localDecisions.sum();
+    }
+
+    /** 추적 Key 수 상한 초과로 로컬 판정하지 못한 횟수 */
+    public long overflowCount() {
+        return overflowDecisions.sum();
+    }
+
+    /** Redis에 반영한 Key 수 (동기화 Redis 호출 수) */
+    public long syncedKeyCount() {
+        return syncedKeys.sum();
+    }
+
+    /** 동기화 배치 수 */
+    public long syncBatchCount() {
+        return syncBatches.sum();
+    }
+
+    /** 동기화 실패 Key 수 */
+    public long syncFailureCount() {
+        return syncFailures.sum();
+    }
+
+    /** 현재 추적 중인 Key 수 */
+    public int size() {
+        return counters.size();
+    }
+
+    /** Key별 로컬 카운터 (모든 상태 변경은 인스턴스 잠금 하에서 수행) */
+    private static final class LocalCounter {
+
+        private final RateLimitKey key;
+        private final Duration window;
+        private final long windowMillis;
+
+        private long windowEndsAt;
+        private long globalCount;
+        private long inFlight;
+        private long pending;
+        private boolean retired;
+
+        private LocalCounter(RateLimitKey key, Duration window, long now) {
+            this.key = key;
+            this.window = window;
+            this.windowMillis = window.toMillis();
+            this.windowEndsAt = now + windowMillis;
+        }
+
+        RateLimitKey key() {
+            return key;
+        }
+
+        Duration window() {
+            return window;
+        }
+
+        /** 증가 후 판정 기준 카운트 반환 (제거된 Counter면 0) */
+        synchronized long increment(long now) {
+            if (retired) {
+                return 0;
+            }
+            if (now >= windowEndsAt) {
+                windowEndsAt = now + windowMillis;
+                globalCount = 0;
+                pending = 0;
+            }
+            pending++;
+            return globalCount + inFlight + pending;
+        }
+
+        synchronized boolean hasPending() {
+            return pending > 0;
+        }
+
+        /** 반영할 증가분을 동기화 중 상태로 이동 */
+        synchronized long beginSync() {
+            if (inFlight > 0) {
+                return 0;
+            }
+            inFlight = pending;
+            pending = 0;
+            return inFlight;
+        }
+
+        /** Redis 합계 반영 (동기화한 증가분 포함) */
+        synchronized void completeSync(long total) {
+            if (inFlight > 0) {
+                globalCount = total;
+            }
+            inFlight = 0;
+        }
+
+        /** 동기화 실패 - 증가분을 되돌려 다음 주기에 재시도 */
+        synchronized void failSync() {
+            pending += inFlight;
+            inFlight = 0;
+        }
+
+        /** Window가 끝나고 반영할 증가분이 없으면 제거 상태로 전환 */
+        synchronized boolean tryRetire(long now) {
+            if (!retired && now >= windowEndsAt && pending == 0 && inFlight == 0) {
+                retired = true;
+            }
+            return retired;
+        }
+    }
+}
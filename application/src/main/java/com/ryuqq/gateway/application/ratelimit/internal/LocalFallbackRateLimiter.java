@@ -0,0 +1,192 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local Fallback Rate Limiter
+ *
+ * <p>Rate Limit 저장소(Redis)를 사용할 수 없을 때 사용하는 노드 로컬 고정 Window 카운터. Redis 장애 시 모든 요청을
+ * 허용(Fail Open)하는 대신, 각 노드가 (설정 한도 / 노드 수)까지만 허용하여 클러스터 전체로 설정 한도에 가깝게 제한합니다.
+ *
+ * <p><strong>모드 전환</strong>:
+ *
+ * <ul>
+ *   <li>{@link #activate(Throwable)} - Redis 호출 실패 시 로컬 판정으로 전환 (전환 시 1회 로그)
+ *   <li>{@link #onRedisAvailable()} - Redis 판정 성공 시 Redis 판정으로 복귀 (로컬 카운터 초기화)
+ * </ul>
+ *
+ * <p><strong>설계 결정</strong>:
+ *
+ * <ul>
+ *   <li>모든 판정 알고리즘을 고정 Window로 근사 (Window는 Key를 처음 본 시점부터 시작)
+ *   <li>노드 수는 {@code fallback-node-count} 설정값 사용 (노드 간 통신 없음)
+ *   <li>Key 수가 상한을 넘으면 새 Key는 제한하지 않고, 만료된 Window는 초당 최대 1회 정리
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class LocalFallbackRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFallbackRateLimiter.class);
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000L;
+
+    private final RateLimitProperties rateLimitProperties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, LocalWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicBoolean active = new AtomicBoolean();
+    private volatile long lastPurgedAt;
+
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder untrackedDecisions = new LongAdder();
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder recoveries = new LongAdder();
+
+    public LocalFallbackRateLimiter(
+            RateLimitProperties rateLimitProperties, TimeProvider timeProvider) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 로컬 판정으로 전환
+     *
+     * @param cause Redis 호출 실패 원인
+     */
+    public void activate(Throwable cause) {
+        if (active.compareAndSet(false, true)) {
+            activations.increment();
+            log.warn(
+                    "[RATE_LIMIT] Redis unavailable, switching to local fallback limiter:"
+                            + " nodeCount={}, cause={}",
+                    nodeCount(),
+                    cause.getMessage());
+        }
+    }
+
+    /** Redis 판정으로 복귀 (로컬 판정 중이었던 경우에만 로컬 카운터 초기화) */
+    public void onRedisAvailable() {
+        if (active.get() && active.compareAndSet(true, false)) {
+            recoveries.increment();
+            windows.clear();
+            log.info("[RATE_LIMIT] Redis available again, switching back from local fallback");
+        }
+    }
+
+    /**
+     * 노드 로컬 한도
+     *
+     * @param limit 클러스터 전체 한도
+     * @return 한도 / 노드 수 (올림, 최소 1)
+     */
+    public int localLimit(int limit) {
+        int nodeCount = nodeCount();
+        return Math.max(1, (limit + nodeCount - 1) / nodeCount);
+    }
+
+    /**
+     * 로컬 카운터 증가
+     *
+     * @param key Rate Limit Key
+     * @param window 시간 윈도우
+     * @return 증가 후 카운트 (Key 수 상한 초과로 추적하지 않으면 1)
+     */
+    public long incrementAndGet(RateLimitKey key, Duration window) {
+        decisions.increment();
+        long now = timeProvider.now().toEpochMilli();
+        LocalWindow localWindow = windows.get(key.value());
+        if (localWindow == null) {
+            if (windows.size() >= rateLimitProperties.getFallbackMaxKeys()) {
+                purgeExpired(now);
+                if (windows.size() >= rateLimitProperties.getFallbackMaxKeys()) {
+                    untrackedDecisions.increment();
+                    return 1;
+                }
+            }
+            localWindow =
+                    windows.computeIfAbsent(
+                            key.value(), k -> new LocalWindow(now, window.toMillis()));
+        }
+        return localWindow.increment(now);
+    }
+
+    private void purgeExpired(long now) {
+        if (now - lastPurgedAt < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurgedAt = now;
+        windows.values().removeIf(localWindow -> localWindow.isExpired(now));
+    }
+
+    private int nodeCount() {
+        return Math.max(1, rateLimitProperties.getFallbackNodeCount());
+    }
+
+    /** 현재 로컬 판정 중인지 여부 */
+    public boolean isActive() {
+        return active.get();
+    }
+
+    /** 로컬 판정 횟수 */
+    public long decisionCount() {
+        return decisions.sum();
+    }
+
+    /** Key 수 상한 초과로 제한하지 않은 판정 횟수 */
+    public long untrackedDecisionCount() {
+        return untrackedDecisions.sum();
+    }
+
+    /** 로컬 판정 전환 횟수 */
+    public long activationCount() {
+        return activations.sum();
+    }
+
+    /** Redis 판정 복귀 횟수 */
+    public long recoveryCount() {
+        return recoveries.sum();
+    }
+
+    /** 현재 추적 중인 Key 수 */
+    public int size() {
+        return windows.size();
+    }
+
+    /** Key별 고정 Window 카운터 */
+    private static final class LocalWindow {
+
+        private final long windowMillis;
+        private long startedAt;
+        private long count;
+
+        LocalWindow(long startedAt, long windowMillis) {
+            this.startedAt = startedAt;
+            this.windowMillis = windowMillis;
+        }
+
+        synchronized long increment(long now) {
+            if (now - startedAt >= windowMillis) {
+                startedAt = now;
+                count = 0;
+            }
+            return ++count;
+        }
+
+        synchronized boolean isExpired(long now) {
+            return now - startedAt >= windowMillis;
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.ryuqq.gateway.application.ratelimit.internal;
 
 import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
-import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
+import com.ryuqq.gateway.application.ratelimit.manager.PreAuthRateLimitCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
 import com.ryuqq.gateway.domain.ratelimit.exception.IpBlockedException;
 import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitExceededException;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
 import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAction;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import java.time.Duration;
+import java.util.OptionalLong;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -22,11 +29,31 @@ import reactor.core.publisher.Mono;
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>IP 차단 여부 선제 확인 (IP 기반 타입인 경우)
+ *   <li>IP 차단 여부 선제 확인 (IP 기반 타입인 경우, 노드 로컬 {@link BlockedIpMirror} 조회)
  *   <li>카운터 증가 및 결과 확인
  *   <li>허용/거부 Response 생성
+ *   <li>인증 전 IP 차단 + IP/Endpoint Rate Limit 일괄 체크 (Redis 왕복 1회)
  * </ul>
  *
+ * <p><strong>카운터 모드</strong> ({@link RateLimitProperties#getMode(LimitType)}):
+ *
+ * <ul>
+ *   <li>EXACT - 요청마다 Redis INCR로 판정 (기본값)
+ *   <li>HYBRID - {@link HybridRateLimitCounter}로 로컬 판정, Redis에는 주기적으로 묶음 반영
+ *   <li>SHARDED - {@link ShardedRateLimitCounter}로 하위 Key에 분산 증가, 합계는 주기적으로 조회
+ * </ul>
+ *
+ * <p><strong>판정 알고리즘</strong> ({@link RateLimitProperties#getAlgorithm(LimitType)}):
+ *
+ * <ul>
+ *   <li>FIXED_WINDOW - 고정 Window 카운터 (기본값, 카운터 모드 적용)
+ *   <li>SLIDING_WINDOW, GCRA - Redis Lua Script로 판정하고 정확한 Retry-After 반환 (카운터 모드 미적용)
+ * </ul>
+ *
+ * <p><strong>Redis 장애 시</strong>: Redis 호출이 실패하거나 Circuit Breaker가 Open되어 {@link
+ * RateLimitStoreUnavailableException}이 발생하면, {@link LocalFallbackRateLimiter}가 (한도 / 노드 수)로 판정합니다.
+ * Redis 판정이 다시 성공하면 Redis 판정으로 복귀합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -40,16 +67,28 @@ public class RateLimitCheckCoordinator {
     private static final int DEFAULT_WINDOW_SECONDS = 60;
 
     private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
-    private final IpBlockQueryManager ipBlockQueryManager;
+    private final BlockedIpMirror blockedIpMirror;
     private final RateLimitProperties rateLimitProperties;
+    private final HybridRateLimitCounter hybridRateLimitCounter;
+    private final ShardedRateLimitCounter shardedRateLimitCounter;
+    private final PreAuthRateLimitCommandManager preAuthRateLimitCommandManager;
+    private final LocalFallbackRateLimiter localFallbackRateLimiter;
 
     public RateLimitCheckCoordinator(
             RateLimitCounterCommandManager rateLimitCounterCommandManager,
-            IpBlockQueryManager ipBlockQueryManager,
-            RateLimitProperties rateLimitProperties) {
+            BlockedIpMirror blockedIpMirror,
+            RateLimitProperties rateLimitProperties,
+            HybridRateLimitCounter hybridRateLimitCounter,
+            ShardedRateLimitCounter shardedRateLimitCounter,
+            PreAuthRateLimitCommandManager preAuthRateLimitCommandManager,
+            LocalFallbackRateLimiter localFallbackRateLimiter) {
         this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
-        this.ipBlockQueryManager = ipBlockQueryManager;
+        this.blockedIpMirror = blockedIpMirror;
         this.rateLimitProperties = rateLimitProperties;
+        this.hybridRateLimitCounter = hybridRateLimitCounter;
+        this.shardedRateLimitCounter = shardedRateLimitCounter;
+        this.preAuthRateLimitCommandManager = preAuthRateLimitCommandManager;
+        this.localFallbackRateLimiter = localFallbackRateLimiter;
     }
 
     /**
@@ -70,23 +109,123 @@ public class RateLimitCheckCoordinator {
         return performRateLimitCheck(command);
     }
 
-    private Mono<CheckRateLimitResponse> checkIpBlockedFirst(CheckRateLimitCommand command) {
-        return ipBlockQueryManager
-                .isBlocked(command.identifier())
+    /**
+     * 인증 전 Rate Limit 일괄 체크
+     *
+     * <p>노드 로컬 차단 목록에 있는 IP는 Redis를 호출하지 않고 거부합니다. 그 외에는 IP 차단 확인, IP 카운터 증가,
+     * Endpoint 카운터 증가를 Lua Script 한 번으로 수행합니다. IP 또는 ENDPOINT가 EXACT 모드가 아니거나
+     * FIXED_WINDOW가 아닌 알고리즘이면 개별 체크({@link #check(CheckRateLimitCommand)})를 순서대로 수행합니다. Redis를
+     * 사용할 수 없으면 IP와 Endpoint를 순서대로 로컬 판정합니다.
+     *
+     * @param command 인증 전 Rate Limit 체크 요청
+     * @return Mono&lt;CheckRateLimitResponse&gt; 한도에 도달한 쪽의 결과 (모두 허용이면 남은 요청 수가 적은 쪽)
+     */
+    public Mono<CheckRateLimitResponse> checkPreAuth(CheckPreAuthRateLimitCommand command) {
+        CheckRateLimitCommand ipCommand = CheckRateLimitCommand.forIp(command.ipAddress());
+        CheckRateLimitCommand endpointCommand =
+                CheckRateLimitCommand.forEndpoint(command.endpoint(), command.method());
+
+        if (rateLimitProperties.isIpBlockEnabled()) {
+            OptionalLong blockedSeconds = blockedIpMirror.remainingSeconds(command.ipAddress());
+            if (blockedSeconds.isPresent()) {
+                return Mono.error(
+                        new IpBlockedException(
+                                command.ipAddress(), (int) blockedSeconds.getAsLong()));
+            }
+        }
+
+        if (!supportsPreAuthScript(LimitType.IP) || !supportsPreAuthScript(LimitType.ENDPOINT)) {
+            return check(ipCommand)
+                    .flatMap(
+                            ipResponse ->
+                                    ipResponse.allowed()
+                                            ? check(endpointCommand)
+                                            : Mono.just(ipResponse));
+        }
+
+        int ipLimit = getLimit(LimitType.IP);
+        int endpointLimit = getLimit(LimitType.ENDPOINT);
+        int windowSeconds = getWindowSeconds();
+
+        return preAuthRateLimitCommandManager
+                .check(
+                        command.ipAddress(),
+                        buildRateLimitKey(ipCommand),
+                        ipLimit,
+                        buildRateLimitKey(endpointCommand),
+                        endpointLimit,
+                        Duration.ofSeconds(windowSeconds),
+                        rateLimitProperties.isIpBlockEnabled())
+                .doOnNext(result -> localFallbackRateLimiter.onRedisAvailable())
                 .flatMap(
-                        blocked -> {
-                            if (blocked) {
-                                return ipBlockQueryManager
-                                        .getBlockTtlSeconds(command.identifier())
+                        result ->
+                                toPreAuthResponse(
+                                        command, result, ipLimit, endpointLimit, windowSeconds))
+                .onErrorResume(
+                        RateLimitStoreUnavailableException.class,
+                        e ->
+                                checkLocally(ipCommand, e)
                                         .flatMap(
-                                                ttl ->
-                                                        Mono.error(
-                                                                new IpBlockedException(
-                                                                        command.identifier(),
-                                                                        ttl.intValue())));
-                            }
-                            return performRateLimitCheck(command);
-                        });
+                                                ipResponse ->
+                                                        ipResponse.allowed()
+                                                                ? checkLocally(endpointCommand, e)
+                                                                : Mono.just(ipResponse)));
+    }
+
+    /** 일괄 판정 Script 적용 가능 여부 (EXACT 모드 + FIXED_WINDOW) */
+    private boolean supportsPreAuthScript(LimitType limitType) {
+        RateLimitMode mode = rateLimitProperties.getMode(limitType);
+        return mode != RateLimitMode.HYBRID
+                && mode != RateLimitMode.SHARDED
+                && rateLimitProperties.getAlgorithm(limitType).isFixedWindow();
+    }
+
+    private Mono<CheckRateLimitResponse> toPreAuthResponse(
+            CheckPreAuthRateLimitCommand command,
+            PreAuthRateLimitResult result,
+            int ipLimit,
+            int endpointLimit,
+            int windowSeconds) {
+        if (result.blocked()) {
+            return Mono.error(
+                    new IpBlockedException(
+                            command.ipAddress(), (int) result.retryAfterSeconds()));
+        }
+        if (result.isExceeded()) {
+            boolean ipTripped = result.trippedLimit() == LimitType.IP;
+            long retryAfter = result.retryAfterSeconds();
+            int retryAfterSeconds = retryAfter > 0 ? (int) retryAfter : windowSeconds;
+            return Mono.just(
+                    CheckRateLimitResponse.denied(
+                            ipTripped ? result.ipCount() : result.endpointCount(),
+                            ipTripped ? ipLimit : endpointLimit,
+                            retryAfterSeconds,
+                            RateLimitAction.REJECT));
+        }
+
+        CheckRateLimitResponse ipResponse =
+                CheckRateLimitResponse.allowed(result.ipCount(), ipLimit);
+        CheckRateLimitResponse endpointResponse =
+                CheckRateLimitResponse.allowed(result.endpointCount(), endpointLimit);
+        return Mono.just(
+                ipResponse.remaining() <= endpointResponse.remaining()
+                        ? ipResponse
+                        : endpointResponse);
+    }
+
+    /**
+     * IP 차단 여부 선제 확인
+     *
+     * <p>노드 로컬 사본으로 판정하므로 Redis를 호출하지 않으며, Retry-After도 사본의 만료 시각으로 계산합니다.
+     */
+    private Mono<CheckRateLimitResponse> checkIpBlockedFirst(CheckRateLimitCommand command) {
+        OptionalLong blockedSeconds = blockedIpMirror.remainingSeconds(command.identifier());
+        if (blockedSeconds.isPresent()) {
+            return Mono.error(
+                    new IpBlockedException(
+                            command.identifier(), (int) blockedSeconds.getAsLong()));
+        }
+        return performRateLimitCheck(command);
     }
 
     private Mono<CheckRateLimitResponse> performRateLimitCheck(CheckRateLimitCommand command) {
@@ -97,32 +236,104 @@ public class RateLimitCheckCoordinator {
 
         RateLimitKey key = buildRateLimitKey(command);
 
+        RateLimitAlgorithm algorithm = rateLimitProperties.getAlgorithm(limitType);
+        if (!algorithm.isFixedWindow()) {
+            return rateLimitCounterCommandManager
+                    .acquire(key, algorithm, limit, window)
+                    .doOnNext(decision -> localFallbackRateLimiter.onRedisAvailable())
+                    .flatMap(decision -> toResponse(limitType, decision, limit))
+                    .onErrorResume(
+                            RateLimitStoreUnavailableException.class,
+                            e -> checkLocally(command, e));
+        }
+
+        return incrementAndGet(limitType, key, window)
+                .flatMap(currentCount -> decide(limitType, currentCount, limit, windowSeconds))
+                .onErrorResume(
+                        RateLimitStoreUnavailableException.class, e -> checkLocally(command, e));
+    }
+
+    /**
+     * 로컬 Fallback 판정 (Redis 사용 불가 시)
+     *
+     * <p>모든 알고리즘을 고정 Window로 근사하고, 노드 로컬 한도(한도 / 노드 수)로 판정합니다.
+     */
+    private Mono<CheckRateLimitResponse> checkLocally(
+            CheckRateLimitCommand command, Throwable cause) {
+        localFallbackRateLimiter.activate(cause);
+        LimitType limitType = command.limitType();
+        int localLimit = localFallbackRateLimiter.localLimit(getLimit(limitType));
+        int windowSeconds = getWindowSeconds();
+        long currentCount =
+                localFallbackRateLimiter.incrementAndGet(
+                        buildRateLimitKey(command), Duration.ofSeconds(windowSeconds));
+        return decide(limitType, currentCount, localLimit, windowSeconds);
+    }
+
+    /** 증가 후 카운트로 허용/거부 판정 */
+    private Mono<CheckRateLimitResponse> decide(
+            LimitType limitType, long currentCount, int limit, int windowSeconds) {
+        if (currentCount < limit) {
+            return Mono.just(CheckRateLimitResponse.allowed(currentCount, limit));
+        }
+
+        // Rate Limit 초과
+        RateLimitAction action = limitType.getDefaultAction();
+
+        // LOGIN, INVALID_JWT는 예외 발생
+        if (action == RateLimitAction.BLOCK_IP) {
+            return Mono.error(new RateLimitExceededException(limit, 0, windowSeconds));
+        }
+
+        // 그 외 타입은 denied Response 반환
+        return Mono.just(
+                CheckRateLimitResponse.denied(
+                        currentCount, limit, windowSeconds, RateLimitAction.REJECT));
+    }
+
+    /**
+     * SLIDING_WINDOW/GCRA 판정 결과를 Response로 변환
+     *
+     * <p>카운트 대신 남은 요청 수를 기준으로 하며, 거부 시 Script가 계산한 정확한 대기 시간을 Retry-After로 사용합니다.
+     */
+    private Mono<CheckRateLimitResponse> toResponse(
+            LimitType limitType, RateLimitDecision decision, int limit) {
+        if (decision.allowed()) {
+            long currentCount = Math.max(0, limit - decision.remaining());
+            return Mono.just(CheckRateLimitResponse.allowed(currentCount, limit));
+        }
+
+        int retryAfterSeconds = (int) decision.retryAfterSeconds();
+        if (limitType.getDefaultAction() == RateLimitAction.BLOCK_IP) {
+            return Mono.error(new RateLimitExceededException(limit, 0, retryAfterSeconds));
+        }
+        return Mono.just(
+                CheckRateLimitResponse.denied(
+                        limit, limit, retryAfterSeconds, RateLimitAction.REJECT));
+    }
+
+    /**
+     * 카운터 증가
+     *
+     * <p>HYBRID 모드는 로컬 카운터로 판정하고, 추적 Key 수 상한을 넘은 경우에만 Redis로 판정합니다. SHARDED 모드는
+     * 하위 Key 하나를 증가시키고 합계 추정값으로 판정합니다.
+     */
+    private Mono<Long> incrementAndGet(LimitType limitType, RateLimitKey key, Duration window) {
+        RateLimitMode mode = rateLimitProperties.getMode(limitType);
+        if (mode == RateLimitMode.SHARDED) {
+            return shardedRateLimitCounter
+                    .incrementAndGet(key, window)
+                    .doOnNext(count -> localFallbackRateLimiter.onRedisAvailable());
+        }
+        if (mode == RateLimitMode.HYBRID) {
+            OptionalLong localCount = hybridRateLimitCounter.tryIncrement(key, window);
+            if (localCount.isPresent()) {
+                return Mono.just(localCount.getAsLong());
+            }
+        }
         return rateLimitCounterCommandManager
                 .incrementAndGet(key, window)
-                .flatMap(
-                        currentCount -> {
-                            if (currentCount < limit) {
-                                return Mono.just(
-                                        CheckRateLimitResponse.allowed(currentCount, limit));
-                            }
-
-                            // Rate Limit 초과
-                            RateLimitAction action = limitType.getDefaultAction();
-
-                            // LOGIN, INVALID_JWT는 예외 발생
-                            if (action == RateLimitAction.BLOCK_IP) {
-                                return Mono.error(
-                                        new RateLimitExceededException(limit, 0, windowSeconds));
-                            }
-
-                            // 그 외 타입은 denied Response 반환
-                            return Mono.just(
-                                    CheckRateLimitResponse.denied(
-                                            currentCount,
-                                            limit,
-                                            windowSeconds,
-                                            RateLimitAction.REJECT));
-                        });
+                .doOnNext(count -> localFallbackRateLimiter.onRedisAvailable());
     }
 
     private RateLimitKey buildRateLimitKey(CheckRateLimitCommand command) {
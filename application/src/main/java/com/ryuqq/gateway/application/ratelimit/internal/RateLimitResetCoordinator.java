@@ -1,11 +1,13 @@
 package com.ryuqq.gateway.application.ratelimit.internal;
 
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
 import com.ryuqq.gateway.application.ratelimit.dto.command.ResetRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.manager.AccountLockCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.IpBlockCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
 import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -17,7 +19,7 @@ import reactor.core.publisher.Mono;
  * <p><strong>책임</strong>:
  *
  * <ul>
- *   <li>Rate Limit 카운터 삭제
+ *   <li>Rate Limit 카운터 삭제 (HYBRID 모드 로컬 카운터, SHARDED 모드 하위 Key 포함)
  *   <li>IP 차단 해제 (IP 기반인 경우)
  *   <li>계정 잠금 해제 (User 기반인 경우)
  * </ul>
@@ -31,14 +33,23 @@ public class RateLimitResetCoordinator {
     private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
     private final IpBlockCommandManager ipBlockCommandManager;
     private final AccountLockCommandManager accountLockCommandManager;
+    private final HybridRateLimitCounter hybridRateLimitCounter;
+    private final ShardedRateLimitCounter shardedRateLimitCounter;
+    private final RateLimitProperties rateLimitProperties;
 
     public RateLimitResetCoordinator(
             RateLimitCounterCommandManager rateLimitCounterCommandManager,
             IpBlockCommandManager ipBlockCommandManager,
-            AccountLockCommandManager accountLockCommandManager) {
+            AccountLockCommandManager accountLockCommandManager,
+            HybridRateLimitCounter hybridRateLimitCounter,
+            ShardedRateLimitCounter shardedRateLimitCounter,
+            RateLimitProperties rateLimitProperties) {
         this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
         this.ipBlockCommandManager = ipBlockCommandManager;
         this.accountLockCommandManager = accountLockCommandManager;
+        this.hybridRateLimitCounter = hybridRateLimitCounter;
+        this.shardedRateLimitCounter = shardedRateLimitCounter;
+        this.rateLimitProperties = rateLimitProperties;
     }
 
     /**
@@ -50,10 +61,11 @@ public class RateLimitResetCoordinator {
     public Mono<Void> reset(ResetRateLimitCommand command) {
         LimitType limitType = command.limitType();
         RateLimitKey key = RateLimitKey.of(limitType, command.identifier());
+        hybridRateLimitCounter.invalidate(key);
 
         // 1. 카운터 삭제
-        return rateLimitCounterCommandManager
-                .delete(key)
+        return deleteShards(limitType, key)
+                .then(rateLimitCounterCommandManager.delete(key))
                 .flatMap(
                         deleted -> {
                             // 2. IP 기반인 경우 IP 차단 해제, User 기반인 경우 계정 잠금 해제
@@ -66,4 +78,12 @@ public class RateLimitResetCoordinator {
                         })
                 .then();
     }
+
+    /** SHARDED 모드면 하위 Key 삭제 */
+    private Mono<Void> deleteShards(LimitType limitType, RateLimitKey key) {
+        if (rateLimitProperties.getMode(limitType) != RateLimitMode.SHARDED) {
+            return Mono.empty();
+        }
+        return shardedRateLimitCounter.delete(key);
+    }
 }
@@ -0,0 +1,297 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterQueryManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sharded Rate Limit Counter
+ *
+ * <p>SHARDED 모드 LimitType의 카운터. 모든 노드가 같은 Key를 INCR하는 Hot Key를 피하기 위해, 요청마다 N개의 하위 Key
+ * ({@link RateLimitKey#shard(int)}) 중 하나를 무작위로 증가시킵니다.
+ *
+ * <p><strong>판정 기준 카운트</strong>:
+ *
+ * <ul>
+ *   <li>합계 재조회 시점 - 모든 하위 Key의 합계 (MGET 1회)
+ *   <li>그 외 - max(증가시킨 하위 Key 값, 마지막 합계 + 이 노드가 이후 증가시킨 횟수)
+ * </ul>
+ *
+ * <p><strong>합계 재조회 조건</strong> (Key당 동시에 하나만 조회):
+ *
+ * <ul>
+ *   <li>마지막 합계 후 {@code sharded-sum-interval-ms}가 지남
+ *   <li>{@code sharded-sum-probability} 확률에 당첨
+ * </ul>
+ *
+ * <p>오차: 합계 조회 사이의 다른 노드 증가분은 보이지 않으므로, 최대 (합계 조회 주기 동안 다른 노드의 요청 수)만큼 한도를 초과할 수
+ * 있습니다. 주기를 줄이거나 확률을 높이면 정확해지는 대신 Redis 조회가 늘어납니다.
+ *
+ * <p>한 Window 동안 요청이 없던 Key의 합계는 제거합니다. 합계를 보관하는 Key 수가 상한에 닿으면 먼저 제거 대상을 정리하고(합계
+ * 재조회 주기마다 최대 1회), 그래도 상한이면 새 Key는 요청마다 합계를 조회합니다. 경로 템플릿으로 정규화된 ENDPOINT처럼 Key
+ * 수가 제한된 타입에 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class ShardedRateLimitCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedRateLimitCounter.class);
+
+    private final RateLimitCounterCommandManager rateLimitCounterCommandManager;
+    private final RateLimitCounterQueryManager rateLimitCounterQueryManager;
+    private final RateLimitProperties rateLimitProperties;
+    private final TimeProvider timeProvider;
+
+    private final ConcurrentMap<String, ShardTotal> totals = new ConcurrentHashMap<>();
+    private final AtomicLong lastRetiredAt = new AtomicLong();
+
+    private final LongAdder increments = new LongAdder();
+    private final LongAdder sums = new LongAdder();
+    private final LongAdder sumFailures = new LongAdder();
+
+    public ShardedRateLimitCounter(
+            RateLimitCounterCommandManager rateLimitCounterCommandManager,
+            RateLimitCounterQueryManager rateLimitCounterQueryManager,
+            RateLimitProperties rateLimitProperties,
+            TimeProvider timeProvider) {
+        this.rateLimitCounterCommandManager = rateLimitCounterCommandManager;
+        this.rateLimitCounterQueryManager = rateLimitCounterQueryManager;
+        this.rateLimitProperties = rateLimitProperties;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 하위 Key 하나를 증가시키고 판정 기준 카운트 반환
+     *
+     * @param key Rate Limit Key
+     * @param window 시간 윈도우 (하위 Key TTL)
+     * @return Mono&lt;Long&gt; 판정 기준 카운트
+     */
+    public Mono<Long> incrementAndGet(RateLimitKey key, Duration window) {
+        int shardCount = shardCount();
+        RateLimitKey shardKey = key.shard(ThreadLocalRandom.current().nextInt(shardCount));
+        return rateLimitCounterCommandManager
+                .incrementAndGet(shardKey, window)
+                .flatMap(shardValue -> resolveTotal(key, window, shardCount, shardValue));
+    }
+
+    /**
+     * 모든 하위 Key의 합계 조회 (상태 조회용)
+     *
+     * @param key Rate Limit Key
+     * @return Mono&lt;Long&gt; 합계
+     */
+    public Mono<Long> currentCount(RateLimitKey key) {
+        return rateLimitCounterQueryManager.sumCounts(shardKeys(key, shardCount()));
+    }
+
+    /**
+     * 모든 하위 Key 삭제 및 보관 중인 합계 제거 (리셋 시)
+     *
+     * @param key Rate Limit Key
+     * @return Mono&lt;Void&gt;
+     */
+    public Mono<Void> delete(RateLimitKey key) {
+        totals.remove(key.value());
+        return Flux.fromIterable(shardKeys(key, shardCount()))
+                .flatMap(rateLimitCounterCommandManager::delete)
+                .then();
+    }
+
+    private Mono<Long> resolveTotal(
+            RateLimitKey key, Duration window, int shardCount, long shardValue) {
+        increments.increment();
+        long now = nowMillis();
+        long windowMillis = window.toMillis();
+        boolean byChance = shouldRefreshByChance();
+
+        ShardTotal total;
+        long pendingAtStart;
+        while (true) {
+            total = totals.get(key.value());
+            if (total == null) {
+                if (isFull()) {
+                    retireExpired(now);
+                    if (isFull()) {
+                        return sum(key, shardCount);
+                    }
+                }
+                total = totals.computeIfAbsent(key.value(), k -> new ShardTotal(windowMillis, now));
+            }
+            pendingAtStart =
+                    total.tryBeginRefresh(
+                            now, rateLimitProperties.getShardedSumIntervalMs(), byChance);
+            if (pendingAtStart != ShardTotal.RETIRED) {
+                break;
+            }
+            // 정리 중 제거된 항목 - 새 항목으로 재시도
+            totals.remove(key.value(), total);
+        }
+        if (pendingAtStart < 0) {
+            return Mono.just(total.estimate(shardValue));
+        }
+
+        ShardTotal refreshing = total;
+        return sum(key, shardCount)
+                .doOnNext(sum -> refreshing.completeRefresh(sum, pendingAtStart, now))
+                .onErrorResume(
+                        e -> {
+                            refreshing.failRefresh();
+                            sumFailures.increment();
+                            log.debug(
+                                    "Sharded rate limit sum failed: key={}, {}",
+                                    key.value(),
+                                    e.getMessage());
+                            return Mono.just(refreshing.estimate(shardValue));
+                        });
+    }
+
+    private boolean isFull() {
+        return totals.size() >= rateLimitProperties.getShardedMaxKeys();
+    }
+
+    /** 한 Window 동안 요청이 없던 합계 제거 (합계 재조회 주기마다 최대 1회) */
+    private void retireExpired(long now) {
+        long last = lastRetiredAt.get();
+        if (now - last < rateLimitProperties.getShardedSumIntervalMs()
+                || !lastRetiredAt.compareAndSet(last, now)) {
+            return;
+        }
+        totals.forEach(
+                (value, total) -> {
+                    if (total.tryRetire(now)) {
+                        totals.remove(value, total);
+                    }
+                });
+    }
+
+    private Mono<Long> sum(RateLimitKey key, int shardCount) {
+        sums.increment();
+        return rateLimitCounterQueryManager.sumCounts(shardKeys(key, shardCount));
+    }
+
+    private boolean shouldRefreshByChance() {
+        double probability = rateLimitProperties.getShardedSumProbability();
+        return probability > 0 && ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    private List<RateLimitKey> shardKeys(RateLimitKey key, int shardCount) {
+        List<RateLimitKey> keys = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            keys.add(key.shard(i));
+        }
+        return keys;
+    }
+
+    private int shardCount() {
+        return Math.max(1, rateLimitProperties.getShardedShardCount());
+    }
+
+    private long nowMillis() {
+        return timeProvider.now().toEpochMilli();
+    }
+
+    /** 하위 Key 증가 횟수 */
+    public long incrementCount() {
+        return increments.sum();
+    }
+
+    /** 합계 조회 횟수 (MGET 호출 수) */
+    public long sumCount() {
+        return sums.sum();
+    }
+
+    /** 합계 조회 실패 횟수 */
+    public long sumFailureCount() {
+        return sumFailures.sum();
+    }
+
+    /** 현재 합계를 보관 중인 Key 수 */
+    public int size() {
+        return totals.size();
+    }
+
+    /** Key별 마지막 합계 (모든 상태 변경은 인스턴스 잠금 하에서 수행) */
+    private static final class ShardTotal {
+
+        /** 제거된 항목에 대한 {@link #tryBeginRefresh} 반환값 */
+        static final long RETIRED = -2;
+
+        private final long windowMillis;
+        private long total;
+        private long summedAt = Long.MIN_VALUE;
+        private long pending;
+        private boolean refreshing;
+        private long lastSeenAt;
+        private boolean retired;
+
+        ShardTotal(long windowMillis, long now) {
+            this.windowMillis = windowMillis;
+            this.lastSeenAt = now;
+        }
+
+        /**
+         * 합계 재조회 시작
+         *
+         * @return 재조회를 맡은 경우 시작 시점의 미반영 증가 횟수, 제거된 항목이면 {@link #RETIRED}, 아니면 -1
+         */
+        synchronized long tryBeginRefresh(long now, long intervalMillis, boolean byChance) {
+            if (retired) {
+                return RETIRED;
+            }
+            lastSeenAt = now;
+            pending++;
+            if (refreshing) {
+                return -1;
+            }
+            boolean stale = summedAt == Long.MIN_VALUE || now - summedAt >= intervalMillis;
+            if (!stale && !byChance) {
+                return -1;
+            }
+            refreshing = true;
+            return pending;
+        }
+
+        /** 마지막 합계 + 이 노드의 미반영 증가 횟수 (증가시킨 하위 Key 값보다 작지 않음) */
+        synchronized long estimate(long shardValue) {
+            return Math.max(shardValue, total + pending);
+        }
+
+        /** 합계 반영 (조회 시작 전 증가분은 합계에 포함됨) */
+        synchronized void completeRefresh(long sum, long pendingAtStart, long now) {
+            total = sum;
+            summedAt = now;
+            pending = Math.max(0, pending - pendingAtStart);
+            refreshing = false;
+        }
+
+        synchronized void failRefresh() {
+            refreshing = false;
+        }
+
+        /** 한 Window 동안 요청이 없고 재조회 중이 아니면 제거 상태로 전환 */
+        synchronized boolean tryRetire(long now) {
+            if (!retired && !refreshing && now - lastSeenAt >= windowMillis) {
+                retired = true;
+            }
+            return retired;
+        }
+    }
+}
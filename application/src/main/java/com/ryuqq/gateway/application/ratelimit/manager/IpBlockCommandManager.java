@@ -1,7 +1,12 @@
 package com.ryuqq.gateway.application.ratelimit.manager;
 
+import com.ryuqq.gateway.application.common.time.TimeProvider;
 import com.ryuqq.gateway.application.ratelimit.port.out.command.IpBlockCommandPort;
+import com.ryuqq.gateway.application.ratelimit.port.out.command.IpBlockEventPublishPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
 import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -15,24 +20,37 @@ import reactor.core.publisher.Mono;
  * <ul>
  *   <li>IP 차단 (TTL 포함)
  *   <li>IP 차단 해제
+ *   <li>차단/해제 이벤트 발행 (노드 로컬 차단 목록 갱신용)
  * </ul>
  *
  * <p><strong>의존성</strong>:
  *
  * <ul>
  *   <li>IpBlockCommandPort - Redis 저장/삭제
+ *   <li>IpBlockEventPublishPort - Redis Pub/Sub 발행
  * </ul>
  *
+ * <p>이벤트 발행 실패는 차단/해제 결과에 영향을 주지 않습니다 (주기적인 전체 조회로 복구).
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Component
 public class IpBlockCommandManager {
 
+    private static final Logger log = LoggerFactory.getLogger(IpBlockCommandManager.class);
+
     private final IpBlockCommandPort ipBlockCommandPort;
+    private final IpBlockEventPublishPort ipBlockEventPublishPort;
+    private final TimeProvider timeProvider;
 
-    public IpBlockCommandManager(IpBlockCommandPort ipBlockCommandPort) {
+    public IpBlockCommandManager(
+            IpBlockCommandPort ipBlockCommandPort,
+            IpBlockEventPublishPort ipBlockEventPublishPort,
+            TimeProvider timeProvider) {
         this.ipBlockCommandPort = ipBlockCommandPort;
+        this.ipBlockEventPublishPort = ipBlockEventPublishPort;
+        this.timeProvider = timeProvider;
     }
 
     /**
@@ -43,7 +61,17 @@ public class IpBlockCommandManager {
      * @return Mono&lt;Boolean&gt; 차단 성공 여부
      */
     public Mono<Boolean> block(String ipAddress, Duration duration) {
-        return ipBlockCommandPort.block(ipAddress, duration);
+        return ipBlockCommandPort
+                .block(ipAddress, duration)
+                .flatMap(
+                        blocked -> {
+                            if (!blocked) {
+                                return Mono.just(false);
+                            }
+                            long expiresAt = timeProvider.now().plus(duration).toEpochMilli();
+                            return publish(IpBlockEvent.blocked(ipAddress, expiresAt))
+                                    .thenReturn(true);
+                        });
     }
 
     /**
@@ -53,6 +81,23 @@ public class IpBlockCommandManager {
      * @return Mono&lt;Boolean&gt; 해제 성공 여부
      */
     public Mono<Boolean> unblock(String ipAddress) {
-        return ipBlockCommandPort.unblock(ipAddress);
+        return ipBlockCommandPort
+                .unblock(ipAddress)
+                .flatMap(
+                        unblocked ->
+                                publish(IpBlockEvent.unblocked(ipAddress)).thenReturn(unblocked));
+    }
+
+    private Mono<Void> publish(IpBlockEvent event) {
+        return ipBlockEventPublishPort
+                .publish(event)
+                .onErrorResume(
+                        e -> {
+                            log.warn(
+                                    "Failed to publish ip block event: ip={}, {}",
+                                    event.ipAddress(),
+                                    e.getMessage());
+                            return Mono.empty();
+                        });
     }
 }
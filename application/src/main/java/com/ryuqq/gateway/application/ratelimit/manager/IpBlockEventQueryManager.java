@@ -0,0 +1,39 @@
+package com.ryuqq.gateway.application.ratelimit.manager;
+
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockEventSubscribePort;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * IP Block Event Query Manager (Reactive)
+ *
+ * <p>IP 차단/해제 이벤트 수신을 담당하는 Manager
+ *
+ * <p><strong>의존성</strong>:
+ *
+ * <ul>
+ *   <li>IpBlockEventSubscribePort - Redis Pub/Sub 구독
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IpBlockEventQueryManager {
+
+    private final IpBlockEventSubscribePort ipBlockEventSubscribePort;
+
+    public IpBlockEventQueryManager(IpBlockEventSubscribePort ipBlockEventSubscribePort) {
+        this.ipBlockEventSubscribePort = ipBlockEventSubscribePort;
+    }
+
+    /**
+     * IP 차단 이벤트 구독
+     *
+     * @return Flux&lt;IpBlockEvent&gt; 수신한 이벤트
+     */
+    public Flux<IpBlockEvent> subscribe() {
+        return ipBlockEventSubscribePort.subscribe();
+    }
+}
@@ -73,4 +73,17 @@ public class IpBlockQueryManager {
     public Flux<IpBlockQueryPort.BlockedIpWithTtl> findAllBlockedIpsWithTtl() {
         return ipBlockQueryPort.findAllBlockedIpsWithTtl();
     }
+
+    /**
+     * 차단된 IP 목록 페이지 조회 (만료 시각 순 정렬)
+     *
+     * @param offset 건너뛸 항목 수
+     * @param limit 조회할 최대 항목 수
+     * @param longestFirst true면 만료가 늦은 순
+     * @return Mono&lt;BlockedIpPage&gt; 전체 차단 수와 페이지 항목
+     */
+    public Mono<IpBlockQueryPort.BlockedIpPage> findBlockedIps(
+            long offset, int limit, boolean longestFirst) {
+        return ipBlockQueryPort.findBlockedIps(offset, limit, longestFirst);
+    }
 }
@@ -0,0 +1,57 @@
+package com.ryuqq.gateway.application.ratelimit.manager;
+
+import com.ryuqq.gateway.application.ratelimit.port.out.command.PreAuthRateLimitCommandPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 전 Rate Limit 일괄 판정 Command Manager (Reactive)
+ *
+ * <p>IP 차단 확인과 IP/Endpoint 카운터 증가를 Redis 왕복 1회로 수행하는 Manager
+ *
+ * <p><strong>의존성</strong>:
+ *
+ * <ul>
+ *   <li>PreAuthRateLimitCommandPort - Redis Lua Script 실행
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class PreAuthRateLimitCommandManager {
+
+    private final PreAuthRateLimitCommandPort preAuthRateLimitCommandPort;
+
+    public PreAuthRateLimitCommandManager(
+            PreAuthRateLimitCommandPort preAuthRateLimitCommandPort) {
+        this.preAuthRateLimitCommandPort = preAuthRateLimitCommandPort;
+    }
+
+    /**
+     * IP 차단 확인 및 IP/Endpoint 카운터 증가
+     *
+     * @param ipAddress 클라이언트 IP 주소
+     * @param ipKey IP Rate Limit Key
+     * @param ipLimit IP 한도
+     * @param endpointKey Endpoint Rate Limit Key
+     * @param endpointLimit Endpoint 한도
+     * @param window 시간 윈도우 (TTL)
+     * @param checkIpBlock IP 차단 확인 여부
+     * @return Mono&lt;PreAuthRateLimitResult&gt; 판정 결과
+     */
+    public Mono<PreAuthRateLimitResult> check(
+            String ipAddress,
+            RateLimitKey ipKey,
+            int ipLimit,
+            RateLimitKey endpointKey,
+            int endpointLimit,
+            Duration window,
+            boolean checkIpBlock) {
+        return preAuthRateLimitCommandPort.check(
+                ipAddress, ipKey, ipLimit, endpointKey, endpointLimit, window, checkIpBlock);
+    }
+}
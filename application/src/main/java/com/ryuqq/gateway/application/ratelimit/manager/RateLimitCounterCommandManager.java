@@ -1,6 +1,8 @@
 package com.ryuqq.gateway.application.ratelimit.manager;
 
 import com.ryuqq.gateway.application.ratelimit.port.out.command.RateLimitCounterCommandPort;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
 import java.time.Duration;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,8 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>카운터 증가 (INCR + TTL 설정)
+ *   <li>로컬 증가분 일괄 반영 (INCRBY + TTL 설정)
+ *   <li>SLIDING_WINDOW/GCRA 판정 (Lua Script)
  *   <li>카운터 삭제 (리셋)
  * </ul>
  *
@@ -47,6 +51,32 @@ public class RateLimitCounterCommandManager {
         return rateLimitCounterCommandPort.incrementAndGet(key, window);
     }
 
+    /**
+     * 카운터를 지정한 값만큼 증가 및 TTL 설정
+     *
+     * @param key Rate Limit Key
+     * @param delta 증가량
+     * @param window 시간 윈도우 (TTL)
+     * @return Mono&lt;Long&gt; 증가 후 카운트 값
+     */
+    public Mono<Long> incrementBy(RateLimitKey key, long delta, Duration window) {
+        return rateLimitCounterCommandPort.incrementBy(key, delta, window);
+    }
+
+    /**
+     * 알고리즘별 판정 및 상태 갱신 (원자적)
+     *
+     * @param key Rate Limit Key
+     * @param algorithm 판정 알고리즘 (FIXED_WINDOW 제외)
+     * @param limit Window당 최대 요청 수
+     * @param window 시간 윈도우
+     * @return Mono&lt;RateLimitDecision&gt; 판정 결과
+     */
+    public Mono<RateLimitDecision> acquire(
+            RateLimitKey key, RateLimitAlgorithm algorithm, int limit, Duration window) {
+        return rateLimitCounterCommandPort.acquire(key, algorithm, limit, window);
+    }
+
     /**
      * 카운터 삭제 (리셋)
      *
@@ -2,6 +2,7 @@ package com.ryuqq.gateway.application.ratelimit.manager;
 
 import com.ryuqq.gateway.application.ratelimit.port.out.query.RateLimitCounterQueryPort;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -14,6 +15,7 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>현재 카운터 값 조회
+ *   <li>여러 카운터 합계 조회 (SHARDED 하위 Key)
  *   <li>남은 TTL 조회
  * </ul>
  *
@@ -45,6 +47,16 @@ public class RateLimitCounterQueryManager {
         return rateLimitCounterQueryPort.getCurrentCount(key);
     }
 
+    /**
+     * 여러 카운터 값의 합계 조회
+     *
+     * @param keys Rate Limit Key 목록
+     * @return Mono&lt;Long&gt; 합계 (존재하지 않는 Key는 0으로 계산)
+     */
+    public Mono<Long> sumCounts(List<RateLimitKey> keys) {
+        return rateLimitCounterQueryPort.sumCounts(keys);
+    }
+
     /**
      * 남은 TTL 조회 (초)
      *
@@ -0,0 +1,31 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.command;
+
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
+import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 전 Rate Limit 일괄 체크 UseCase (Command Port-In)
+ *
+ * <p>IP 차단 여부, IP Rate Limit, Endpoint Rate Limit을 Redis 왕복 1회로 체크하는 Inbound Port
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>CheckPreAuthRateLimitService (application.ratelimit.service.command)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface CheckPreAuthRateLimitUseCase {
+
+    /**
+     * 인증 전 Rate Limit 일괄 체크 실행
+     *
+     * @param command CheckPreAuthRateLimitCommand
+     * @return Mono&lt;CheckRateLimitResponse&gt; (한도에 도달한 쪽의 결과, 모두 허용이면 남은 요청 수가 적은 쪽의 결과)
+     * @throws com.ryuqq.gateway.domain.ratelimit.exception.IpBlockedException IP 차단 중인 경우
+     */
+    Mono<CheckRateLimitResponse> execute(CheckPreAuthRateLimitCommand command);
+}
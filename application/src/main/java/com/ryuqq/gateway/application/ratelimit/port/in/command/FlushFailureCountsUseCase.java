@@ -0,0 +1,28 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.command;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Flush Failure Counts UseCase
+ *
+ * <p>노드 로컬에서 집계한 실패 횟수 반영 UseCase
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>로컬 실패 증가분을 Redis에 묶음 반영
+ *   <li>임계값에 도달한 IP의 차단을 Redis에 저장하고 다른 노드에 전파
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface FlushFailureCountsUseCase {
+
+    /**
+     * 로컬 실패 횟수 반영
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널 (개별 Key 실패는 다음 주기에 재시도)
+     */
+    Mono<Void> execute();
+}
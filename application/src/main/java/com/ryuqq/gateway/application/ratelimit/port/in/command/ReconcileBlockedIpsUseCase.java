@@ -0,0 +1,28 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.command;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reconcile Blocked IPs UseCase
+ *
+ * <p>노드 로컬 차단 IP 목록을 Redis와 맞추는 UseCase
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>기동 시 차단 IP 목록 적재
+ *   <li>누락된 차단/해제 이벤트 복구
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface ReconcileBlockedIpsUseCase {
+
+    /**
+     * 차단 IP 목록 재적재
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    Mono<Void> execute();
+}
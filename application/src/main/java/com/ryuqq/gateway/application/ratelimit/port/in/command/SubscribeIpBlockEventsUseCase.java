@@ -0,0 +1,21 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.command;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Subscribe IP Block Events UseCase
+ *
+ * <p>IP 차단/해제 이벤트를 구독하여 노드 로컬 차단 IP 목록에 반영하는 UseCase
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SubscribeIpBlockEventsUseCase {
+
+    /**
+     * 이벤트 구독 및 반영
+     *
+     * @return Mono&lt;Void&gt; 구독이 끝나면 완료 (연결이 끊기면 에러로 종료, 재구독은 호출 측 책임)
+     */
+    Mono<Void> execute();
+}
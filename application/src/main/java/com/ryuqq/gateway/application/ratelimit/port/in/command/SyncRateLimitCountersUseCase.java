@@ -0,0 +1,28 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.command;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sync Rate Limit Counters UseCase
+ *
+ * <p>HYBRID 모드 로컬 카운터 동기화 UseCase
+ *
+ * <p><strong>책임</strong>:
+ *
+ * <ul>
+ *   <li>로컬 증가분을 Redis에 묶음 반영
+ *   <li>모든 노드의 합계를 로컬 판정 기준으로 반영
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface SyncRateLimitCountersUseCase {
+
+    /**
+     * 로컬 카운터 동기화
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널 (개별 Key 실패는 다음 주기에 재시도)
+     */
+    Mono<Void> execute();
+}
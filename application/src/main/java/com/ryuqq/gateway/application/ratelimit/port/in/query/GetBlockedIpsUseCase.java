@@ -1,7 +1,8 @@
 package com.ryuqq.gateway.application.ratelimit.port.in.query;
 
-import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpResponse;
-import reactor.core.publisher.Flux;
+import com.ryuqq.gateway.application.ratelimit.dto.query.GetBlockedIpsQuery;
+import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpPageResponse;
+import reactor.core.publisher.Mono;
 
 /**
  * 차단된 IP 목록 조회 UseCase
@@ -12,9 +13,10 @@ import reactor.core.publisher.Flux;
 public interface GetBlockedIpsUseCase {
 
     /**
-     * 모든 차단된 IP 목록 조회
+     * 차단된 IP 목록 페이지 조회 (만료 시각 순 정렬)
      *
-     * @return Flux&lt;BlockedIpResponse&gt; 차단된 IP 목록 (TTL 포함)
+     * @param query 페이지 조회 조건
+     * @return Mono&lt;BlockedIpPageResponse&gt; 차단된 IP 페이지 (TTL 포함)
      */
-    Flux<BlockedIpResponse> execute();
+    Mono<BlockedIpPageResponse> execute(GetBlockedIpsQuery query);
 }
@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.query;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.HybridRateLimitStatsResponse;
+
+/**
+ * Hybrid Rate Limit 통계 조회 UseCase (Query Port-In)
+ *
+ * <p>HYBRID 모드 로컬 카운터의 판정/동기화 통계를 조회하는 Inbound Port (메트릭 수집용)
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>GetHybridRateLimitStatsService (application.ratelimit.service.query)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetHybridRateLimitStatsUseCase {
+
+    /**
+     * Hybrid Rate Limit 통계 조회 실행
+     *
+     * <p>I/O 없이 메모리의 누적값만 반환합니다.
+     *
+     * @return HybridRateLimitStatsResponse
+     */
+    HybridRateLimitStatsResponse execute();
+}
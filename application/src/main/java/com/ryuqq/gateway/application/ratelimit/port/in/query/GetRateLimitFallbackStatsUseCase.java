@@ -0,0 +1,29 @@
+package com.ryuqq.gateway.application.ratelimit.port.in.query;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.RateLimitFallbackStatsResponse;
+
+/**
+ * Rate Limit Fallback 통계 조회 UseCase (Query Port-In)
+ *
+ * <p>Redis 장애 시 노드 로컬 Fallback Limiter의 전환 상태와 판정 통계를 조회하는 Inbound Port (메트릭 수집용)
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>GetRateLimitFallbackStatsService (application.ratelimit.service.query)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface GetRateLimitFallbackStatsUseCase {
+
+    /**
+     * Rate Limit Fallback 통계 조회 실행
+     *
+     * <p>I/O 없이 메모리의 현재값만 반환합니다.
+     *
+     * @return RateLimitFallbackStatsResponse
+     */
+    RateLimitFallbackStatsResponse execute();
+}
@@ -0,0 +1,33 @@
+package com.ryuqq.gateway.application.ratelimit.port.out.command;
+
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import reactor.core.publisher.Mono;
+
+/**
+ * IP 차단 이벤트 발행 Port
+ *
+ * <p>IP 차단/해제 이벤트를 모든 Gateway 노드에 발행하는 Port
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>IpBlockEventPublishAdapter (Redis Pub/Sub)
+ * </ul>
+ *
+ * <p><strong>Redis Channel</strong>:
+ *
+ * <pre>gateway:blocked_ip:events</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface IpBlockEventPublishPort {
+
+    /**
+     * IP 차단 이벤트 발행
+     *
+     * @param event IP 차단 이벤트
+     * @return Mono&lt;Void&gt; 발행 완료 시그널
+     */
+    Mono<Void> publish(IpBlockEvent event);
+}
@@ -0,0 +1,44 @@
+package com.ryuqq.gateway.application.ratelimit.port.out.command;
+
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.time.Duration;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 전 Rate Limit 일괄 판정 Command Port
+ *
+ * <p>IP 차단 확인, IP 카운터 증가, Endpoint 카운터 증가를 원자적으로 한 번에 수행하는 Port
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>PreAuthRateLimitCommandAdapter (Redis Lua Script)
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface PreAuthRateLimitCommandPort {
+
+    /**
+     * IP 차단 확인 및 IP/Endpoint 카운터 증가
+     *
+     * @param ipAddress 클라이언트 IP 주소 (차단 Key 구성용)
+     * @param ipKey IP Rate Limit Key
+     * @param ipLimit IP 한도
+     * @param endpointKey Endpoint Rate Limit Key
+     * @param endpointLimit Endpoint 한도
+     * @param window 시간 윈도우 (TTL)
+     * @param checkIpBlock IP 차단 확인 여부
+     * @return Mono&lt;PreAuthRateLimitResult&gt; 판정 결과
+     */
+    Mono<PreAuthRateLimitResult> check(
+            String ipAddress,
+            RateLimitKey ipKey,
+            int ipLimit,
+            RateLimitKey endpointKey,
+            int endpointLimit,
+            Duration window,
+            boolean checkIpBlock);
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.gateway.application.ratelimit.port.out.command;
 
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
 import java.time.Duration;
 import reactor.core.publisher.Mono;
@@ -19,6 +21,8 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>카운터 증가 (INCR + TTL 설정)
+ *   <li>로컬 증가분 일괄 반영 (INCRBY + TTL 설정)
+ *   <li>SLIDING_WINDOW/GCRA 판정 (Lua Script)
  *   <li>카운터 삭제 (리셋)
  * </ul>
  *
@@ -38,9 +42,38 @@ public interface RateLimitCounterCommandPort {
      */
     Mono<Long> incrementAndGet(RateLimitKey key, Duration window);
 
+    /**
+     * 카운터를 지정한 값만큼 증가 및 TTL 설정
+     *
+     * <p>HYBRID 모드에서 노드 로컬 증가분을 Redis에 반영할 때 사용합니다.
+     *
+     * @param key Rate Limit Key
+     * @param delta 증가량
+     * @param window 시간 윈도우 (TTL)
+     * @return Mono&lt;Long&gt; 증가 후 카운트 값 (모든 노드 합계)
+     */
+    Mono<Long> incrementBy(RateLimitKey key, long delta, Duration window);
+
+    /**
+     * 알고리즘별 판정 및 상태 갱신 (원자적)
+     *
+     * <p>SLIDING_WINDOW, GCRA 알고리즘에 사용합니다. 허용된 경우에만 상태를 갱신하고, 남은 요청 수와 정확한 재시도 대기
+     * 시간을 반환합니다.
+     *
+     * @param key Rate Limit Key (알고리즘 접미사 적용 전)
+     * @param algorithm 판정 알고리즘 (FIXED_WINDOW 제외)
+     * @param limit Window당 최대 요청 수
+     * @param window 시간 윈도우
+     * @return Mono&lt;RateLimitDecision&gt; 판정 결과
+     */
+    Mono<RateLimitDecision> acquire(
+            RateLimitKey key, RateLimitAlgorithm algorithm, int limit, Duration window);
+
     /**
      * 카운터 삭제 (리셋)
      *
+     * <p>모든 알고리즘의 상태를 함께 삭제합니다.
+     *
      * @param key Rate Limit Key
      * @return Mono&lt;Boolean&gt; 삭제 성공 여부
      */
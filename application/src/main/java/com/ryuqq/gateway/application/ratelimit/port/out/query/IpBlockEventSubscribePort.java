@@ -0,0 +1,30 @@
+package com.ryuqq.gateway.application.ratelimit.port.out.query;
+
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import reactor.core.publisher.Flux;
+
+/**
+ * IP 차단 이벤트 구독 Port
+ *
+ * <p>다른 노드(자신 포함)가 발행한 IP 차단/해제 이벤트를 수신하는 Port
+ *
+ * <p><strong>구현체</strong>:
+ *
+ * <ul>
+ *   <li>IpBlockEventSubscribeAdapter (Redis Pub/Sub)
+ * </ul>
+ *
+ * <p>Pub/Sub은 전달을 보장하지 않으므로, 구독이 끊긴 동안의 이벤트는 주기적인 전체 조회로 복구해야 합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public interface IpBlockEventSubscribePort {
+
+    /**
+     * IP 차단 이벤트 구독
+     *
+     * @return Flux&lt;IpBlockEvent&gt; 수신한 이벤트 (연결이 끊기면 에러로 종료)
+     */
+    Flux<IpBlockEvent> subscribe();
+}
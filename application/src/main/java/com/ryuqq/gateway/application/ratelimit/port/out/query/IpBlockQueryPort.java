@@ -1,5 +1,6 @@
 package com.ryuqq.gateway.application.ratelimit.port.out.query;
 
+import java.util.List;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -19,6 +20,7 @@ import reactor.core.publisher.Mono;
  * <ul>
  *   <li>IP 차단 여부 조회
  *   <li>차단 남은 시간 조회
+ *   <li>차단된 IP 목록 페이지 조회 (만료 시각 순)
  * </ul>
  *
  * @author development-team
@@ -56,6 +58,16 @@ public interface IpBlockQueryPort {
      */
     Flux<BlockedIpWithTtl> findAllBlockedIpsWithTtl();
 
+    /**
+     * 차단된 IP 목록 페이지 조회 (만료 시각 순 정렬)
+     *
+     * @param offset 건너뛸 항목 수 (0 이상)
+     * @param limit 조회할 최대 항목 수 (1 이상)
+     * @param longestFirst true면 만료가 늦은 순 (남은 시간이 긴 순), false면 만료가 빠른 순
+     * @return Mono&lt;BlockedIpPage&gt; 전체 차단 수와 페이지 항목
+     */
+    Mono<BlockedIpPage> findBlockedIps(long offset, int limit, boolean longestFirst);
+
     /**
      * IP와 TTL 정보를 담는 DTO
      *
@@ -63,4 +75,12 @@ public interface IpBlockQueryPort {
      * @param ttlSeconds 남은 시간 (초)
      */
     record BlockedIpWithTtl(String ip, Long ttlSeconds) {}
+
+    /**
+     * 차단된 IP 페이지 DTO
+     *
+     * @param totalCount 전체 차단 IP 수
+     * @param items 페이지 항목
+     */
+    record BlockedIpPage(long totalCount, List<BlockedIpWithTtl> items) {}
 }
@@ -1,6 +1,7 @@
 package com.ryuqq.gateway.application.ratelimit.port.out.query;
 
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import java.util.List;
 import reactor.core.publisher.Mono;
 
 /**
@@ -18,6 +19,7 @@ import reactor.core.publisher.Mono;
  *
  * <ul>
  *   <li>현재 카운터 값 조회
+ *   <li>여러 카운터 합계 조회 (SHARDED 하위 Key)
  *   <li>남은 TTL 조회
  * </ul>
  *
@@ -34,6 +36,14 @@ public interface RateLimitCounterQueryPort {
      */
     Mono<Long> getCurrentCount(RateLimitKey key);
 
+    /**
+     * 여러 카운터 값의 합계 조회 (한 번의 조회)
+     *
+     * @param keys Rate Limit Key 목록
+     * @return Mono&lt;Long&gt; 합계 (존재하지 않는 Key는 0으로 계산)
+     */
+    Mono<Long> sumCounts(List<RateLimitKey> keys);
+
     /**
      * 남은 TTL 조회 (초)
      *
@@ -0,0 +1,37 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
+import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.RateLimitCheckCoordinator;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.CheckPreAuthRateLimitUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 전 Rate Limit 일괄 체크 Service
+ *
+ * <p>RateLimitCheckCoordinator를 통해 IP 차단, IP/Endpoint Rate Limit을 한 번에 체크하는 서비스
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class CheckPreAuthRateLimitService implements CheckPreAuthRateLimitUseCase {
+
+    private final RateLimitCheckCoordinator rateLimitCheckCoordinator;
+
+    public CheckPreAuthRateLimitService(RateLimitCheckCoordinator rateLimitCheckCoordinator) {
+        this.rateLimitCheckCoordinator = rateLimitCheckCoordinator;
+    }
+
+    /**
+     * 인증 전 Rate Limit 일괄 체크 실행
+     *
+     * @param command CheckPreAuthRateLimitCommand
+     * @return Mono&lt;CheckRateLimitResponse&gt;
+     */
+    @Override
+    public Mono<CheckRateLimitResponse> execute(CheckPreAuthRateLimitCommand command) {
+        return rateLimitCheckCoordinator.checkPreAuth(command);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import com.ryuqq.gateway.application.ratelimit.internal.FailureCountAggregator;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.FlushFailureCountsUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Flush Failure Counts Service
+ *
+ * <p>노드 로컬 실패 횟수 반영 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>FailureCountAggregator에 반영 위임
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class FlushFailureCountsService implements FlushFailureCountsUseCase {
+
+    private final FailureCountAggregator failureCountAggregator;
+
+    public FlushFailureCountsService(FailureCountAggregator failureCountAggregator) {
+        this.failureCountAggregator = failureCountAggregator;
+    }
+
+    /**
+     * 로컬 실패 횟수 반영
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> execute() {
+        return failureCountAggregator.flush();
+    }
+}
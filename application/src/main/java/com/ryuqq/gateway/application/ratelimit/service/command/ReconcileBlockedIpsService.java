@@ -0,0 +1,82 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.internal.BlockedIpMirror;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.ReconcileBlockedIpsUseCase;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockQueryPort.BlockedIpWithTtl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reconcile Blocked IPs Service
+ *
+ * <p>Redis의 차단 IP 목록으로 노드 로컬 사본({@link BlockedIpMirror})을 교체하는 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>전체 조회 시작 시점 표시
+ *   <li>IpBlockQueryManager로 차단 IP와 TTL 조회
+ *   <li>TTL을 만료 시각으로 변환하여 BlockedIpMirror에 반영
+ * </ol>
+ *
+ * <p>TTL이 없는 Key는 만료되지 않는 차단으로, TTL이 1초 미만이거나 이미 사라진 Key는 제외합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class ReconcileBlockedIpsService implements ReconcileBlockedIpsUseCase {
+
+    /** Redis TTL 조회 결과 - 만료 시간 없음 */
+    private static final long NO_EXPIRY = -1L;
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    private final IpBlockQueryManager ipBlockQueryManager;
+    private final BlockedIpMirror blockedIpMirror;
+    private final TimeProvider timeProvider;
+
+    public ReconcileBlockedIpsService(
+            IpBlockQueryManager ipBlockQueryManager,
+            BlockedIpMirror blockedIpMirror,
+            TimeProvider timeProvider) {
+        this.ipBlockQueryManager = ipBlockQueryManager;
+        this.blockedIpMirror = blockedIpMirror;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 차단 IP 목록 재적재
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> execute() {
+        return Mono.defer(
+                () -> {
+                    long mark = blockedIpMirror.mark();
+                    long now = timeProvider.now().toEpochMilli();
+                    return ipBlockQueryManager
+                            .findAllBlockedIpsWithTtl()
+                            .filter(ReconcileBlockedIpsService::isLive)
+                            .collectMap(
+                                    BlockedIpWithTtl::ip, blocked -> toExpiresAt(blocked, now))
+                            .doOnNext(snapshot -> blockedIpMirror.reconcile(snapshot, mark))
+                            .then();
+                });
+    }
+
+    private static boolean isLive(BlockedIpWithTtl blocked) {
+        Long ttlSeconds = blocked.ttlSeconds();
+        return ttlSeconds != null && (ttlSeconds > 0 || ttlSeconds == NO_EXPIRY);
+    }
+
+    private static long toExpiresAt(BlockedIpWithTtl blocked, long now) {
+        if (blocked.ttlSeconds() == NO_EXPIRY) {
+            return Long.MAX_VALUE;
+        }
+        return now + blocked.ttlSeconds() * MILLIS_PER_SECOND;
+    }
+}
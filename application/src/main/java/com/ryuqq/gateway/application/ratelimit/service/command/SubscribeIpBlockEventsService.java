@@ -0,0 +1,45 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import com.ryuqq.gateway.application.ratelimit.internal.BlockedIpMirror;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockEventQueryManager;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SubscribeIpBlockEventsUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Subscribe IP Block Events Service
+ *
+ * <p>IP 차단/해제 이벤트 구독 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>IpBlockEventQueryManager로 이벤트 구독
+ *   <li>수신한 이벤트를 BlockedIpMirror에 반영
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SubscribeIpBlockEventsService implements SubscribeIpBlockEventsUseCase {
+
+    private final IpBlockEventQueryManager ipBlockEventQueryManager;
+    private final BlockedIpMirror blockedIpMirror;
+
+    public SubscribeIpBlockEventsService(
+            IpBlockEventQueryManager ipBlockEventQueryManager, BlockedIpMirror blockedIpMirror) {
+        this.ipBlockEventQueryManager = ipBlockEventQueryManager;
+        this.blockedIpMirror = blockedIpMirror;
+    }
+
+    /**
+     * 이벤트 구독 및 반영
+     *
+     * @return Mono&lt;Void&gt; 구독이 끝나면 완료
+     */
+    @Override
+    public Mono<Void> execute() {
+        return ipBlockEventQueryManager.subscribe().doOnNext(blockedIpMirror::apply).then();
+    }
+}
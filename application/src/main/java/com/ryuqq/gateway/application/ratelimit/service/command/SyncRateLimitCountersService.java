@@ -0,0 +1,40 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import com.ryuqq.gateway.application.ratelimit.internal.HybridRateLimitCounter;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.SyncRateLimitCountersUseCase;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sync Rate Limit Counters Service
+ *
+ * <p>HYBRID 모드 로컬 카운터 동기화 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>HybridRateLimitCounter에 동기화 위임
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class SyncRateLimitCountersService implements SyncRateLimitCountersUseCase {
+
+    private final HybridRateLimitCounter hybridRateLimitCounter;
+
+    public SyncRateLimitCountersService(HybridRateLimitCounter hybridRateLimitCounter) {
+        this.hybridRateLimitCounter = hybridRateLimitCounter;
+    }
+
+    /**
+     * 로컬 카운터 동기화
+     *
+     * @return Mono&lt;Void&gt; 완료 시그널
+     */
+    @Override
+    public Mono<Void> execute() {
+        return hybridRateLimitCounter.sync();
+    }
+}
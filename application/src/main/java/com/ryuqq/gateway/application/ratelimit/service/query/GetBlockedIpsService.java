@@ -1,15 +1,20 @@
 package com.ryuqq.gateway.application.ratelimit.service.query;
 
+import com.ryuqq.gateway.application.ratelimit.dto.query.GetBlockedIpsQuery;
+import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpPageResponse;
 import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpResponse;
 import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
 import com.ryuqq.gateway.application.ratelimit.port.in.query.GetBlockedIpsUseCase;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockQueryPort;
+import java.util.List;
 import org.springframework.stereotype.Service;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * 차단된 IP 목록 조회 Service
  *
- * <p>모든 차단된 IP를 조회하고 TTL 정보를 포함하여 반환합니다.
+ * <p>차단 인덱스(만료 시각 순)에서 요청한 페이지만 조회하고 TTL 정보를 포함하여 반환합니다. 전체 Key 스캔이나 IP별 TTL 조회
+ * 없이 한 번의 Redis 호출로 처리합니다.
  *
  * @author development-team
  * @since 1.0.0
@@ -24,16 +29,24 @@ public class GetBlockedIpsService implements GetBlockedIpsUseCase {
     }
 
     /**
-     * 모든 차단된 IP 목록 조회
+     * 차단된 IP 목록 페이지 조회
      *
-     * <p>N+1 문제를 방지하기 위해 IP와 TTL을 함께 조회합니다.
-     *
-     * @return Flux&lt;BlockedIpResponse&gt; 차단된 IP 목록 (TTL 포함)
+     * @param query 페이지 조회 조건
+     * @return Mono&lt;BlockedIpPageResponse&gt; 차단된 IP 페이지 (TTL 포함)
      */
     @Override
-    public Flux<BlockedIpResponse> execute() {
+    public Mono<BlockedIpPageResponse> execute(GetBlockedIpsQuery query) {
         return ipBlockQueryManager
-                .findAllBlockedIpsWithTtl()
-                .map(dto -> BlockedIpResponse.of(dto.ip(), dto.ttlSeconds()));
+                .findBlockedIps(query.offset(), query.size(), query.longestFirst())
+                .map(page -> toResponse(page, query));
+    }
+
+    private BlockedIpPageResponse toResponse(
+            IpBlockQueryPort.BlockedIpPage page, GetBlockedIpsQuery query) {
+        List<BlockedIpResponse> content =
+                page.items().stream()
+                        .map(dto -> BlockedIpResponse.of(dto.ip(), dto.ttlSeconds()))
+                        .toList();
+        return BlockedIpPageResponse.of(content, query.page(), query.size(), page.totalCount());
     }
 }
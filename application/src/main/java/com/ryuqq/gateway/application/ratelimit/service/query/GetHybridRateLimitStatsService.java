@@ -0,0 +1,46 @@
+package com.ryuqq.gateway.application.ratelimit.service.query;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.HybridRateLimitStatsResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.HybridRateLimitCounter;
+import com.ryuqq.gateway.application.ratelimit.port.in.query.GetHybridRateLimitStatsUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * Get Hybrid Rate Limit Stats Service
+ *
+ * <p>HYBRID 모드 로컬 카운터 통계 조회 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>HybridRateLimitCounter 누적값을 Response로 변환
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetHybridRateLimitStatsService implements GetHybridRateLimitStatsUseCase {
+
+    private final HybridRateLimitCounter hybridRateLimitCounter;
+
+    public GetHybridRateLimitStatsService(HybridRateLimitCounter hybridRateLimitCounter) {
+        this.hybridRateLimitCounter = hybridRateLimitCounter;
+    }
+
+    /**
+     * Hybrid Rate Limit 통계 조회
+     *
+     * @return HybridRateLimitStatsResponse
+     */
+    @Override
+    public HybridRateLimitStatsResponse execute() {
+        return new HybridRateLimitStatsResponse(
+                hybridRateLimitCounter.localDecisionCount(),
+                hybridRateLimitCounter.overflowCount(),
+                hybridRateLimitCounter.syncedKeyCount(),
+                hybridRateLimitCounter.syncBatchCount(),
+                hybridRateLimitCounter.syncFailureCount(),
+                hybridRateLimitCounter.size());
+    }
+}
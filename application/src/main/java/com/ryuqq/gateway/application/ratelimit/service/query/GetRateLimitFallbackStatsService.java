@@ -0,0 +1,46 @@
+package com.ryuqq.gateway.application.ratelimit.service.query;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.RateLimitFallbackStatsResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.LocalFallbackRateLimiter;
+import com.ryuqq.gateway.application.ratelimit.port.in.query.GetRateLimitFallbackStatsUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * Get Rate Limit Fallback Stats Service
+ *
+ * <p>노드 로컬 Fallback Limiter 통계 조회 서비스
+ *
+ * <p><strong>오케스트레이션 역할만 수행</strong>:
+ *
+ * <ol>
+ *   <li>LocalFallbackRateLimiter 현재값을 Response로 변환
+ * </ol>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Service
+public class GetRateLimitFallbackStatsService implements GetRateLimitFallbackStatsUseCase {
+
+    private final LocalFallbackRateLimiter localFallbackRateLimiter;
+
+    public GetRateLimitFallbackStatsService(LocalFallbackRateLimiter localFallbackRateLimiter) {
+        this.localFallbackRateLimiter = localFallbackRateLimiter;
+    }
+
+    /**
+     * Rate Limit Fallback 통계 조회
+     *
+     * @return RateLimitFallbackStatsResponse
+     */
+    @Override
+    public RateLimitFallbackStatsResponse execute() {
+        return new RateLimitFallbackStatsResponse(
+                localFallbackRateLimiter.isActive(),
+                localFallbackRateLimiter.decisionCount(),
+                localFallbackRateLimiter.untrackedDecisionCount(),
+                localFallbackRateLimiter.activationCount(),
+                localFallbackRateLimiter.recoveryCount(),
+                localFallbackRateLimiter.size());
+    }
+}
@@ -1,10 +1,13 @@
 package com.ryuqq.gateway.application.ratelimit.service.query;
 
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
 import com.ryuqq.gateway.application.ratelimit.dto.response.RateLimitStatusResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.ShardedRateLimitCounter;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterQueryManager;
 import com.ryuqq.gateway.application.ratelimit.port.in.query.GetRateLimitStatusUseCase;
 import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitPolicy;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -14,6 +17,8 @@ import reactor.core.publisher.Mono;
  *
  * <p>특정 키의 Rate Limit 상태를 조회하는 Service (Admin 전용)
  *
+ * <p>SHARDED 모드는 모든 하위 Key의 합계를 카운트로, 첫 번째 하위 Key의 TTL을 남은 시간으로 사용합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
@@ -21,9 +26,16 @@ import reactor.core.publisher.Mono;
 public class GetRateLimitStatusService implements GetRateLimitStatusUseCase {
 
     private final RateLimitCounterQueryManager rateLimitCounterQueryManager;
+    private final ShardedRateLimitCounter shardedRateLimitCounter;
+    private final RateLimitProperties rateLimitProperties;
 
-    public GetRateLimitStatusService(RateLimitCounterQueryManager rateLimitCounterQueryManager) {
+    public GetRateLimitStatusService(
+            RateLimitCounterQueryManager rateLimitCounterQueryManager,
+            ShardedRateLimitCounter shardedRateLimitCounter,
+            RateLimitProperties rateLimitProperties) {
         this.rateLimitCounterQueryManager = rateLimitCounterQueryManager;
+        this.shardedRateLimitCounter = shardedRateLimitCounter;
+        this.rateLimitProperties = rateLimitProperties;
     }
 
     /**
@@ -38,9 +50,13 @@ public class GetRateLimitStatusService implements GetRateLimitStatusUseCase {
         RateLimitKey key = RateLimitKey.of(limitType, identifier);
         RateLimitPolicy policy = RateLimitPolicy.defaultPolicy(limitType);
 
+        boolean sharded = rateLimitProperties.getMode(limitType) == RateLimitMode.SHARDED;
+
         return Mono.zip(
-                        rateLimitCounterQueryManager.getCurrentCount(key),
-                        rateLimitCounterQueryManager.getTtlSeconds(key))
+                        sharded
+                                ? shardedRateLimitCounter.currentCount(key)
+                                : rateLimitCounterQueryManager.getCurrentCount(key),
+                        rateLimitCounterQueryManager.getTtlSeconds(sharded ? key.shard(0) : key))
                 .map(
                         tuple -> {
                             long currentCount = tuple.getT1();
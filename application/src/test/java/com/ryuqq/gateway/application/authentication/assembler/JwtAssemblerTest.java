@@ -5,7 +5,7 @@ import static org.assertj.core.api.Assertions.*;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
 import com.ryuqq.gateway.application.authentication.dto.response.GetPublicKeyResponse;
 import com.ryuqq.gateway.application.authentication.dto.response.ValidateJwtResponse;
-import com.ryuqq.gateway.domain.authentication.vo.AccessToken;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
 import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
 import java.time.Instant;
@@ -37,28 +37,42 @@ class JwtAssemblerTest {
     }
 
     @Nested
-    @DisplayName("toAccessToken 메서드")
-    class ToAccessTokenTest {
+    @DisplayName("toParsedJwt 메서드")
+    class ToParsedJwtTest {
 
         @Test
-        @DisplayName("유효한 command를 AccessToken으로 변환해야 한다")
-        void shouldConvertValidCommandToAccessToken() {
+        @DisplayName("파싱된 JWT가 없으면 accessToken을 파싱해야 한다")
+        void shouldParseAccessTokenWhenParsedJwtMissing() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
 
             // when
-            AccessToken result = jwtAssembler.toAccessToken(command);
+            ParsedJwt result = jwtAssembler.toParsedJwt(command);
 
             // then
-            assertThat(result).isNotNull();
             assertThat(result.value()).isEqualTo(VALID_JWT);
+            assertThat(result.kid()).isEqualTo("test-kid");
+        }
+
+        @Test
+        @DisplayName("파싱된 JWT가 있으면 그대로 재사용해야 한다")
+        void shouldReuseParsedJwtFromCommand() {
+            // given
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
+            ValidateJwtCommand command = ValidateJwtCommand.of(parsedJwt);
+
+            // when
+            ParsedJwt result = jwtAssembler.toParsedJwt(command);
+
+            // then
+            assertThat(result).isSameAs(parsedJwt);
         }
 
         @Test
         @DisplayName("command가 null이면 IllegalArgumentException을 던져야 한다")
         void shouldThrowExceptionWhenCommandIsNull() {
             // when & then
-            assertThatThrownBy(() -> jwtAssembler.toAccessToken(null))
+            assertThatThrownBy(() -> jwtAssembler.toParsedJwt(null))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("ValidateJwtCommand cannot be null");
         }
@@ -7,7 +7,11 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties;
 import com.ryuqq.gateway.application.authentication.validator.JwtValidator;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerificationExecutor;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerifierKeyRing;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -33,7 +37,10 @@ class JwtValidatorTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        jwtValidator = new JwtValidator();
+        jwtValidator =
+                new JwtValidator(
+                        new JwtVerifierKeyRing(),
+                        new JwtVerificationExecutor(new JwtVerificationProperties()));
 
         // RSA 키 쌍 생성
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
@@ -57,7 +64,8 @@ class JwtValidatorTest {
             String accessToken = createValidJwt();
 
             // when & then
-            StepVerifier.create(jwtValidator.verifySignature(accessToken, publicKey))
+            StepVerifier.create(
+                            jwtValidator.verifySignature(ParsedJwt.parse(accessToken), publicKey))
                     .assertNext(isValid -> assertThat(isValid).isTrue())
                     .verifyComplete();
         }
@@ -77,39 +85,26 @@ class JwtValidatorTest {
             PublicKey wrongPublicKey = PublicKey.fromRSAPublicKey("wrong-kid", differentPublicKey);
 
             // when & then
-            StepVerifier.create(jwtValidator.verifySignature(accessToken, wrongPublicKey))
+            StepVerifier.create(
+                            jwtValidator.verifySignature(
+                                    ParsedJwt.parse(accessToken), wrongPublicKey))
                     .assertNext(isValid -> assertThat(isValid).isFalse())
                     .verifyComplete();
         }
 
         @Test
-        @DisplayName("잘못된 JWT 형식이면 예외 발생")
-        void throwExceptionForInvalidJwtFormat() {
+        @DisplayName("파싱된 JWT로 서명 검증과 Claims 추출을 재파싱 없이 수행")
+        void verifyAndExtractWithParsedJwt() throws Exception {
             // given
-            String invalidToken = "invalid.jwt.token";
+            ParsedJwt parsedJwt = ParsedJwt.parse(createValidJwt());
 
             // when & then
-            StepVerifier.create(jwtValidator.verifySignature(invalidToken, publicKey))
-                    .expectError(IllegalStateException.class)
-                    .verify();
-        }
-
-        @Test
-        @DisplayName("빈 토큰이면 예외 발생")
-        void throwExceptionForEmptyToken() {
-            // when & then
-            StepVerifier.create(jwtValidator.verifySignature("", publicKey))
-                    .expectError(IllegalStateException.class)
-                    .verify();
-        }
-
-        @Test
-        @DisplayName("null 토큰이면 예외 발생")
-        void throwExceptionForNullToken() {
-            // when & then
-            StepVerifier.create(jwtValidator.verifySignature(null, publicKey))
-                    .expectError(IllegalStateException.class)
-                    .verify();
+            StepVerifier.create(jwtValidator.verifySignature(parsedJwt, publicKey))
+                    .assertNext(isValid -> assertThat(isValid).isTrue())
+                    .verifyComplete();
+            StepVerifier.create(jwtValidator.extractClaims(parsedJwt))
+                    .assertNext(claims -> assertThat(claims.subject()).isEqualTo("user-123"))
+                    .verifyComplete();
         }
     }
 
@@ -137,7 +132,7 @@ class JwtValidatorTest {
                             "hash-abc");
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.subject()).isEqualTo("user-123");
@@ -170,7 +165,7 @@ class JwtValidatorTest {
             String accessToken = signJwt(claimsSet);
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.roles()).isEmpty();
@@ -200,7 +195,7 @@ class JwtValidatorTest {
                             null);
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.subject()).isEqualTo("user-123");
@@ -227,7 +222,7 @@ class JwtValidatorTest {
             String accessToken = signJwt(claimsSet);
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.subject()).isEqualTo("user-123");
@@ -235,27 +230,6 @@ class JwtValidatorTest {
                             })
                     .verifyComplete();
         }
-
-        @Test
-        @DisplayName("잘못된 JWT 형식이면 예외 발생")
-        void throwExceptionForInvalidJwtFormat() {
-            // given
-            String invalidToken = "invalid.jwt.token";
-
-            // when & then
-            StepVerifier.create(jwtValidator.extractClaims(invalidToken))
-                    .expectError(IllegalStateException.class)
-                    .verify();
-        }
-
-        @Test
-        @DisplayName("null 토큰이면 예외 발생")
-        void throwExceptionForNullToken() {
-            // when & then
-            StepVerifier.create(jwtValidator.extractClaims(null))
-                    .expectError(IllegalStateException.class)
-                    .verify();
-        }
     }
 
     @Nested
@@ -282,7 +256,7 @@ class JwtValidatorTest {
                             "hash-abc");
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.subject()).isEqualTo("user-123");
@@ -310,7 +284,8 @@ class JwtValidatorTest {
                             null);
 
             // when & then
-            StepVerifier.create(jwtValidator.verifySignature(accessToken, publicKey))
+            StepVerifier.create(
+                            jwtValidator.verifySignature(ParsedJwt.parse(accessToken), publicKey))
                     .assertNext(isValid -> assertThat(isValid).isTrue())
                     .verifyComplete();
         }
@@ -344,7 +319,7 @@ class JwtValidatorTest {
                             "hash-abc");
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.roles()).hasSize(10);
@@ -372,7 +347,7 @@ class JwtValidatorTest {
                             "hash+abc/123==");
 
             // when & then
-            StepVerifier.create(jwtValidator.extractClaims(accessToken))
+            StepVerifier.create(jwtValidator.extractClaims(ParsedJwt.parse(accessToken)))
                     .assertNext(
                             claims -> {
                                 assertThat(claims.subject()).isEqualTo("user@example.com");
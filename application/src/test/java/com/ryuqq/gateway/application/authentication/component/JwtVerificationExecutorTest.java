@@ -0,0 +1,138 @@
+package com.ryuqq.gateway.application.authentication.component;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties;
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties.Mode;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerificationExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+@DisplayName("JwtVerificationExecutor 단위 테스트")
+class JwtVerificationExecutorTest {
+
+    private JwtVerificationExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("INLINE 모드")
+    class InlineMode {
+
+        @Test
+        @DisplayName("호출 Thread에서 실행하고 실행 시간을 기록한다")
+        void executeOnCallerThread() {
+            // given
+            executor = new JwtVerificationExecutor(properties(Mode.INLINE, 1, 10));
+            String callerThread = Thread.currentThread().getName();
+
+            // when & then
+            StepVerifier.create(executor.execute(() -> Thread.currentThread().getName()))
+                    .expectNext(callerThread)
+                    .verifyComplete();
+            assertThat(executor.executionCount()).isEqualTo(1L);
+            assertThat(executor.mode()).isEqualTo(Mode.INLINE);
+        }
+    }
+
+    @Nested
+    @DisplayName("PARALLEL 모드")
+    class ParallelMode {
+
+        @Test
+        @DisplayName("전용 Parallel Scheduler에서 실행한다")
+        void executeOnParallelScheduler() {
+            // given
+            executor = new JwtVerificationExecutor(properties(Mode.PARALLEL, 1, 10));
+
+            // when & then
+            StepVerifier.create(executor.execute(() -> Thread.currentThread().getName()))
+                    .assertNext(thread -> assertThat(thread).startsWith("jwt-verification"))
+                    .verifyComplete();
+            assertThat(executor.executionCount()).isEqualTo(1L);
+            assertThat(executor.queueDepth()).isZero();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 호출 Thread에서 직접 실행한다")
+        void runOnCallerWhenQueueFull() throws Exception {
+            // given
+            executor = new JwtVerificationExecutor(properties(Mode.PARALLEL, 1, 1));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Disposable blocking =
+                    executor.execute(
+                                    () -> {
+                                        started.countDown();
+                                        return release.await(5, TimeUnit.SECONDS);
+                                    })
+                            .subscribe();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Disposable queued = executor.execute(() -> "queued").subscribe();
+            String callerThread = Thread.currentThread().getName();
+            AtomicReference<String> executedOn = new AtomicReference<>();
+
+            // when
+            executor.execute(() -> Thread.currentThread().getName())
+                    .subscribe(executedOn::set);
+
+            // then
+            assertThat(executedOn.get()).isEqualTo(callerThread);
+            assertThat(executor.callerRunCount()).isEqualTo(1L);
+            assertThat(executor.queueDepth()).isEqualTo(1);
+
+            release.countDown();
+            blocking.dispose();
+            queued.dispose();
+        }
+
+        @Test
+        @DisplayName("실행 전에 취소되면 대기열 깊이를 되돌린다")
+        void releaseQueueSlotOnCancel() throws Exception {
+            // given
+            executor = new JwtVerificationExecutor(properties(Mode.PARALLEL, 1, 10));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Disposable blocking =
+                    executor.execute(
+                                    () -> {
+                                        started.countDown();
+                                        return release.await(5, TimeUnit.SECONDS);
+                                    })
+                            .subscribe();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Disposable queued = executor.execute(() -> "queued").subscribe();
+            assertThat(executor.queueDepth()).isEqualTo(1);
+
+            // when
+            queued.dispose();
+
+            // then
+            assertThat(executor.queueDepth()).isZero();
+
+            release.countDown();
+            blocking.dispose();
+        }
+    }
+
+    private static JwtVerificationProperties properties(
+            Mode mode, int parallelism, int maxQueueSize) {
+        JwtVerificationProperties properties = new JwtVerificationProperties();
+        properties.setMode(mode);
+        properties.setParallelism(parallelism);
+        properties.setMaxQueueSize(maxQueueSize);
+        return properties;
+    }
+}
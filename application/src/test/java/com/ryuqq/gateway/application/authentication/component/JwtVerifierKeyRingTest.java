@@ -0,0 +1,117 @@
+package com.ryuqq.gateway.application.authentication.component;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerifierKeyRing;
+import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JwtVerifierKeyRing 단위 테스트")
+class JwtVerifierKeyRingTest {
+
+    private JwtVerifierKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = new JwtVerifierKeyRing();
+    }
+
+    @Nested
+    @DisplayName("verifierFor 메서드")
+    class VerifierFor {
+
+        @Test
+        @DisplayName("같은 kid와 같은 키면 Verifier를 재사용한다")
+        void reuseVerifierForSameKey() throws Exception {
+            // given
+            PublicKey publicKey = PublicKey.fromRSAPublicKey("kid-1", generateRsaKey());
+
+            // when
+            JWSVerifier first = keyRing.verifierFor(publicKey);
+            JWSVerifier second = keyRing.verifierFor(publicKey);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("같은 kid라도 키 값이 바뀌면 Verifier를 다시 생성한다")
+        void rebuildVerifierWhenKeyRotated() throws Exception {
+            // given
+            PublicKey original = PublicKey.fromRSAPublicKey("kid-1", generateRsaKey());
+            PublicKey rotated = PublicKey.fromRSAPublicKey("kid-1", generateRsaKey());
+            JWSVerifier first = keyRing.verifierFor(original);
+
+            // when
+            JWSVerifier second = keyRing.verifierFor(rotated);
+
+            // then
+            assertThat(second).isNotSameAs(first);
+        }
+    }
+
+    @Nested
+    @DisplayName("replaceAll 메서드")
+    class ReplaceAll {
+
+        @Test
+        @DisplayName("새 kid는 미리 등록하고 목록에 없는 kid는 제거한다")
+        void registerNewKidsAndRemoveStaleKids() throws Exception {
+            // given
+            PublicKey stale = PublicKey.fromRSAPublicKey("kid-old", generateRsaKey());
+            PublicKey fresh = PublicKey.fromRSAPublicKey("kid-new", generateRsaKey());
+            keyRing.verifierFor(stale);
+
+            // when
+            Set<String> removed = keyRing.replaceAll(List.of(fresh));
+
+            // then
+            assertThat(removed).containsExactly("kid-old");
+            assertThat(keyRing.kids()).containsExactly("kid-new");
+        }
+
+        @Test
+        @DisplayName("같은 kid의 키 값이 바뀌면 무효화 대상 kid로 반환한다")
+        void reportRotatedKids() throws Exception {
+            // given
+            PublicKey original = PublicKey.fromRSAPublicKey("kid-1", generateRsaKey());
+            PublicKey rotated = PublicKey.fromRSAPublicKey("kid-1", generateRsaKey());
+            keyRing.verifierFor(original);
+
+            // when
+            Set<String> invalidated = keyRing.replaceAll(List.of(rotated));
+
+            // then
+            assertThat(invalidated).containsExactly("kid-1");
+            assertThat(keyRing.kids()).containsExactly("kid-1");
+        }
+
+        @Test
+        @DisplayName("Verifier 생성에 실패한 키는 건너뛴다")
+        void skipInvalidKeys() {
+            // given
+            PublicKey invalid = PublicKey.of("kid-invalid", "AQAB", "AQAB", "RSA", "sig", "RS256");
+
+            // when
+            Set<String> removed = keyRing.replaceAll(List.of(invalid));
+
+            // then
+            assertThat(removed).isEmpty();
+            assertThat(keyRing.kids()).isEmpty();
+        }
+    }
+
+    private static RSAPublicKey generateRsaKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return (RSAPublicKey) generator.generateKeyPair().getPublic();
+    }
+}
@@ -0,0 +1,181 @@
+package com.ryuqq.gateway.application.authentication.component;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
+import com.ryuqq.gateway.domain.authentication.exception.JwtInvalidException;
+import com.ryuqq.gateway.domain.authentication.vo.ExpiredTokenInfo;
+import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ParsedJwt 단위 테스트")
+class ParsedJwtTest {
+
+    private static final String HEADER_WITH_KID = "{\"alg\":\"RS256\",\"kid\":\"test-kid\"}";
+    private static final String HEADER_WITHOUT_KID = "{\"alg\":\"RS256\"}";
+
+    @Nested
+    @DisplayName("parse 메서드")
+    class Parse {
+
+        @Test
+        @DisplayName("Header의 kid를 추출한다")
+        void extractKid() {
+            // given
+            String token = createToken(HEADER_WITH_KID, "{\"sub\":\"user-1\",\"iss\":\"hub\"}");
+
+            // when
+            ParsedJwt parsedJwt = ParsedJwt.parse(token);
+
+            // then
+            assertThat(parsedJwt.kid()).isEqualTo("test-kid");
+            assertThat(parsedJwt.value()).isEqualTo(token);
+            assertThat(parsedJwt.isParsedFrom(token)).isTrue();
+            assertThat(parsedJwt.toAccessToken().kid()).isEqualTo("test-kid");
+        }
+
+        @Test
+        @DisplayName("kid가 없어도 파싱되지만 AccessToken 변환 시 예외가 발생한다")
+        void allowMissingKidUntilAccessTokenConversion() {
+            // given
+            String token = createToken(HEADER_WITHOUT_KID, "{\"sub\":\"user-1\"}");
+
+            // when
+            ParsedJwt parsedJwt = ParsedJwt.parse(token);
+
+            // then
+            assertThat(parsedJwt.kid()).isNull();
+            assertThatThrownBy(parsedJwt::toAccessToken)
+                    .isInstanceOf(JwtInvalidException.class);
+        }
+
+        @Test
+        @DisplayName("null 또는 빈 토큰이면 예외가 발생한다")
+        void throwForBlankToken() {
+            assertThatThrownBy(() -> ParsedJwt.parse(null))
+                    .isInstanceOf(JwtInvalidException.class);
+            assertThatThrownBy(() -> ParsedJwt.parse(" "))
+                    .isInstanceOf(JwtInvalidException.class);
+        }
+
+        @Test
+        @DisplayName("JWT 형식이 잘못되면 예외가 발생한다")
+        void throwForInvalidFormat() {
+            assertThatThrownBy(() -> ParsedJwt.parse("invalid.token"))
+                    .isInstanceOf(JwtInvalidException.class)
+                    .hasMessageContaining("Invalid JWT format");
+        }
+
+        @Test
+        @DisplayName("Payload가 JSON이 아니면 예외가 발생한다")
+        void throwForInvalidPayload() {
+            // given
+            String token = encode(HEADER_WITH_KID) + "." + encode("not-json") + ".signature";
+
+            // when & then
+            assertThatThrownBy(() -> ParsedJwt.parse(token))
+                    .isInstanceOf(JwtInvalidException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("toJwtClaims 메서드")
+    class ToJwtClaims {
+
+        @Test
+        @DisplayName("AuthHub claim 이름으로 JwtClaims를 생성한다")
+        void convertAuthHubClaims() throws Exception {
+            // given
+            long exp = Instant.now().getEpochSecond() + 3600;
+            String token =
+                    createToken(
+                            HEADER_WITH_KID,
+                            "{\"sub\":\"user-1\",\"iss\":\"hub\",\"exp\":"
+                                    + exp
+                                    + ",\"roles\":[\"USER\"],\"tid\":\"tenant-1\","
+                                    + "\"oid\":\"org-1\",\"permission_hash\":\"hash-1\","
+                                    + "\"mfa_verified\":true}");
+
+            // when
+            JwtClaims claims = ParsedJwt.parse(token).toJwtClaims();
+
+            // then
+            assertThat(claims.subject()).isEqualTo("user-1");
+            assertThat(claims.expiresAt().getEpochSecond()).isEqualTo(exp);
+            assertThat(claims.roles()).containsExactly("USER");
+            assertThat(claims.permissions()).isEmpty();
+            assertThat(claims.tenantId()).isEqualTo("tenant-1");
+            assertThat(claims.organizationId()).isEqualTo("org-1");
+            assertThat(claims.permissionHash()).isEqualTo("hash-1");
+            assertThat(claims.mfaVerified()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("toExpiredTokenInfo 메서드")
+    class ToExpiredTokenInfo {
+
+        @Test
+        @DisplayName("만료된 토큰에서 userId와 tenantId를 추출한다")
+        void extractFromExpiredToken() {
+            // given
+            Instant now = Instant.now();
+            String token =
+                    createToken(
+                            HEADER_WITHOUT_KID,
+                            "{\"userId\":123,\"tenantId\":\"tenant-1\",\"exp\":"
+                                    + (now.getEpochSecond() - 10)
+                                    + "}");
+
+            // when
+            ExpiredTokenInfo info = ParsedJwt.parse(token).toExpiredTokenInfo(now);
+
+            // then
+            assertThat(info.isExpired()).isTrue();
+            assertThat(info.userId()).isEqualTo(123L);
+            assertThat(info.tenantId()).isEqualTo("tenant-1");
+            assertThat(info.expiresAt().getEpochSecond()).isEqualTo(now.getEpochSecond() - 10);
+        }
+
+        @Test
+        @DisplayName("문자열 userId도 파싱하고, 숫자가 아니면 null을 반환한다")
+        void parseTextualUserId() {
+            // given
+            Instant now = Instant.now();
+            String exp = ",\"exp\":" + (now.getEpochSecond() + 100) + "}";
+            String numeric = createToken(HEADER_WITHOUT_KID, "{\"userId\":\"789\"" + exp);
+            String text = createToken(HEADER_WITHOUT_KID, "{\"userId\":\"abc\"" + exp);
+
+            // when & then
+            assertThat(ParsedJwt.parse(numeric).toExpiredTokenInfo(now).userId()).isEqualTo(789L);
+            assertThat(ParsedJwt.parse(text).toExpiredTokenInfo(now).userId()).isNull();
+            assertThat(ParsedJwt.parse(text).toExpiredTokenInfo(now).isExpired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("exp가 없으면 만료된 것으로 처리한다")
+        void treatMissingExpAsExpired() {
+            // given
+            String token = createToken(HEADER_WITHOUT_KID, "{\"userId\":1}");
+
+            // when & then
+            assertThat(ParsedJwt.parse(token).toExpiredTokenInfo(Instant.now()).isExpired())
+                    .isTrue();
+        }
+    }
+
+    private static String createToken(String header, String payload) {
+        return encode(header) + "." + encode(payload) + "." + encode("fake-signature");
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,166 @@
+package com.ryuqq.gateway.application.authentication.component;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.config.VerifiedTokenCacheProperties;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("VerifiedTokenCache 단위 테스트")
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock private TimeProvider timeProvider;
+
+    private VerifiedTokenCacheProperties properties;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new VerifiedTokenCacheProperties();
+        properties.setMaxSize(2);
+        given(timeProvider.now()).willReturn(NOW);
+        cache = new VerifiedTokenCache(properties, timeProvider);
+    }
+
+    @Nested
+    @DisplayName("find 메서드")
+    class Find {
+
+        @Test
+        @DisplayName("저장된 토큰은 exp 전까지 Claims를 반환한다")
+        void returnClaimsBeforeExpiry() {
+            // given
+            JwtClaims claims = claimsExpiringAt(NOW.plusSeconds(60));
+            put(TOKEN, "kid-1", claims);
+
+            // when & then
+            assertThat(cache.find(TOKEN)).isEqualTo(claims);
+            assertThat(cache.find("other.token.value")).isNull();
+            assertThat(cache.hitCount()).isEqualTo(1L);
+            assertThat(cache.missCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("exp가 지나면 Entry를 제거하고 null을 반환한다")
+        void evictExpiredEntry() {
+            // given
+            put(TOKEN, "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(60));
+
+            // when & then
+            assertThat(cache.find(TOKEN)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("비활성화되어 있으면 저장하지도 반환하지도 않는다")
+        void bypassWhenDisabled() {
+            // given
+            properties.setEnabled(false);
+            put(TOKEN, "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+
+            // when & then
+            assertThat(cache.find(TOKEN)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("put 메서드")
+    class Put {
+
+        @Test
+        @DisplayName("최대 크기에 도달하면 만료 Entry부터 정리한다")
+        void purgeExpiredEntriesWhenFull() {
+            // given
+            put("token-1", "kid-1", claimsExpiringAt(NOW.plusSeconds(10)));
+            put("token-2", "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(10));
+
+            // when
+            put("token-3", "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+
+            // then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.find("token-2")).isNotNull();
+            assertThat(cache.find("token-3")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("만료 Entry가 없는데 가득 차면 비우고 새로 저장한다")
+        void clearWhenFullOfLiveEntries() {
+            // given
+            put("token-1", "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+            put("token-2", "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+
+            // when
+            put("token-3", "kid-1", claimsExpiringAt(NOW.plusSeconds(60)));
+
+            // then
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.find("token-3")).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateKids 메서드")
+    class InvalidateKids {
+
+        @Test
+        @DisplayName("제거된 kid로 서명된 Entry만 무효화한다")
+        void invalidateOnlyMatchingKid() {
+            // given
+            put("token-1", "kid-old", claimsExpiringAt(NOW.plusSeconds(60)));
+            put("token-2", "kid-new", claimsExpiringAt(NOW.plusSeconds(60)));
+
+            // when
+            cache.invalidateKids(List.of("kid-old"));
+
+            // then
+            assertThat(cache.find("token-1")).isNull();
+            assertThat(cache.find("token-2")).isNotNull();
+            assertThat(cache.invalidationCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("검증 도중 kid가 무효화되면 이후 저장을 무시한다")
+        void ignorePutAfterRotationDuringVerification() {
+            // given - 무효화 전 세대로 검증 시작
+            long verifiedGeneration = cache.generation();
+
+            // when - Key Rotation으로 kid 무효화 후 검증 결과 저장
+            cache.invalidateKids(List.of("kid-old"));
+            cache.put(TOKEN, "kid-old", claimsExpiringAt(NOW.plusSeconds(60)), verifiedGeneration);
+
+            // then
+            assertThat(cache.find(TOKEN)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+    }
+
+    private void put(String token, String kid, JwtClaims claims) {
+        cache.put(token, kid, claims, cache.generation());
+    }
+
+    private static JwtClaims claimsExpiringAt(Instant expiresAt) {
+        return JwtClaims.of("user-1", "auth-hub", expiresAt, NOW.minusSeconds(60));
+    }
+}
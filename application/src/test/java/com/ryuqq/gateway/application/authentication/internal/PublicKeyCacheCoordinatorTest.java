@@ -5,22 +5,29 @@ import static org.mockito.BDDMockito.*;
 
 import com.ryuqq.gateway.application.authentication.manager.PublicKeyCommandManager;
 import com.ryuqq.gateway.application.authentication.manager.PublicKeyQueryManager;
+import com.ryuqq.gateway.application.authentication.config.JwksCacheProperties;
 import com.ryuqq.gateway.application.authentication.port.out.client.AuthHubClient;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerifierKeyRing;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
 import com.ryuqq.gateway.domain.authentication.exception.PublicKeyNotFoundException;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
 import com.ryuqq.gateway.fixture.authentication.AuthenticationFixture;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 /**
@@ -40,9 +47,31 @@ class PublicKeyCacheCoordinatorTest {
 
     @Mock private AuthHubClient authHubClient;
 
-    @InjectMocks private PublicKeyCacheCoordinator publicKeyCacheCoordinator;
+    @Mock private JwtVerifierKeyRing jwtVerifierKeyRing;
+
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock private TimeProvider timeProvider;
+
+    private PublicKeyCacheCoordinator publicKeyCacheCoordinator;
 
     private static final String KID = AuthenticationFixture.DEFAULT_KID;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        given(timeProvider.now()).willReturn(NOW);
+        UnknownKidGuard unknownKidGuard =
+                new UnknownKidGuard(new JwksCacheProperties(), timeProvider);
+        publicKeyCacheCoordinator =
+                new PublicKeyCacheCoordinator(
+                        publicKeyQueryManager,
+                        publicKeyCommandManager,
+                        authHubClient,
+                        jwtVerifierKeyRing,
+                        unknownKidGuard,
+                        verifiedTokenCache);
+    }
 
     @Nested
     @DisplayName("Cache Hit 시나리오")
@@ -54,8 +83,6 @@ class PublicKeyCacheCoordinatorTest {
             // given
             PublicKey cachedKey = AuthenticationFixture.aPublicKey();
 
-            // switchIfEmpty가 eager evaluation하므로 기본값 설정
-            given(authHubClient.fetchPublicKeys()).willReturn(Flux.empty());
             given(publicKeyQueryManager.findByKid(KID)).willReturn(Mono.just(cachedKey));
 
             // when
@@ -71,6 +98,26 @@ class PublicKeyCacheCoordinatorTest {
 
             then(publicKeyQueryManager).should().findByKid(KID);
             then(publicKeyCommandManager).shouldHaveNoInteractions();
+            then(authHubClient).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Redis에서 조회한 Public Key는 Snapshot에 저장되어 다음 조회 시 Redis를 생략한다")
+        void shouldServeFromSnapshotAfterRedisHit() {
+            // given
+            PublicKey cachedKey = AuthenticationFixture.aPublicKey();
+            given(publicKeyQueryManager.findByKid(KID)).willReturn(Mono.just(cachedKey));
+            publicKeyCacheCoordinator.getPublicKey(KID).block();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey(KID);
+
+            // then
+            StepVerifier.create(result).expectNext(cachedKey).verifyComplete();
+
+            then(publicKeyQueryManager).should(times(1)).findByKid(KID);
+            assertThat(publicKeyCacheCoordinator.stats().localHits()).isEqualTo(1L);
+            assertThat(publicKeyCacheCoordinator.stats().redisHits()).isEqualTo(1L);
         }
     }
 
@@ -101,6 +148,7 @@ class PublicKeyCacheCoordinatorTest {
             then(publicKeyQueryManager).should().findByKid(KID);
             then(authHubClient).should().fetchPublicKeys();
             then(publicKeyCommandManager).should().saveAll(publicKeys);
+            then(jwtVerifierKeyRing).should().replaceAll(publicKeys);
         }
 
         @Test
@@ -112,6 +160,7 @@ class PublicKeyCacheCoordinatorTest {
 
             given(publicKeyQueryManager.findByKid(KID)).willReturn(Mono.empty());
             given(authHubClient.fetchPublicKeys()).willReturn(Flux.fromIterable(publicKeys));
+            given(publicKeyCommandManager.saveAll(publicKeys)).willReturn(Mono.empty());
 
             // when
             Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey(KID);
@@ -127,6 +176,156 @@ class PublicKeyCacheCoordinatorTest {
         }
     }
 
+    @Nested
+    @DisplayName("JWKS 조회 병합")
+    class CoalescedFetchTest {
+
+        @Test
+        @DisplayName("알 수 없는 kid로 동시에 조회해도 AuthHub JWKS는 한 번만 호출한다")
+        void shouldCallAuthHubOnceForConcurrentMisses() {
+            // given
+            PublicKey key1 = AuthenticationFixture.aPublicKey("kid-1");
+            PublicKey key2 = AuthenticationFixture.aPublicKey("kid-2");
+            List<PublicKey> publicKeys = List.of(key1, key2);
+            Sinks.One<List<PublicKey>> jwks = Sinks.one();
+
+            given(publicKeyQueryManager.findByKid(anyString())).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(jwks.asMono().flatMapMany(Flux::fromIterable));
+            given(publicKeyCommandManager.saveAll(publicKeys)).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.Step<PublicKey> first =
+                    StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("kid-1"));
+            StepVerifier.Step<PublicKey> second =
+                    StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("kid-2"));
+            var firstVerification = first.expectNext(key1).expectComplete().verifyLater();
+            var secondVerification = second.expectNext(key2).expectComplete().verifyLater();
+            jwks.tryEmitValue(publicKeys);
+
+            // then
+            firstVerification.verify();
+            secondVerification.verify();
+
+            then(authHubClient).should(times(1)).fetchPublicKeys();
+            then(publicKeyCommandManager).should(times(1)).saveAll(publicKeys);
+            assertThat(publicKeyCacheCoordinator.stats().authHubFetches()).isEqualTo(1L);
+            assertThat(publicKeyCacheCoordinator.stats().coalescedFetches()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("JWKS 호출이 끝나면 다음 Miss는 새 호출을 시작한다")
+        void shouldStartNewFetchAfterPreviousCompleted() {
+            // given
+            given(publicKeyQueryManager.findByKid(anyString())).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys()).willReturn(Flux.empty());
+
+            // when
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("kid-1"))
+                    .expectError(PublicKeyNotFoundException.class)
+                    .verify();
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(11));
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("kid-2"))
+                    .expectError(PublicKeyNotFoundException.class)
+                    .verify();
+
+            // then
+            then(authHubClient).should(times(2)).fetchPublicKeys();
+        }
+    }
+
+    @Nested
+    @DisplayName("알 수 없는 kid 보호")
+    class UnknownKidProtectionTest {
+
+        @Test
+        @DisplayName("JWKS에 없던 kid는 Negative Cache에 기록되어 다음 요청은 I/O 없이 실패한다")
+        void shouldFailFastForRecentlyUnknownKid() {
+            // given
+            given(publicKeyQueryManager.findByKid("unknown-kid")).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(Flux.just(AuthenticationFixture.aPublicKey(KID)));
+            given(publicKeyCommandManager.saveAll(anyList())).willReturn(Mono.empty());
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("unknown-kid"))
+                    .expectError(PublicKeyNotFoundException.class)
+                    .verify();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey("unknown-kid");
+
+            // then
+            StepVerifier.create(result).expectError(PublicKeyNotFoundException.class).verify();
+
+            then(publicKeyQueryManager).should(times(1)).findByKid("unknown-kid");
+            then(authHubClient).should(times(1)).fetchPublicKeys();
+            assertThat(publicKeyCacheCoordinator.stats().negativeHits()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("최소 간격 안에서는 다른 kid로 Miss가 나도 AuthHub를 다시 호출하지 않는다")
+        void shouldThrottleJwksRefetch() {
+            // given
+            given(publicKeyQueryManager.findByKid(anyString())).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(Flux.just(AuthenticationFixture.aPublicKey(KID)));
+            given(publicKeyCommandManager.saveAll(anyList())).willReturn(Mono.empty());
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("random-kid-1"))
+                    .expectError(PublicKeyNotFoundException.class)
+                    .verify();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey("random-kid-2");
+
+            // then
+            StepVerifier.create(result).expectError(PublicKeyNotFoundException.class).verify();
+
+            then(authHubClient).should(times(1)).fetchPublicKeys();
+            then(publicKeyCommandManager).should(times(1)).saveAll(anyList());
+            assertThat(publicKeyCacheCoordinator.stats().throttledFetches()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("주기적 갱신 직후의 Miss는 AuthHub를 다시 호출하지 않는다")
+        void shouldThrottleRefetchRightAfterRefresh() {
+            // given
+            given(publicKeyQueryManager.findByKid(anyString())).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(Flux.just(AuthenticationFixture.aPublicKey(KID)));
+            given(publicKeyCommandManager.saveAll(anyList())).willReturn(Mono.empty());
+            publicKeyCacheCoordinator.refreshAllKeys().block();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey("random-kid");
+
+            // then
+            StepVerifier.create(result).expectError(PublicKeyNotFoundException.class).verify();
+
+            then(authHubClient).should(times(1)).fetchPublicKeys();
+        }
+
+        @Test
+        @DisplayName("Negative Cache에 있던 kid도 JWKS 갱신으로 확인되면 다시 조회된다")
+        void shouldForgetUnknownKidOnceJwksContainsIt() {
+            // given
+            PublicKey rotatedKey = AuthenticationFixture.aPublicKey("rotated-kid");
+            given(publicKeyQueryManager.findByKid("rotated-kid")).willReturn(Mono.empty());
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(Flux.just(AuthenticationFixture.aPublicKey(KID)))
+                    .willReturn(Flux.just(rotatedKey));
+            given(publicKeyCommandManager.saveAll(anyList())).willReturn(Mono.empty());
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("rotated-kid"))
+                    .expectError(PublicKeyNotFoundException.class)
+                    .verify();
+            publicKeyCacheCoordinator.refreshAllKeys().block();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey("rotated-kid");
+
+            // then
+            StepVerifier.create(result).expectNext(rotatedKey).verifyComplete();
+        }
+    }
+
     @Nested
     @DisplayName("Cache 전체 갱신")
     class RefreshAllKeysTest {
@@ -150,6 +349,52 @@ class PublicKeyCacheCoordinatorTest {
 
             then(authHubClient).should().fetchPublicKeys();
             then(publicKeyCommandManager).should().saveAll(publicKeys);
+            then(jwtVerifierKeyRing).should().replaceAll(publicKeys);
+            assertThat(publicKeyCacheCoordinator.stats().refreshSuccesses()).isEqualTo(1L);
+            assertThat(publicKeyCacheCoordinator.stats().cachedKeys()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("갱신 후에는 Redis 조회 없이 Snapshot에서 반환한다")
+        void shouldServeFromSnapshotAfterRefresh() {
+            // given
+            PublicKey key1 = AuthenticationFixture.aPublicKey("kid-1");
+            List<PublicKey> publicKeys = List.of(key1);
+
+            given(authHubClient.fetchPublicKeys()).willReturn(Flux.fromIterable(publicKeys));
+            given(publicKeyCommandManager.saveAll(publicKeys)).willReturn(Mono.empty());
+            publicKeyCacheCoordinator.refreshAllKeys().block();
+
+            // when
+            Mono<PublicKey> result = publicKeyCacheCoordinator.getPublicKey("kid-1");
+
+            // then
+            StepVerifier.create(result).expectNext(key1).verifyComplete();
+
+            then(publicKeyQueryManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("갱신 후 JWKS에서 사라진 kid는 Snapshot과 검증 결과 Cache에서 제거된다")
+        void shouldDropRemovedKidsFromSnapshot() {
+            // given
+            PublicKey oldKey = AuthenticationFixture.aPublicKey("kid-old");
+            PublicKey newKey = AuthenticationFixture.aPublicKey("kid-new");
+
+            given(authHubClient.fetchPublicKeys())
+                    .willReturn(Flux.just(oldKey))
+                    .willReturn(Flux.just(newKey));
+            given(publicKeyCommandManager.saveAll(anyList())).willReturn(Mono.empty());
+            given(jwtVerifierKeyRing.replaceAll(List.of(newKey))).willReturn(Set.of("kid-old"));
+            publicKeyCacheCoordinator.refreshAllKeys().block();
+            publicKeyCacheCoordinator.refreshAllKeys().block();
+
+            // when & then
+            then(verifiedTokenCache).should().invalidateKids(Set.of("kid-old"));
+            assertThat(publicKeyCacheCoordinator.stats().cachedKeys()).isEqualTo(1);
+            StepVerifier.create(publicKeyCacheCoordinator.getPublicKey("kid-new"))
+                    .expectNext(newKey)
+                    .verifyComplete();
         }
 
         @Test
@@ -171,6 +416,8 @@ class PublicKeyCacheCoordinatorTest {
                                         .contains("Failed to refresh public keys");
                             })
                     .verify();
+
+            assertThat(publicKeyCacheCoordinator.stats().refreshFailures()).isEqualTo(1L);
         }
     }
 
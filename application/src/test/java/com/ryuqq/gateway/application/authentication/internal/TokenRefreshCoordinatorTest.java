@@ -4,24 +4,29 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import com.ryuqq.gateway.application.authentication.config.TokenRefreshProperties;
 import com.ryuqq.gateway.application.authentication.dto.response.RefreshAccessTokenResponse;
-import com.ryuqq.gateway.application.authentication.manager.RedisLockCommandManager;
 import com.ryuqq.gateway.application.authentication.manager.RefreshTokenBlacklistCommandManager;
-import com.ryuqq.gateway.application.authentication.manager.RefreshTokenBlacklistQueryManager;
+import com.ryuqq.gateway.application.authentication.manager.RefreshTokenClaimCommandManager;
+import com.ryuqq.gateway.application.authentication.manager.RotatedTokenPairCommandManager;
+import com.ryuqq.gateway.application.authentication.manager.RotatedTokenPairQueryManager;
 import com.ryuqq.gateway.application.authentication.port.out.client.AuthHubClient;
 import com.ryuqq.gateway.domain.authentication.exception.RefreshTokenReusedException;
 import com.ryuqq.gateway.domain.authentication.exception.TokenRefreshFailedException;
 import com.ryuqq.gateway.domain.authentication.vo.RefreshToken;
+import com.ryuqq.gateway.domain.authentication.vo.RefreshTokenClaimStatus;
 import com.ryuqq.gateway.domain.authentication.vo.TokenPair;
 import com.ryuqq.gateway.fixture.authentication.AuthenticationFixture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 /**
@@ -34,29 +39,91 @@ import reactor.test.StepVerifier;
 @DisplayName("TokenRefreshCoordinator 단위 테스트")
 class TokenRefreshCoordinatorTest {
 
-    @Mock private RedisLockCommandManager redisLockCommandManager;
-
-    @Mock private RefreshTokenBlacklistQueryManager blacklistQueryManager;
+    @Mock private RefreshTokenClaimCommandManager claimCommandManager;
 
     @Mock private RefreshTokenBlacklistCommandManager blacklistCommandManager;
 
+    @Mock private RotatedTokenPairQueryManager rotatedTokenPairQueryManager;
+
+    @Mock private RotatedTokenPairCommandManager rotatedTokenPairCommandManager;
+
     @Mock private AuthHubClient authHubClient;
 
-    @InjectMocks private TokenRefreshCoordinator tokenRefreshCoordinator;
+    private TokenRefreshCoordinator tokenRefreshCoordinator;
 
     private static final String TENANT_ID = AuthenticationFixture.DEFAULT_TENANT_ID;
     private static final Long USER_ID = AuthenticationFixture.DEFAULT_USER_ID;
 
+    @BeforeEach
+    void setUp() {
+        TokenRefreshProperties properties = new TokenRefreshProperties();
+        properties.setAwaitAttempts(3);
+        properties.setAwaitIntervalMillis(1);
+        tokenRefreshCoordinator =
+                new TokenRefreshCoordinator(
+                        claimCommandManager,
+                        blacklistCommandManager,
+                        rotatedTokenPairQueryManager,
+                        rotatedTokenPairCommandManager,
+                        authHubClient,
+                        properties);
+    }
+
+    private void givenClaim(RefreshToken refreshToken, RefreshTokenClaimStatus status) {
+        given(claimCommandManager.claim(eq(TENANT_ID), eq(refreshToken), anyString(), eq(10L)))
+                .willReturn(Mono.just(status));
+    }
+
+    private void givenSuccessfulRotation(RefreshToken refreshToken, TokenPair newTokenPair) {
+        given(authHubClient.refreshAccessToken(TENANT_ID, refreshToken.value()))
+                .willReturn(Mono.just(newTokenPair));
+        given(
+                        rotatedTokenPairCommandManager.save(
+                                eq(TENANT_ID), eq(refreshToken), eq(newTokenPair), anyLong()))
+                .willReturn(Mono.empty());
+        given(blacklistCommandManager.addToBlacklist(eq(TENANT_ID), eq(refreshToken), anyLong()))
+                .willReturn(Mono.empty());
+    }
+
     @Nested
-    @DisplayName("Lock 처리")
-    class LockHandlingTest {
+    @DisplayName("선점 처리")
+    class ClaimHandlingTest {
 
         @Test
-        @DisplayName("Lock 획득 실패 시 TokenRefreshFailedException 발생")
-        void shouldThrowExceptionWhenLockAcquisitionFails() {
+        @DisplayName("선점 성공 시 Rotation 후 새 Token Pair 반환")
+        void shouldProcessSuccessfullyAfterClaimAcquired() {
             // given
             RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
-            given(redisLockCommandManager.tryLock(TENANT_ID, USER_ID)).willReturn(Mono.just(false));
+            TokenPair newTokenPair = AuthenticationFixture.aTokenPair();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.ACQUIRED);
+            givenSuccessfulRotation(refreshToken, newTokenPair);
+
+            // when
+            Mono<RefreshAccessTokenResponse> result =
+                    tokenRefreshCoordinator.coordinate(TENANT_ID, USER_ID, refreshToken);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.accessTokenValue())
+                                        .isEqualTo(newTokenPair.accessTokenValue());
+                                assertThat(response.refreshTokenValue())
+                                        .isEqualTo(newTokenPair.refreshTokenValue());
+                            })
+                    .verifyComplete();
+
+            then(claimCommandManager).should(never()).release(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("다른 요청이 선점 중이고 Token Pair가 끝내 공유되지 않으면 TokenRefreshFailedException 발생")
+        void shouldThrowExceptionWhenRotationInProgressElsewhere() {
+            // given
+            RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.IN_PROGRESS);
+            given(rotatedTokenPairQueryManager.findByConsumedToken(TENANT_ID, refreshToken))
+                    .willReturn(Mono.empty());
 
             // when
             Mono<RefreshAccessTokenResponse> result =
@@ -67,30 +134,25 @@ class TokenRefreshCoordinatorTest {
                     .expectErrorSatisfies(
                             error -> {
                                 assertThat(error).isInstanceOf(TokenRefreshFailedException.class);
-                                assertThat(error.getMessage()).contains("Failed to acquire lock");
+                                assertThat(error.getMessage()).contains("in progress");
                             })
                     .verify();
 
-            then(blacklistQueryManager).shouldHaveNoInteractions();
+            then(authHubClient).shouldHaveNoInteractions();
+            then(rotatedTokenPairQueryManager)
+                    .should(times(3))
+                    .findByConsumedToken(TENANT_ID, refreshToken);
         }
 
         @Test
-        @DisplayName("Lock 획득 성공 후 정상 처리")
-        void shouldProcessSuccessfullyAfterLockAcquisition() {
+        @DisplayName("다른 요청이 선점 중이면 공유된 Token Pair를 기다려 반환")
+        void shouldReturnRotatedPairPublishedByClaimHolder() {
             // given
             RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
-            TokenPair newTokenPair = AuthenticationFixture.aTokenPair();
-
-            given(redisLockCommandManager.tryLock(TENANT_ID, USER_ID)).willReturn(Mono.just(true));
-            given(redisLockCommandManager.unlock(TENANT_ID, USER_ID)).willReturn(Mono.empty());
-            given(blacklistQueryManager.isBlacklisted(TENANT_ID, refreshToken))
-                    .willReturn(Mono.just(false));
-            given(authHubClient.refreshAccessToken(TENANT_ID, refreshToken.value()))
-                    .willReturn(Mono.just(newTokenPair));
-            given(
-                            blacklistCommandManager.addToBlacklist(
-                                    eq(TENANT_ID), eq(refreshToken), anyLong()))
-                    .willReturn(Mono.empty());
+            TokenPair rotatedPair = AuthenticationFixture.aTokenPair();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.IN_PROGRESS);
+            given(rotatedTokenPairQueryManager.findByConsumedToken(TENANT_ID, refreshToken))
+                    .willReturn(Mono.empty(), Mono.just(rotatedPair));
 
             // when
             Mono<RefreshAccessTokenResponse> result =
@@ -99,30 +161,27 @@ class TokenRefreshCoordinatorTest {
             // then
             StepVerifier.create(result)
                     .assertNext(
-                            response -> {
-                                assertThat(response.accessTokenValue())
-                                        .isEqualTo(newTokenPair.accessTokenValue());
-                                assertThat(response.refreshTokenValue())
-                                        .isEqualTo(newTokenPair.refreshTokenValue());
-                            })
+                            response ->
+                                    assertThat(response.refreshTokenValue())
+                                            .isEqualTo(rotatedPair.refreshTokenValue()))
                     .verifyComplete();
+
+            then(authHubClient).shouldHaveNoInteractions();
         }
     }
 
     @Nested
-    @DisplayName("Blacklist 처리")
-    class BlacklistHandlingTest {
+    @DisplayName("재사용 탐지")
+    class ReuseDetectionTest {
 
         @Test
-        @DisplayName("Blacklist에 있는 토큰이면 RefreshTokenReusedException 발생")
-        void shouldThrowExceptionWhenTokenIsBlacklisted() {
+        @DisplayName("공유 기간이 지난 소비된 토큰이면 RefreshTokenReusedException 발생")
+        void shouldThrowExceptionWhenTokenIsConsumed() {
             // given
             RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
-
-            given(redisLockCommandManager.tryLock(TENANT_ID, USER_ID)).willReturn(Mono.just(true));
-            given(redisLockCommandManager.unlock(TENANT_ID, USER_ID)).willReturn(Mono.empty());
-            given(blacklistQueryManager.isBlacklisted(TENANT_ID, refreshToken))
-                    .willReturn(Mono.just(true));
+            givenClaim(refreshToken, RefreshTokenClaimStatus.CONSUMED);
+            given(rotatedTokenPairQueryManager.findByConsumedToken(TENANT_ID, refreshToken))
+                    .willReturn(Mono.empty());
 
             // when
             Mono<RefreshAccessTokenResponse> result =
@@ -139,6 +198,31 @@ class TokenRefreshCoordinatorTest {
 
             then(authHubClient).shouldHaveNoInteractions();
         }
+
+        @Test
+        @DisplayName("공유 기간 내의 소비된 토큰이면 같은 Token Pair를 반환")
+        void shouldReturnRotatedPairWithinGracePeriod() {
+            // given
+            RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
+            TokenPair rotatedPair = AuthenticationFixture.aTokenPair();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.CONSUMED);
+            given(rotatedTokenPairQueryManager.findByConsumedToken(TENANT_ID, refreshToken))
+                    .willReturn(Mono.just(rotatedPair));
+
+            // when
+            Mono<RefreshAccessTokenResponse> result =
+                    tokenRefreshCoordinator.coordinate(TENANT_ID, USER_ID, refreshToken);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response ->
+                                    assertThat(response.accessTokenValue())
+                                            .isEqualTo(rotatedPair.accessTokenValue()))
+                    .verifyComplete();
+
+            then(authHubClient).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -146,18 +230,41 @@ class TokenRefreshCoordinatorTest {
     class TokenRotationTest {
 
         @Test
-        @DisplayName("새 토큰 발급 후 기존 토큰을 Blacklist에 추가해야 한다")
-        void shouldAddOldTokenToBlacklistAfterRefresh() {
+        @DisplayName("새 Token Pair를 공유한 뒤 기존 토큰을 Blacklist에 추가해야 한다")
+        void shouldPublishPairBeforeBlacklisting() {
             // given
             RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
             TokenPair newTokenPair = AuthenticationFixture.aTokenPair();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.ACQUIRED);
+            givenSuccessfulRotation(refreshToken, newTokenPair);
+
+            // when
+            Mono<RefreshAccessTokenResponse> result =
+                    tokenRefreshCoordinator.coordinate(TENANT_ID, USER_ID, refreshToken);
+
+            // then
+            StepVerifier.create(result).expectNextCount(1).verifyComplete();
+
+            InOrder inOrder = inOrder(rotatedTokenPairCommandManager, blacklistCommandManager);
+            inOrder.verify(rotatedTokenPairCommandManager)
+                    .save(eq(TENANT_ID), eq(refreshToken), eq(newTokenPair), eq(30L));
+            inOrder.verify(blacklistCommandManager)
+                    .addToBlacklist(eq(TENANT_ID), eq(refreshToken), anyLong());
+        }
 
-            given(redisLockCommandManager.tryLock(TENANT_ID, USER_ID)).willReturn(Mono.just(true));
-            given(redisLockCommandManager.unlock(TENANT_ID, USER_ID)).willReturn(Mono.empty());
-            given(blacklistQueryManager.isBlacklisted(TENANT_ID, refreshToken))
-                    .willReturn(Mono.just(false));
+        @Test
+        @DisplayName("Token Pair 공유에 실패해도 Rotation은 완료되어야 한다")
+        void shouldCompleteRotationWhenPublishFails() {
+            // given
+            RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
+            TokenPair newTokenPair = AuthenticationFixture.aTokenPair();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.ACQUIRED);
             given(authHubClient.refreshAccessToken(TENANT_ID, refreshToken.value()))
                     .willReturn(Mono.just(newTokenPair));
+            given(
+                            rotatedTokenPairCommandManager.save(
+                                    eq(TENANT_ID), eq(refreshToken), eq(newTokenPair), anyLong()))
+                    .willReturn(Mono.error(new RuntimeException("Redis unavailable")));
             given(
                             blacklistCommandManager.addToBlacklist(
                                     eq(TENANT_ID), eq(refreshToken), anyLong()))
@@ -169,10 +276,6 @@ class TokenRefreshCoordinatorTest {
 
             // then
             StepVerifier.create(result).expectNextCount(1).verifyComplete();
-
-            then(blacklistCommandManager)
-                    .should()
-                    .addToBlacklist(eq(TENANT_ID), eq(refreshToken), anyLong());
         }
     }
 
@@ -181,17 +284,15 @@ class TokenRefreshCoordinatorTest {
     class ErrorHandlingTest {
 
         @Test
-        @DisplayName("AuthHub 호출 실패 시 TokenRefreshFailedException으로 래핑")
-        void shouldWrapAuthHubExceptionInTokenRefreshFailedException() {
+        @DisplayName("AuthHub 호출 실패 시 TokenRefreshFailedException으로 래핑하고 선점을 해제")
+        void shouldWrapAuthHubExceptionAndReleaseClaim() {
             // given
             RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
-
-            given(redisLockCommandManager.tryLock(TENANT_ID, USER_ID)).willReturn(Mono.just(true));
-            given(redisLockCommandManager.unlock(TENANT_ID, USER_ID)).willReturn(Mono.empty());
-            given(blacklistQueryManager.isBlacklisted(TENANT_ID, refreshToken))
-                    .willReturn(Mono.just(false));
+            givenClaim(refreshToken, RefreshTokenClaimStatus.ACQUIRED);
             given(authHubClient.refreshAccessToken(TENANT_ID, refreshToken.value()))
                     .willReturn(Mono.error(new RuntimeException("Network error")));
+            given(claimCommandManager.release(eq(TENANT_ID), eq(refreshToken), anyString()))
+                    .willReturn(Mono.empty());
 
             // when
             Mono<RefreshAccessTokenResponse> result =
@@ -205,6 +306,81 @@ class TokenRefreshCoordinatorTest {
                                 assertThat(error.getMessage()).contains("Token refresh failed");
                             })
                     .verify();
+
+            then(claimCommandManager)
+                    .should()
+                    .release(eq(TENANT_ID), eq(refreshToken), anyString());
+            then(blacklistCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 내 동시 요청 병합")
+    class InFlightCoalescingTest {
+
+        @Test
+        @DisplayName("같은 Refresh Token의 동시 요청은 하나의 Refresh를 공유한다")
+        void shouldCoalesceConcurrentRefreshes() {
+            // given
+            RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
+            TokenPair newTokenPair = AuthenticationFixture.aTokenPair();
+            Sinks.One<TokenPair> authHubResponse = Sinks.one();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.ACQUIRED);
+            given(authHubClient.refreshAccessToken(TENANT_ID, refreshToken.value()))
+                    .willReturn(authHubResponse.asMono());
+            given(
+                            rotatedTokenPairCommandManager.save(
+                                    eq(TENANT_ID), eq(refreshToken), eq(newTokenPair), anyLong()))
+                    .willReturn(Mono.empty());
+            given(
+                            blacklistCommandManager.addToBlacklist(
+                                    eq(TENANT_ID), eq(refreshToken), anyLong()))
+                    .willReturn(Mono.empty());
+
+            // when
+            Mono<RefreshAccessTokenResponse> first =
+                    tokenRefreshCoordinator.coordinate(TENANT_ID, USER_ID, refreshToken);
+            Mono<RefreshAccessTokenResponse> second =
+                    tokenRefreshCoordinator.coordinate(TENANT_ID, USER_ID, refreshToken);
+            StepVerifier firstResult =
+                    StepVerifier.create(first).expectNextCount(1).expectComplete().verifyLater();
+            StepVerifier secondResult =
+                    StepVerifier.create(second).expectNextCount(1).expectComplete().verifyLater();
+            authHubResponse.tryEmitValue(newTokenPair);
+
+            // then
+            firstResult.verify();
+            secondResult.verify();
+            then(claimCommandManager)
+                    .should(times(1))
+                    .claim(eq(TENANT_ID), eq(refreshToken), anyString(), anyLong());
+            then(authHubClient)
+                    .should(times(1))
+                    .refreshAccessToken(TENANT_ID, refreshToken.value());
+        }
+
+        @Test
+        @DisplayName("완료된 Refresh는 병합 대상에서 제거된다")
+        void shouldNotReuseCompletedRefresh() {
+            // given
+            RefreshToken refreshToken = AuthenticationFixture.aRefreshToken();
+            givenClaim(refreshToken, RefreshTokenClaimStatus.CONSUMED);
+            given(rotatedTokenPairQueryManager.findByConsumedToken(TENANT_ID, refreshToken))
+                    .willReturn(Mono.empty());
+
+            // when
+            for (int i = 0; i < 2; i++) {
+                StepVerifier.create(
+                                tokenRefreshCoordinator.coordinate(
+                                        TENANT_ID, USER_ID, refreshToken))
+                        .expectError(RefreshTokenReusedException.class)
+                        .verify();
+            }
+
+            // then
+            then(claimCommandManager)
+                    .should(times(2))
+                    .claim(eq(TENANT_ID), eq(refreshToken), anyString(), anyLong());
         }
     }
 }
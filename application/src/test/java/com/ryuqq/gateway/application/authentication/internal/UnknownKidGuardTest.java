@@ -0,0 +1,149 @@
+package com.ryuqq.gateway.application.authentication.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.config.JwksCacheProperties;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * UnknownKidGuard 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("UnknownKidGuard 단위 테스트")
+class UnknownKidGuardTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private TimeProvider timeProvider;
+
+    private JwksCacheProperties properties;
+    private UnknownKidGuard unknownKidGuard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwksCacheProperties();
+        properties.setMinFetchIntervalSeconds(10);
+        properties.setNegativeCacheTtlSeconds(30);
+        properties.setNegativeCacheMaxSize(2);
+        given(timeProvider.now()).willReturn(NOW);
+        unknownKidGuard = new UnknownKidGuard(properties, timeProvider);
+    }
+
+    @Nested
+    @DisplayName("Negative Cache")
+    class NegativeCacheTest {
+
+        @Test
+        @DisplayName("기록된 kid는 TTL 동안 알 수 없는 kid로 판단한다")
+        void shouldRememberUnknownKidWithinTtl() {
+            // given
+            unknownKidGuard.markUnknown("kid-1");
+
+            // when & then
+            assertThat(unknownKidGuard.isKnownUnknown("kid-1")).isTrue();
+            assertThat(unknownKidGuard.isKnownUnknown("kid-2")).isFalse();
+        }
+
+        @Test
+        @DisplayName("TTL이 지나면 제거된다")
+        void shouldExpireAfterTtl() {
+            // given
+            unknownKidGuard.markUnknown("kid-1");
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(30));
+
+            // when & then
+            assertThat(unknownKidGuard.isKnownUnknown("kid-1")).isFalse();
+            assertThat(unknownKidGuard.unknownKidCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("최대 크기에 도달하면 가장 오래된 kid를 제거하고 새 kid를 기록한다")
+        void shouldEvictOldestWhenFull() {
+            // given
+            unknownKidGuard.markUnknown("kid-1");
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(1));
+            unknownKidGuard.markUnknown("kid-2");
+
+            // when
+            unknownKidGuard.markUnknown("kid-3");
+
+            // then
+            assertThat(unknownKidGuard.unknownKidCount()).isEqualTo(2);
+            assertThat(unknownKidGuard.isKnownUnknown("kid-1")).isFalse();
+            assertThat(unknownKidGuard.isKnownUnknown("kid-2")).isTrue();
+            assertThat(unknownKidGuard.isKnownUnknown("kid-3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("다시 기록된 kid는 가장 최근 위치로 옮겨져 제거 대상에서 밀려난다")
+        void shouldMoveRemarkedKidToNewest() {
+            // given
+            unknownKidGuard.markUnknown("kid-1");
+            unknownKidGuard.markUnknown("kid-2");
+            unknownKidGuard.markUnknown("kid-1");
+
+            // when
+            unknownKidGuard.markUnknown("kid-3");
+
+            // then
+            assertThat(unknownKidGuard.isKnownUnknown("kid-1")).isTrue();
+            assertThat(unknownKidGuard.isKnownUnknown("kid-2")).isFalse();
+            assertThat(unknownKidGuard.isKnownUnknown("kid-3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("JWKS에서 확인된 kid는 즉시 제거된다")
+        void shouldForgetConfirmedKids() {
+            // given
+            unknownKidGuard.markUnknown("kid-1");
+
+            // when
+            unknownKidGuard.forget(List.of("kid-1"));
+
+            // then
+            assertThat(unknownKidGuard.isKnownUnknown("kid-1")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("JWKS 재조회 제한")
+    class FetchThrottleTest {
+
+        @Test
+        @DisplayName("최소 간격 안에서는 한 번만 허용한다")
+        void shouldAllowOncePerInterval() {
+            // when & then
+            assertThat(unknownKidGuard.tryAcquireFetch()).isTrue();
+            assertThat(unknownKidGuard.tryAcquireFetch()).isFalse();
+
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(10));
+            assertThat(unknownKidGuard.tryAcquireFetch()).isTrue();
+        }
+
+        @Test
+        @DisplayName("주기적 갱신 시각도 최소 간격 계산에 반영한다")
+        void shouldCountRecordedFetch() {
+            // given
+            unknownKidGuard.recordFetch();
+
+            // when & then
+            assertThat(unknownKidGuard.tryAcquireFetch()).isFalse();
+        }
+    }
+}
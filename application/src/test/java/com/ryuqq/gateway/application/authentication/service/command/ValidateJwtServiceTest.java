@@ -5,15 +5,19 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import com.ryuqq.gateway.application.authentication.assembler.JwtAssembler;
+import com.ryuqq.gateway.application.authentication.config.VerifiedTokenCacheProperties;
 import com.ryuqq.gateway.application.authentication.dto.command.ValidateJwtCommand;
 import com.ryuqq.gateway.application.authentication.dto.response.ValidateJwtResponse;
 import com.ryuqq.gateway.application.authentication.service.query.GetPublicKeyService;
 import com.ryuqq.gateway.application.authentication.validator.JwtValidator;
+import com.ryuqq.gateway.application.authentication.validator.ParsedJwt;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
 import com.ryuqq.gateway.domain.authentication.exception.JwtExpiredException;
 import com.ryuqq.gateway.domain.authentication.exception.JwtInvalidException;
-import com.ryuqq.gateway.domain.authentication.vo.AccessToken;
 import com.ryuqq.gateway.domain.authentication.vo.JwtClaims;
 import com.ryuqq.gateway.domain.authentication.vo.PublicKey;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +46,8 @@ class ValidateJwtServiceTest {
 
     @Mock private JwtAssembler jwtAssembler;
 
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+
     private ValidateJwtService validateJwtService;
 
     private static final String VALID_JWT =
@@ -53,7 +59,8 @@ class ValidateJwtServiceTest {
     @BeforeEach
     void setUp() {
         validateJwtService =
-                new ValidateJwtService(jwtValidator, getPublicKeyService, jwtAssembler);
+                new ValidateJwtService(
+                        jwtValidator, getPublicKeyService, jwtAssembler, verifiedTokenCache);
     }
 
     @Nested
@@ -65,7 +72,7 @@ class ValidateJwtServiceTest {
         void shouldReturnSuccessResponseForValidJwt() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             PublicKey publicKey = PublicKey.of(KID, "modulus", "exponent", "RSA", "sig", "RS256");
             JwtClaims claims =
                     JwtClaims.of(
@@ -81,10 +88,10 @@ class ValidateJwtServiceTest {
                             false);
             ValidateJwtResponse expectedResponse = new ValidateJwtResponse(claims, true);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID)).willReturn(Mono.just(publicKey));
-            given(jwtValidator.verifySignature(VALID_JWT, publicKey)).willReturn(Mono.just(true));
-            given(jwtValidator.extractClaims(VALID_JWT)).willReturn(Mono.just(claims));
+            given(jwtValidator.verifySignature(parsedJwt, publicKey)).willReturn(Mono.just(true));
+            given(jwtValidator.extractClaims(parsedJwt)).willReturn(Mono.just(claims));
             given(jwtAssembler.toValidateJwtResponse(claims)).willReturn(expectedResponse);
 
             // when
@@ -99,10 +106,83 @@ class ValidateJwtServiceTest {
                             })
                     .verifyComplete();
 
-            then(jwtAssembler).should().toAccessToken(command);
+            then(jwtAssembler).should().toParsedJwt(command);
             then(getPublicKeyService).should().getPublicKey(KID);
-            then(jwtValidator).should().verifySignature(VALID_JWT, publicKey);
-            then(jwtValidator).should().extractClaims(VALID_JWT);
+            then(jwtValidator).should().verifySignature(parsedJwt, publicKey);
+            then(jwtValidator).should().extractClaims(parsedJwt);
+            then(verifiedTokenCache).should().put(VALID_JWT, KID, claims, 0L);
+        }
+
+        @Test
+        @DisplayName("Public Key 조회 후 kid가 무효화되면 검증 결과를 캐시하지 않아야 한다")
+        void shouldNotCacheClaimsWhenKidInvalidatedDuringVerification() {
+            // given
+            VerifiedTokenCache realCache =
+                    new VerifiedTokenCache(
+                            new VerifiedTokenCacheProperties(),
+                            new TimeProvider(Clock.systemUTC()));
+            ValidateJwtService service =
+                    new ValidateJwtService(
+                            jwtValidator, getPublicKeyService, jwtAssembler, realCache);
+            ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
+            PublicKey oldKey = PublicKey.of(KID, "modulus", "exponent", "RSA", "sig", "RS256");
+            JwtClaims claims =
+                    JwtClaims.of(
+                            "user-123",
+                            "auth-hub",
+                            Instant.now().plusSeconds(3600),
+                            Instant.now().minusSeconds(60));
+
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
+            given(getPublicKeyService.getPublicKey(KID)).willReturn(Mono.just(oldKey));
+            // 이전 키로 서명 검증 중 Key Rotation이 적용됨
+            given(jwtValidator.verifySignature(parsedJwt, oldKey))
+                    .willReturn(
+                            Mono.fromCallable(
+                                    () -> {
+                                        realCache.invalidateKids(List.of(KID));
+                                        return true;
+                                    }));
+            given(jwtValidator.extractClaims(parsedJwt)).willReturn(Mono.just(claims));
+            given(jwtAssembler.toValidateJwtResponse(claims))
+                    .willReturn(new ValidateJwtResponse(claims, true));
+
+            // when
+            StepVerifier.create(service.execute(command))
+                    .assertNext(response -> assertThat(response.isValid()).isTrue())
+                    .verifyComplete();
+
+            // then
+            assertThat(realCache.find(VALID_JWT)).isNull();
+            assertThat(realCache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Verified Token Cache Hit 시 서명 검증 없이 성공 응답을 반환해야 한다")
+        void shouldReturnCachedClaimsWithoutVerification() {
+            // given
+            ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
+            JwtClaims claims =
+                    JwtClaims.of(
+                            "user-123",
+                            "auth-hub",
+                            Instant.now().plusSeconds(3600),
+                            Instant.now().minusSeconds(60));
+            ValidateJwtResponse expectedResponse = new ValidateJwtResponse(claims, true);
+
+            given(verifiedTokenCache.find(VALID_JWT)).willReturn(claims);
+            given(jwtAssembler.toValidateJwtResponse(claims)).willReturn(expectedResponse);
+
+            // when
+            Mono<ValidateJwtResponse> result = validateJwtService.execute(command);
+
+            // then
+            StepVerifier.create(result).expectNext(expectedResponse).verifyComplete();
+
+            then(jwtAssembler).should(never()).toParsedJwt(any());
+            then(getPublicKeyService).shouldHaveNoInteractions();
+            then(jwtValidator).shouldHaveNoInteractions();
         }
     }
 
@@ -115,13 +195,13 @@ class ValidateJwtServiceTest {
         void shouldReturnFailedResponseWhenSignatureInvalid() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             PublicKey publicKey = PublicKey.of(KID, "modulus", "exponent", "RSA", "sig", "RS256");
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID)).willReturn(Mono.just(publicKey));
-            given(jwtValidator.verifySignature(VALID_JWT, publicKey)).willReturn(Mono.just(false));
+            given(jwtValidator.verifySignature(parsedJwt, publicKey)).willReturn(Mono.just(false));
             given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
 
             // when
@@ -142,7 +222,7 @@ class ValidateJwtServiceTest {
         void shouldReturnFailedResponseWhenJwtExpired() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             PublicKey publicKey = PublicKey.of(KID, "modulus", "exponent", "RSA", "sig", "RS256");
             JwtClaims expiredClaims =
                     JwtClaims.of(
@@ -158,10 +238,10 @@ class ValidateJwtServiceTest {
                             false);
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID)).willReturn(Mono.just(publicKey));
-            given(jwtValidator.verifySignature(VALID_JWT, publicKey)).willReturn(Mono.just(true));
-            given(jwtValidator.extractClaims(VALID_JWT)).willReturn(Mono.just(expiredClaims));
+            given(jwtValidator.verifySignature(parsedJwt, publicKey)).willReturn(Mono.just(true));
+            given(jwtValidator.extractClaims(parsedJwt)).willReturn(Mono.just(expiredClaims));
             given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
 
             // when
@@ -176,15 +256,39 @@ class ValidateJwtServiceTest {
                     .verifyComplete();
         }
 
+        @Test
+        @DisplayName("kid가 없는 JWT는 Public Key 조회 없이 실패 응답을 반환해야 한다")
+        void shouldReturnFailedResponseWhenKidMissing() {
+            // given
+            String jwtWithoutKid =
+                    "eyJhbGciOiJSUzI1NiJ9."
+                            + "eyJzdWIiOiJ1c2VyLTEyMyIsImlzcyI6ImF1dGgtaHViIn0."
+                            + "signature";
+            ValidateJwtCommand command = new ValidateJwtCommand(jwtWithoutKid);
+            ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
+
+            given(jwtAssembler.toParsedJwt(command)).willReturn(ParsedJwt.parse(jwtWithoutKid));
+            given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
+
+            // when
+            Mono<ValidateJwtResponse> result = validateJwtService.execute(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.isValid()).isFalse())
+                    .verifyComplete();
+            then(getPublicKeyService).shouldHaveNoInteractions();
+        }
+
         @Test
         @DisplayName("DomainException 발생 시 실패 응답을 반환해야 한다")
         void shouldReturnFailedResponseOnDomainException() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID))
                     .willReturn(Mono.error(new JwtInvalidException("Invalid JWT")));
             given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
@@ -203,10 +307,10 @@ class ValidateJwtServiceTest {
         void shouldReturnFailedResponseOnJwtExpiredException() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID))
                     .willReturn(Mono.error(new JwtExpiredException(VALID_JWT)));
             given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
@@ -225,10 +329,10 @@ class ValidateJwtServiceTest {
         void shouldReturnFailedResponseOnIllegalStateException() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID))
                     .willReturn(Mono.error(new IllegalStateException("Invalid state")));
             given(jwtAssembler.toFailedValidateJwtResponse()).willReturn(failedResponse);
@@ -252,9 +356,9 @@ class ValidateJwtServiceTest {
         void shouldPropagateUnexpectedException() {
             // given
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
-            AccessToken accessToken = AccessToken.of(VALID_JWT);
+            ParsedJwt parsedJwt = ParsedJwt.parse(VALID_JWT);
 
-            given(jwtAssembler.toAccessToken(command)).willReturn(accessToken);
+            given(jwtAssembler.toParsedJwt(command)).willReturn(parsedJwt);
             given(getPublicKeyService.getPublicKey(KID))
                     .willReturn(Mono.error(new RuntimeException("Unexpected error")));
 
@@ -277,7 +381,7 @@ class ValidateJwtServiceTest {
             ValidateJwtCommand command = new ValidateJwtCommand(VALID_JWT);
             ValidateJwtResponse failedResponse = new ValidateJwtResponse(null, false);
 
-            given(jwtAssembler.toAccessToken(command))
+            given(jwtAssembler.toParsedJwt(command))
                     .willThrow(new IllegalArgumentException("Invalid command"));
             // IllegalArgumentException은 DomainException/IllegalStateException이 아니므로 전파됨
 
@@ -0,0 +1,50 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.config.JwtVerificationProperties.Mode;
+import com.ryuqq.gateway.application.authentication.dto.response.JwtVerificationStatsResponse;
+import com.ryuqq.gateway.application.authentication.validator.JwtVerificationExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetJwtVerificationStatsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetJwtVerificationStatsService 단위 테스트")
+class GetJwtVerificationStatsServiceTest {
+
+    @Mock private JwtVerificationExecutor jwtVerificationExecutor;
+
+    @InjectMocks private GetJwtVerificationStatsService getJwtVerificationStatsService;
+
+    @Test
+    @DisplayName("Executor 누적값을 Response로 반환해야 한다")
+    void shouldReturnExecutorStats() {
+        // given
+        given(jwtVerificationExecutor.mode()).willReturn(Mode.PARALLEL);
+        given(jwtVerificationExecutor.executionCount()).willReturn(100L);
+        given(jwtVerificationExecutor.totalExecutionNanos()).willReturn(5_000_000L);
+        given(jwtVerificationExecutor.totalQueueWaitNanos()).willReturn(1_000_000L);
+        given(jwtVerificationExecutor.queueDepth()).willReturn(3);
+        given(jwtVerificationExecutor.callerRunCount()).willReturn(2L);
+
+        // when
+        JwtVerificationStatsResponse result = getJwtVerificationStatsService.execute();
+
+        // then
+        assertThat(result)
+                .isEqualTo(
+                        new JwtVerificationStatsResponse(
+                                "PARALLEL", 100L, 5_000_000L, 1_000_000L, 3, 2L));
+    }
+}
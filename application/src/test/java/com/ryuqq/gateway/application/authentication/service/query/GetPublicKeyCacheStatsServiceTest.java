@@ -0,0 +1,43 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.dto.response.PublicKeyCacheStatsResponse;
+import com.ryuqq.gateway.application.authentication.internal.PublicKeyCacheCoordinator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetPublicKeyCacheStatsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetPublicKeyCacheStatsService 단위 테스트")
+class GetPublicKeyCacheStatsServiceTest {
+
+    @Mock private PublicKeyCacheCoordinator publicKeyCacheCoordinator;
+
+    @InjectMocks private GetPublicKeyCacheStatsService getPublicKeyCacheStatsService;
+
+    @Test
+    @DisplayName("Coordinator의 Cache 통계를 그대로 반환해야 한다")
+    void shouldReturnCoordinatorStats() {
+        // given
+        PublicKeyCacheStatsResponse stats =
+                new PublicKeyCacheStatsResponse(10L, 2L, 1L, 4L, 1L, 3L, 6L, 5L, 0L, 2);
+        given(publicKeyCacheCoordinator.stats()).willReturn(stats);
+
+        // when
+        PublicKeyCacheStatsResponse result = getPublicKeyCacheStatsService.execute();
+
+        // then
+        assertThat(result).isEqualTo(stats);
+    }
+}
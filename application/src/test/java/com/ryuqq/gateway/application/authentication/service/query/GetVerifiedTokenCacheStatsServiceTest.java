@@ -0,0 +1,44 @@
+package com.ryuqq.gateway.application.authentication.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authentication.dto.response.VerifiedTokenCacheStatsResponse;
+import com.ryuqq.gateway.application.authentication.validator.VerifiedTokenCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetVerifiedTokenCacheStatsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetVerifiedTokenCacheStatsService 단위 테스트")
+class GetVerifiedTokenCacheStatsServiceTest {
+
+    @Mock private VerifiedTokenCache verifiedTokenCache;
+
+    @InjectMocks private GetVerifiedTokenCacheStatsService getVerifiedTokenCacheStatsService;
+
+    @Test
+    @DisplayName("Verified Token Cache 누적값을 Response로 반환해야 한다")
+    void shouldReturnCacheStats() {
+        // given
+        given(verifiedTokenCache.hitCount()).willReturn(90L);
+        given(verifiedTokenCache.missCount()).willReturn(10L);
+        given(verifiedTokenCache.invalidationCount()).willReturn(3L);
+        given(verifiedTokenCache.size()).willReturn(7);
+
+        // when
+        VerifiedTokenCacheStatsResponse result = getVerifiedTokenCacheStatsService.execute();
+
+        // then
+        assertThat(result).isEqualTo(new VerifiedTokenCacheStatsResponse(90L, 10L, 3L, 7));
+    }
+}
@@ -0,0 +1,104 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.gateway.domain.authorization.vo.HttpMethod;
+import com.ryuqq.gateway.fixture.authorization.PermissionFixture;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EndpointTemplateRegistry 단위 테스트")
+class EndpointTemplateRegistryTest {
+
+    private EndpointTemplateRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new EndpointTemplateRegistry();
+    }
+
+    @Nested
+    @DisplayName("findTemplate() 테스트")
+    class FindTemplateTest {
+
+        @Test
+        @DisplayName("매칭되는 EndpointPermission의 경로 템플릿을 반환한다")
+        void shouldReturnMatchedTemplate() {
+            // given
+            registry.update(
+                    PermissionFixture.aPermissionSpec(
+                            List.of(
+                                    PermissionFixture.aPublicEndpoint(
+                                            "/api/v1/orders/{orderId}", HttpMethod.GET))));
+
+            // when & then
+            assertThat(registry.findTemplate("/api/v1/orders/123", HttpMethod.GET))
+                    .hasValue("/api/v1/orders/{orderId}");
+            assertThat(registry.findTemplate("/api/v1/orders/456", HttpMethod.GET))
+                    .hasValue("/api/v1/orders/{orderId}");
+        }
+
+        @Test
+        @DisplayName("메서드가 다르거나 경로가 매칭되지 않으면 empty를 반환한다")
+        void shouldReturnEmptyWhenNotMatched() {
+            // given
+            registry.update(
+                    PermissionFixture.aPermissionSpec(
+                            List.of(
+                                    PermissionFixture.aPublicEndpoint(
+                                            "/api/v1/orders/{orderId}", HttpMethod.GET))));
+
+            // when & then
+            assertThat(registry.findTemplate("/api/v1/orders/123", HttpMethod.DELETE)).isEmpty();
+            assertThat(registry.findTemplate("/api/v1/users/1", HttpMethod.GET)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Permission Spec이 없으면 empty를 반환한다")
+        void shouldReturnEmptyBeforeFirstUpdate() {
+            // when & then
+            assertThat(registry.findTemplate("/api/v1/orders/123", HttpMethod.GET)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("update() 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("새 Permission Spec으로 교체한다")
+        void shouldReplaceSpec() {
+            // given
+            registry.update(
+                    PermissionFixture.aPermissionSpec(
+                            List.of(PermissionFixture.aPublicEndpoint("/old", HttpMethod.GET))));
+
+            // when
+            registry.update(
+                    PermissionFixture.aPermissionSpec(
+                            List.of(PermissionFixture.aPublicEndpoint("/new", HttpMethod.GET))));
+
+            // then
+            assertThat(registry.findTemplate("/old", HttpMethod.GET)).isEmpty();
+            assertThat(registry.findTemplate("/new", HttpMethod.GET)).hasValue("/new");
+        }
+
+        @Test
+        @DisplayName("null은 무시한다")
+        void shouldIgnoreNull() {
+            // given
+            registry.update(
+                    PermissionFixture.aPermissionSpec(
+                            List.of(PermissionFixture.aPublicEndpoint("/keep", HttpMethod.GET))));
+
+            // when
+            registry.update(null);
+
+            // then
+            assertThat(registry.findTemplate("/keep", HttpMethod.GET)).hasValue("/keep");
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authorization.config.PermissionHashCacheProperties;
+import com.ryuqq.gateway.application.authorization.manager.PermissionClientManager;
+import com.ryuqq.gateway.application.authorization.manager.PermissionHashCommandManager;
+import com.ryuqq.gateway.application.authorization.manager.PermissionHashQueryManager;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionHash;
+import com.ryuqq.gateway.fixture.authorization.PermissionFixture;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * PermissionHashCoordinator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PermissionHashCoordinator 단위 테스트")
+class PermissionHashCoordinatorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String TENANT_ID = "tenant-1";
+    private static final String USER_ID = "user-1";
+    private static final String HASH = "hash-user-role";
+
+    @Mock private PermissionHashQueryManager permissionHashQueryManager;
+
+    @Mock private PermissionClientManager permissionClientManager;
+
+    @Mock private PermissionHashCommandManager permissionHashCommandManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    private PermissionHashStore permissionHashStore;
+    private PermissionHashCoordinator permissionHashCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        given(timeProvider.now()).willReturn(NOW);
+        given(permissionHashCommandManager.save(any(), any(), any())).willReturn(Mono.empty());
+        permissionHashStore =
+                new PermissionHashStore(new PermissionHashCacheProperties(), timeProvider);
+        permissionHashCoordinator =
+                new PermissionHashCoordinator(
+                        permissionHashQueryManager,
+                        permissionClientManager,
+                        permissionHashCommandManager,
+                        permissionHashStore);
+    }
+
+    private static PermissionHash aHash(String hash) {
+        return PermissionFixture.aPermissionHash(hash, PermissionFixture.permissions("order:read"));
+    }
+
+    @Nested
+    @DisplayName("findByTenantAndUser 메서드")
+    class FindByTenantAndUserTest {
+
+        @Test
+        @DisplayName("Redis에서 조회한 Hash가 JWT Hash와 같으면 로컬에 보관하고 다음 요청은 Redis를 조회하지 않는다")
+        void shouldServeFromLocalStoreAfterRedisHit() {
+            // given
+            given(permissionHashQueryManager.findByTenantAndUser(TENANT_ID, USER_ID))
+                    .willReturn(Mono.just(aHash(HASH)));
+            PermissionHash first =
+                    permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH).block();
+
+            // when & then
+            StepVerifier.create(
+                            permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH))
+                    .assertNext(hash -> assertThat(hash).isSameAs(first))
+                    .verifyComplete();
+
+            then(permissionHashQueryManager).should(times(1)).findByTenantAndUser(any(), any());
+        }
+
+        @Test
+        @DisplayName("같은 Hash를 가진 다른 사용자는 같은 객체를 공유한다")
+        void shouldShareObjectAcrossUsers() {
+            // given
+            given(permissionHashQueryManager.findByTenantAndUser(eq(TENANT_ID), any()))
+                    .willAnswer(invocation -> Mono.just(aHash(HASH)));
+
+            // when
+            PermissionHash first =
+                    permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH).block();
+            PermissionHash second =
+                    permissionHashCoordinator
+                            .findByTenantAndUser(TENANT_ID, "user-2", HASH)
+                            .block();
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("Redis Hash가 JWT Hash와 다르면 AuthHub에서 조회하여 저장한다")
+        void shouldFetchFromAuthHubOnMismatch() {
+            // given
+            PermissionHash fetched = aHash(HASH);
+            given(permissionHashQueryManager.findByTenantAndUser(TENANT_ID, USER_ID))
+                    .willReturn(Mono.just(aHash("stale-hash")));
+            given(permissionClientManager.fetchUserPermissions(TENANT_ID, USER_ID))
+                    .willReturn(Mono.just(fetched));
+
+            // when & then
+            StepVerifier.create(
+                            permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH))
+                    .expectNext(fetched)
+                    .verifyComplete();
+
+            then(permissionHashCommandManager).should().save(TENANT_ID, USER_ID, fetched);
+            assertThat(permissionHashStore.find(TENANT_ID, USER_ID, HASH)).isSameAs(fetched);
+        }
+
+        @Test
+        @DisplayName("사용자 연결이 제거되면 Redis를 다시 조회한다")
+        void shouldRecheckRedisAfterUnbind() {
+            // given
+            given(permissionHashQueryManager.findByTenantAndUser(TENANT_ID, USER_ID))
+                    .willReturn(Mono.just(aHash(HASH)));
+            permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH).block();
+            permissionHashStore.unbind(TENANT_ID, USER_ID);
+
+            // when
+            permissionHashCoordinator.findByTenantAndUser(TENANT_ID, USER_ID, HASH).block();
+
+            // then
+            then(permissionHashQueryManager).should(times(2)).findByTenantAndUser(any(), any());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authorization.config.PermissionHashCacheProperties;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionHash;
+import com.ryuqq.gateway.fixture.authorization.PermissionFixture;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * PermissionHashStore 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PermissionHashStore 단위 테스트")
+class PermissionHashStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String TENANT_ID = "tenant-1";
+    private static final String HASH = "hash-user-role";
+
+    @Mock private TimeProvider timeProvider;
+
+    private PermissionHashCacheProperties properties;
+    private PermissionHashStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PermissionHashCacheProperties();
+        given(timeProvider.now()).willReturn(NOW);
+        store = new PermissionHashStore(properties, timeProvider);
+    }
+
+    private static PermissionHash aHash(String hash) {
+        return PermissionFixture.aPermissionHash(hash, PermissionFixture.permissions("order:read"));
+    }
+
+    @Nested
+    @DisplayName("put 메서드")
+    class PutTest {
+
+        @Test
+        @DisplayName("같은 Hash의 사용자들은 하나의 객체를 공유한다")
+        void shouldShareSameHashAcrossUsers() {
+            // given
+            PermissionHash first = store.put(TENANT_ID, "user-1", aHash(HASH));
+
+            // when
+            PermissionHash second = store.put(TENANT_ID, "user-2", aHash(HASH));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(store.hashCount()).isEqualTo(1);
+            assertThat(store.userCount()).isEqualTo(2);
+            assertThat(store.sharedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Hash 수 상한에 도달하면 보관 중인 Hash를 비운다")
+        void shouldClearHashesWhenFull() {
+            // given
+            properties.setMaxHashes(1);
+            store.put(TENANT_ID, "user-1", aHash("hash-a"));
+
+            // when
+            store.put(TENANT_ID, "user-2", aHash("hash-b"));
+
+            // then
+            assertThat(store.hashCount()).isEqualTo(1);
+            assertThat(store.find(TENANT_ID, "user-1", "hash-a")).isNull();
+            assertThat(store.find(TENANT_ID, "user-2", "hash-b")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("비활성화 시 보관하지 않는다")
+        void shouldNotStoreWhenDisabled() {
+            // given
+            properties.setEnabled(false);
+            PermissionHash permissionHash = aHash(HASH);
+
+            // when
+            PermissionHash result = store.put(TENANT_ID, "user-1", permissionHash);
+
+            // then
+            assertThat(result).isSameAs(permissionHash);
+            assertThat(store.hashCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("find 메서드")
+    class FindTest {
+
+        @Test
+        @DisplayName("사용자에게 연결된 Hash가 JWT Hash와 같으면 반환한다")
+        void shouldReturnWhenBindingMatchesJwtHash() {
+            // given
+            PermissionHash stored = store.put(TENANT_ID, "user-1", aHash(HASH));
+
+            // when
+            PermissionHash found = store.find(TENANT_ID, "user-1", HASH);
+
+            // then
+            assertThat(found).isSameAs(stored);
+            assertThat(store.hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("JWT Hash가 연결된 Hash와 다르면 null을 반환한다")
+        void shouldReturnNullWhenJwtHashDiffers() {
+            // given
+            store.put(TENANT_ID, "user-1", aHash(HASH));
+
+            // when & then
+            assertThat(store.find(TENANT_ID, "user-1", "other-hash")).isNull();
+            assertThat(store.missCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Hash를 보관 중이어도 사용자 연결이 없으면 null을 반환한다")
+        void shouldReturnNullWithoutBinding() {
+            // given
+            store.put(TENANT_ID, "user-1", aHash(HASH));
+
+            // when & then
+            assertThat(store.find(TENANT_ID, "user-2", HASH)).isNull();
+        }
+
+        @Test
+        @DisplayName("사용자 연결이 만료되면 null을 반환하고 연결을 제거한다")
+        void shouldExpireBinding() {
+            // given
+            store.put(TENANT_ID, "user-1", aHash(HASH));
+            given(timeProvider.now())
+                    .willReturn(NOW.plusSeconds(properties.getUserBindingTtlSeconds()));
+
+            // when
+            PermissionHash found = store.find(TENANT_ID, "user-1", HASH);
+
+            // then
+            assertThat(found).isNull();
+            assertThat(store.userCount()).isZero();
+            assertThat(store.hashCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("JWT Hash가 없으면 null을 반환한다")
+        void shouldReturnNullWithoutJwtHash() {
+            // given
+            store.put(TENANT_ID, "user-1", aHash(HASH));
+
+            // when & then
+            assertThat(store.find(TENANT_ID, "user-1", null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("unbind 메서드")
+    class UnbindTest {
+
+        @Test
+        @DisplayName("사용자 연결만 제거하고 공유 Hash는 유지한다")
+        void shouldRemoveBindingOnly() {
+            // given
+            store.put(TENANT_ID, "user-1", aHash(HASH));
+            store.put(TENANT_ID, "user-2", aHash(HASH));
+
+            // when
+            store.unbind(TENANT_ID, "user-1");
+
+            // then
+            assertThat(store.find(TENANT_ID, "user-1", HASH)).isNull();
+            assertThat(store.find(TENANT_ID, "user-2", HASH)).isNotNull();
+            assertThat(store.hashCount()).isEqualTo(1);
+        }
+    }
+}
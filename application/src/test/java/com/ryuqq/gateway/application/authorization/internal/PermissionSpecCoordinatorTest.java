@@ -0,0 +1,401 @@
+package com.ryuqq.gateway.application.authorization.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authorization.config.PermissionSpecProperties;
+import com.ryuqq.gateway.application.authorization.manager.PermissionClientManager;
+import com.ryuqq.gateway.application.authorization.manager.PermissionSpecCommandManager;
+import com.ryuqq.gateway.application.authorization.manager.PermissionSpecQueryManager;
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.authorization.vo.EndpointPermission;
+import com.ryuqq.gateway.domain.authorization.vo.HttpMethod;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
+import com.ryuqq.gateway.fixture.authorization.PermissionFixture;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * PermissionSpecCoordinator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PermissionSpecCoordinator 단위 테스트")
+class PermissionSpecCoordinatorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final PermissionSpec SPEC_V1 = PermissionFixture.aPermissionSpec(1L);
+    private static final PermissionSpec SPEC_V2 = PermissionFixture.aPermissionSpec(2L);
+
+    @Mock private PermissionSpecQueryManager permissionSpecQueryManager;
+
+    @Mock private PermissionClientManager permissionClientManager;
+
+    @Mock private PermissionSpecCommandManager permissionSpecCommandManager;
+
+    @Mock private EndpointTemplateRegistry endpointTemplateRegistry;
+
+    @Mock private TimeProvider timeProvider;
+
+    private PermissionSpecProperties properties;
+    private PermissionSpecCoordinator permissionSpecCoordinator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PermissionSpecProperties();
+        given(timeProvider.now()).willReturn(NOW);
+        given(permissionSpecCommandManager.saveSharedVersion(any())).willReturn(Mono.empty());
+        permissionSpecCoordinator =
+                new PermissionSpecCoordinator(
+                        permissionSpecQueryManager,
+                        permissionClientManager,
+                        permissionSpecCommandManager,
+                        endpointTemplateRegistry,
+                        properties,
+                        timeProvider);
+    }
+
+    private void loadSnapshot(PermissionSpec spec) {
+        given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(spec));
+        permissionSpecCoordinator.refresh().block();
+        clearInvocations(permissionClientManager, permissionSpecCommandManager);
+    }
+
+    @Nested
+    @DisplayName("findPermissionSpec 메서드")
+    class FindPermissionSpecTest {
+
+        @Test
+        @DisplayName("Snapshot이 있으면 I/O 없이 반환한다")
+        void shouldReturnSnapshotWithoutIo() {
+            // given
+            loadSnapshot(SPEC_V1);
+
+            // when & then
+            StepVerifier.create(permissionSpecCoordinator.findPermissionSpec())
+                    .expectNext(SPEC_V1)
+                    .verifyComplete();
+
+            then(permissionClientManager).shouldHaveNoInteractions();
+            then(permissionSpecQueryManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Snapshot이 없으면 AuthHub에서 조회하여 적재하고 버전을 공유한다")
+        void shouldFetchWhenSnapshotMissing() {
+            // given
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V1));
+
+            // when & then
+            StepVerifier.create(permissionSpecCoordinator.findPermissionSpec())
+                    .expectNext(SPEC_V1)
+                    .verifyComplete();
+
+            then(endpointTemplateRegistry).should().update(SPEC_V1);
+            then(permissionSpecCommandManager).should().saveSharedVersion(1L);
+        }
+
+        @Test
+        @DisplayName("동시에 조회해도 AuthHub 호출은 한 번만 한다")
+        void shouldShareInFlightFetch() {
+            // given
+            Sinks.One<PermissionSpec> sink = Sinks.one();
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(sink.asMono());
+
+            // when
+            Mono<PermissionSpec> first = permissionSpecCoordinator.findPermissionSpec();
+            Mono<PermissionSpec> second = permissionSpecCoordinator.findPermissionSpec();
+            StepVerifier.create(Mono.zip(first, second))
+                    .then(() -> sink.tryEmitValue(SPEC_V1))
+                    .assertNext(
+                            tuple -> {
+                                assertThat(tuple.getT1()).isEqualTo(SPEC_V1);
+                                assertThat(tuple.getT2()).isEqualTo(SPEC_V1);
+                            })
+                    .verifyComplete();
+
+            // then
+            then(permissionClientManager).should(times(1)).fetchPermissionSpec();
+        }
+
+        @Test
+        @DisplayName("버전 공유에 실패해도 조회한 Spec을 반환한다")
+        void shouldReturnSpecWhenSharingFails() {
+            // given
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V1));
+            given(permissionSpecCommandManager.saveSharedVersion(1L))
+                    .willReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // when & then
+            StepVerifier.create(permissionSpecCoordinator.findPermissionSpec())
+                    .expectNext(SPEC_V1)
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh 메서드")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("AuthHub에서 조회한 Spec으로 Snapshot을 교체한다")
+        void shouldReplaceSnapshot() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V2));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refresh())
+                    .expectNext(SPEC_V2)
+                    .verifyComplete();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block()).isEqualTo(SPEC_V2);
+            then(permissionSpecCommandManager).should().saveSharedVersion(2L);
+        }
+
+        @Test
+        @DisplayName("조회 실패 시 기존 Snapshot을 유지하고 에러를 전파한다")
+        void shouldKeepSnapshotWhenFetchFails() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(permissionClientManager.fetchPermissionSpec())
+                    .willReturn(Mono.error(new RuntimeException("AuthHub down")));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refresh())
+                    .expectErrorMessage("AuthHub down")
+                    .verify();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block()).isEqualTo(SPEC_V1);
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshForWebhook 메서드")
+    class RefreshForWebhookTest {
+
+        private final EndpointPermission orderV1 =
+                EndpointPermission.publicEndpoint(
+                        "order-service", "/api/v1/orders", HttpMethod.GET);
+        private final EndpointPermission productV1 =
+                EndpointPermission.publicEndpoint(
+                        "product-service", "/api/v1/products", HttpMethod.GET);
+        private final EndpointPermission orderV2 =
+                EndpointPermission.publicEndpoint(
+                        "order-service", "/api/v2/orders", HttpMethod.GET);
+        private final EndpointPermission productV2 =
+                EndpointPermission.publicEndpoint(
+                        "product-service", "/api/v2/products", HttpMethod.GET);
+
+        private final PermissionSpec current =
+                PermissionSpec.of(1L, NOW, List.of(orderV1, productV1));
+        private final PermissionSpec latest =
+                PermissionSpec.of(2L, NOW, List.of(orderV2, productV2));
+
+        @Test
+        @DisplayName("조회한 Spec 전체로 Snapshot을 교체하고 버전을 공유한다")
+        void shouldReplaceWithFetchedSpec() {
+            // given
+            loadSnapshot(current);
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(latest));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refreshForWebhook(10L))
+                    .expectNext(latest)
+                    .verifyComplete();
+
+            // then
+            then(permissionSpecCommandManager).should().saveSharedVersion(2L);
+        }
+
+        @Test
+        @DisplayName("유실된 이전 Webhook의 변경도 다음 Webhook에서 함께 반영한다")
+        void shouldApplyChangesOfLostWebhook() {
+            // given - product-service 변경 Webhook(10)은 유실되고, order-service 변경 Webhook(11)만 도착
+            loadSnapshot(current);
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(latest));
+
+            // when
+            permissionSpecCoordinator.refreshForWebhook(11L).block();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block().permissions())
+                    .containsExactlyInAnyOrder(orderV2, productV2);
+        }
+
+        @Test
+        @DisplayName("이미 받은 버전 이하의 Webhook은 조회하지 않고 무시한다")
+        void shouldIgnoreStaleWebhook() {
+            // given
+            loadSnapshot(current);
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(latest));
+            permissionSpecCoordinator.refreshForWebhook(10L).block();
+            clearInvocations(permissionClientManager);
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refreshForWebhook(10L)).verifyComplete();
+            StepVerifier.create(permissionSpecCoordinator.refreshForWebhook(9L)).verifyComplete();
+
+            // then
+            then(permissionClientManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("조회 중 더 새로운 Webhook이 도착하면 이전 조회 결과를 반영하지 않는다")
+        void shouldSkipSupersededWebhook() {
+            // given
+            loadSnapshot(current);
+            Sinks.One<PermissionSpec> slowFetch = Sinks.one();
+            given(permissionClientManager.fetchPermissionSpec())
+                    .willReturn(slowFetch.asMono(), Mono.just(latest));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refreshForWebhook(10L))
+                    .then(() -> permissionSpecCoordinator.refreshForWebhook(11L).block())
+                    .then(() -> slowFetch.tryEmitValue(current))
+                    .verifyComplete();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block()).isEqualTo(latest);
+        }
+
+        @Test
+        @DisplayName("Webhook 이전에 시작된 전체 조회는 Webhook 반영 내용을 덮어쓰지 않는다")
+        void shouldNotOverwriteWebhookWithEarlierFullFetch() {
+            // given
+            loadSnapshot(current);
+            Sinks.One<PermissionSpec> slowFetch = Sinks.one();
+            given(permissionClientManager.fetchPermissionSpec())
+                    .willReturn(slowFetch.asMono(), Mono.just(latest));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refresh())
+                    .then(() -> permissionSpecCoordinator.refreshForWebhook(10L).block())
+                    .then(() -> slowFetch.tryEmitValue(current))
+                    .assertNext(spec -> assertThat(spec.version()).isEqualTo(2L))
+                    .verifyComplete();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block().version())
+                    .isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("조회 실패 시 기존 Snapshot을 유지하고 에러를 전파한다")
+        void shouldKeepSnapshotWhenFetchFails() {
+            // given
+            loadSnapshot(current);
+            given(permissionClientManager.fetchPermissionSpec())
+                    .willReturn(Mono.error(new RuntimeException("AuthHub down")));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.refreshForWebhook(10L))
+                    .expectErrorMessage("AuthHub down")
+                    .verify();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block()).isEqualTo(current);
+        }
+    }
+
+    @Nested
+    @DisplayName("syncWithSharedVersion 메서드")
+    class SyncWithSharedVersionTest {
+
+        @Test
+        @DisplayName("공유 버전이 Snapshot 버전과 같으면 조회하지 않는다")
+        void shouldSkipWhenVersionMatches() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(permissionSpecQueryManager.findSharedVersion()).willReturn(Mono.just(1L));
+
+            // when & then
+            StepVerifier.create(permissionSpecCoordinator.syncWithSharedVersion())
+                    .verifyComplete();
+
+            then(permissionClientManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("공유 버전이 Snapshot 버전과 다르면 AuthHub에서 다시 조회한다")
+        void shouldFetchWhenVersionDiffers() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(permissionSpecQueryManager.findSharedVersion()).willReturn(Mono.just(2L));
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V2));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.syncWithSharedVersion())
+                    .verifyComplete();
+
+            // then
+            assertThat(permissionSpecCoordinator.findPermissionSpec().block()).isEqualTo(SPEC_V2);
+        }
+
+        @Test
+        @DisplayName("Snapshot이 없으면 AuthHub에서 조회하여 적재한다")
+        void shouldLoadWhenSnapshotMissing() {
+            // given
+            given(permissionSpecQueryManager.findSharedVersion()).willReturn(Mono.just(1L));
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V1));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.syncWithSharedVersion())
+                    .verifyComplete();
+
+            // then
+            then(permissionClientManager).should().fetchPermissionSpec();
+        }
+
+        @Test
+        @DisplayName("Snapshot이 max-age보다 오래되면 버전이 같아도 다시 조회한다")
+        void shouldFetchWhenSnapshotStale() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(timeProvider.now())
+                    .willReturn(NOW.plusSeconds(properties.getMaxAgeSeconds()));
+            given(permissionSpecQueryManager.findSharedVersion()).willReturn(Mono.just(1L));
+            given(permissionClientManager.fetchPermissionSpec()).willReturn(Mono.just(SPEC_V1));
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.syncWithSharedVersion())
+                    .verifyComplete();
+
+            // then
+            then(permissionClientManager).should().fetchPermissionSpec();
+        }
+
+        @Test
+        @DisplayName("공유 버전이 없으면 Snapshot 버전을 공유한다")
+        void shouldSeedSharedVersion() {
+            // given
+            loadSnapshot(SPEC_V1);
+            given(permissionSpecQueryManager.findSharedVersion()).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(permissionSpecCoordinator.syncWithSharedVersion())
+                    .verifyComplete();
+
+            // then
+            then(permissionSpecCommandManager).should().saveSharedVersion(1L);
+            then(permissionClientManager).shouldHaveNoInteractions();
+        }
+    }
+}
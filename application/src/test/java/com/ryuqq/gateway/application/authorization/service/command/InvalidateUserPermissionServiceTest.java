@@ -4,6 +4,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.application.authorization.dto.command.InvalidateUserPermissionCommand;
+import com.ryuqq.gateway.application.authorization.internal.PermissionHashStore;
 import com.ryuqq.gateway.application.authorization.manager.PermissionHashCommandManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,12 +22,15 @@ class InvalidateUserPermissionServiceTest {
 
     @Mock private PermissionHashCommandManager permissionHashCommandManager;
 
+    @Mock private PermissionHashStore permissionHashStore;
+
     private InvalidateUserPermissionService invalidateUserPermissionService;
 
     @BeforeEach
     void setUp() {
         invalidateUserPermissionService =
-                new InvalidateUserPermissionService(permissionHashCommandManager);
+                new InvalidateUserPermissionService(
+                        permissionHashCommandManager, permissionHashStore);
     }
 
     @Nested
@@ -49,6 +53,7 @@ class InvalidateUserPermissionServiceTest {
             StepVerifier.create(invalidateUserPermissionService.execute(command)).verifyComplete();
 
             verify(permissionHashCommandManager).invalidate(tenantId, userId);
+            verify(permissionHashStore).unbind(tenantId, userId);
         }
 
         @Test
@@ -1,10 +1,15 @@
 package com.ryuqq.gateway.application.authorization.service.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.ryuqq.gateway.application.authorization.dto.command.SyncPermissionSpecCommand;
-import com.ryuqq.gateway.application.authorization.manager.PermissionSpecCommandManager;
+import com.ryuqq.gateway.application.authorization.internal.PermissionSpecCoordinator;
+import com.ryuqq.gateway.domain.authorization.vo.PermissionSpec;
+import com.ryuqq.gateway.fixture.authorization.PermissionFixture;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,19 +19,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SyncPermissionSpecService 테스트")
 class SyncPermissionSpecServiceTest {
 
-    @Mock private PermissionSpecCommandManager permissionSpecCommandManager;
+    @Mock private PermissionSpecCoordinator permissionSpecCoordinator;
 
     private SyncPermissionSpecService syncPermissionSpecService;
 
     @BeforeEach
     void setUp() {
-        syncPermissionSpecService = new SyncPermissionSpecService(permissionSpecCommandManager);
+        syncPermissionSpecService = new SyncPermissionSpecService(permissionSpecCoordinator);
     }
 
     @Nested
@@ -34,135 +40,106 @@ class SyncPermissionSpecServiceTest {
     class ExecuteTest {
 
         @Test
-        @DisplayName("정상적인 Permission Spec 동기화")
-        void shouldSyncPermissionSpecSuccessfully() {
+        @DisplayName("변경된 서비스가 있어도 Webhook 버전으로 Snapshot 전체 갱신을 시작")
+        void shouldRefreshForWebhookVersion() {
             // given
             Long version = 123L;
             List<String> changedServices = List.of("user-service", "order-service");
             SyncPermissionSpecCommand command =
                     SyncPermissionSpecCommand.of(version, changedServices);
 
-            when(permissionSpecCommandManager.invalidate()).thenReturn(Mono.empty());
+            when(permissionSpecCoordinator.refreshForWebhook(version))
+                    .thenReturn(Mono.just(PermissionFixture.aDefaultPermissionSpec()));
 
             // when & then
             StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
 
-            verify(permissionSpecCommandManager).invalidate();
+            verify(permissionSpecCoordinator).refreshForWebhook(version);
         }
 
         @Test
-        @DisplayName("변경된 서비스가 없는 경우에도 정상 동작")
-        void shouldSyncPermissionSpecWithoutChangedServices() {
+        @DisplayName("변경된 서비스가 없어도 Webhook 버전으로 갱신을 시작")
+        void shouldRefreshWithoutChangedServices() {
             // given
             Long version = 456L;
             SyncPermissionSpecCommand command = SyncPermissionSpecCommand.of(version);
 
-            when(permissionSpecCommandManager.invalidate()).thenReturn(Mono.empty());
+            when(permissionSpecCoordinator.refreshForWebhook(version))
+                    .thenReturn(Mono.just(PermissionFixture.aDefaultPermissionSpec()));
 
             // when & then
             StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
 
-            verify(permissionSpecCommandManager).invalidate();
+            verify(permissionSpecCoordinator).refreshForWebhook(version);
         }
 
         @Test
-        @DisplayName("캐시 무효화 실패 시 에러 전파")
-        void shouldPropagateErrorWhenInvalidationFails() {
+        @DisplayName("AuthHub 조회 완료를 기다리지 않고 즉시 완료")
+        void shouldCompleteBeforeFetchFinishes() {
             // given
-            Long version = 789L;
+            Long version = 555L;
             SyncPermissionSpecCommand command = SyncPermissionSpecCommand.of(version);
-            RuntimeException expectedException = new RuntimeException("Cache invalidation failed");
+            Sinks.One<PermissionSpec> sink = Sinks.one();
 
-            when(permissionSpecCommandManager.invalidate())
-                    .thenReturn(Mono.error(expectedException));
+            when(permissionSpecCoordinator.refreshForWebhook(version))
+                    .thenReturn(sink.asMono());
 
             // when & then
-            StepVerifier.create(syncPermissionSpecService.execute(command))
-                    .expectError(RuntimeException.class)
-                    .verify();
+            StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
 
-            verify(permissionSpecCommandManager).invalidate();
+            assertThat(sink.currentSubscriberCount()).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("빈 변경 서비스 리스트로 동기화")
-        void shouldSyncPermissionSpecWithEmptyChangedServices() {
+        @DisplayName("Snapshot 갱신 실패는 Webhook 응답에 전파하지 않음")
+        void shouldNotPropagateRefreshError() {
             // given
-            Long version = 999L;
-            List<String> emptyServices = List.of();
-            SyncPermissionSpecCommand command =
-                    SyncPermissionSpecCommand.of(version, emptyServices);
+            Long version = 789L;
+            SyncPermissionSpecCommand command = SyncPermissionSpecCommand.of(version);
 
-            when(permissionSpecCommandManager.invalidate()).thenReturn(Mono.empty());
+            when(permissionSpecCoordinator.refreshForWebhook(version))
+                    .thenReturn(Mono.error(new RuntimeException("AuthHub fetch failed")));
 
             // when & then
             StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
 
-            verify(permissionSpecCommandManager).invalidate();
+            verify(permissionSpecCoordinator).refreshForWebhook(version);
         }
 
         @Test
-        @DisplayName("다수의 변경된 서비스가 있는 경우")
-        void shouldSyncPermissionSpecWithMultipleChangedServices() {
+        @DisplayName("오래된 Webhook으로 갱신이 무시되어도 정상 완료")
+        void shouldCompleteWhenWebhookIgnored() {
             // given
-            Long version = 555L;
-            List<String> multipleServices =
-                    List.of(
-                            "user-service",
-                            "order-service",
-                            "payment-service",
-                            "notification-service",
-                            "inventory-service");
+            Long version = 1L;
+            List<String> changedServices = List.of("order-service");
             SyncPermissionSpecCommand command =
-                    SyncPermissionSpecCommand.of(version, multipleServices);
+                    SyncPermissionSpecCommand.of(version, changedServices);
 
-            when(permissionSpecCommandManager.invalidate()).thenReturn(Mono.empty());
+            when(permissionSpecCoordinator.refreshForWebhook(version))
+                    .thenReturn(Mono.empty());
 
             // when & then
             StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
 
-            verify(permissionSpecCommandManager).invalidate();
+            verify(permissionSpecCoordinator).refreshForWebhook(version);
         }
     }
 
     @Nested
-    @DisplayName("로깅 테스트")
-    class LoggingTest {
-
-        @Test
-        @DisplayName("성공 시 로그 출력 확인")
-        void shouldLogSuccessfulSync() {
-            // given
-            Long version = 100L;
-            List<String> changedServices = List.of("test-service");
-            SyncPermissionSpecCommand command =
-                    SyncPermissionSpecCommand.of(version, changedServices);
-
-            when(permissionSpecCommandManager.invalidate()).thenReturn(Mono.empty());
-
-            // when & then
-            StepVerifier.create(syncPermissionSpecService.execute(command)).verifyComplete();
-
-            verify(permissionSpecCommandManager).invalidate();
-        }
+    @DisplayName("지연 실행 테스트")
+    class LazyExecutionTest {
 
         @Test
-        @DisplayName("실패 시 에러 로그 출력 후 에러 전파")
-        void shouldLogErrorAndPropagateException() {
+        @DisplayName("구독 전에는 갱신을 시작하지 않음")
+        void shouldNotRefreshBeforeSubscription() {
             // given
-            Long version = 200L;
-            SyncPermissionSpecCommand command = SyncPermissionSpecCommand.of(version);
-            RuntimeException expectedException = new RuntimeException("Test error");
+            SyncPermissionSpecCommand command = SyncPermissionSpecCommand.of(100L);
 
-            when(permissionSpecCommandManager.invalidate())
-                    .thenReturn(Mono.error(expectedException));
-
-            // when & then
-            StepVerifier.create(syncPermissionSpecService.execute(command))
-                    .expectError(RuntimeException.class)
-                    .verify();
+            // when
+            syncPermissionSpecService.execute(command);
 
-            verify(permissionSpecCommandManager).invalidate();
+            // then
+            verify(permissionSpecCoordinator, never()).refreshForWebhook(any());
         }
     }
 }
@@ -0,0 +1,59 @@
+package com.ryuqq.gateway.application.authorization.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.authorization.dto.query.FindEndpointTemplateQuery;
+import com.ryuqq.gateway.application.authorization.internal.EndpointTemplateRegistry;
+import com.ryuqq.gateway.domain.authorization.vo.HttpMethod;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindEndpointTemplateService 단위 테스트")
+class FindEndpointTemplateServiceTest {
+
+    @Mock private EndpointTemplateRegistry endpointTemplateRegistry;
+
+    @InjectMocks private FindEndpointTemplateService findEndpointTemplateService;
+
+    @Nested
+    @DisplayName("execute() 테스트")
+    class ExecuteTest {
+
+        @Test
+        @DisplayName("Registry에서 경로 템플릿을 조회한다")
+        void shouldFindTemplateFromRegistry() {
+            // given
+            given(endpointTemplateRegistry.findTemplate("/api/v1/orders/1", HttpMethod.GET))
+                    .willReturn(Optional.of("/api/v1/orders/{orderId}"));
+
+            // when
+            Optional<String> result =
+                    findEndpointTemplateService.execute(
+                            new FindEndpointTemplateQuery("/api/v1/orders/1", "get"));
+
+            // then
+            assertThat(result).hasValue("/api/v1/orders/{orderId}");
+        }
+
+        @Test
+        @DisplayName("Permission Spec에 없는 메서드는 empty를 반환한다")
+        void shouldReturnEmptyForUnsupportedMethod() {
+            // when
+            Optional<String> result =
+                    findEndpointTemplateService.execute(
+                            new FindEndpointTemplateQuery("/api/v1/orders/1", "OPTIONS"));
+
+            // then
+            assertThat(result).isEmpty();
+            then(endpointTemplateRegistry).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.ryuqq.gateway.application.ratelimit.dto.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CheckPreAuthRateLimitCommand 단위 테스트")
+class CheckPreAuthRateLimitCommandTest {
+
+    @Nested
+    @DisplayName("unmatched 팩토리")
+    class Unmatched {
+
+        @Test
+        @DisplayName("메서드 구분 없이 하나의 공유 Endpoint를 사용한다")
+        void shouldShareSingleBucket() {
+            // when
+            CheckPreAuthRateLimitCommand command =
+                    CheckPreAuthRateLimitCommand.unmatched("192.168.1.1");
+
+            // then
+            assertThat(command.ipAddress()).isEqualTo("192.168.1.1");
+            assertThat(command.endpoint())
+                    .isEqualTo(CheckPreAuthRateLimitCommand.UNMATCHED_ENDPOINT);
+            assertThat(command.method()).isEqualTo(CheckPreAuthRateLimitCommand.ANY_METHOD);
+        }
+    }
+}
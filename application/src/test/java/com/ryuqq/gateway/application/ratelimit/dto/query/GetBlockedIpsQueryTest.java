@@ -0,0 +1,72 @@
+package com.ryuqq.gateway.application.ratelimit.dto.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GetBlockedIpsQuery 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("GetBlockedIpsQuery 단위 테스트")
+class GetBlockedIpsQueryTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class ConstructorTest {
+
+        @Test
+        @DisplayName("정상적인 페이지 조건으로 생성")
+        void shouldCreateWithValidPage() {
+            // when
+            GetBlockedIpsQuery query = GetBlockedIpsQuery.of(3, 50, true);
+
+            // then
+            assertThat(query.page()).isEqualTo(3);
+            assertThat(query.size()).isEqualTo(50);
+            assertThat(query.longestFirst()).isTrue();
+            assertThat(query.offset()).isEqualTo(150L);
+        }
+
+        @Test
+        @DisplayName("음수 page는 예외 발생")
+        void shouldRejectNegativePage() {
+            assertThatThrownBy(() -> GetBlockedIpsQuery.of(-1, 50, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("size가 1 미만이면 예외 발생")
+        void shouldRejectZeroSize() {
+            assertThatThrownBy(() -> GetBlockedIpsQuery.of(0, 0, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("size가 최대값을 넘으면 예외 발생")
+        void shouldRejectTooLargeSize() {
+            assertThatThrownBy(
+                            () -> GetBlockedIpsQuery.of(0, GetBlockedIpsQuery.MAX_SIZE + 1, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("offset 메서드")
+    class OffsetTest {
+
+        @Test
+        @DisplayName("큰 페이지 번호도 long으로 계산한다")
+        void shouldNotOverflow() {
+            // when
+            GetBlockedIpsQuery query = GetBlockedIpsQuery.of(Integer.MAX_VALUE, 500, false);
+
+            // then
+            assertThat(query.offset()).isEqualTo((long) Integer.MAX_VALUE * 500);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * BlockedIpMirror 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("BlockedIpMirror 단위 테스트")
+class BlockedIpMirrorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long NOW_MILLIS = NOW.toEpochMilli();
+    private static final String IP = "192.168.1.1";
+
+    @Mock private TimeProvider timeProvider;
+
+    private BlockedIpMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        given(timeProvider.now()).willReturn(NOW);
+        mirror = new BlockedIpMirror(timeProvider);
+    }
+
+    @Nested
+    @DisplayName("remainingSeconds 메서드")
+    class RemainingSecondsTest {
+
+        @Test
+        @DisplayName("차단 이벤트를 반영하면 남은 시간을 올림한 초로 반환한다")
+        void shouldReturnRemainingSeconds() {
+            // given
+            mirror.apply(IpBlockEvent.blocked(IP, NOW_MILLIS + 1_500));
+
+            // when & then
+            assertThat(mirror.remainingSeconds(IP)).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("차단되지 않은 IP는 empty를 반환한다")
+        void shouldReturnEmptyWhenNotBlocked() {
+            assertThat(mirror.remainingSeconds(IP)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("만료된 차단은 empty를 반환하고 제거한다")
+        void shouldEvictExpiredBlock() {
+            // given
+            mirror.apply(IpBlockEvent.blocked(IP, NOW_MILLIS + 1_000));
+            given(timeProvider.now()).willReturn(NOW.plusSeconds(1));
+
+            // when & then
+            assertThat(mirror.remainingSeconds(IP)).isEmpty();
+            assertThat(mirror.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("해제 이벤트를 반영하면 empty를 반환한다")
+        void shouldReturnEmptyAfterUnblock() {
+            // given
+            mirror.apply(IpBlockEvent.blocked(IP, NOW_MILLIS + 60_000));
+
+            // when
+            mirror.apply(IpBlockEvent.unblocked(IP));
+
+            // then
+            assertThat(mirror.remainingSeconds(IP)).isEmpty();
+            assertThat(mirror.appliedEventCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("전체 조회 결과에 없는 IP는 제거하고 새 IP는 추가한다")
+        void shouldReplaceWithSnapshot() {
+            // given
+            mirror.apply(IpBlockEvent.blocked("10.0.0.1", NOW_MILLIS + 60_000));
+            long mark = mirror.mark();
+
+            // when
+            mirror.reconcile(Map.of("10.0.0.2", NOW_MILLIS + 30_000), mark);
+
+            // then
+            assertThat(mirror.remainingSeconds("10.0.0.1")).isEmpty();
+            assertThat(mirror.remainingSeconds("10.0.0.2")).hasValue(30);
+            assertThat(mirror.reconcileCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("전체 조회 중 수신한 해제 이벤트는 전체 조회 결과보다 우선한다")
+        void shouldKeepUnblockReceivedDuringReconcile() {
+            // given
+            long mark = mirror.mark();
+            mirror.apply(IpBlockEvent.unblocked(IP));
+
+            // when
+            mirror.reconcile(Map.of(IP, NOW_MILLIS + 60_000), mark);
+
+            // then
+            assertThat(mirror.remainingSeconds(IP)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("전체 조회 중 수신한 차단 이벤트는 전체 조회 결과에 없어도 유지한다")
+        void shouldKeepBlockReceivedDuringReconcile() {
+            // given
+            long mark = mirror.mark();
+            mirror.apply(IpBlockEvent.blocked(IP, NOW_MILLIS + 60_000));
+
+            // when
+            mirror.reconcile(Map.of(), mark);
+
+            // then
+            assertThat(mirror.remainingSeconds(IP)).hasValue(60);
+        }
+
+        @Test
+        @DisplayName("이전 전체 조회 이후의 해제 Tombstone은 다음 전체 조회에서 제거한다")
+        void shouldPruneTombstones() {
+            // given
+            mirror.apply(IpBlockEvent.unblocked(IP));
+
+            // when
+            mirror.reconcile(Map.of(), mirror.mark());
+
+            // then
+            assertThat(mirror.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 만료된 전체 조회 항목은 추가하지 않는다")
+        void shouldSkipExpiredSnapshotEntries() {
+            // when
+            mirror.reconcile(Map.of(IP, NOW_MILLIS), mirror.mark());
+
+            // then
+            assertThat(mirror.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockCommandManager;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * FailureCountAggregator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("FailureCountAggregator 단위 테스트")
+class FailureCountAggregatorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofMinutes(5);
+    private static final Duration BLOCK_DURATION = Duration.ofMinutes(30);
+    private static final int THRESHOLD = 3;
+    private static final String IP = RateLimitFixture.defaultIp();
+    private static final RateLimitKey KEY =
+            RateLimitFixture.aRateLimitKey(LimitType.INVALID_JWT, IP);
+
+    @Mock private RateLimitCounterCommandManager rateLimitCounterCommandManager;
+
+    @Mock private IpBlockCommandManager ipBlockCommandManager;
+
+    @Mock private BlockedIpMirror blockedIpMirror;
+
+    @Mock private TimeProvider timeProvider;
+
+    private RateLimitProperties properties;
+    private FailureCountAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setFailureMaxKeys(2);
+        given(timeProvider.now()).willReturn(NOW);
+        given(ipBlockCommandManager.block(any(), any())).willReturn(Mono.just(true));
+        aggregator =
+                new FailureCountAggregator(
+                        rateLimitCounterCommandManager,
+                        ipBlockCommandManager,
+                        blockedIpMirror,
+                        properties,
+                        timeProvider);
+    }
+
+    private boolean record() {
+        return aggregator.record(KEY, IP, WINDOW, THRESHOLD, BLOCK_DURATION);
+    }
+
+    @Nested
+    @DisplayName("record 메서드")
+    class RecordTest {
+
+        @Test
+        @DisplayName("Redis를 호출하지 않고 로컬로 집계한다")
+        void shouldRecordLocally() {
+            // when
+            boolean recorded = record();
+
+            // then
+            assertThat(recorded).isTrue();
+            assertThat(aggregator.recordedCount()).isEqualTo(1);
+            assertThat(aggregator.size()).isEqualTo(1);
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+            then(ipBlockCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("집계 Key 수 상한을 넘으면 새 Key는 false를 반환한다")
+        void shouldRejectNewKeyWhenFull() {
+            // given
+            aggregator.record(
+                    RateLimitFixture.aRateLimitKey(LimitType.INVALID_JWT, "10.0.0.1"),
+                    "10.0.0.1",
+                    WINDOW,
+                    THRESHOLD,
+                    BLOCK_DURATION);
+            aggregator.record(
+                    RateLimitFixture.aRateLimitKey(LimitType.INVALID_JWT, "10.0.0.2"),
+                    "10.0.0.2",
+                    WINDOW,
+                    THRESHOLD,
+                    BLOCK_DURATION);
+
+            // when
+            boolean recorded = record();
+
+            // then
+            assertThat(recorded).isFalse();
+            assertThat(aggregator.overflowCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("임계값에 도달하면 로컬 차단 목록에 즉시 한 번 반영한다")
+        void shouldBlockLocallyOnceWhenThresholdReached() {
+            // when
+            record();
+            record();
+            record();
+            record();
+
+            // then
+            IpBlockEvent expected =
+                    IpBlockEvent.blocked(IP, NOW.plus(BLOCK_DURATION).toEpochMilli());
+            then(blockedIpMirror).should(times(1)).apply(expected);
+            assertThat(aggregator.localBlockCount()).isEqualTo(1);
+            then(ipBlockCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("차단 임계값이 0이면 차단하지 않는다")
+        void shouldNotBlockWithoutThreshold() {
+            // when
+            for (int i = 0; i < 5; i++) {
+                aggregator.record(KEY, IP, WINDOW, 0, BLOCK_DURATION);
+            }
+
+            // then
+            then(blockedIpMirror).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드")
+    class FlushTest {
+
+        @Test
+        @DisplayName("로컬 증가분을 한 번의 INCRBY로 반영한다")
+        void shouldFlushDelta() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 2, WINDOW))
+                    .willReturn(Mono.just(2L));
+            record();
+            record();
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            then(rateLimitCounterCommandManager).should().incrementBy(KEY, 2, WINDOW);
+            assertThat(aggregator.flushedKeyCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 실패를 포함한 Redis 합계로 로컬 판정한다")
+        void shouldUseRedisTotalAfterFlush() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 1, WINDOW))
+                    .willReturn(Mono.just(2L));
+            record();
+            aggregator.flush().block();
+
+            // when
+            record();
+
+            // then - Redis 합계 2 + 로컬 1 = 임계값 3
+            then(blockedIpMirror).should().apply(any());
+        }
+
+        @Test
+        @DisplayName("로컬 차단한 IP를 Redis에 저장한다")
+        void shouldStoreLocalBlock() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 3, WINDOW))
+                    .willReturn(Mono.just(3L));
+            record();
+            record();
+            record();
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            then(ipBlockCommandManager).should(times(1)).block(IP, BLOCK_DURATION);
+        }
+
+        @Test
+        @DisplayName("Redis 합계가 임계값에 도달하면 로컬 임계값 전이어도 차단한다")
+        void shouldBlockWhenRedisTotalReachesThreshold() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 1, WINDOW))
+                    .willReturn(Mono.just(5L));
+            record();
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            then(ipBlockCommandManager).should().block(IP, BLOCK_DURATION);
+            then(blockedIpMirror).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("반영 실패 시 증가분을 유지하고 다음 주기에 다시 반영한다")
+        void shouldRetryDeltaAfterFailure() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(eq(KEY), anyLong(), eq(WINDOW)))
+                    .willReturn(Mono.error(new RuntimeException("Redis down")))
+                    .willReturn(Mono.just(2L));
+            record();
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+            record();
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            then(rateLimitCounterCommandManager).should().incrementBy(KEY, 1, WINDOW);
+            then(rateLimitCounterCommandManager).should().incrementBy(KEY, 2, WINDOW);
+            assertThat(aggregator.flushFailureCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("차단 저장 실패 시 다음 주기에 다시 저장한다")
+        void shouldRetryBlockAfterFailure() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 3, WINDOW))
+                    .willReturn(Mono.just(3L));
+            given(ipBlockCommandManager.block(IP, BLOCK_DURATION))
+                    .willReturn(Mono.error(new RuntimeException("Redis down")))
+                    .willReturn(Mono.just(true));
+            record();
+            record();
+            record();
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            then(ipBlockCommandManager).should(times(2)).block(IP, BLOCK_DURATION);
+            then(rateLimitCounterCommandManager)
+                    .should(times(1))
+                    .incrementBy(any(), anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("Window가 끝나고 반영할 내용이 없는 Key는 제거한다")
+        void shouldRetireExpiredKey() {
+            // given
+            given(rateLimitCounterCommandManager.incrementBy(KEY, 1, WINDOW))
+                    .willReturn(Mono.just(1L));
+            record();
+            aggregator.flush().block();
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when
+            StepVerifier.create(aggregator.flush()).verifyComplete();
+
+            // then
+            assertThat(aggregator.size()).isZero();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ryuqq.gateway.application.ratelimit.internal;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
@@ -8,6 +10,8 @@ import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
 import com.ryuqq.gateway.application.ratelimit.dto.command.RecordFailureCommand;
 import com.ryuqq.gateway.application.ratelimit.manager.IpBlockCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
 import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
 import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +33,7 @@ import reactor.test.StepVerifier;
  * <ul>
  *   <li>실패 카운터 증가
  *   <li>임계값 초과 시 IP 차단 처리
+ *   <li>로컬 집계 경로 선택
  * </ul>
  *
  * @author development-team
@@ -44,6 +49,8 @@ class FailureRecordCoordinatorTest {
 
     @Mock private RateLimitProperties rateLimitProperties;
 
+    @Mock private FailureCountAggregator failureCountAggregator;
+
     @InjectMocks private FailureRecordCoordinator failureRecordCoordinator;
 
     private static final Duration EXPECTED_BLOCK_DURATION = Duration.ofMinutes(30);
@@ -312,4 +319,103 @@ class FailureRecordCoordinatorTest {
             StepVerifier.create(result).expectErrorMessage("IP block failed").verify();
         }
     }
+
+    @Nested
+    @DisplayName("로컬 집계")
+    class LocalAggregation {
+
+        private final Duration invalidJwtWindow = LimitType.INVALID_JWT.getDefaultWindow();
+
+        @BeforeEach
+        void enableAggregation() {
+            given(rateLimitProperties.isFailureAggregationEnabled()).willReturn(true);
+        }
+
+        @Test
+        @DisplayName("로컬 집계 시 Redis를 호출하지 않고 즉시 완료")
+        void completeWithoutRedisWhenAggregated() {
+            // given
+            RecordFailureCommand command = RateLimitFixture.aRecordFailureCommandForInvalidJwt();
+            RateLimitKey key = RateLimitKey.of(LimitType.INVALID_JWT, command.identifier());
+
+            given(failureCountAggregator.record(any(), anyString(), any(), anyInt(), any()))
+                    .willReturn(true);
+
+            // when
+            Mono<Void> result = failureRecordCoordinator.record(command);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+
+            then(failureCountAggregator)
+                    .should()
+                    .record(
+                            key,
+                            command.identifier(),
+                            invalidJwtWindow,
+                            LimitType.INVALID_JWT.getFailureThreshold(),
+                            EXPECTED_BLOCK_DURATION);
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+            then(ipBlockCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("구독 전에는 로컬 집계하지 않음")
+        void notRecordBeforeSubscribe() {
+            // given
+            RecordFailureCommand command = RateLimitFixture.aRecordFailureCommandForInvalidJwt();
+
+            // when
+            failureRecordCoordinator.record(command);
+
+            // then
+            then(failureCountAggregator).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("IP 차단 비활성화 시 차단 임계값 0으로 집계")
+        void recordWithoutThresholdWhenIpBlockDisabled() {
+            // given
+            RecordFailureCommand command = RateLimitFixture.aRecordFailureCommandForInvalidJwt();
+
+            given(rateLimitProperties.isIpBlockEnabled()).willReturn(false);
+            given(failureCountAggregator.record(any(), anyString(), any(), anyInt(), any()))
+                    .willReturn(true);
+
+            // when
+            Mono<Void> result = failureRecordCoordinator.record(command);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+
+            then(failureCountAggregator).should().record(any(), anyString(), any(), eq(0), any());
+        }
+
+        @Test
+        @DisplayName("집계 Key 수 상한 초과 시 Redis INCR로 기록")
+        void fallbackToRedisWhenAggregatorFull() {
+            // given
+            RecordFailureCommand command = RateLimitFixture.aRecordFailureCommandForInvalidJwt();
+
+            given(failureCountAggregator.record(any(), anyString(), any(), anyInt(), any()))
+                    .willReturn(false);
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(10L));
+            given(
+                            ipBlockCommandManager.block(
+                                    eq(command.identifier()), eq(EXPECTED_BLOCK_DURATION)))
+                    .willReturn(Mono.just(true));
+
+            // when
+            Mono<Void> result = failureRecordCoordinator.record(command);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+
+            then(rateLimitCounterCommandManager).should().incrementAndGet(any(), any());
+            then(ipBlockCommandManager)
+                    .should()
+                    .block(command.identifier(), EXPECTED_BLOCK_DURATION);
+        }
+    }
 }
@@ -0,0 +1,228 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * HybridRateLimitCounter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("HybridRateLimitCounter 단위 테스트")
+class HybridRateLimitCounterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+
+    @Mock private RateLimitCounterCommandManager rateLimitCounterCommandManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    private RateLimitProperties properties;
+    private HybridRateLimitCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setHybridMaxKeys(2);
+        given(timeProvider.now()).willReturn(NOW);
+        counter =
+                new HybridRateLimitCounter(
+                        rateLimitCounterCommandManager, properties, timeProvider);
+    }
+
+    @Nested
+    @DisplayName("tryIncrement 메서드")
+    class TryIncrementTest {
+
+        @Test
+        @DisplayName("Redis를 호출하지 않고 로컬 카운트를 반환한다")
+        void shouldCountLocally() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+
+            // when
+            counter.tryIncrement(key, WINDOW);
+            long count = counter.tryIncrement(key, WINDOW).getAsLong();
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(counter.localDecisionCount()).isEqualTo(2);
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("추적 Key 수 상한을 넘으면 새 Key는 empty를 반환한다")
+        void shouldRejectNewKeyWhenFull() {
+            // given
+            counter.tryIncrement(RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.1"), WINDOW);
+            counter.tryIncrement(RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.2"), WINDOW);
+
+            // when & then
+            assertThat(
+                            counter.tryIncrement(
+                                    RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.3"),
+                                    WINDOW))
+                    .isEmpty();
+            assertThat(
+                            counter.tryIncrement(
+                                    RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.1"),
+                                    WINDOW))
+                    .hasValue(2);
+            assertThat(counter.overflowCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Window가 끝나면 카운트를 다시 시작한다")
+        void shouldRestartAfterWindow() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+            counter.tryIncrement(key, WINDOW);
+            counter.tryIncrement(key, WINDOW);
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when & then
+            assertThat(counter.tryIncrement(key, WINDOW)).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("sync 메서드")
+    class SyncTest {
+
+        @Test
+        @DisplayName("로컬 증가분을 한 번에 반영하고 Redis 합계를 판정 기준으로 사용한다")
+        void shouldFlushDeltaAndAdoptGlobalCount() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+            counter.tryIncrement(key, WINDOW);
+            counter.tryIncrement(key, WINDOW);
+            counter.tryIncrement(key, WINDOW);
+            given(rateLimitCounterCommandManager.incrementBy(key, 3L, WINDOW))
+                    .willReturn(Mono.just(40L));
+
+            // when
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            // then
+            assertThat(counter.tryIncrement(key, WINDOW)).hasValue(41);
+            assertThat(counter.syncedKeyCount()).isEqualTo(1);
+            assertThat(counter.syncBatchCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("반영 실패 시 증가분을 유지하여 다음 주기에 재시도한다")
+        void shouldRetryDeltaAfterFailure() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+            counter.tryIncrement(key, WINDOW);
+            counter.tryIncrement(key, WINDOW);
+            given(rateLimitCounterCommandManager.incrementBy(key, 2L, WINDOW))
+                    .willReturn(Mono.error(new RuntimeException("Redis down")));
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            counter.tryIncrement(key, WINDOW);
+            given(rateLimitCounterCommandManager.incrementBy(key, 3L, WINDOW))
+                    .willReturn(Mono.just(3L));
+
+            // when
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            // then
+            then(rateLimitCounterCommandManager).should().incrementBy(key, 3L, WINDOW);
+            assertThat(counter.syncFailureCount()).isEqualTo(1);
+            assertThat(counter.syncedKeyCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("반영할 증가분이 없으면 Redis를 호출하지 않는다")
+        void shouldSkipWhenNothingPending() {
+            // when
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            // then
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("배치 크기 단위로 나누어 반영한다")
+        void shouldSplitIntoBatches() {
+            // given
+            properties.setHybridSyncBatchSize(1);
+            counter.tryIncrement(RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.1"), WINDOW);
+            counter.tryIncrement(RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.2"), WINDOW);
+            given(rateLimitCounterCommandManager.incrementBy(any(), eq(1L), eq(WINDOW)))
+                    .willReturn(Mono.just(1L));
+
+            // when
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            // then
+            assertThat(counter.syncBatchCount()).isEqualTo(2);
+            assertThat(counter.syncedKeyCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Window가 끝나고 반영할 증가분이 없는 Key는 제거한다")
+        void shouldEvictExpiredIdleKeys() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+            counter.tryIncrement(key, WINDOW);
+            given(rateLimitCounterCommandManager.incrementBy(key, 1L, WINDOW))
+                    .willReturn(Mono.just(1L));
+            StepVerifier.create(counter.sync()).verifyComplete();
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when
+            StepVerifier.create(counter.sync()).verifyComplete();
+
+            // then
+            assertThat(counter.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("로컬 카운터를 제거한다")
+        void shouldRemoveLocalCounter() {
+            // given
+            RateLimitKey key = RateLimitFixture.aRateLimitKeyForIp();
+            counter.tryIncrement(key, WINDOW);
+
+            // when
+            counter.invalidate(key);
+
+            // then
+            assertThat(counter.size()).isZero();
+            assertThat(counter.tryIncrement(key, WINDOW)).hasValue(1);
+        }
+    }
+}
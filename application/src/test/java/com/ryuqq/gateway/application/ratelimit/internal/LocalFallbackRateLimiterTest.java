@@ -0,0 +1,202 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * LocalFallbackRateLimiter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LocalFallbackRateLimiter 단위 테스트")
+class LocalFallbackRateLimiterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+    private static final RateLimitKey KEY = RateLimitFixture.aRateLimitKeyForIp();
+
+    @Mock private TimeProvider timeProvider;
+
+    private RateLimitProperties properties;
+    private LocalFallbackRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        given(timeProvider.now()).willReturn(NOW);
+        limiter = new LocalFallbackRateLimiter(properties, timeProvider);
+    }
+
+    @Nested
+    @DisplayName("localLimit 메서드")
+    class LocalLimitTest {
+
+        @Test
+        @DisplayName("한도를 노드 수로 나누고 올림한다")
+        void shouldDivideLimitByNodeCount() {
+            // given
+            properties.setFallbackNodeCount(4);
+
+            // when & then
+            assertThat(limiter.localLimit(500)).isEqualTo(125);
+            assertThat(limiter.localLimit(10)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("노드 수가 한도보다 커도 최소 1을 허용한다")
+        void shouldAllowAtLeastOne() {
+            // given
+            properties.setFallbackNodeCount(10);
+
+            // when & then
+            assertThat(limiter.localLimit(5)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("노드 수가 1 미만이면 1로 간주한다")
+        void shouldTreatInvalidNodeCountAsOne() {
+            // given
+            properties.setFallbackNodeCount(0);
+
+            // when & then
+            assertThat(limiter.localLimit(100)).isEqualTo(100);
+        }
+    }
+
+    @Nested
+    @DisplayName("incrementAndGet 메서드")
+    class IncrementAndGetTest {
+
+        @Test
+        @DisplayName("Window 안에서는 Key별로 카운트를 누적한다")
+        void shouldCountPerKey() {
+            // given
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.2");
+
+            // when
+            limiter.incrementAndGet(KEY, WINDOW);
+            long count = limiter.incrementAndGet(KEY, WINDOW);
+            long otherCount = limiter.incrementAndGet(other, WINDOW);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(otherCount).isEqualTo(1);
+            assertThat(limiter.decisionCount()).isEqualTo(3);
+            assertThat(limiter.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Window가 지나면 카운트를 다시 시작한다")
+        void shouldResetAfterWindow() {
+            // given
+            limiter.incrementAndGet(KEY, WINDOW);
+            limiter.incrementAndGet(KEY, WINDOW);
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when
+            long count = limiter.incrementAndGet(KEY, WINDOW);
+
+            // then
+            assertThat(count).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Key 수 상한을 넘으면 새 Key는 추적하지 않는다")
+        void shouldNotTrackBeyondMaxKeys() {
+            // given
+            properties.setFallbackMaxKeys(1);
+            limiter.incrementAndGet(KEY, WINDOW);
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.2");
+
+            // when
+            limiter.incrementAndGet(other, WINDOW);
+            long count = limiter.incrementAndGet(other, WINDOW);
+
+            // then
+            assertThat(count).isEqualTo(1);
+            assertThat(limiter.size()).isEqualTo(1);
+            assertThat(limiter.untrackedDecisionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Key 수 상한에서 만료된 Window를 정리하고 새 Key를 추적한다")
+        void shouldPurgeExpiredWindowsWhenFull() {
+            // given
+            properties.setFallbackMaxKeys(1);
+            limiter.incrementAndGet(KEY, WINDOW);
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.IP, "10.0.0.2");
+
+            // when
+            limiter.incrementAndGet(other, WINDOW);
+            long count = limiter.incrementAndGet(other, WINDOW);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            assertThat(limiter.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("모드 전환")
+    class ModeSwitchTest {
+
+        @Test
+        @DisplayName("여러 번 실패해도 로컬 판정 전환은 한 번만 기록한다")
+        void shouldActivateOnce() {
+            // when
+            limiter.activate(new RuntimeException("Redis down"));
+            limiter.activate(new RuntimeException("Redis down"));
+
+            // then
+            assertThat(limiter.isActive()).isTrue();
+            assertThat(limiter.activationCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Redis 판정으로 복귀하면 로컬 카운터를 초기화한다")
+        void shouldClearCountersOnRecovery() {
+            // given
+            limiter.activate(new RuntimeException("Redis down"));
+            limiter.incrementAndGet(KEY, WINDOW);
+
+            // when
+            limiter.onRedisAvailable();
+
+            // then
+            assertThat(limiter.isActive()).isFalse();
+            assertThat(limiter.recoveryCount()).isEqualTo(1);
+            assertThat(limiter.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("로컬 판정 중이 아니면 복귀로 기록하지 않는다")
+        void shouldIgnoreRecoveryWhenInactive() {
+            // when
+            limiter.onRedisAvailable();
+
+            // then
+            assertThat(limiter.recoveryCount()).isZero();
+        }
+    }
+}
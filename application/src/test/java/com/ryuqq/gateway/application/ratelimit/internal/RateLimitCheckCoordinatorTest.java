@@ -2,17 +2,27 @@ package com.ryuqq.gateway.application.ratelimit.internal;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.*;
 
 import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.command.CheckRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
-import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
+import com.ryuqq.gateway.application.ratelimit.manager.PreAuthRateLimitCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
 import com.ryuqq.gateway.domain.ratelimit.exception.IpBlockedException;
 import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitExceededException;
+import com.ryuqq.gateway.domain.ratelimit.exception.RateLimitStoreUnavailableException;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.PreAuthRateLimitResult;
 import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAction;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitAlgorithm;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitDecision;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -44,10 +54,18 @@ class RateLimitCheckCoordinatorTest {
 
     @Mock private RateLimitCounterCommandManager rateLimitCounterCommandManager;
 
-    @Mock private IpBlockQueryManager ipBlockQueryManager;
+    @Mock private BlockedIpMirror blockedIpMirror;
 
     @Mock private RateLimitProperties rateLimitProperties;
 
+    @Mock private HybridRateLimitCounter hybridRateLimitCounter;
+
+    @Mock private ShardedRateLimitCounter shardedRateLimitCounter;
+
+    @Mock private PreAuthRateLimitCommandManager preAuthRateLimitCommandManager;
+
+    @Mock private LocalFallbackRateLimiter localFallbackRateLimiter;
+
     @InjectMocks private RateLimitCheckCoordinator rateLimitCheckCoordinator;
 
     @BeforeEach
@@ -55,6 +73,9 @@ class RateLimitCheckCoordinatorTest {
         // IP 차단 기능 기본 활성화 (기존 동작 호환)
         // lenient: IP 기반이 아닌 타입(User, Endpoint) 테스트에서는 사용되지 않으므로 lenient 설정
         lenient().when(rateLimitProperties.isIpBlockEnabled()).thenReturn(true);
+        lenient()
+                .when(rateLimitProperties.getAlgorithm(any()))
+                .thenReturn(RateLimitAlgorithm.FIXED_WINDOW);
     }
 
     @Nested
@@ -67,9 +88,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(true));
-            given(ipBlockQueryManager.getBlockTtlSeconds(command.identifier()))
-                    .willReturn(Mono.just(1800L));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.of(1800L));
 
             // when
             Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
@@ -93,7 +113,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(null);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -131,7 +152,7 @@ class RateLimitCheckCoordinatorTest {
                     .assertNext(response -> assertThat(response.allowed()).isTrue())
                     .verifyComplete();
 
-            then(ipBlockQueryManager).shouldHaveNoInteractions();
+            then(blockedIpMirror).shouldHaveNoInteractions();
         }
 
         @Test
@@ -140,7 +161,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForLogin();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getLoginLimit()).willReturn(null);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -154,7 +176,7 @@ class RateLimitCheckCoordinatorTest {
                     .assertNext(response -> assertThat(response.allowed()).isTrue())
                     .verifyComplete();
 
-            then(ipBlockQueryManager).should().isBlocked(command.identifier());
+            then(blockedIpMirror).should().remainingSeconds(command.identifier());
         }
     }
 
@@ -168,7 +190,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(100);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -198,7 +221,8 @@ class RateLimitCheckCoordinatorTest {
             // 마지막 허용 요청은 count = limit - 1
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(100);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -230,7 +254,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(100);
             given(rateLimitProperties.getWindowSeconds()).willReturn(60);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -258,7 +283,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForLogin();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getLoginLimit()).willReturn(5);
             given(rateLimitProperties.getWindowSeconds()).willReturn(60);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -290,7 +316,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(200);
             given(rateLimitProperties.getWindowSeconds()).willReturn(120);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -315,7 +342,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(null);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
@@ -363,7 +391,566 @@ class RateLimitCheckCoordinatorTest {
                             })
                     .verifyComplete();
 
-            then(ipBlockQueryManager).shouldHaveNoInteractions();
+            then(blockedIpMirror).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("HYBRID 모드")
+    class HybridMode {
+
+        @Test
+        @DisplayName("로컬 카운터로 판정하고 Redis 카운터는 호출하지 않는다")
+        void decideWithLocalCounter() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getMode(LimitType.USER)).willReturn(RateLimitMode.HYBRID);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(hybridRateLimitCounter.tryIncrement(any(), any()))
+                    .willReturn(OptionalLong.of(100L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isFalse();
+                                assertThat(response.currentCount()).isEqualTo(100);
+                            })
+                    .verifyComplete();
+
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("추적 Key 수 상한 초과 시 Redis 카운터로 판정한다")
+        void fallbackToRedisWhenLocalCounterFull() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getMode(LimitType.USER)).willReturn(RateLimitMode.HYBRID);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(hybridRateLimitCounter.tryIncrement(any(), any()))
+                    .willReturn(OptionalLong.empty());
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(10L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.allowed()).isTrue())
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("EXACT 모드면 로컬 카운터를 사용하지 않는다")
+        void skipLocalCounterInExactMode() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getMode(LimitType.USER)).willReturn(RateLimitMode.EXACT);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(10L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.allowed()).isTrue())
+                    .verifyComplete();
+
+            then(hybridRateLimitCounter).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("SHARDED 모드")
+    class ShardedMode {
+
+        @Test
+        @DisplayName("하위 Key 카운터의 합계 추정값으로 판정한다")
+        void decideWithShardedCounter() {
+            // given
+            CheckRateLimitCommand command =
+                    RateLimitFixture.aCheckRateLimitCommandForEndpoint("/api/orders", "GET");
+
+            given(rateLimitProperties.getMode(LimitType.ENDPOINT))
+                    .willReturn(RateLimitMode.SHARDED);
+            given(rateLimitProperties.getEndpointLimit()).willReturn(1000);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(shardedRateLimitCounter.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(1000L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.allowed()).isFalse())
+                    .verifyComplete();
+
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+            then(hybridRateLimitCounter).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("판정 알고리즘")
+    class Algorithm {
+
+        @Test
+        @DisplayName("GCRA면 Script 판정 결과의 남은 요청 수로 허용 응답을 반환한다")
+        void allowWithGcraDecision() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getAlgorithm(LimitType.USER))
+                    .willReturn(RateLimitAlgorithm.GCRA);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(
+                            rateLimitCounterCommandManager.acquire(
+                                    any(), eq(RateLimitAlgorithm.GCRA), eq(100), any()))
+                    .willReturn(Mono.just(RateLimitDecision.allow(40)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isTrue();
+                                assertThat(response.remaining()).isEqualTo(40);
+                                assertThat(response.currentCount()).isEqualTo(60);
+                            })
+                    .verifyComplete();
+
+            then(rateLimitCounterCommandManager).should(never()).incrementAndGet(any(), any());
+        }
+
+        @Test
+        @DisplayName("SLIDING_WINDOW 거부 시 Script가 계산한 대기 시간을 Retry-After로 사용한다")
+        void denyWithExactRetryAfter() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getAlgorithm(LimitType.USER))
+                    .willReturn(RateLimitAlgorithm.SLIDING_WINDOW);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(rateLimitCounterCommandManager.acquire(any(), any(), anyInt(), any()))
+                    .willReturn(Mono.just(RateLimitDecision.deny(1500)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isFalse();
+                                assertThat(response.retryAfterSeconds()).isEqualTo(2);
+                                assertThat(response.action()).isEqualTo(RateLimitAction.REJECT);
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("BLOCK_IP 타입 거부 시 RateLimitExceededException 발생")
+        void throwExceptionForBlockIpType() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForLogin();
+
+            given(blockedIpMirror.remainingSeconds(any())).willReturn(OptionalLong.empty());
+            given(rateLimitProperties.getAlgorithm(LimitType.LOGIN))
+                    .willReturn(RateLimitAlgorithm.GCRA);
+            given(rateLimitProperties.getLoginLimit()).willReturn(5);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(rateLimitCounterCommandManager.acquire(any(), any(), anyInt(), any()))
+                    .willReturn(Mono.just(RateLimitDecision.deny(12_000)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result).expectError(RateLimitExceededException.class).verify();
+        }
+
+        @Test
+        @DisplayName("FIXED_WINDOW가 아니면 HYBRID 모드라도 로컬 카운터를 사용하지 않는다")
+        void skipLocalCounterForNonFixedWindow() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForUser();
+
+            given(rateLimitProperties.getAlgorithm(LimitType.USER))
+                    .willReturn(RateLimitAlgorithm.GCRA);
+            lenient()
+                    .when(rateLimitProperties.getMode(LimitType.USER))
+                    .thenReturn(RateLimitMode.HYBRID);
+            given(rateLimitProperties.getUserLimit()).willReturn(100);
+            given(rateLimitProperties.getWindowSeconds()).willReturn(null);
+            given(rateLimitCounterCommandManager.acquire(any(), any(), anyInt(), any()))
+                    .willReturn(Mono.just(RateLimitDecision.allow(99)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.allowed()).isTrue())
+                    .verifyComplete();
+
+            then(hybridRateLimitCounter).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("인증 전 일괄 체크")
+    class PreAuthCheck {
+
+        private final CheckPreAuthRateLimitCommand command =
+                new CheckPreAuthRateLimitCommand("192.168.1.1", "/api/test", "GET");
+
+        @BeforeEach
+        void setUpLimits() {
+            lenient().when(rateLimitProperties.getIpLimit()).thenReturn(500);
+            lenient().when(rateLimitProperties.getEndpointLimit()).thenReturn(1000);
+            lenient().when(rateLimitProperties.getWindowSeconds()).thenReturn(60);
+        }
+
+        @Test
+        @DisplayName("Script 한 번으로 판정하고 남은 요청 수가 적은 쪽의 허용 응답을 반환한다")
+        void returnTighterAllowedResponse() {
+            // given
+            given(
+                            preAuthRateLimitCommandManager.check(
+                                    any(), any(), anyInt(), any(), anyInt(), any(), anyBoolean()))
+                    .willReturn(Mono.just(PreAuthRateLimitResult.allowed(495, 10)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isTrue();
+                                assertThat(response.limit()).isEqualTo(500);
+                                assertThat(response.remaining()).isEqualTo(5);
+                            })
+                    .verifyComplete();
+
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("노드 로컬 차단 목록에 있으면 Script를 호출하지 않고 IpBlockedException 발생")
+        void throwExceptionFromMirrorWithoutScript() {
+            // given
+            given(blockedIpMirror.remainingSeconds("192.168.1.1"))
+                    .willReturn(OptionalLong.of(600L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .expectErrorSatisfies(
+                            error ->
+                                    assertThat(((IpBlockedException) error).retryAfterSeconds())
+                                            .isEqualTo(600))
+                    .verify();
+
+            then(preAuthRateLimitCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("IP 차단 중이면 IpBlockedException 발생")
+        void throwExceptionWhenBlocked() {
+            // given
+            given(
+                            preAuthRateLimitCommandManager.check(
+                                    any(), any(), anyInt(), any(), anyInt(), any(), anyBoolean()))
+                    .willReturn(Mono.just(PreAuthRateLimitResult.ipBlocked(1800)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .expectErrorSatisfies(
+                            error -> {
+                                assertThat(error).isInstanceOf(IpBlockedException.class);
+                                assertThat(((IpBlockedException) error).retryAfterSeconds())
+                                        .isEqualTo(1800);
+                            })
+                    .verify();
+        }
+
+        @Test
+        @DisplayName("Endpoint 한도 초과 시 남은 Window를 Retry-After로 사용한다")
+        void returnDeniedWithExactRetryAfter() {
+            // given
+            given(
+                            preAuthRateLimitCommandManager.check(
+                                    any(), any(), anyInt(), any(), anyInt(), any(), anyBoolean()))
+                    .willReturn(
+                            Mono.just(
+                                    PreAuthRateLimitResult.exceeded(
+                                            LimitType.ENDPOINT, 17, 3, 1000)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isFalse();
+                                assertThat(response.limit()).isEqualTo(1000);
+                                assertThat(response.retryAfterSeconds()).isEqualTo(17);
+                                assertThat(response.action()).isEqualTo(RateLimitAction.REJECT);
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("IP가 HYBRID 모드면 개별 체크로 판정한다")
+        void fallbackToIndividualChecksInHybridMode() {
+            // given
+            given(rateLimitProperties.getMode(LimitType.IP)).willReturn(RateLimitMode.HYBRID);
+            given(blockedIpMirror.remainingSeconds("192.168.1.1")).willReturn(OptionalLong.empty());
+            given(hybridRateLimitCounter.tryIncrement(any(), any()))
+                    .willReturn(OptionalLong.of(1L));
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(1L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.limit()).isEqualTo(1000))
+                    .verifyComplete();
+
+            then(preAuthRateLimitCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("ENDPOINT가 SHARDED 모드면 개별 체크로 판정한다")
+        void fallbackToIndividualChecksInShardedMode() {
+            // given
+            given(rateLimitProperties.getMode(LimitType.ENDPOINT))
+                    .willReturn(RateLimitMode.SHARDED);
+            given(blockedIpMirror.remainingSeconds("192.168.1.1")).willReturn(OptionalLong.empty());
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(1L));
+            given(shardedRateLimitCounter.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(2L));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.currentCount()).isEqualTo(2))
+                    .verifyComplete();
+
+            then(preAuthRateLimitCommandManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("ENDPOINT가 FIXED_WINDOW가 아니면 개별 체크로 판정한다")
+        void fallbackToIndividualChecksForNonFixedWindow() {
+            // given
+            given(rateLimitProperties.getAlgorithm(LimitType.ENDPOINT))
+                    .willReturn(RateLimitAlgorithm.SLIDING_WINDOW);
+            given(blockedIpMirror.remainingSeconds("192.168.1.1")).willReturn(OptionalLong.empty());
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(1L));
+            given(
+                            rateLimitCounterCommandManager.acquire(
+                                    any(), eq(RateLimitAlgorithm.SLIDING_WINDOW), eq(1000), any()))
+                    .willReturn(Mono.just(RateLimitDecision.allow(999)));
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.remaining()).isEqualTo(999))
+                    .verifyComplete();
+
+            then(preAuthRateLimitCommandManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 사용 불가 시 로컬 Fallback")
+    class RedisUnavailable {
+
+        private final RateLimitStoreUnavailableException unavailable =
+                new RateLimitStoreUnavailableException(new RuntimeException("Redis down"));
+
+        @BeforeEach
+        void setUpLimits() {
+            lenient().when(rateLimitProperties.getIpLimit()).thenReturn(100);
+            lenient().when(rateLimitProperties.getEndpointLimit()).thenReturn(1000);
+            lenient().when(rateLimitProperties.getWindowSeconds()).thenReturn(60);
+            lenient().when(localFallbackRateLimiter.localLimit(100)).thenReturn(25);
+            lenient().when(localFallbackRateLimiter.localLimit(1000)).thenReturn(250);
+        }
+
+        @Test
+        @DisplayName("카운터 증가가 실패하면 노드 로컬 한도로 판정한다")
+        void decideLocallyWhenCounterUnavailable() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.error(unavailable));
+            given(localFallbackRateLimiter.incrementAndGet(any(), any())).willReturn(3L);
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isTrue();
+                                assertThat(response.currentCount()).isEqualTo(3);
+                                assertThat(response.limit()).isEqualTo(25);
+                            })
+                    .verifyComplete();
+            then(localFallbackRateLimiter).should().activate(unavailable);
+        }
+
+        @Test
+        @DisplayName("노드 로컬 한도에 도달하면 거부한다")
+        void denyWhenLocalLimitReached() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.error(unavailable));
+            given(localFallbackRateLimiter.incrementAndGet(any(), any())).willReturn(25L);
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isFalse();
+                                assertThat(response.limit()).isEqualTo(25);
+                                assertThat(response.action()).isEqualTo(RateLimitAction.REJECT);
+                                assertThat(response.retryAfterSeconds()).isEqualTo(60);
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("SLIDING_WINDOW 판정이 실패해도 노드 로컬 한도로 판정한다")
+        void decideLocallyWhenAlgorithmUnavailable() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
+            given(rateLimitProperties.getAlgorithm(LimitType.IP))
+                    .willReturn(RateLimitAlgorithm.SLIDING_WINDOW);
+            given(rateLimitCounterCommandManager.acquire(any(), any(), anyInt(), any()))
+                    .willReturn(Mono.error(unavailable));
+            given(localFallbackRateLimiter.incrementAndGet(any(), any())).willReturn(1L);
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(response -> assertThat(response.allowed()).isTrue())
+                    .verifyComplete();
+            then(localFallbackRateLimiter).should().activate(unavailable);
+        }
+
+        @Test
+        @DisplayName("인증 전 일괄 체크 Script가 실패하면 IP와 Endpoint를 로컬 판정한다")
+        void decidePreAuthLocallyWhenScriptUnavailable() {
+            // given
+            CheckPreAuthRateLimitCommand command =
+                    new CheckPreAuthRateLimitCommand("192.168.1.1", "/api/test", "GET");
+            given(
+                            preAuthRateLimitCommandManager.check(
+                                    any(), any(), anyInt(), any(), anyInt(), any(), anyBoolean()))
+                    .willReturn(Mono.error(unavailable));
+            given(localFallbackRateLimiter.incrementAndGet(any(), any())).willReturn(5L);
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isTrue();
+                                assertThat(response.limit()).isEqualTo(250);
+                            })
+                    .verifyComplete();
+            then(localFallbackRateLimiter)
+                    .should(times(2))
+                    .incrementAndGet(any(), any());
+        }
+
+        @Test
+        @DisplayName("로컬 판정에서 IP 한도에 도달하면 Endpoint는 판정하지 않는다")
+        void skipEndpointWhenLocalIpLimitReached() {
+            // given
+            CheckPreAuthRateLimitCommand command =
+                    new CheckPreAuthRateLimitCommand("192.168.1.1", "/api/test", "GET");
+            given(
+                            preAuthRateLimitCommandManager.check(
+                                    any(), any(), anyInt(), any(), anyInt(), any(), anyBoolean()))
+                    .willReturn(Mono.error(unavailable));
+            given(localFallbackRateLimiter.incrementAndGet(any(), any())).willReturn(25L);
+
+            // when
+            Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.checkPreAuth(command);
+
+            // then
+            StepVerifier.create(result)
+                    .assertNext(
+                            response -> {
+                                assertThat(response.allowed()).isFalse();
+                                assertThat(response.limit()).isEqualTo(25);
+                            })
+                    .verifyComplete();
+            then(localFallbackRateLimiter).should(times(1)).incrementAndGet(any(), any());
+        }
+
+        @Test
+        @DisplayName("Redis 판정이 성공하면 Redis 판정 복귀를 알린다")
+        void notifyRedisAvailableOnSuccess() {
+            // given
+            CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
+                    .willReturn(Mono.just(1L));
+
+            // when
+            StepVerifier.create(rateLimitCheckCoordinator.check(command))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+            // then
+            then(localFallbackRateLimiter).should().onRedisAvailable();
+            then(localFallbackRateLimiter).should(never()).activate(any());
         }
     }
 
@@ -372,19 +959,21 @@ class RateLimitCheckCoordinatorTest {
     class ErrorHandling {
 
         @Test
-        @DisplayName("IP 차단 조회 실패 시 에러 전파")
-        void propagateErrorWhenIpBlockCheckFails() {
+        @DisplayName("IP 차단 확인은 Redis 장애와 무관하게 노드 로컬 차단 목록으로 판정")
+        void checkIpBlockLocallyWithoutRedis() {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier()))
-                    .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.of(30L));
 
             // when
             Mono<CheckRateLimitResponse> result = rateLimitCheckCoordinator.check(command);
 
             // then
-            StepVerifier.create(result).expectErrorMessage("Redis connection failed").verify();
+            StepVerifier.create(result).expectError(IpBlockedException.class).verify();
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+            then(preAuthRateLimitCommandManager).shouldHaveNoInteractions();
         }
 
         @Test
@@ -393,7 +982,8 @@ class RateLimitCheckCoordinatorTest {
             // given
             CheckRateLimitCommand command = RateLimitFixture.aCheckRateLimitCommandForIp();
 
-            given(ipBlockQueryManager.isBlocked(command.identifier())).willReturn(Mono.just(false));
+            given(blockedIpMirror.remainingSeconds(command.identifier()))
+                    .willReturn(OptionalLong.empty());
             given(rateLimitProperties.getIpLimit()).willReturn(null);
             given(rateLimitProperties.getWindowSeconds()).willReturn(null);
             given(rateLimitCounterCommandManager.incrementAndGet(any(), any()))
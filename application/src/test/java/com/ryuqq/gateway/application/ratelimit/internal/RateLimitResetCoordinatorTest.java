@@ -3,11 +3,14 @@ package com.ryuqq.gateway.application.ratelimit.internal;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
 import com.ryuqq.gateway.application.ratelimit.dto.command.ResetRateLimitCommand;
 import com.ryuqq.gateway.application.ratelimit.manager.AccountLockCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.IpBlockCommandManager;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
 import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -43,6 +46,12 @@ class RateLimitResetCoordinatorTest {
 
     @Mock private AccountLockCommandManager accountLockCommandManager;
 
+    @Mock private HybridRateLimitCounter hybridRateLimitCounter;
+
+    @Mock private ShardedRateLimitCounter shardedRateLimitCounter;
+
+    @Mock private RateLimitProperties rateLimitProperties;
+
     @InjectMocks private RateLimitResetCoordinator rateLimitResetCoordinator;
 
     @Nested
@@ -65,6 +74,7 @@ class RateLimitResetCoordinatorTest {
             StepVerifier.create(result).verifyComplete();
 
             then(rateLimitCounterCommandManager).should().delete(any());
+            then(hybridRateLimitCounter).should().invalidate(any());
             then(ipBlockCommandManager).should().unblock(command.identifier());
             then(accountLockCommandManager).shouldHaveNoInteractions();
         }
@@ -308,4 +318,51 @@ class RateLimitResetCoordinatorTest {
             StepVerifier.create(result).expectErrorMessage("Account unlock failed").verify();
         }
     }
+
+    @Nested
+    @DisplayName("SHARDED 모드 리셋")
+    class ShardedModeReset {
+
+        @Test
+        @DisplayName("SHARDED 모드면 하위 Key도 함께 삭제")
+        void deleteShardsInShardedMode() {
+            // given
+            ResetRateLimitCommand command = RateLimitFixture.aResetRateLimitCommandForIp();
+
+            given(rateLimitProperties.getMode(LimitType.IP)).willReturn(RateLimitMode.SHARDED);
+            given(shardedRateLimitCounter.delete(any())).willReturn(Mono.empty());
+            given(rateLimitCounterCommandManager.delete(any())).willReturn(Mono.just(true));
+            given(ipBlockCommandManager.unblock(command.identifier())).willReturn(Mono.just(true));
+
+            // when
+            Mono<Void> result = rateLimitResetCoordinator.reset(command);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+
+            then(shardedRateLimitCounter)
+                    .should()
+                    .delete(RateLimitKey.of(LimitType.IP, command.identifier()));
+            then(rateLimitCounterCommandManager).should().delete(any());
+        }
+
+        @Test
+        @DisplayName("SHARDED 모드가 아니면 하위 Key를 삭제하지 않음")
+        void skipShardsInOtherModes() {
+            // given
+            ResetRateLimitCommand command = RateLimitFixture.aResetRateLimitCommandForIp();
+
+            given(rateLimitProperties.getMode(LimitType.IP)).willReturn(RateLimitMode.EXACT);
+            given(rateLimitCounterCommandManager.delete(any())).willReturn(Mono.just(true));
+            given(ipBlockCommandManager.unblock(command.identifier())).willReturn(Mono.just(true));
+
+            // when
+            Mono<Void> result = rateLimitResetCoordinator.reset(command);
+
+            // then
+            StepVerifier.create(result).verifyComplete();
+
+            then(shardedRateLimitCounter).shouldHaveNoInteractions();
+        }
+    }
 }
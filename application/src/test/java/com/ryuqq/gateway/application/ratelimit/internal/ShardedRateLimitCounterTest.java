@@ -0,0 +1,292 @@
+package com.ryuqq.gateway.application.ratelimit.internal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterCommandManager;
+import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterQueryManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.fixture.ratelimit.RateLimitFixture;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * ShardedRateLimitCounter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ShardedRateLimitCounter 단위 테스트")
+class ShardedRateLimitCounterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofSeconds(60);
+    private static final RateLimitKey KEY =
+            RateLimitFixture.aRateLimitKey(LimitType.ENDPOINT, "/api/orders");
+
+    @Mock private RateLimitCounterCommandManager rateLimitCounterCommandManager;
+
+    @Mock private RateLimitCounterQueryManager rateLimitCounterQueryManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    private RateLimitProperties properties;
+    private ShardedRateLimitCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setShardedShardCount(4);
+        properties.setShardedSumIntervalMs(200);
+        given(timeProvider.now()).willReturn(NOW);
+        given(rateLimitCounterCommandManager.incrementAndGet(any(), eq(WINDOW)))
+                .willReturn(Mono.just(1L));
+        counter =
+                new ShardedRateLimitCounter(
+                        rateLimitCounterCommandManager,
+                        rateLimitCounterQueryManager,
+                        properties,
+                        timeProvider);
+    }
+
+    @Nested
+    @DisplayName("incrementAndGet 메서드")
+    class IncrementAndGetTest {
+
+        @Test
+        @DisplayName("하위 Key 중 하나만 증가시킨다")
+        void shouldIncrementOneShard() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(1L));
+
+            // when
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(1L)
+                    .verifyComplete();
+
+            // then
+            then(rateLimitCounterCommandManager)
+                    .should()
+                    .incrementAndGet(
+                            argThat(
+                                    shardKey ->
+                                            shardKey.value().startsWith(KEY.value() + ":shard:")),
+                            eq(WINDOW));
+            then(rateLimitCounterCommandManager).should(never()).incrementAndGet(eq(KEY), any());
+        }
+
+        @Test
+        @DisplayName("처음 본 Key는 모든 하위 Key의 합계로 판정한다")
+        void shouldSumOnFirstRequest() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(37L));
+
+            // when & then
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(37L)
+                    .verifyComplete();
+            then(rateLimitCounterQueryManager)
+                    .should()
+                    .sumCounts(List.of(KEY.shard(0), KEY.shard(1), KEY.shard(2), KEY.shard(3)));
+            assertThat(counter.sumCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("합계 재조회 주기 안에서는 마지막 합계 + 이후 증가 횟수로 판정한다")
+        void shouldEstimateWithinInterval() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(37L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            given(timeProvider.now()).willReturn(NOW.plusMillis(100));
+
+            // when & then
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(38L)
+                    .verifyComplete();
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(39L)
+                    .verifyComplete();
+            assertThat(counter.sumCount()).isEqualTo(1);
+            assertThat(counter.incrementCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("증가시킨 하위 Key 값이 추정값보다 크면 하위 Key 값을 사용한다")
+        void shouldNotEstimateBelowShardValue() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(10L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            given(rateLimitCounterCommandManager.incrementAndGet(any(), eq(WINDOW)))
+                    .willReturn(Mono.just(50L));
+
+            // when & then
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(50L)
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("재조회 주기가 지나면 합계를 다시 조회한다")
+        void shouldSumAgainAfterInterval() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList()))
+                    .willReturn(Mono.just(10L), Mono.just(400L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            given(timeProvider.now()).willReturn(NOW.plusMillis(200));
+
+            // when & then
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(400L)
+                    .verifyComplete();
+            assertThat(counter.sumCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("재조회 확률이 1이면 주기와 관계없이 매번 합계를 조회한다")
+        void shouldSumEveryTimeWithFullProbability() {
+            // given
+            properties.setShardedSumProbability(1.0);
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(5L));
+
+            // when
+            counter.incrementAndGet(KEY, WINDOW).block();
+            counter.incrementAndGet(KEY, WINDOW).block();
+            counter.incrementAndGet(KEY, WINDOW).block();
+
+            // then
+            assertThat(counter.sumCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("합계 조회 실패 시 추정값으로 판정한다")
+        void shouldEstimateWhenSumFails() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList()))
+                    .willReturn(Mono.error(new RuntimeException("Redis down")));
+
+            // when & then
+            StepVerifier.create(counter.incrementAndGet(KEY, WINDOW))
+                    .expectNext(1L)
+                    .verifyComplete();
+            assertThat(counter.sumFailureCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("보관 Key 수 상한을 넘으면 새 Key는 요청마다 합계를 조회한다")
+        void shouldSumEveryTimeWhenFull() {
+            // given
+            properties.setShardedMaxKeys(1);
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(3L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.ENDPOINT, "/api/users");
+
+            // when
+            counter.incrementAndGet(other, WINDOW).block();
+            counter.incrementAndGet(other, WINDOW).block();
+
+            // then
+            assertThat(counter.size()).isEqualTo(1);
+            assertThat(counter.sumCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("상한에 닿으면 한 Window 동안 요청이 없던 Key를 정리하고 새 Key를 보관한다")
+        void shouldRetireIdleKeyWhenFull() {
+            // given
+            properties.setShardedMaxKeys(1);
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(3L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.ENDPOINT, "/api/users");
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when
+            counter.incrementAndGet(other, WINDOW).block();
+            counter.incrementAndGet(other, WINDOW).block();
+
+            // then
+            assertThat(counter.size()).isEqualTo(1);
+            assertThat(counter.sumCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Window 안에 요청이 있던 Key는 상한에 닿아도 정리하지 않는다")
+        void shouldKeepActiveKeyWhenFull() {
+            // given
+            properties.setShardedMaxKeys(1);
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(3L));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW).minusSeconds(1));
+            counter.incrementAndGet(KEY, WINDOW).block();
+            RateLimitKey other = RateLimitFixture.aRateLimitKey(LimitType.ENDPOINT, "/api/users");
+            given(timeProvider.now()).willReturn(NOW.plus(WINDOW));
+
+            // when
+            counter.incrementAndGet(other, WINDOW).block();
+            counter.incrementAndGet(other, WINDOW).block();
+
+            // then
+            assertThat(counter.size()).isEqualTo(1);
+            assertThat(counter.sumCount()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("delete 메서드")
+    class DeleteTest {
+
+        @Test
+        @DisplayName("모든 하위 Key를 삭제하고 보관 중인 합계를 제거한다")
+        void shouldDeleteAllShards() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(1L));
+            given(rateLimitCounterCommandManager.delete(any())).willReturn(Mono.just(true));
+            counter.incrementAndGet(KEY, WINDOW).block();
+
+            // when
+            StepVerifier.create(counter.delete(KEY)).verifyComplete();
+
+            // then
+            for (int i = 0; i < 4; i++) {
+                then(rateLimitCounterCommandManager).should().delete(KEY.shard(i));
+            }
+            assertThat(counter.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("currentCount 메서드")
+    class CurrentCountTest {
+
+        @Test
+        @DisplayName("모든 하위 Key의 합계를 반환한다")
+        void shouldReturnSumOfShards() {
+            // given
+            given(rateLimitCounterQueryManager.sumCounts(anyList())).willReturn(Mono.just(120L));
+
+            // when & then
+            StepVerifier.create(counter.currentCount(KEY)).expectNext(120L).verifyComplete();
+            then(rateLimitCounterCommandManager).shouldHaveNoInteractions();
+            assertThat(counter.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.dto.command.CheckPreAuthRateLimitCommand;
+import com.ryuqq.gateway.application.ratelimit.dto.response.CheckRateLimitResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.RateLimitCheckCoordinator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * CheckPreAuthRateLimitService 단위 테스트
+ *
+ * <p>상세한 일괄 체크 로직 테스트는 RateLimitCheckCoordinatorTest 참조
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckPreAuthRateLimitService 단위 테스트")
+class CheckPreAuthRateLimitServiceTest {
+
+    @Mock private RateLimitCheckCoordinator rateLimitCheckCoordinator;
+
+    @InjectMocks private CheckPreAuthRateLimitService checkPreAuthRateLimitService;
+
+    @Test
+    @DisplayName("execute 호출 시 Coordinator.checkPreAuth로 위임")
+    void delegateToCoordinator() {
+        // given
+        CheckPreAuthRateLimitCommand command =
+                new CheckPreAuthRateLimitCommand("192.168.1.1", "/api/test", "GET");
+        CheckRateLimitResponse expectedResponse = CheckRateLimitResponse.allowed(5L, 100);
+
+        given(rateLimitCheckCoordinator.checkPreAuth(command))
+                .willReturn(Mono.just(expectedResponse));
+
+        // when & then
+        StepVerifier.create(checkPreAuthRateLimitService.execute(command))
+                .expectNext(expectedResponse)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.common.time.TimeProvider;
+import com.ryuqq.gateway.application.ratelimit.internal.BlockedIpMirror;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockQueryPort.BlockedIpWithTtl;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * ReconcileBlockedIpsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconcileBlockedIpsService 단위 테스트")
+class ReconcileBlockedIpsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long NOW_MILLIS = NOW.toEpochMilli();
+
+    @Mock private IpBlockQueryManager ipBlockQueryManager;
+
+    @Mock private BlockedIpMirror blockedIpMirror;
+
+    @Mock private TimeProvider timeProvider;
+
+    @InjectMocks private ReconcileBlockedIpsService reconcileBlockedIpsService;
+
+    @Test
+    @DisplayName("조회한 TTL을 만료 시각으로 변환하여 전체 조회 시작 시점과 함께 반영해야 한다")
+    void shouldReconcileWithExpiresAt() {
+        // given
+        given(blockedIpMirror.mark()).willReturn(7L);
+        given(timeProvider.now()).willReturn(NOW);
+        given(ipBlockQueryManager.findAllBlockedIpsWithTtl())
+                .willReturn(
+                        Flux.just(
+                                new BlockedIpWithTtl("10.0.0.1", 60L),
+                                new BlockedIpWithTtl("10.0.0.2", -1L)));
+
+        // when & then
+        StepVerifier.create(reconcileBlockedIpsService.execute()).verifyComplete();
+
+        then(blockedIpMirror)
+                .should()
+                .reconcile(
+                        eq(
+                                Map.of(
+                                        "10.0.0.1",
+                                        NOW_MILLIS + 60_000,
+                                        "10.0.0.2",
+                                        Long.MAX_VALUE)),
+                        eq(7L));
+    }
+
+    @Test
+    @DisplayName("이미 사라졌거나 TTL이 1초 미만인 Key는 제외해야 한다")
+    void shouldSkipExpiredKeys() {
+        // given
+        given(blockedIpMirror.mark()).willReturn(0L);
+        given(timeProvider.now()).willReturn(NOW);
+        given(ipBlockQueryManager.findAllBlockedIpsWithTtl())
+                .willReturn(
+                        Flux.just(
+                                new BlockedIpWithTtl("10.0.0.1", -2L),
+                                new BlockedIpWithTtl("10.0.0.2", 0L)));
+
+        // when & then
+        StepVerifier.create(reconcileBlockedIpsService.execute()).verifyComplete();
+
+        then(blockedIpMirror).should().reconcile(Map.of(), 0L);
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 로컬 사본을 유지하고 에러를 전파해야 한다")
+    void shouldKeepMirrorWhenQueryFails() {
+        // given
+        given(blockedIpMirror.mark()).willReturn(0L);
+        given(timeProvider.now()).willReturn(NOW);
+        given(ipBlockQueryManager.findAllBlockedIpsWithTtl())
+                .willReturn(Flux.error(new RuntimeException("Redis connection failed")));
+
+        // when & then
+        StepVerifier.create(reconcileBlockedIpsService.execute())
+                .expectErrorMessage("Redis connection failed")
+                .verify();
+
+        then(blockedIpMirror).should(never()).reconcile(any(), anyLong());
+    }
+}
@@ -0,0 +1,60 @@
+package com.ryuqq.gateway.application.ratelimit.service.command;
+
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.internal.BlockedIpMirror;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockEventQueryManager;
+import com.ryuqq.gateway.domain.ratelimit.vo.IpBlockEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * SubscribeIpBlockEventsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscribeIpBlockEventsService 단위 테스트")
+class SubscribeIpBlockEventsServiceTest {
+
+    @Mock private IpBlockEventQueryManager ipBlockEventQueryManager;
+
+    @Mock private BlockedIpMirror blockedIpMirror;
+
+    @InjectMocks private SubscribeIpBlockEventsService subscribeIpBlockEventsService;
+
+    @Test
+    @DisplayName("수신한 이벤트를 순서대로 로컬 사본에 반영해야 한다")
+    void shouldApplyReceivedEvents() {
+        // given
+        IpBlockEvent blocked = IpBlockEvent.blocked("10.0.0.1", 1_700_000_000_000L);
+        IpBlockEvent unblocked = IpBlockEvent.unblocked("10.0.0.1");
+        given(ipBlockEventQueryManager.subscribe()).willReturn(Flux.just(blocked, unblocked));
+
+        // when & then
+        StepVerifier.create(subscribeIpBlockEventsService.execute()).verifyComplete();
+
+        then(blockedIpMirror).should().apply(blocked);
+        then(blockedIpMirror).should().apply(unblocked);
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 에러를 전파해야 한다")
+    void shouldPropagateDisconnect() {
+        // given
+        given(ipBlockEventQueryManager.subscribe())
+                .willReturn(Flux.error(new RuntimeException("Connection closed")));
+
+        // when & then
+        StepVerifier.create(subscribeIpBlockEventsService.execute())
+                .expectErrorMessage("Connection closed")
+                .verify();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ryuqq.gateway.application.ratelimit.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.dto.query.GetBlockedIpsQuery;
+import com.ryuqq.gateway.application.ratelimit.dto.response.BlockedIpResponse;
+import com.ryuqq.gateway.application.ratelimit.manager.IpBlockQueryManager;
+import com.ryuqq.gateway.application.ratelimit.port.out.query.IpBlockQueryPort;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * GetBlockedIpsService 단위 테스트
+ *
+ * <p>Service → Manager 위임 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBlockedIpsService 단위 테스트")
+class GetBlockedIpsServiceTest {
+
+    @Mock private IpBlockQueryManager ipBlockQueryManager;
+
+    @InjectMocks private GetBlockedIpsService getBlockedIpsService;
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("페이지 번호를 offset으로 변환하여 조회한다")
+        void shouldQueryWithOffset() {
+            // given
+            GetBlockedIpsQuery query = GetBlockedIpsQuery.of(2, 10, true);
+            given(ipBlockQueryManager.findBlockedIps(20L, 10, true))
+                    .willReturn(Mono.just(new IpBlockQueryPort.BlockedIpPage(21L, List.of())));
+
+            // when & then
+            StepVerifier.create(getBlockedIpsService.execute(query))
+                    .assertNext(response -> assertThat(response.totalElements()).isEqualTo(21L))
+                    .verifyComplete();
+            then(ipBlockQueryManager).should().findBlockedIps(20L, 10, true);
+        }
+
+        @Test
+        @DisplayName("조회 결과를 TTL 포함 응답으로 변환하고 다음 페이지 여부를 계산한다")
+        void shouldMapItemsAndHasNext() {
+            // given
+            GetBlockedIpsQuery query = GetBlockedIpsQuery.of(0, 2, false);
+            IpBlockQueryPort.BlockedIpPage page =
+                    new IpBlockQueryPort.BlockedIpPage(
+                            3L,
+                            List.of(
+                                    new IpBlockQueryPort.BlockedIpWithTtl("10.0.0.1", 60L),
+                                    new IpBlockQueryPort.BlockedIpWithTtl("2001:db8::1", 120L)));
+            given(ipBlockQueryManager.findBlockedIps(0L, 2, false)).willReturn(Mono.just(page));
+
+            // when & then
+            StepVerifier.create(getBlockedIpsService.execute(query))
+                    .assertNext(
+                            response -> {
+                                assertThat(response.content())
+                                        .containsExactly(
+                                                BlockedIpResponse.of("10.0.0.1", 60L),
+                                                BlockedIpResponse.of("2001:db8::1", 120L));
+                                assertThat(response.page()).isZero();
+                                assertThat(response.size()).isEqualTo(2);
+                                assertThat(response.hasNext()).isTrue();
+                            })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 hasNext가 false다")
+        void shouldReturnNoNextOnLastPage() {
+            // given
+            GetBlockedIpsQuery query = GetBlockedIpsQuery.of(1, 2, false);
+            IpBlockQueryPort.BlockedIpPage page =
+                    new IpBlockQueryPort.BlockedIpPage(
+                            3L, List.of(new IpBlockQueryPort.BlockedIpWithTtl("10.0.0.3", 30L)));
+            given(ipBlockQueryManager.findBlockedIps(2L, 2, false)).willReturn(Mono.just(page));
+
+            // when & then
+            StepVerifier.create(getBlockedIpsService.execute(query))
+                    .assertNext(response -> assertThat(response.hasNext()).isFalse())
+                    .verifyComplete();
+        }
+    }
+}
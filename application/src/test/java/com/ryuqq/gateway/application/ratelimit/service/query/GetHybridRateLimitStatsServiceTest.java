@@ -0,0 +1,47 @@
+package com.ryuqq.gateway.application.ratelimit.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.HybridRateLimitStatsResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.HybridRateLimitCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetHybridRateLimitStatsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetHybridRateLimitStatsService 단위 테스트")
+class GetHybridRateLimitStatsServiceTest {
+
+    @Mock private HybridRateLimitCounter hybridRateLimitCounter;
+
+    @InjectMocks private GetHybridRateLimitStatsService getHybridRateLimitStatsService;
+
+    @Test
+    @DisplayName("로컬 카운터 누적값을 Response로 반환해야 한다")
+    void shouldReturnHybridStats() {
+        // given
+        given(hybridRateLimitCounter.localDecisionCount()).willReturn(1000L);
+        given(hybridRateLimitCounter.overflowCount()).willReturn(2L);
+        given(hybridRateLimitCounter.syncedKeyCount()).willReturn(40L);
+        given(hybridRateLimitCounter.syncBatchCount()).willReturn(10L);
+        given(hybridRateLimitCounter.syncFailureCount()).willReturn(1L);
+        given(hybridRateLimitCounter.size()).willReturn(5);
+
+        // when
+        HybridRateLimitStatsResponse result = getHybridRateLimitStatsService.execute();
+
+        // then
+        assertThat(result)
+                .isEqualTo(new HybridRateLimitStatsResponse(1000L, 2L, 40L, 10L, 1L, 5));
+    }
+}
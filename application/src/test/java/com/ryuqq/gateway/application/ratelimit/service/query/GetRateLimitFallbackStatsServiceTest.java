@@ -0,0 +1,47 @@
+package com.ryuqq.gateway.application.ratelimit.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import com.ryuqq.gateway.application.ratelimit.dto.response.RateLimitFallbackStatsResponse;
+import com.ryuqq.gateway.application.ratelimit.internal.LocalFallbackRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetRateLimitFallbackStatsService 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetRateLimitFallbackStatsService 단위 테스트")
+class GetRateLimitFallbackStatsServiceTest {
+
+    @Mock private LocalFallbackRateLimiter localFallbackRateLimiter;
+
+    @InjectMocks private GetRateLimitFallbackStatsService getRateLimitFallbackStatsService;
+
+    @Test
+    @DisplayName("로컬 Fallback Limiter 현재값을 Response로 반환해야 한다")
+    void shouldReturnFallbackStats() {
+        // given
+        given(localFallbackRateLimiter.isActive()).willReturn(true);
+        given(localFallbackRateLimiter.decisionCount()).willReturn(300L);
+        given(localFallbackRateLimiter.untrackedDecisionCount()).willReturn(4L);
+        given(localFallbackRateLimiter.activationCount()).willReturn(2L);
+        given(localFallbackRateLimiter.recoveryCount()).willReturn(1L);
+        given(localFallbackRateLimiter.size()).willReturn(12);
+
+        // when
+        RateLimitFallbackStatsResponse result = getRateLimitFallbackStatsService.execute();
+
+        // then
+        assertThat(result)
+                .isEqualTo(new RateLimitFallbackStatsResponse(true, 300L, 4L, 2L, 1L, 12));
+    }
+}
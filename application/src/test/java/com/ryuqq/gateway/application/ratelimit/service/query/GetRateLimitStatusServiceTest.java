@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
+import com.ryuqq.gateway.application.ratelimit.config.RateLimitProperties;
+import com.ryuqq.gateway.application.ratelimit.internal.ShardedRateLimitCounter;
 import com.ryuqq.gateway.application.ratelimit.manager.RateLimitCounterQueryManager;
 import com.ryuqq.gateway.domain.ratelimit.vo.LimitType;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitKey;
+import com.ryuqq.gateway.domain.ratelimit.vo.RateLimitMode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,10 @@ class GetRateLimitStatusServiceTest {
 
     @Mock private RateLimitCounterQueryManager rateLimitCounterQueryManager;
 
+    @Mock private ShardedRateLimitCounter shardedRateLimitCounter;
+
+    @Mock private RateLimitProperties rateLimitProperties;
+
     @InjectMocks private GetRateLimitStatusService getRateLimitStatusService;
 
     @Nested
@@ -61,6 +69,30 @@ class GetRateLimitStatusServiceTest {
             then(rateLimitCounterQueryManager).should().getTtlSeconds(any());
         }
 
+        @Test
+        @DisplayName("Rate Limit 상태 조회 - SHARDED 모드는 하위 Key 합계를 사용")
+        void shouldSumShardsInShardedMode() {
+            // given
+            RateLimitKey key = RateLimitKey.of(LimitType.ENDPOINT, "/api/orders");
+            given(rateLimitProperties.getMode(LimitType.ENDPOINT))
+                    .willReturn(RateLimitMode.SHARDED);
+            given(shardedRateLimitCounter.currentCount(key)).willReturn(Mono.just(640L));
+            given(rateLimitCounterQueryManager.getTtlSeconds(key.shard(0)))
+                    .willReturn(Mono.just(20L));
+
+            // when & then
+            StepVerifier.create(
+                            getRateLimitStatusService.execute(LimitType.ENDPOINT, "/api/orders"))
+                    .assertNext(
+                            response -> {
+                                assertThat(response.currentCount()).isEqualTo(640);
+                                assertThat(response.ttlSeconds()).isEqualTo(20);
+                            })
+                    .verifyComplete();
+
+            then(rateLimitCounterQueryManager).should(never()).getCurrentCount(any());
+        }
+
         @Test
         @DisplayName("Rate Limit 상태 조회 - 차단된 상태")
         void shouldReturnBlockedStatus() {
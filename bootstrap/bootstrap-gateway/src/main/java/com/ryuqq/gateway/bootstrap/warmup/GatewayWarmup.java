@@ -0,0 +1,243 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
+import com.ryuqq.gateway.application.authentication.port.in.command.RefreshPublicKeysUseCase;
+import com.ryuqq.gateway.application.authorization.service.query.GetPermissionSpecService;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.ReconcileBlockedIpsUseCase;
+import com.ryuqq.gateway.application.tenant.dto.query.GetTenantConfigQuery;
+import com.ryuqq.gateway.application.tenant.port.in.query.GetTenantConfigUseCase;
+import com.ryuqq.gateway.bootstrap.warmup.WarmupProgress.StepStatus;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Startup Warm-up
+ *
+ * <p>애플리케이션 기동 직후 Cache와 JIT를 예열합니다. 완료 전까지 {@link WarmupHealthIndicator}가 Readiness를
+ * WARMING_UP(503)으로 유지하므로, ALB 트래픽은 Warm-up이 끝난 뒤에 유입됩니다.
+ *
+ * <p><strong>단계</strong> (순서대로 실행):
+ *
+ * <ol>
+ *   <li>jwks - AuthHub JWKS 조회 (In-Process Snapshot, Verifier Key Ring, Redis 갱신)
+ *   <li>permissionSpec - Permission Spec 조회 (Redis Miss 시 AuthHub 조회 후 캐싱)
+ *   <li>blockedIps - 차단 IP 목록을 노드 로컬 사본으로 적재 (요청 경로의 IP 차단 확인용)
+ *   <li>tenantConfigs - 설정된 Tenant Config 조회 (Redis Miss 시 AuthHub 조회 후 캐싱)
+ *   <li>syntheticRequests - 설정된 Synthetic Request를 로컬 포트로 반복 호출하여 Filter Chain 예열
+ * </ol>
+ *
+ * <p>Synthetic Request에는 {@link WarmupRequestMarker} 토큰 헤더를 붙여, Rate Limit 카운터를 소모하거나
+ * localhost IP에 인증 실패를 기록하지 않도록 합니다. 토큰은 Warm-up 종료 시 폐기됩니다.
+ *
+ * <p>각 단계는 실패하거나 시간을 초과해도 다음 단계로 진행합니다. 모든 단계가 끝나면 Readiness가 UP이 됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class GatewayWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayWarmup.class);
+
+    static final String JWKS_STEP = "jwks";
+    static final String PERMISSION_SPEC_STEP = "permissionSpec";
+    static final String BLOCKED_IPS_STEP = "blockedIps";
+    static final String TENANT_CONFIGS_STEP = "tenantConfigs";
+    static final String SYNTHETIC_REQUESTS_STEP = "syntheticRequests";
+
+    private static final List<String> STEPS =
+            List.of(
+                    JWKS_STEP,
+                    PERMISSION_SPEC_STEP,
+                    BLOCKED_IPS_STEP,
+                    TENANT_CONFIGS_STEP,
+                    SYNTHETIC_REQUESTS_STEP);
+
+    private static final int TENANT_PRELOAD_CONCURRENCY = 4;
+
+    private final RefreshPublicKeysUseCase refreshPublicKeysUseCase;
+    private final GetPermissionSpecService getPermissionSpecService;
+    private final ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase;
+    private final GetTenantConfigUseCase getTenantConfigUseCase;
+    private final WarmupProperties warmupProperties;
+    private final WarmupProgress warmupProgress;
+    private final WebClient.Builder webClientBuilder;
+    private final WarmupRequestMarker warmupRequestMarker;
+
+    public GatewayWarmup(
+            RefreshPublicKeysUseCase refreshPublicKeysUseCase,
+            GetPermissionSpecService getPermissionSpecService,
+            ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase,
+            GetTenantConfigUseCase getTenantConfigUseCase,
+            WarmupProperties warmupProperties,
+            WarmupProgress warmupProgress,
+            WebClient.Builder webClientBuilder,
+            WarmupRequestMarker warmupRequestMarker) {
+        this.refreshPublicKeysUseCase = refreshPublicKeysUseCase;
+        this.getPermissionSpecService = getPermissionSpecService;
+        this.reconcileBlockedIpsUseCase = reconcileBlockedIpsUseCase;
+        this.getTenantConfigUseCase = getTenantConfigUseCase;
+        this.warmupProperties = warmupProperties;
+        this.warmupProgress = warmupProgress;
+        this.webClientBuilder = webClientBuilder;
+        this.warmupRequestMarker = warmupRequestMarker;
+    }
+
+    /**
+     * 기동 완료 후 Warm-up 시작 (비동기)
+     *
+     * @param event ApplicationReadyEvent
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!warmupProperties.isEnabled()) {
+            log.info("[WARMUP] Disabled, marking gateway ready");
+            warmupProgress.finish();
+            return;
+        }
+        warmUp(resolvePort(event.getApplicationContext())).subscribe();
+    }
+
+    /**
+     * Warm-up 실행
+     *
+     * @param port 로컬 서버 포트 (0 이하이면 Synthetic Request 생략)
+     * @return 모든 단계가 끝나면 완료되는 Mono (에러를 전파하지 않음)
+     */
+    public Mono<Void> warmUp(int port) {
+        warmupProgress.register(STEPS);
+        long startedAt = System.nanoTime();
+        log.info("[WARMUP] Started: steps={}", STEPS);
+
+        boolean tenantPreloadEnabled = !warmupProperties.getTenantIds().isEmpty();
+        boolean syntheticRequestsEnabled =
+                port > 0
+                        && warmupProperties.getSyntheticIterations() > 0
+                        && !warmupProperties.getSyntheticRequests().isEmpty();
+
+        return runStep(JWKS_STEP, true, refreshPublicKeysUseCase::execute)
+                .then(
+                        runStep(
+                                PERMISSION_SPEC_STEP,
+                                true,
+                                getPermissionSpecService::getPermissionSpec))
+                .then(runStep(BLOCKED_IPS_STEP, true, reconcileBlockedIpsUseCase::execute))
+                .then(
+                        runStep(
+                                TENANT_CONFIGS_STEP,
+                                tenantPreloadEnabled,
+                                this::preloadTenantConfigs))
+                .then(
+                        runStep(
+                                SYNTHETIC_REQUESTS_STEP,
+                                syntheticRequestsEnabled,
+                                () -> replaySyntheticRequests(port)))
+                .doFinally(
+                        signal -> {
+                            warmupRequestMarker.revoke();
+                            warmupProgress.finish();
+                            log.info(
+                                    "[WARMUP] Finished in {}ms: {}",
+                                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis(),
+                                    warmupProgress.details());
+                        });
+    }
+
+    /**
+     * 단계 실행 및 상태 기록
+     *
+     * <p>수행할 내용이 없는 단계(설정 없음)는 SKIPPED로 기록합니다.
+     */
+    private Mono<Void> runStep(String step, boolean enabled, Supplier<Mono<?>> task) {
+        return Mono.defer(
+                () -> {
+                    if (!enabled) {
+                        warmupProgress.update(step, StepStatus.SKIPPED);
+                        return Mono.<Void>empty();
+                    }
+                    warmupProgress.update(step, StepStatus.RUNNING);
+                    return task.get()
+                            .timeout(
+                                    Duration.ofSeconds(warmupProperties.getStepTimeoutSeconds()))
+                            .then()
+                            .doOnSuccess(v -> warmupProgress.update(step, StepStatus.COMPLETED))
+                            .onErrorResume(
+                                    e -> {
+                                        log.warn(
+                                                "[WARMUP] Step '{}' failed: {}",
+                                                step,
+                                                e.getMessage());
+                                        warmupProgress.update(step, StepStatus.FAILED);
+                                        return Mono.empty();
+                                    });
+                });
+    }
+
+    /** 설정된 Tenant Config 조회 (개별 실패는 무시) */
+    private Mono<Void> preloadTenantConfigs() {
+        return Flux.fromIterable(warmupProperties.getTenantIds())
+                .flatMap(
+                        tenantId ->
+                                getTenantConfigUseCase
+                                        .execute(new GetTenantConfigQuery(tenantId))
+                                        .onErrorResume(
+                                                e -> {
+                                                    log.debug(
+                                                            "[WARMUP] Tenant config preload"
+                                                                    + " failed: tenantId={}, {}",
+                                                            tenantId,
+                                                            e.getMessage());
+                                                    return Mono.empty();
+                                                }),
+                        TENANT_PRELOAD_CONCURRENCY)
+                .then();
+    }
+
+    /** Synthetic Request를 로컬 포트로 반복 호출 (응답 결과 무시) */
+    private Mono<Void> replaySyntheticRequests(int port) {
+        List<WarmupProperties.SyntheticRequest> requests =
+                warmupProperties.getSyntheticRequests();
+        WebClient webClient =
+                webClientBuilder
+                        .clone()
+                        .baseUrl("http://localhost:" + port)
+                        .defaultHeader(WarmupRequestMarker.HEADER, warmupRequestMarker.issue())
+                        .build();
+
+        return Flux.range(0, warmupProperties.getSyntheticIterations())
+                .concatMapIterable(iteration -> requests)
+                .flatMap(
+                        request -> send(webClient, request),
+                        Math.max(1, warmupProperties.getSyntheticConcurrency()))
+                .then();
+    }
+
+    private Mono<Void> send(WebClient webClient, WarmupProperties.SyntheticRequest request) {
+        return webClient
+                .method(HttpMethod.valueOf(request.getMethod()))
+                .uri(request.getPath())
+                .headers(headers -> request.getHeaders().forEach(headers::add))
+                .exchangeToMono(response -> response.releaseBody())
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private static int resolvePort(ApplicationContext applicationContext) {
+        if (applicationContext instanceof WebServerApplicationContext webServerContext
+                && webServerContext.getWebServer() != null) {
+            return webServerContext.getWebServer().getPort();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup Warm-up Health Indicator
+ *
+ * <p>Warm-up이 끝나기 전에는 {@link #WARMING_UP}을 반환하여 Readiness 그룹({@code /actuator/health/readiness})이
+ * 트래픽을 받지 않도록 합니다. 진행 상태는 details로 노출됩니다.
+ *
+ * <p>{@code WARMING_UP}은 Readiness 그룹의 {@code status.order}와 {@code status.http-mapping}(503)에만
+ * 등록되어 있습니다. 기본 Status Aggregator는 순서에 없는 Status를 무시하므로, 루트 {@code /actuator/health}와
+ * Liveness 그룹은 Warm-up 중에도 영향을 받지 않습니다.
+ *
+ * <p>Health Contributor 이름: {@code warmup}
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    /** Warm-up 진행 중 Status (Readiness 그룹에서만 503으로 매핑) */
+    public static final Status WARMING_UP = new Status("WARMING_UP", "Startup warm-up in progress");
+
+    private final WarmupProgress warmupProgress;
+
+    public WarmupHealthIndicator(WarmupProgress warmupProgress) {
+        this.warmupProgress = warmupProgress;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder =
+                warmupProgress.isFinished() ? Health.up() : Health.status(WARMING_UP);
+        return builder.withDetails(warmupProgress.details()).build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup Warm-up 진행 상태
+ *
+ * <p>{@link GatewayWarmup}이 단계별 상태를 기록하고, {@link WarmupHealthIndicator}가 Readiness에 진행률을 노출합니다.
+ *
+ * <p>모든 단계가 끝나면 (성공/실패 무관) 완료로 전환되어 Readiness가 UP이 됩니다. 실패한 단계는 요청 경로의 Cache Miss 처리로
+ * 자연스럽게 보완되므로 트래픽 수신을 막지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class WarmupProgress {
+
+    /** 단계 상태 */
+    public enum StepStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        SKIPPED
+    }
+
+    private final Map<String, StepStatus> steps = new LinkedHashMap<>();
+    private volatile boolean finished;
+
+    /**
+     * Warm-up 단계 등록 (모두 PENDING)
+     *
+     * @param stepNames 실행 순서대로의 단계 이름
+     */
+    public synchronized void register(List<String> stepNames) {
+        steps.clear();
+        stepNames.forEach(step -> steps.put(step, StepStatus.PENDING));
+        finished = false;
+    }
+
+    /**
+     * 단계 상태 갱신
+     *
+     * @param step 단계 이름
+     * @param status 새 상태
+     */
+    public synchronized void update(String step, StepStatus status) {
+        steps.put(step, status);
+    }
+
+    /** Warm-up 완료 처리 */
+    public void finish() {
+        finished = true;
+    }
+
+    /**
+     * Warm-up 완료 여부
+     *
+     * @return 모든 단계가 끝났으면 true
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Readiness 노출용 진행 상태
+     *
+     * @return 완료 단계 수, 전체 단계 수, 단계별 상태
+     */
+    public synchronized Map<String, Object> details() {
+        long done =
+                steps.values().stream()
+                        .filter(
+                                status ->
+                                        status != StepStatus.PENDING
+                                                && status != StepStatus.RUNNING)
+                        .count();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("finished", finished);
+        details.put("completedSteps", done);
+        details.put("totalSteps", steps.size());
+        details.put("steps", Map.copyOf(steps));
+        return details;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Startup Warm-up Configuration Properties
+ *
+ * <p>배포 직후 Readiness가 UP이 되기 전에 수행할 Warm-up 설정 (gateway.warmup.* 기반)
+ *
+ * <p><strong>설정 예시</strong>:
+ *
+ * <pre>{@code
+ * gateway:
+ *   warmup:
+ *     enabled: true
+ *     step-timeout-seconds: 30
+ *     tenant-ids:
+ *       - tenant-001
+ *       - tenant-002
+ *     synthetic-iterations: 200
+ *     synthetic-concurrency: 4
+ *     synthetic-requests:
+ *       - method: GET
+ *         path: /api/v1/users/me
+ *         headers:
+ *           Authorization: Bearer warmup
+ * }</pre>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ConfigurationProperties(prefix = "gateway.warmup")
+public class WarmupProperties {
+
+    /** Warm-up 활성화 여부 - 비활성화 시 Readiness는 즉시 UP (기본값: true) */
+    private boolean enabled = true;
+
+    /** 단계별 최대 수행 시간(초) - 초과 시 실패로 기록하고 다음 단계 진행 (기본값: 30초) */
+    private long stepTimeoutSeconds = 30;
+
+    /** 미리 적재할 Tenant ID 목록 - 최근 트래픽이 많은 Tenant (기본값: 없음) */
+    private List<String> tenantIds = List.of();
+
+    /** Synthetic Request 전체 반복 횟수 (기본값: 200회) */
+    private int syntheticIterations = 200;
+
+    /** Synthetic Request 동시 실행 수 (기본값: 4) */
+    private int syntheticConcurrency = 4;
+
+    /** Filter Chain을 통과시킬 Synthetic Request 목록 (기본값: 없음) */
+    private List<SyntheticRequest> syntheticRequests = List.of();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getStepTimeoutSeconds() {
+        return stepTimeoutSeconds;
+    }
+
+    public void setStepTimeoutSeconds(long stepTimeoutSeconds) {
+        this.stepTimeoutSeconds = stepTimeoutSeconds;
+    }
+
+    public List<String> getTenantIds() {
+        return Collections.unmodifiableList(tenantIds);
+    }
+
+    public void setTenantIds(List<String> tenantIds) {
+        this.tenantIds = tenantIds == null ? List.of() : new ArrayList<>(tenantIds);
+    }
+
+    public int getSyntheticIterations() {
+        return syntheticIterations;
+    }
+
+    public void setSyntheticIterations(int syntheticIterations) {
+        this.syntheticIterations = syntheticIterations;
+    }
+
+    public int getSyntheticConcurrency() {
+        return syntheticConcurrency;
+    }
+
+    public void setSyntheticConcurrency(int syntheticConcurrency) {
+        this.syntheticConcurrency = syntheticConcurrency;
+    }
+
+    public List<SyntheticRequest> getSyntheticRequests() {
+        return Collections.unmodifiableList(syntheticRequests);
+    }
+
+    public void setSyntheticRequests(List<SyntheticRequest> syntheticRequests) {
+        this.syntheticRequests =
+                syntheticRequests == null ? List.of() : new ArrayList<>(syntheticRequests);
+    }
+
+    /**
+     * Synthetic Request 설정
+     *
+     * <p>응답 결과와 무관하게 Filter Chain 실행 경로만 예열하므로 부작용이 없는 경로를 지정합니다. (예: 인증 실패로 끝나는 보호 경로)
+     */
+    public static class SyntheticRequest {
+
+        /** HTTP Method (기본값: GET) */
+        private String method = "GET";
+
+        /** 요청 경로 */
+        private String path;
+
+        /** 요청 헤더 */
+        private Map<String, String> headers = Map.of();
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Map<String, String> getHeaders() {
+            return Collections.unmodifiableMap(headers);
+        }
+
+        public void setHeaders(Map<String, String> headers) {
+            this.headers = headers == null ? Map.of() : new LinkedHashMap<>(headers);
+        }
+    }
+}
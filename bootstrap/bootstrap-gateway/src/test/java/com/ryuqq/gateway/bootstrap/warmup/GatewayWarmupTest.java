@@ -0,0 +1,249 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.ryuqq.gateway.adapter.in.gateway.common.util.WarmupRequestMarker;
+import com.ryuqq.gateway.application.authentication.port.in.command.RefreshPublicKeysUseCase;
+import com.ryuqq.gateway.application.authorization.service.query.GetPermissionSpecService;
+import com.ryuqq.gateway.application.ratelimit.port.in.command.ReconcileBlockedIpsUseCase;
+import com.ryuqq.gateway.application.tenant.port.in.query.GetTenantConfigUseCase;
+import com.ryuqq.gateway.bootstrap.warmup.WarmupProgress.StepStatus;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * GatewayWarmup Unit Test
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GatewayWarmup 단위 테스트")
+class GatewayWarmupTest {
+
+    @Mock private RefreshPublicKeysUseCase refreshPublicKeysUseCase;
+    @Mock private GetPermissionSpecService getPermissionSpecService;
+    @Mock private ReconcileBlockedIpsUseCase reconcileBlockedIpsUseCase;
+    @Mock private GetTenantConfigUseCase getTenantConfigUseCase;
+
+    private WarmupProperties properties;
+    private WarmupProgress progress;
+    private AtomicInteger syntheticCalls;
+    private AtomicReference<String> syntheticWarmupHeader;
+    private WarmupRequestMarker warmupRequestMarker;
+    private GatewayWarmup gatewayWarmup;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        progress = new WarmupProgress();
+        syntheticCalls = new AtomicInteger();
+        syntheticWarmupHeader = new AtomicReference<>();
+        warmupRequestMarker = new WarmupRequestMarker();
+        WebClient.Builder webClientBuilder =
+                WebClient.builder()
+                        .exchangeFunction(
+                                request -> {
+                                    syntheticCalls.incrementAndGet();
+                                    syntheticWarmupHeader.set(
+                                            request.headers()
+                                                    .getFirst(WarmupRequestMarker.HEADER));
+                                    return Mono.just(
+                                            ClientResponse.create(HttpStatus.UNAUTHORIZED)
+                                                    .build());
+                                });
+        gatewayWarmup =
+                new GatewayWarmup(
+                        refreshPublicKeysUseCase,
+                        getPermissionSpecService,
+                        reconcileBlockedIpsUseCase,
+                        getTenantConfigUseCase,
+                        properties,
+                        progress,
+                        webClientBuilder,
+                        warmupRequestMarker);
+    }
+
+    @Nested
+    @DisplayName("warmUp 메서드")
+    class WarmUp {
+
+        @Test
+        @DisplayName("모든 단계를 실행하고 완료 상태로 전환한다")
+        void runAllSteps() {
+            // given
+            properties.setTenantIds(List.of("tenant-1", "tenant-2"));
+            properties.setSyntheticIterations(3);
+            properties.setSyntheticRequests(List.of(syntheticRequest("/api/v1/users")));
+            given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+            given(getTenantConfigUseCase.execute(any())).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(8080)).verifyComplete();
+
+            // then
+            assertThat(progress.isFinished()).isTrue();
+            assertThat(steps())
+                    .containsEntry(GatewayWarmup.JWKS_STEP, StepStatus.COMPLETED)
+                    .containsEntry(GatewayWarmup.PERMISSION_SPEC_STEP, StepStatus.COMPLETED)
+                    .containsEntry(GatewayWarmup.BLOCKED_IPS_STEP, StepStatus.COMPLETED)
+                    .containsEntry(GatewayWarmup.TENANT_CONFIGS_STEP, StepStatus.COMPLETED)
+                    .containsEntry(GatewayWarmup.SYNTHETIC_REQUESTS_STEP, StepStatus.COMPLETED);
+            assertThat(syntheticCalls.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Synthetic Request에 Warm-up 토큰을 붙이고 종료 후 토큰을 폐기한다")
+        void markSyntheticRequestsAndRevokeAfterFinish() {
+            // given
+            properties.setSyntheticIterations(1);
+            properties.setSyntheticRequests(List.of(syntheticRequest("/api/v1/users")));
+            given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(8080)).verifyComplete();
+
+            // then
+            String token = syntheticWarmupHeader.get();
+            assertThat(token).isNotBlank();
+            MockServerWebExchange replayed =
+                    MockServerWebExchange.from(
+                            MockServerHttpRequest.get("/api/v1/users")
+                                    .remoteAddress(new InetSocketAddress("127.0.0.1", 50000))
+                                    .header(WarmupRequestMarker.HEADER, token)
+                                    .build());
+            assertThat(warmupRequestMarker.isWarmupRequest(replayed)).isFalse();
+        }
+
+        @Test
+        @DisplayName("단계가 실패해도 다음 단계를 진행하고 실패로 기록한다")
+        void continueAfterFailedStep() {
+            // given
+            given(refreshPublicKeysUseCase.execute())
+                    .willReturn(Mono.error(new RuntimeException("AuthHub unavailable")));
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(8080)).verifyComplete();
+
+            // then
+            assertThat(progress.isFinished()).isTrue();
+            assertThat(steps())
+                    .containsEntry(GatewayWarmup.JWKS_STEP, StepStatus.FAILED)
+                    .containsEntry(GatewayWarmup.PERMISSION_SPEC_STEP, StepStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("설정이 없는 단계는 건너뛴다")
+        void skipUnconfiguredSteps() {
+            // given
+            given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(8080)).verifyComplete();
+
+            // then
+            assertThat(steps())
+                    .containsEntry(GatewayWarmup.TENANT_CONFIGS_STEP, StepStatus.SKIPPED)
+                    .containsEntry(GatewayWarmup.SYNTHETIC_REQUESTS_STEP, StepStatus.SKIPPED);
+            verify(getTenantConfigUseCase, never()).execute(any());
+            assertThat(syntheticCalls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("개별 Tenant Config 조회 실패는 단계 실패로 처리하지 않는다")
+        void ignoreIndividualTenantFailures() {
+            // given
+            properties.setTenantIds(List.of("tenant-1"));
+            given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+            given(getTenantConfigUseCase.execute(any()))
+                    .willReturn(Mono.error(new RuntimeException("not found")));
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(8080)).verifyComplete();
+
+            // then
+            assertThat(steps())
+                    .containsEntry(GatewayWarmup.TENANT_CONFIGS_STEP, StepStatus.COMPLETED);
+        }
+
+        @Test
+        @DisplayName("서버 포트를 알 수 없으면 Synthetic Request를 건너뛴다")
+        void skipSyntheticRequestsWithoutPort() {
+            // given
+            properties.setSyntheticRequests(List.of(syntheticRequest("/api/v1/users")));
+            given(refreshPublicKeysUseCase.execute()).willReturn(Mono.empty());
+            given(getPermissionSpecService.getPermissionSpec()).willReturn(Mono.empty());
+            given(reconcileBlockedIpsUseCase.execute()).willReturn(Mono.empty());
+
+            // when
+            StepVerifier.create(gatewayWarmup.warmUp(-1)).verifyComplete();
+
+            // then
+            assertThat(steps())
+                    .containsEntry(GatewayWarmup.SYNTHETIC_REQUESTS_STEP, StepStatus.SKIPPED);
+            assertThat(syntheticCalls.get()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("onApplicationReady 메서드")
+    class OnApplicationReady {
+
+        @Test
+        @DisplayName("비활성화되어 있으면 Warm-up 없이 즉시 완료 처리한다")
+        void finishImmediatelyWhenDisabled() {
+            // given
+            properties.setEnabled(false);
+
+            // when
+            gatewayWarmup.onApplicationReady(null);
+
+            // then
+            assertThat(progress.isFinished()).isTrue();
+            verify(refreshPublicKeysUseCase, never()).execute();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, StepStatus> steps() {
+        return (Map<String, StepStatus>) progress.details().get("steps");
+    }
+
+    private static WarmupProperties.SyntheticRequest syntheticRequest(String path) {
+        WarmupProperties.SyntheticRequest request = new WarmupProperties.SyntheticRequest();
+        request.setPath(path);
+        request.setHeaders(Map.of("Authorization", "Bearer warmup"));
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ryuqq.gateway.bootstrap.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.gateway.bootstrap.warmup.WarmupProgress.StepStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * WarmupHealthIndicator Unit Test
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("WarmupHealthIndicator 단위 테스트")
+class WarmupHealthIndicatorTest {
+
+    private WarmupProgress progress;
+    private WarmupHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        progress = new WarmupProgress();
+        healthIndicator = new WarmupHealthIndicator(progress);
+    }
+
+    @Test
+    @DisplayName("Warm-up 진행 중이면 WARMING_UP과 진행률을 반환한다")
+    void reportWarmingUpWithProgress() {
+        // given
+        progress.register(List.of("jwks", "permissionSpec"));
+        progress.update("jwks", StepStatus.COMPLETED);
+        progress.update("permissionSpec", StepStatus.RUNNING);
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(WarmupHealthIndicator.WARMING_UP);
+        assertThat(health.getDetails())
+                .containsEntry("completedSteps", 1L)
+                .containsEntry("totalSteps", 2)
+                .containsEntry("finished", false);
+    }
+
+    @Test
+    @DisplayName("Warm-up이 끝나면 실패한 단계가 있어도 UP을 반환한다")
+    void reportUpWhenFinished() {
+        // given
+        progress.register(List.of("jwks"));
+        progress.update("jwks", StepStatus.FAILED);
+        progress.finish();
+
+        // when
+        Health health = healthIndicator.health();
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("completedSteps", 1L);
+    }
+}
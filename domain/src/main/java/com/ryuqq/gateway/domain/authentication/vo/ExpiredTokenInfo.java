@@ -1,5 +1,8 @@
 package com.ryuqq.gateway.domain.authentication.vo;
 
+import java.time.Duration;
+import java.time.Instant;
+
 /**
  * ExpiredTokenInfo - 만료된 JWT에서 추출한 정보
  *
@@ -10,15 +13,28 @@ package com.ryuqq.gateway.domain.authentication.vo;
  * <ul>
  *   <li>Token Refresh 시 만료된 Access Token에서 userId/tenantId 추출
  *   <li>서명 검증 후 만료 여부와 관계없이 사용자 식별 가능
+ *   <li>만료 임박 여부 판단 (Refresh-Ahead)
  * </ul>
  *
  * @param expired JWT 만료 여부
  * @param userId 사용자 ID
  * @param tenantId 테넌트 ID
+ * @param expiresAt JWT 만료 시각 (exp claim, 없으면 null)
  * @author development-team
  * @since 1.0.0
  */
-public record ExpiredTokenInfo(boolean expired, Long userId, String tenantId) {
+public record ExpiredTokenInfo(boolean expired, Long userId, String tenantId, Instant expiresAt) {
+
+    /**
+     * 만료 시각 없이 생성
+     *
+     * @param expired JWT 만료 여부
+     * @param userId 사용자 ID
+     * @param tenantId 테넌트 ID
+     */
+    public ExpiredTokenInfo(boolean expired, Long userId, String tenantId) {
+        this(expired, userId, tenantId, null);
+    }
 
     /**
      * ExpiredTokenInfo 생성
@@ -32,6 +48,20 @@ public record ExpiredTokenInfo(boolean expired, Long userId, String tenantId) {
         return new ExpiredTokenInfo(expired, userId, tenantId);
     }
 
+    /**
+     * 만료 시각을 포함한 ExpiredTokenInfo 생성
+     *
+     * @param expired JWT 만료 여부
+     * @param userId 사용자 ID
+     * @param tenantId 테넌트 ID
+     * @param expiresAt JWT 만료 시각
+     * @return ExpiredTokenInfo 인스턴스
+     */
+    public static ExpiredTokenInfo of(
+            boolean expired, Long userId, String tenantId, Instant expiresAt) {
+        return new ExpiredTokenInfo(expired, userId, tenantId, expiresAt);
+    }
+
     /**
      * JWT가 만료되었는지 확인
      *
@@ -41,6 +71,22 @@ public record ExpiredTokenInfo(boolean expired, Long userId, String tenantId) {
         return expired;
     }
 
+    /**
+     * 아직 유효하지만 주어진 시간 안에 만료되는지 확인
+     *
+     * <p>이미 만료되었거나 만료 시각을 알 수 없으면 false를 반환합니다.
+     *
+     * @param window 만료 임박 판단 구간 (0 이하이면 항상 false)
+     * @param now 현재 시각
+     * @return 만료 임박 여부
+     */
+    public boolean isExpiringWithin(Duration window, Instant now) {
+        if (expired || expiresAt == null || window == null || !window.isPositive()) {
+            return false;
+        }
+        return !now.plus(window).isBefore(expiresAt);
+    }
+
     @Override
     public String toString() {
         return "ExpiredTokenInfo{expired="
@@ -49,6 +95,8 @@ public record ExpiredTokenInfo(boolean expired, Long userId, String tenantId) {
                 + userId
                 + ", tenantId='"
                 + tenantId
-                + "'}";
+                + "', expiresAt="
+                + expiresAt
+                + "}";
     }
 }
@@ -0,0 +1,38 @@
+package com.ryuqq.gateway.domain.authentication.vo;
+
+/**
+ * RefreshTokenClaimStatus - Refresh Token 선점 결과 열거형
+ *
+ * <p>Token Refresh 시작 시 Refresh Token을 원자적으로 선점(재사용 확인 + 소비 표시)한 결과입니다.
+ *
+ * <p><strong>결과 유형:</strong>
+ *
+ * <ul>
+ *   <li>ACQUIRED: 선점 성공 - 이 요청이 Rotation을 수행
+ *   <li>IN_PROGRESS: 다른 요청이 Rotation 중
+ *   <li>CONSUMED: 이미 Rotation이 끝난(또는 폐기된) 토큰
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum RefreshTokenClaimStatus {
+
+    /** 선점 성공 (Rotation 수행 권한 획득) */
+    ACQUIRED,
+
+    /** 다른 요청이 Rotation 진행 중 */
+    IN_PROGRESS,
+
+    /** 이미 소비된 토큰 (Blacklist 등록 완료) */
+    CONSUMED;
+
+    /**
+     * 선점 성공 여부
+     *
+     * @return ACQUIRED이면 true
+     */
+    public boolean isAcquired() {
+        return this == ACQUIRED;
+    }
+}
@@ -8,24 +8,36 @@ import java.util.Set;
  *
  * <p>API 엔드포인트와 필요한 권한/역할을 매핑하는 불변 객체입니다.
  *
+ * <p>필수 권한은 생성 시 {@link PermissionSet}으로 한 번 컴파일됩니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
-public record EndpointPermission(
-        String serviceName,
-        String path,
-        HttpMethod method,
-        Set<Permission> requiredPermissions,
-        Set<String> requiredRoles,
-        boolean isPublic) {
-
-    public EndpointPermission {
-        Objects.requireNonNull(serviceName, "Service name cannot be null");
-        Objects.requireNonNull(path, "Path cannot be null");
-        Objects.requireNonNull(method, "Method cannot be null");
-        requiredPermissions =
+public final class EndpointPermission {
+
+    private final String serviceName;
+    private final String path;
+    private final HttpMethod method;
+    private final Set<Permission> requiredPermissions;
+    private final Set<String> requiredRoles;
+    private final boolean isPublic;
+    private final PermissionSet requiredPermissionSet;
+
+    public EndpointPermission(
+            String serviceName,
+            String path,
+            HttpMethod method,
+            Set<Permission> requiredPermissions,
+            Set<String> requiredRoles,
+            boolean isPublic) {
+        this.serviceName = Objects.requireNonNull(serviceName, "Service name cannot be null");
+        this.path = Objects.requireNonNull(path, "Path cannot be null");
+        this.method = Objects.requireNonNull(method, "Method cannot be null");
+        this.requiredPermissions =
                 requiredPermissions == null ? Set.of() : Set.copyOf(requiredPermissions);
-        requiredRoles = requiredRoles == null ? Set.of() : Set.copyOf(requiredRoles);
+        this.requiredRoles = requiredRoles == null ? Set.of() : Set.copyOf(requiredRoles);
+        this.isPublic = isPublic;
+        this.requiredPermissionSet = PermissionSet.of(this.requiredPermissions);
     }
 
     /**
@@ -83,6 +95,9 @@ public record EndpointPermission(
      *   <li>/api/v1/orders matches /api/v1/products → false
      * </ul>
      *
+     * <p>호출마다 정규식을 만들므로 단건 확인용입니다. 여러 엔드포인트 중 매칭을 찾을 때는 컴파일된 색인을 사용하는
+     * {@link PermissionSpec#findPermission(String, HttpMethod)}를 사용합니다.
+     *
      * @param requestPath 요청 경로
      * @return 매칭 여부
      */
@@ -93,4 +108,77 @@ public record EndpointPermission(
         String pathPattern = this.path.replaceAll("\\{[^/]+\\}", "[^/]+");
         return requestPath.matches(pathPattern);
     }
+
+    public String serviceName() {
+        return serviceName;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public HttpMethod method() {
+        return method;
+    }
+
+    public Set<Permission> requiredPermissions() {
+        return requiredPermissions;
+    }
+
+    public Set<String> requiredRoles() {
+        return requiredRoles;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    /**
+     * 컴파일된 필수 권한 집합
+     *
+     * @return PermissionSet
+     */
+    public PermissionSet requiredPermissionSet() {
+        return requiredPermissionSet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EndpointPermission that = (EndpointPermission) o;
+        return isPublic == that.isPublic
+                && serviceName.equals(that.serviceName)
+                && path.equals(that.path)
+                && method == that.method
+                && requiredPermissions.equals(that.requiredPermissions)
+                && requiredRoles.equals(that.requiredRoles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                serviceName, path, method, requiredPermissions, requiredRoles, isPublic);
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointPermission[serviceName="
+                + serviceName
+                + ", path="
+                + path
+                + ", method="
+                + method
+                + ", requiredPermissions="
+                + requiredPermissions
+                + ", requiredRoles="
+                + requiredRoles
+                + ", isPublic="
+                + isPublic
+                + "]";
+    }
 }
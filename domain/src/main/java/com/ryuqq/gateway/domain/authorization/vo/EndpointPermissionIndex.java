@@ -0,0 +1,164 @@
+package com.ryuqq.gateway.domain.authorization.vo;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * EndpointPermissionIndex - 엔드포인트 경로 템플릿 색인
+ *
+ * <p>Permission Spec의 엔드포인트 목록을 HTTP 메서드별 Segment Trie로 한 번만 컴파일합니다. 조회 비용은 엔드포인트 수가
+ * 아니라 요청 경로의 Segment 수에 비례하며, 요청마다 정규식을 컴파일하지 않습니다.
+ *
+ * <p><strong>매칭 우선순위</strong> (Segment마다 적용, 실패 시 다음 후보로 되돌아감):
+ *
+ * <ol>
+ *   <li>리터럴 Segment (예: {@code /orders/search})
+ *   <li>일부만 Path Variable인 Segment (예: {@code /files/{name}.json}, 선언 순서)
+ *   <li>전체가 Path Variable인 Segment (예: {@code /orders/{orderId}})
+ * </ol>
+ *
+ * <p>메서드와 경로 템플릿 모양이 같은 엔드포인트가 여러 개면 먼저 선언된 엔드포인트를 사용합니다. Path Variable은 {@code
+ * /}를 포함하지 않는 1자 이상의 값과 매칭됩니다 ({@link EndpointPermission#matchesPath(String)}와 동일).
+ *
+ * <p>컴파일 이후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class EndpointPermissionIndex {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{[^/]+\\}");
+
+    private final Map<HttpMethod, Node> roots;
+
+    private EndpointPermissionIndex(Map<HttpMethod, Node> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * 엔드포인트 목록 컴파일
+     *
+     * @param permissions 엔드포인트 권한 목록 (선언 순서 = 동일 템플릿 간 우선순위)
+     * @return 컴파일된 색인
+     */
+    static EndpointPermissionIndex compile(List<EndpointPermission> permissions) {
+        Map<HttpMethod, Node> roots = new EnumMap<>(HttpMethod.class);
+        for (EndpointPermission permission : permissions) {
+            Node node = roots.computeIfAbsent(permission.method(), method -> new Node());
+            for (String segment : splitSegments(permission.path())) {
+                node = node.child(segment);
+            }
+            if (node.endpoint == null) {
+                node.endpoint = permission;
+            }
+        }
+        return new EndpointPermissionIndex(roots);
+    }
+
+    /**
+     * 요청 경로와 메서드에 해당하는 엔드포인트 권한 찾기
+     *
+     * @param requestPath 요청 경로
+     * @param method HTTP 메서드
+     * @return 매칭되는 EndpointPermission (없으면 Optional.empty)
+     */
+    Optional<EndpointPermission> find(String requestPath, HttpMethod method) {
+        if (requestPath == null || method == null) {
+            return Optional.empty();
+        }
+        Node root = roots.get(method);
+        if (root == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(root.match(requestPath, 0));
+    }
+
+    private static List<String> splitSegments(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = path.indexOf('/', start)) >= 0) {
+            segments.add(path.substring(start, end));
+            start = end + 1;
+        }
+        segments.add(path.substring(start));
+        return segments;
+    }
+
+    /** Segment Trie 노드 (컴파일 중에만 변경) */
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<PatternChild> patterns = new ArrayList<>();
+        private Node variable;
+        private EndpointPermission endpoint;
+
+        Node child(String segment) {
+            if (segment.indexOf('{') < 0) {
+                return literals.computeIfAbsent(segment, s -> new Node());
+            }
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                if (variable == null) {
+                    variable = new Node();
+                }
+                return variable;
+            }
+            String regex = PATH_VARIABLE.matcher(segment).replaceAll("[^/]+");
+            for (PatternChild patternChild : patterns) {
+                if (patternChild.pattern().pattern().equals(regex)) {
+                    return patternChild.node();
+                }
+            }
+            PatternChild patternChild = new PatternChild(Pattern.compile(regex), new Node());
+            patterns.add(patternChild);
+            return patternChild.node();
+        }
+
+        /**
+         * {@code start}부터 시작하는 Segment 매칭
+         *
+         * @param path 요청 경로
+         * @param start 현재 Segment 시작 위치
+         * @return 매칭된 EndpointPermission (없으면 null)
+         */
+        EndpointPermission match(String path, int start) {
+            int end = path.indexOf('/', start);
+            boolean last = end < 0;
+            if (last) {
+                end = path.length();
+            }
+            String segment = path.substring(start, end);
+
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                EndpointPermission found = literal.resolve(path, end, last);
+                if (found != null) {
+                    return found;
+                }
+            }
+            if (segment.isEmpty()) {
+                return null;
+            }
+            for (PatternChild patternChild : patterns) {
+                if (patternChild.pattern().matcher(segment).matches()) {
+                    EndpointPermission found = patternChild.node().resolve(path, end, last);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            return variable == null ? null : variable.resolve(path, end, last);
+        }
+
+        private EndpointPermission resolve(String path, int end, boolean last) {
+            return last ? endpoint : match(path, end + 1);
+        }
+    }
+
+    private record PatternChild(Pattern pattern, Node node) {}
+}
@@ -54,7 +54,7 @@ public record Permission(String value) {
      * @return 리소스 문자열 (예: "order")
      */
     public String resource() {
-        return value.split(":")[0];
+        return value.substring(0, value.indexOf(':'));
     }
 
     /**
@@ -63,7 +63,7 @@ public record Permission(String value) {
      * @return 액션 문자열 (예: "read", "*")
      */
     public String action() {
-        return value.split(":")[1];
+        return value.substring(value.indexOf(':') + 1);
     }
 
     /**
@@ -72,7 +72,8 @@ public record Permission(String value) {
      * @return 와일드카드(*) 액션을 가진 경우 true
      */
     public boolean isWildcard() {
-        return WILDCARD.equals(action());
+        int separator = value.indexOf(':');
+        return value.length() == separator + 2 && value.endsWith(WILDCARD);
     }
 
     /**
@@ -86,6 +87,8 @@ public record Permission(String value) {
      *   <li>order:read includes order:create → false
      * </ul>
      *
+     * <p>문자열을 나누지 않고 비교하므로 객체를 만들지 않습니다.
+     *
      * @param other 비교할 권한
      * @return 포함 여부
      */
@@ -93,12 +96,14 @@ public record Permission(String value) {
         if (other == null) {
             return false;
         }
-        if (!this.resource().equals(other.resource())) {
+        int separator = value.indexOf(':');
+        if (other.value.indexOf(':') != separator
+                || !value.regionMatches(0, other.value, 0, separator)) {
             return false;
         }
         if (this.isWildcard()) {
             return true;
         }
-        return this.action().equals(other.action());
+        return value.equals(other.value);
     }
 }
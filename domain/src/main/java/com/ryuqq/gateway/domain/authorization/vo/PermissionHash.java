@@ -10,20 +10,30 @@ import java.util.stream.Collectors;
  *
  * <p>사용자의 권한 집합과 해시를 나타내는 불변 객체입니다. JWT의 permissionHash와 비교하여 권한 변경을 감지합니다.
  *
+ * <p>권한 집합은 생성 시 {@link PermissionSet}으로 한 번 컴파일되며, 권한 검사는 컴파일된 Bitset으로 수행합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
-public record PermissionHash(
-        String hash, Set<Permission> permissions, Set<String> roles, Instant generatedAt) {
+public final class PermissionHash {
+
+    private final String hash;
+    private final Set<Permission> permissions;
+    private final Set<String> roles;
+    private final Instant generatedAt;
+    private final PermissionSet permissionSet;
 
-    public PermissionHash {
+    public PermissionHash(
+            String hash, Set<Permission> permissions, Set<String> roles, Instant generatedAt) {
         Objects.requireNonNull(hash, "Hash cannot be null");
         if (hash.isBlank()) {
             throw new IllegalArgumentException("Hash cannot be blank");
         }
-        permissions = permissions == null ? Set.of() : Set.copyOf(permissions);
-        roles = roles == null ? Set.of() : Set.copyOf(roles);
-        generatedAt = generatedAt == null ? Instant.now() : generatedAt;
+        this.hash = hash;
+        this.permissions = permissions == null ? Set.of() : Set.copyOf(permissions);
+        this.roles = roles == null ? Set.of() : Set.copyOf(roles);
+        this.generatedAt = generatedAt == null ? Instant.now() : generatedAt;
+        this.permissionSet = PermissionSet.of(this.permissions);
     }
 
     /**
@@ -73,7 +83,7 @@ public record PermissionHash(
      * @return 보유 여부 (와일드카드 매칭 포함)
      */
     public boolean hasPermission(Permission permission) {
-        return permissions.stream().anyMatch(p -> p.includes(permission));
+        return permissionSet.contains(permission);
     }
 
     /**
@@ -83,7 +93,25 @@ public record PermissionHash(
      * @return 모든 권한 보유 여부
      */
     public boolean hasAllPermissions(Set<Permission> requiredPermissions) {
-        return requiredPermissions.stream().allMatch(this::hasPermission);
+        for (Permission required : requiredPermissions) {
+            if (!permissionSet.contains(required)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 필수 권한 보유 여부 확인 (컴파일된 권한 집합)
+     *
+     * <p>요청 경로의 권한 검사용입니다. {@link EndpointPermission#requiredPermissionSet()}과 함께 사용하면 객체를
+     * 만들지 않습니다.
+     *
+     * @param requiredPermissions 컴파일된 필수 권한 집합
+     * @return 모든 권한 보유 여부
+     */
+    public boolean hasAllPermissions(PermissionSet requiredPermissions) {
+        return permissionSet.containsAll(requiredPermissions);
     }
 
     /**
@@ -103,7 +131,12 @@ public record PermissionHash(
      * @return 하나 이상 보유 여부
      */
     public boolean hasAnyRole(Set<String> requiredRoles) {
-        return requiredRoles.stream().anyMatch(this::hasRole);
+        for (String role : requiredRoles) {
+            if (roles.contains(role)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -114,4 +147,62 @@ public record PermissionHash(
     public Set<String> permissionStrings() {
         return permissions.stream().map(Permission::value).collect(Collectors.toSet());
     }
+
+    public String hash() {
+        return hash;
+    }
+
+    public Set<Permission> permissions() {
+        return permissions;
+    }
+
+    public Set<String> roles() {
+        return roles;
+    }
+
+    public Instant generatedAt() {
+        return generatedAt;
+    }
+
+    /**
+     * 컴파일된 권한 집합
+     *
+     * @return PermissionSet
+     */
+    public PermissionSet permissionSet() {
+        return permissionSet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PermissionHash that = (PermissionHash) o;
+        return hash.equals(that.hash)
+                && permissions.equals(that.permissions)
+                && roles.equals(that.roles)
+                && generatedAt.equals(that.generatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hash, permissions, roles, generatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionHash[hash="
+                + hash
+                + ", permissions="
+                + permissions
+                + ", roles="
+                + roles
+                + ", generatedAt="
+                + generatedAt
+                + "]";
+    }
 }
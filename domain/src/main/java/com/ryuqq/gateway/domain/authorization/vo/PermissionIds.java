@@ -0,0 +1,95 @@
+package com.ryuqq.gateway.domain.authorization.vo;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PermissionIds - 권한/리소스 문자열 정수 ID 테이블
+ *
+ * <p>권한 문자열과 리소스 문자열을 처음 등장할 때 0부터 순서대로 정수 ID로 변환합니다. 같은 문자열은 프로세스 안에서 항상 같은
+ * ID를 가지므로 {@link PermissionSet}끼리 Bit 단위로 비교할 수 있습니다.
+ *
+ * <p>ID는 Permission Spec과 Permission Hash를 적재할 때만 발급되며, 권한 검사 중에는 조회만 합니다. 요청의 JWT Claim이나
+ * 경로 등 외부 입력으로는 발급되지 않습니다.
+ *
+ * <p><strong>크기 상한</strong>: 프로세스 수명 동안 AuthHub에서 받은 서로 다른 권한/리소스 문자열 수입니다. 이름이 바뀌거나
+ * 삭제된 권한의 ID도 재시작 전까지 남으며, 이미 컴파일된 {@link PermissionSet}이 ID를 참조하므로 항목을 제거하지 않습니다.
+ * 권한 1,000개 기준 테이블은 수십 KB, PermissionSet 하나의 Bitset은 16 Word(128 bytes)입니다. 배포마다 재시작되므로
+ * 권한 정의가 계속 늘어나는 경우가 아니면 상한에 도달하지 않습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+final class PermissionIds {
+
+    /** 등록되지 않은 문자열 */
+    static final int UNKNOWN = -1;
+
+    private static final ConcurrentMap<String, Integer> PERMISSION_IDS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Integer> RESOURCE_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_PERMISSION_ID = new AtomicInteger();
+    private static final AtomicInteger NEXT_RESOURCE_ID = new AtomicInteger();
+
+    private PermissionIds() {}
+
+    /**
+     * 권한 ID 발급 (이미 있으면 기존 ID)
+     *
+     * @param permission 권한 문자열 (예: "order:read")
+     * @return 권한 ID
+     */
+    static int permissionId(String permission) {
+        return PERMISSION_IDS.computeIfAbsent(
+                permission, key -> NEXT_PERMISSION_ID.getAndIncrement());
+    }
+
+    /**
+     * 리소스 ID 발급 (이미 있으면 기존 ID)
+     *
+     * @param resource 리소스 문자열 (예: "order")
+     * @return 리소스 ID
+     */
+    static int resourceId(String resource) {
+        return RESOURCE_IDS.computeIfAbsent(resource, key -> NEXT_RESOURCE_ID.getAndIncrement());
+    }
+
+    /**
+     * 권한 ID 조회 (발급하지 않음)
+     *
+     * @param permission 권한 문자열
+     * @return 권한 ID (없으면 {@link #UNKNOWN})
+     */
+    static int findPermissionId(String permission) {
+        Integer id = PERMISSION_IDS.get(permission);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * 리소스 ID 조회 (발급하지 않음)
+     *
+     * @param resource 리소스 문자열
+     * @return 리소스 ID (없으면 {@link #UNKNOWN})
+     */
+    static int findResourceId(String resource) {
+        Integer id = RESOURCE_IDS.get(resource);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /** 발급된 권한 ID 수 */
+    static int permissionCount() {
+        return PERMISSION_IDS.size();
+    }
+
+    /**
+     * 모든 ID 초기화 (테스트 격리용)
+     *
+     * <p>이미 컴파일된 {@link PermissionSet}의 ID가 무효가 되므로 운영 코드에서는 호출하지 않습니다.
+     */
+    static void reset() {
+        PERMISSION_IDS.clear();
+        RESOURCE_IDS.clear();
+        NEXT_PERMISSION_ID.set(0);
+        NEXT_RESOURCE_ID.set(0);
+    }
+}
@@ -0,0 +1,193 @@
+package com.ryuqq.gateway.domain.authorization.vo;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PermissionSet - Bitset으로 컴파일된 권한 집합
+ *
+ * <p>권한 문자열을 {@link PermissionIds}의 정수 ID로 변환하여 Bitset으로 보관합니다. Permission Spec과 Permission
+ * Hash를 적재할 때 한 번만 컴파일하며, 권한 검사는 Word 단위 AND 연산만 수행하고 객체를 만들지 않습니다.
+ *
+ * <p><strong>와일드카드</strong>: {@code resource:*} 권한은 해당 리소스의 Bit로도 기록됩니다. 리소스 Bit가 있으면 그
+ * 리소스의 모든 권한을 보유한 것으로 판단하므로, 이 집합을 컴파일한 뒤 새로 등록된 권한에도 적용됩니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class PermissionSet {
+
+    private static final long[] NO_BITS = new long[0];
+
+    /** 빈 권한 집합 */
+    public static final PermissionSet EMPTY =
+            new PermissionSet(NO_BITS, NO_BITS, new int[0], new long[0][], 0);
+
+    private final long[] permissionBits;
+    private final long[] wildcardResourceBits;
+    private final int[] resourceIds;
+    private final long[][] permissionBitsByResource;
+    private final int size;
+
+    private PermissionSet(
+            long[] permissionBits,
+            long[] wildcardResourceBits,
+            int[] resourceIds,
+            long[][] permissionBitsByResource,
+            int size) {
+        this.permissionBits = permissionBits;
+        this.wildcardResourceBits = wildcardResourceBits;
+        this.resourceIds = resourceIds;
+        this.permissionBitsByResource = permissionBitsByResource;
+        this.size = size;
+    }
+
+    /**
+     * 권한 집합 컴파일
+     *
+     * @param permissions 권한 집합
+     * @return 컴파일된 PermissionSet
+     */
+    public static PermissionSet of(Set<Permission> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] permissionBits = NO_BITS;
+        long[] wildcardResourceBits = NO_BITS;
+        Map<Integer, long[]> bitsByResource = new LinkedHashMap<>();
+        for (Permission permission : permissions) {
+            int permissionId = PermissionIds.permissionId(permission.value());
+            int resourceId = PermissionIds.resourceId(permission.resource());
+            permissionBits = setBit(permissionBits, permissionId);
+            bitsByResource.merge(
+                    resourceId, setBit(NO_BITS, permissionId), PermissionSet::union);
+            if (permission.isWildcard()) {
+                wildcardResourceBits = setBit(wildcardResourceBits, resourceId);
+            }
+        }
+
+        int[] resourceIds = new int[bitsByResource.size()];
+        long[][] permissionBitsByResource = new long[bitsByResource.size()][];
+        int index = 0;
+        for (Map.Entry<Integer, long[]> entry : bitsByResource.entrySet()) {
+            resourceIds[index] = entry.getKey();
+            permissionBitsByResource[index] = entry.getValue();
+            index++;
+        }
+        return new PermissionSet(
+                permissionBits,
+                wildcardResourceBits,
+                resourceIds,
+                permissionBitsByResource,
+                permissions.size());
+    }
+
+    /**
+     * 모든 권한 보유 여부 확인 (와일드카드 포함)
+     *
+     * <p>필요한 권한을 리소스별로 나누어, 리소스 와일드카드가 없으면 {@code required & ~granted}가 0인지 확인합니다.
+     *
+     * @param required 필요한 권한 집합
+     * @return 모든 권한 보유 여부
+     */
+    public boolean containsAll(PermissionSet required) {
+        for (int i = 0; i < required.resourceIds.length; i++) {
+            if (testBit(wildcardResourceBits, required.resourceIds[i])) {
+                continue;
+            }
+            long[] requiredBits = required.permissionBitsByResource[i];
+            for (int word = 0; word < requiredBits.length; word++) {
+                long granted = word < permissionBits.length ? permissionBits[word] : 0L;
+                if ((requiredBits[word] & ~granted) != 0L) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 권한 보유 여부 확인 (와일드카드 포함)
+     *
+     * @param permission 확인할 권한
+     * @return 보유 여부
+     */
+    public boolean contains(Permission permission) {
+        if (permission == null) {
+            return false;
+        }
+        if (testBit(permissionBits, PermissionIds.findPermissionId(permission.value()))) {
+            return true;
+        }
+        return wildcardResourceBits.length > 0
+                && testBit(
+                        wildcardResourceBits,
+                        PermissionIds.findResourceId(permission.resource()));
+    }
+
+    /**
+     * 빈 집합 여부
+     *
+     * @return 권한이 없으면 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 권한 수
+     *
+     * @return 컴파일 전 권한 수
+     */
+    public int size() {
+        return size;
+    }
+
+    private static boolean testBit(long[] bits, int id) {
+        if (id < 0) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0L;
+    }
+
+    private static long[] setBit(long[] bits, int id) {
+        int word = id >>> 6;
+        long[] result = word < bits.length ? bits : Arrays.copyOf(bits, word + 1);
+        result[word] |= 1L << id;
+        return result;
+    }
+
+    private static long[] union(long[] left, long[] right) {
+        long[] result = Arrays.copyOf(left, Math.max(left.length, right.length));
+        for (int word = 0; word < right.length; word++) {
+            result[word] |= right[word];
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PermissionSet that = (PermissionSet) o;
+        return Arrays.equals(permissionBits, that.permissionBits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(permissionBits);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionSet[size=" + size + "]";
+    }
+}
@@ -10,16 +10,25 @@ import java.util.Optional;
  *
  * <p>전체 Permission Spec을 나타내는 불변 객체입니다. 모든 엔드포인트의 권한 정보를 포함합니다.
  *
+ * <p>생성 시 엔드포인트 목록을 {@link EndpointPermissionIndex}로 한 번 컴파일하여, {@link #findPermission}이
+ * 엔드포인트 수와 무관하게 경로 깊이에 비례하는 비용으로 동작합니다. 색인은 값에 포함되지 않으므로 equals/hashCode는
+ * version, updatedAt, permissions만 비교합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
-public record PermissionSpec(
-        Long version, Instant updatedAt, List<EndpointPermission> permissions) {
+public final class PermissionSpec {
+
+    private final Long version;
+    private final Instant updatedAt;
+    private final List<EndpointPermission> permissions;
+    private final EndpointPermissionIndex index;
 
-    public PermissionSpec {
-        Objects.requireNonNull(version, "Version cannot be null");
-        updatedAt = updatedAt == null ? Instant.now() : updatedAt;
-        permissions = permissions == null ? List.of() : List.copyOf(permissions);
+    public PermissionSpec(Long version, Instant updatedAt, List<EndpointPermission> permissions) {
+        this.version = Objects.requireNonNull(version, "Version cannot be null");
+        this.updatedAt = updatedAt == null ? Instant.now() : updatedAt;
+        this.permissions = permissions == null ? List.of() : List.copyOf(permissions);
+        this.index = EndpointPermissionIndex.compile(this.permissions);
     }
 
     /**
@@ -38,14 +47,15 @@ public record PermissionSpec(
     /**
      * 요청 경로와 메서드에 해당하는 엔드포인트 권한 찾기
      *
+     * <p>리터럴 Segment가 Path Variable보다 우선합니다 (예: {@code /orders/search}가 {@code
+     * /orders/{orderId}}보다 우선). 우선순위 규칙은 {@link EndpointPermissionIndex}를 참고하세요.
+     *
      * @param requestPath 요청 경로
      * @param method HTTP 메서드
      * @return 매칭되는 EndpointPermission (없으면 Optional.empty)
      */
     public Optional<EndpointPermission> findPermission(String requestPath, HttpMethod method) {
-        return permissions.stream()
-                .filter(ep -> ep.method() == method && ep.matchesPath(requestPath))
-                .findFirst();
+        return index.find(requestPath, method);
     }
 
     /**
@@ -85,4 +95,46 @@ public record PermissionSpec(
     public List<EndpointPermission> protectedEndpoints() {
         return permissions.stream().filter(EndpointPermission::requiresAuthorization).toList();
     }
+
+    public Long version() {
+        return version;
+    }
+
+    public Instant updatedAt() {
+        return updatedAt;
+    }
+
+    public List<EndpointPermission> permissions() {
+        return permissions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PermissionSpec that = (PermissionSpec) o;
+        return version.equals(that.version)
+                && updatedAt.equals(that.updatedAt)
+                && permissions.equals(that.permissions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, updatedAt, permissions);
+    }
+
+    @Override
+    public String toString() {
+        return "PermissionSpec[version="
+                + version
+                + ", updatedAt="
+                + updatedAt
+                + ", permissions="
+                + permissions
+                + "]";
+    }
 }
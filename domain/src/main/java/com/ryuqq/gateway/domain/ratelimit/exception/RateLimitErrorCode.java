@@ -39,7 +39,14 @@ public enum RateLimitErrorCode implements ErrorCode {
      *
      * <p>너무 많은 실패로 계정이 잠긴 경우 발생
      */
-    ACCOUNT_LOCKED("RATE-003", 403, "Account locked due to too many failures.");
+    ACCOUNT_LOCKED("RATE-003", 403, "Account locked due to too many failures."),
+
+    /**
+     * Rate Limit 저장소 사용 불가
+     *
+     * <p>Redis 장애, 응답 지연 또는 Circuit Breaker Open으로 카운터를 조회할 수 없는 경우 발생
+     */
+    RATE_LIMIT_STORE_UNAVAILABLE("RATE-004", 503, "Rate limit store is unavailable.");
 
     private final String code;
     private final int httpStatus;
@@ -0,0 +1,33 @@
+package com.ryuqq.gateway.domain.ratelimit.exception;
+
+import com.ryuqq.gateway.domain.common.exception.DomainException;
+
+/**
+ * RateLimitStoreUnavailableException - Rate Limit 저장소 사용 불가 예외
+ *
+ * <p>Rate Limit 카운터 저장소(Redis) 호출이 실패했거나, 응답 시간을 초과했거나, Circuit Breaker가 Open되어 호출하지
+ * 않은 경우 발생하는 예외입니다.
+ *
+ * <p><strong>처리:</strong> 요청 경로에서는 노드 로컬 Fallback Limiter로 판정하므로 클라이언트에 전달되지 않습니다.
+ *
+ * <p><strong>HTTP 응답:</strong> 503 Service Unavailable
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class RateLimitStoreUnavailableException extends DomainException {
+
+    /** 기본 생성자 */
+    public RateLimitStoreUnavailableException() {
+        super(RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE);
+    }
+
+    /**
+     * 원인 예외를 포함한 생성자
+     *
+     * @param cause 원인 예외 (Redis 오류, Timeout, Circuit Breaker 호출 거부)
+     */
+    public RateLimitStoreUnavailableException(Throwable cause) {
+        super(RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE, cause);
+    }
+}
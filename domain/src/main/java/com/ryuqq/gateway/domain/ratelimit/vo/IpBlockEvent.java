@@ -0,0 +1,62 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+/**
+ * IpBlockEvent - IP 차단 상태 변경 Value Object
+ *
+ * <p>IP 차단/해제 시 모든 Gateway 노드에 전파되어 노드 로컬 차단 목록을 갱신합니다. 만료 시각은 노드마다 다른 수신 시점과
+ * 무관하도록 절대 시각(epoch 밀리초)으로 전달합니다.
+ *
+ * @param ipAddress IP 주소
+ * @param expiresAtEpochMillis 차단 만료 시각 (epoch 밀리초, 해제 이벤트는 0)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record IpBlockEvent(String ipAddress, long expiresAtEpochMillis) {
+
+    /**
+     * Compact Constructor - 검증 수행
+     *
+     * @throws IllegalArgumentException ipAddress가 비어 있거나 만료 시각이 음수인 경우
+     */
+    public IpBlockEvent {
+        if (ipAddress == null || ipAddress.isBlank()) {
+            throw new IllegalArgumentException("ipAddress cannot be null or blank");
+        }
+        if (expiresAtEpochMillis < 0) {
+            throw new IllegalArgumentException("expiresAtEpochMillis cannot be negative");
+        }
+    }
+
+    /**
+     * 차단 이벤트 생성
+     *
+     * @param ipAddress IP 주소
+     * @param expiresAtEpochMillis 차단 만료 시각 (epoch 밀리초)
+     * @return IpBlockEvent
+     */
+    public static IpBlockEvent blocked(String ipAddress, long expiresAtEpochMillis) {
+        if (expiresAtEpochMillis == 0) {
+            throw new IllegalArgumentException("blocked event must have expiresAtEpochMillis");
+        }
+        return new IpBlockEvent(ipAddress, expiresAtEpochMillis);
+    }
+
+    /**
+     * 해제 이벤트 생성
+     *
+     * @param ipAddress IP 주소
+     * @return IpBlockEvent
+     */
+    public static IpBlockEvent unblocked(String ipAddress) {
+        return new IpBlockEvent(ipAddress, 0);
+    }
+
+    /**
+     * 차단 이벤트 여부
+     *
+     * @return 차단이면 true, 해제면 false
+     */
+    public boolean isBlock() {
+        return expiresAtEpochMillis > 0;
+    }
+}
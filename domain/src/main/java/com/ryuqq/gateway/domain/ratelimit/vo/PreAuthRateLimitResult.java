@@ -0,0 +1,99 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+/**
+ * PreAuthRateLimitResult - 인증 전 Rate Limit 일괄 판정 결과 Value Object
+ *
+ * <p>IP 차단 여부, IP 카운터, Endpoint 카운터를 한 번에 판정한 결과입니다.
+ *
+ * <p><strong>판정 순서:</strong>
+ *
+ * <ol>
+ *   <li>IP 차단 중이면 카운터를 증가시키지 않고 차단 결과 반환
+ *   <li>IP 카운터가 한도에 도달하면 Endpoint 카운터를 증가시키지 않고 IP 초과 결과 반환
+ *   <li>Endpoint 카운터가 한도에 도달하면 Endpoint 초과 결과 반환
+ * </ol>
+ *
+ * @param blocked IP 차단 여부
+ * @param trippedLimit 한도에 도달한 LimitType (IP 또는 ENDPOINT, 허용/차단 시 null)
+ * @param retryAfterSeconds 차단 남은 시간 또는 초과한 카운터의 남은 Window (초, 허용 시 0)
+ * @param ipCount 증가 후 IP 카운트 (차단 시 0)
+ * @param endpointCount 증가 후 Endpoint 카운트 (IP 차단/초과 시 0)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record PreAuthRateLimitResult(
+        boolean blocked,
+        LimitType trippedLimit,
+        long retryAfterSeconds,
+        long ipCount,
+        long endpointCount) {
+
+    /** Compact Constructor (검증 로직) */
+    public PreAuthRateLimitResult {
+        if (retryAfterSeconds < 0 || ipCount < 0 || endpointCount < 0) {
+            throw new IllegalArgumentException("counts and retryAfterSeconds cannot be negative");
+        }
+        if (trippedLimit != null
+                && trippedLimit != LimitType.IP
+                && trippedLimit != LimitType.ENDPOINT) {
+            throw new IllegalArgumentException("trippedLimit must be IP or ENDPOINT");
+        }
+    }
+
+    /**
+     * IP 차단 결과 생성
+     *
+     * @param blockTtlSeconds 차단 남은 시간 (초)
+     * @return PreAuthRateLimitResult
+     */
+    public static PreAuthRateLimitResult ipBlocked(long blockTtlSeconds) {
+        return new PreAuthRateLimitResult(true, null, blockTtlSeconds, 0, 0);
+    }
+
+    /**
+     * 한도 초과 결과 생성
+     *
+     * @param trippedLimit 한도에 도달한 LimitType (IP 또는 ENDPOINT)
+     * @param retryAfterSeconds 초과한 카운터의 남은 Window (초)
+     * @param ipCount 증가 후 IP 카운트
+     * @param endpointCount 증가 후 Endpoint 카운트
+     * @return PreAuthRateLimitResult
+     */
+    public static PreAuthRateLimitResult exceeded(
+            LimitType trippedLimit, long retryAfterSeconds, long ipCount, long endpointCount) {
+        if (trippedLimit == null) {
+            throw new IllegalArgumentException("trippedLimit cannot be null");
+        }
+        return new PreAuthRateLimitResult(
+                false, trippedLimit, retryAfterSeconds, ipCount, endpointCount);
+    }
+
+    /**
+     * 허용 결과 생성
+     *
+     * @param ipCount 증가 후 IP 카운트
+     * @param endpointCount 증가 후 Endpoint 카운트
+     * @return PreAuthRateLimitResult
+     */
+    public static PreAuthRateLimitResult allowed(long ipCount, long endpointCount) {
+        return new PreAuthRateLimitResult(false, null, 0, ipCount, endpointCount);
+    }
+
+    /**
+     * 한도 초과 여부
+     *
+     * @return IP 또는 Endpoint 카운터가 한도에 도달했으면 true
+     */
+    public boolean isExceeded() {
+        return trippedLimit != null;
+    }
+
+    /**
+     * 허용 여부
+     *
+     * @return 차단되지 않았고 한도에 도달하지 않았으면 true
+     */
+    public boolean isAllowed() {
+        return !blocked && trippedLimit == null;
+    }
+}
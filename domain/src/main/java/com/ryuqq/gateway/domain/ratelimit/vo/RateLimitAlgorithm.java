@@ -0,0 +1,67 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+/**
+ * RateLimitAlgorithm - Rate Limit 판정 알고리즘 열거형
+ *
+ * <p>LimitType별로 한도를 어떤 방식으로 계산할지 정의합니다.
+ *
+ * <p><strong>알고리즘:</strong>
+ *
+ * <ul>
+ *   <li>FIXED_WINDOW: 고정 Window 카운터 (INCR + EXPIRE). Window 경계에서 최대 2배까지 허용
+ *   <li>SLIDING_WINDOW: 현재/이전 Window 카운터의 가중 합으로 판정 (경계 버스트 완화)
+ *   <li>GCRA: 이론적 도착 시각(TAT) 하나만 저장하여 판정 (Key당 값 1개, 균등 배출)
+ * </ul>
+ *
+ * <p>SLIDING_WINDOW와 GCRA는 남은 요청 수와 정확한 재시도 대기 시간을 함께 계산합니다. 알고리즘별 상태 형식이 다르므로
+ * Redis Key에 {@link #keySuffix()}를 붙여 구분합니다 (알고리즘 변경 시 Key 타입 충돌 방지).
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum RateLimitAlgorithm {
+
+    /** 고정 Window 카운터 */
+    FIXED_WINDOW("고정 윈도우", ""),
+
+    /** 슬라이딩 Window 카운터 */
+    SLIDING_WINDOW("슬라이딩 윈도우", "sw"),
+
+    /** Generic Cell Rate Algorithm */
+    GCRA("GCRA", "gcra");
+
+    private final String displayName;
+    private final String keySuffix;
+
+    RateLimitAlgorithm(String displayName, String keySuffix) {
+        this.displayName = displayName;
+        this.keySuffix = keySuffix;
+    }
+
+    /**
+     * 표시용 이름 반환
+     *
+     * @return 표시용 이름
+     */
+    public String displayName() {
+        return displayName;
+    }
+
+    /**
+     * Redis Key 접미사 반환
+     *
+     * @return Key 접미사 (FIXED_WINDOW는 빈 문자열)
+     */
+    public String keySuffix() {
+        return keySuffix;
+    }
+
+    /**
+     * 고정 Window 여부
+     *
+     * @return FIXED_WINDOW이면 true
+     */
+    public boolean isFixedWindow() {
+        return this == FIXED_WINDOW;
+    }
+}
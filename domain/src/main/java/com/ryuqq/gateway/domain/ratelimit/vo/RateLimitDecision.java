@@ -0,0 +1,72 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+/**
+ * RateLimitDecision - Rate Limit 판정 결과 Value Object
+ *
+ * <p>SLIDING_WINDOW, GCRA 알고리즘의 판정 결과입니다. 카운트 대신 남은 요청 수와 다음 요청이 허용되기까지의 정확한 대기
+ * 시간(밀리초)을 가집니다.
+ *
+ * @param allowed 허용 여부
+ * @param remaining 남은 요청 수 (거부 시 0)
+ * @param retryAfterMillis 다음 요청이 허용되기까지의 대기 시간 (밀리초, 허용 시 0)
+ * @author development-team
+ * @since 1.0.0
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /**
+     * Compact Constructor - 검증 수행
+     *
+     * @throws IllegalArgumentException 값이 음수이거나 허용 여부와 맞지 않는 경우
+     */
+    public RateLimitDecision {
+        if (remaining < 0) {
+            throw new IllegalArgumentException("remaining cannot be negative");
+        }
+        if (retryAfterMillis < 0) {
+            throw new IllegalArgumentException("retryAfterMillis cannot be negative");
+        }
+        if (allowed && retryAfterMillis > 0) {
+            throw new IllegalArgumentException("allowed decision cannot have retryAfterMillis");
+        }
+        if (!allowed && remaining > 0) {
+            throw new IllegalArgumentException("denied decision cannot have remaining");
+        }
+    }
+
+    /**
+     * 허용 결과 생성
+     *
+     * @param remaining 남은 요청 수
+     * @return RateLimitDecision
+     */
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    /**
+     * 거부 결과 생성
+     *
+     * @param retryAfterMillis 다음 요청이 허용되기까지의 대기 시간 (밀리초)
+     * @return RateLimitDecision
+     */
+    public static RateLimitDecision deny(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis);
+    }
+
+    /**
+     * Retry-After 헤더용 대기 시간 (초, 올림)
+     *
+     * <p>거부 결과는 최소 1초를 반환합니다 (0초 Retry-After로 즉시 재시도하는 것을 방지).
+     *
+     * @return 대기 시간 (초, 허용 시 0)
+     */
+    public long retryAfterSeconds() {
+        if (allowed) {
+            return 0;
+        }
+        return Math.max(1, (retryAfterMillis + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND);
+    }
+}
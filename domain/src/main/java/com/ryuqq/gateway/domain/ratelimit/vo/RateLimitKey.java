@@ -63,6 +63,38 @@ public record RateLimitKey(String value) {
         return new RateLimitKey(key);
     }
 
+    /**
+     * 알고리즘별 Redis Key 반환
+     *
+     * <p>FIXED_WINDOW는 기존 Key를 그대로 사용하고, 그 외 알고리즘은 {@code {key}:{suffix}} 형식을 사용합니다.
+     *
+     * @param algorithm Rate Limit 알고리즘
+     * @return 알고리즘별 RateLimitKey
+     */
+    public RateLimitKey forAlgorithm(RateLimitAlgorithm algorithm) {
+        if (algorithm.isFixedWindow()) {
+            return this;
+        }
+        return new RateLimitKey(value + ":" + algorithm.keySuffix());
+    }
+
+    /**
+     * 하위 Key 반환 (SHARDED 모드)
+     *
+     * <p>{@code {key}:shard:{index}} 형식을 사용합니다. 하위 Key마다 Redis Cluster Slot이 달라지도록 Hash Tag를 쓰지
+     * 않습니다.
+     *
+     * @param index 하위 Key 번호 (0 이상)
+     * @return 하위 RateLimitKey
+     * @throws IllegalArgumentException index가 음수인 경우
+     */
+    public RateLimitKey shard(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("shard index cannot be negative: " + index);
+        }
+        return new RateLimitKey(value + ":shard:" + index);
+    }
+
     @Override
     public String toString() {
         return "RateLimitKey{" + "value='" + value + '\'' + '}';
@@ -0,0 +1,67 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+/**
+ * RateLimitMode - Rate Limit 카운팅 방식 열거형
+ *
+ * <p>LimitType별로 카운터를 어디에서 판정할지 정의합니다.
+ *
+ * <p><strong>방식:</strong>
+ *
+ * <ul>
+ *   <li>EXACT: 요청마다 Redis 카운터를 원자적으로 증가시켜 판정 (정확, 요청당 Redis 왕복 1회)
+ *   <li>HYBRID: 노드 로컬 카운터로 즉시 판정하고, Redis와는 주기적으로 묶음 동기화 (요청 경로 Redis 왕복 없음)
+ *   <li>SHARDED: 요청마다 N개의 하위 Key 중 하나를 증가시키고, 합계는 주기적으로 또는 확률적으로 조회 (전체 노드가 한 Key에
+ *       몰리는 Hot Key 분산)
+ * </ul>
+ *
+ * <p>HYBRID는 동기화 주기 동안 다른 노드의 증가분을 알지 못하므로, 노드 수 × 동기화 주기 동안의 요청 수만큼 한도를 초과할 수
+ * 있습니다. SHARDED도 합계 조회 사이에는 다른 노드의 증가분을 알지 못하므로, 합계 조회 주기 동안의 요청 수만큼 한도를 초과할 수
+ * 있습니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public enum RateLimitMode {
+
+    /** 요청마다 Redis에서 판정 */
+    EXACT("Redis 정확 판정"),
+
+    /** 노드 로컬 판정 + Redis 비동기 동기화 */
+    HYBRID("로컬 판정 + 비동기 동기화"),
+
+    /** 하위 Key 분산 증가 + 주기적 합계 조회 */
+    SHARDED("분산 카운터 + 주기적 합계");
+
+    private final String displayName;
+
+    RateLimitMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * 표시용 이름 반환
+     *
+     * @return 표시용 이름
+     */
+    public String displayName() {
+        return displayName;
+    }
+
+    /**
+     * 노드 로컬 판정 여부
+     *
+     * @return HYBRID이면 true
+     */
+    public boolean isLocal() {
+        return this == HYBRID;
+    }
+
+    /**
+     * 하위 Key 분산 여부
+     *
+     * @return SHARDED이면 true
+     */
+    public boolean isSharded() {
+        return this == SHARDED;
+    }
+}
@@ -2,6 +2,8 @@ package com.ryuqq.gateway.domain.authentication.vo;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -113,6 +115,59 @@ class ExpiredTokenInfoTest {
         }
     }
 
+    @Nested
+    @DisplayName("만료 임박 판단 테스트")
+    class ExpiringWithinTest {
+
+        private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        @Test
+        @DisplayName("만료까지 남은 시간이 구간 이내이면 true를 반환해야 한다")
+        void shouldReturnTrueWhenExpiringWithinWindow() {
+            // given
+            ExpiredTokenInfo tokenInfo =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-001", now.plusSeconds(30));
+
+            // when & then
+            assertThat(tokenInfo.isExpiringWithin(Duration.ofSeconds(60), now)).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료까지 남은 시간이 구간보다 길면 false를 반환해야 한다")
+        void shouldReturnFalseWhenOutsideWindow() {
+            // given
+            ExpiredTokenInfo tokenInfo =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-001", now.plusSeconds(120));
+
+            // when & then
+            assertThat(tokenInfo.isExpiringWithin(Duration.ofSeconds(60), now)).isFalse();
+        }
+
+        @Test
+        @DisplayName("이미 만료되었거나 만료 시각이 없으면 false를 반환해야 한다")
+        void shouldReturnFalseWhenExpiredOrUnknown() {
+            // given
+            ExpiredTokenInfo expired =
+                    ExpiredTokenInfo.of(true, 123L, "tenant-001", now.minusSeconds(1));
+            ExpiredTokenInfo unknown = ExpiredTokenInfo.of(false, 123L, "tenant-001");
+
+            // when & then
+            assertThat(expired.isExpiringWithin(Duration.ofSeconds(60), now)).isFalse();
+            assertThat(unknown.isExpiringWithin(Duration.ofSeconds(60), now)).isFalse();
+        }
+
+        @Test
+        @DisplayName("구간이 0이면 항상 false를 반환해야 한다")
+        void shouldReturnFalseWhenWindowIsZero() {
+            // given
+            ExpiredTokenInfo tokenInfo =
+                    ExpiredTokenInfo.of(false, 123L, "tenant-001", now.plusSeconds(1));
+
+            // when & then
+            assertThat(tokenInfo.isExpiringWithin(Duration.ZERO, now)).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("toString 테스트")
     class ToStringTest {
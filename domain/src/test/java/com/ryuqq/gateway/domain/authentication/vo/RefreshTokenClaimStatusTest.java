@@ -0,0 +1,18 @@
+package com.ryuqq.gateway.domain.authentication.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RefreshTokenClaimStatus 테스트")
+class RefreshTokenClaimStatusTest {
+
+    @Test
+    @DisplayName("ACQUIRED만 선점 성공으로 판단한다")
+    void onlyAcquiredIsAcquired() {
+        assertThat(RefreshTokenClaimStatus.ACQUIRED.isAcquired()).isTrue();
+        assertThat(RefreshTokenClaimStatus.IN_PROGRESS.isAcquired()).isFalse();
+        assertThat(RefreshTokenClaimStatus.CONSUMED.isAcquired()).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ryuqq.gateway.domain.authorization.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EndpointPermissionIndex 단위 테스트")
+class EndpointPermissionIndexTest {
+
+    @Nested
+    @DisplayName("경로 매칭")
+    class Matching {
+
+        @Test
+        @DisplayName("메서드별로 분리하여 매칭")
+        void matchByMethod() {
+            // given
+            EndpointPermission get = endpoint("/api/v1/orders", HttpMethod.GET);
+            EndpointPermission post = endpoint("/api/v1/orders", HttpMethod.POST);
+            EndpointPermissionIndex index = EndpointPermissionIndex.compile(List.of(get, post));
+
+            // when & then
+            assertThat(index.find("/api/v1/orders", HttpMethod.GET)).contains(get);
+            assertThat(index.find("/api/v1/orders", HttpMethod.POST)).contains(post);
+            assertThat(index.find("/api/v1/orders", HttpMethod.DELETE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("리터럴 Segment가 막히면 Path Variable로 되돌아가 매칭")
+        void backtrackToPathVariable() {
+            // given
+            EndpointPermission literal = endpoint("/api/v1/orders/search/recent", HttpMethod.GET);
+            EndpointPermission items = endpoint("/api/v1/orders/{orderId}/items", HttpMethod.GET);
+            EndpointPermissionIndex index =
+                    EndpointPermissionIndex.compile(List.of(literal, items));
+
+            // when & then
+            assertThat(index.find("/api/v1/orders/search/items", HttpMethod.GET)).contains(items);
+            assertThat(index.find("/api/v1/orders/search/recent", HttpMethod.GET))
+                    .contains(literal);
+        }
+
+        @Test
+        @DisplayName("일부만 Path Variable인 Segment는 전체 Path Variable보다 우선")
+        void partialVariableTakesPrecedenceOverFullVariable() {
+            // given
+            EndpointPermission any = endpoint("/api/v1/files/{fileName}", HttpMethod.GET);
+            EndpointPermission json = endpoint("/api/v1/files/{name}.json", HttpMethod.GET);
+            EndpointPermissionIndex index = EndpointPermissionIndex.compile(List.of(any, json));
+
+            // when & then
+            assertThat(index.find("/api/v1/files/report.json", HttpMethod.GET)).contains(json);
+            assertThat(index.find("/api/v1/files/report.csv", HttpMethod.GET)).contains(any);
+        }
+
+        @Test
+        @DisplayName("Path Variable은 빈 Segment나 여러 Segment와 매칭되지 않음")
+        void pathVariableMatchesSingleNonEmptySegment() {
+            // given
+            EndpointPermission byId = endpoint("/api/v1/users/{userId}", HttpMethod.GET);
+            EndpointPermissionIndex index = EndpointPermissionIndex.compile(List.of(byId));
+
+            // when & then
+            assertThat(index.find("/api/v1/users/", HttpMethod.GET)).isEmpty();
+            assertThat(index.find("/api/v1/users/123/extra", HttpMethod.GET)).isEmpty();
+            assertThat(index.find("/api/v1/users", HttpMethod.GET)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("리터럴 Segment는 정규식이 아닌 문자열로 비교")
+        void literalSegmentIsNotRegex() {
+            // given
+            EndpointPermission jwks = endpoint("/.well-known/jwks.json", HttpMethod.GET);
+            EndpointPermissionIndex index = EndpointPermissionIndex.compile(List.of(jwks));
+
+            // when & then
+            assertThat(index.find("/.well-known/jwks.json", HttpMethod.GET)).contains(jwks);
+            assertThat(index.find("/.well-known/jwksXjson", HttpMethod.GET)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("null 경로나 메서드는 매칭되지 않음")
+        void nullInputsDoNotMatch() {
+            // given
+            EndpointPermissionIndex index =
+                    EndpointPermissionIndex.compile(
+                            List.of(endpoint("/api/v1/orders", HttpMethod.GET)));
+
+            // when & then
+            assertThat(index.find(null, HttpMethod.GET)).isEmpty();
+            assertThat(index.find("/api/v1/orders", null)).isEmpty();
+        }
+    }
+
+    private EndpointPermission endpoint(String path, HttpMethod method) {
+        return EndpointPermission.of(
+                "test-service", path, method, Set.of(Permission.of("test:read")), Set.of(), false);
+    }
+}
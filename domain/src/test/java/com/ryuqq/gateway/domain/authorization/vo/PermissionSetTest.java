@@ -0,0 +1,163 @@
+package com.ryuqq.gateway.domain.authorization.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PermissionSet 단위 테스트")
+class PermissionSetTest {
+
+    @BeforeEach
+    @AfterEach
+    void resetIds() {
+        PermissionIds.reset();
+    }
+
+    private static PermissionSet setOf(String... values) {
+        return PermissionSet.of(
+                Arrays.stream(values).map(Permission::of).collect(Collectors.toSet()));
+    }
+
+    @Nested
+    @DisplayName("생성")
+    class Creation {
+
+        @Test
+        @DisplayName("null 또는 빈 집합은 EMPTY")
+        void nullOrEmptyIsEmpty() {
+            assertThat(PermissionSet.of(null)).isSameAs(PermissionSet.EMPTY);
+            assertThat(PermissionSet.of(Set.of())).isSameAs(PermissionSet.EMPTY);
+            assertThat(PermissionSet.EMPTY.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("이미 등록된 권한은 새 ID를 발급하지 않는다")
+        void reuseIdsForKnownPermissions() {
+            // given
+            setOf("order:read", "order:create");
+
+            // when
+            setOf("order:read", "order:create");
+
+            // then
+            assertThat(PermissionIds.permissionCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("같은 권한 집합은 동등")
+        void sameValuesAreEqual() {
+            assertThat(setOf("order:read", "user:read"))
+                    .isEqualTo(setOf("user:read", "order:read"));
+            assertThat(setOf("order:read").size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("containsAll 메서드")
+    class ContainsAll {
+
+        @Test
+        @DisplayName("모든 필수 권한을 보유하면 true")
+        void containsAllRequired() {
+            // given
+            PermissionSet granted = setOf("order:read", "order:create", "user:read");
+
+            // when & then
+            assertThat(granted.containsAll(setOf("order:read", "user:read"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("하나라도 없으면 false")
+        void missingOneRequired() {
+            // given
+            PermissionSet granted = setOf("order:read");
+
+            // when & then
+            assertThat(granted.containsAll(setOf("order:read", "order:delete"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("리소스 와일드카드는 해당 리소스의 모든 권한을 포함")
+        void wildcardCoversResource() {
+            // given
+            PermissionSet granted = setOf("order:*");
+
+            // when & then
+            assertThat(granted.containsAll(setOf("order:read", "order:delete"))).isTrue();
+            assertThat(granted.containsAll(setOf("product:read"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("와일드카드 컴파일 이후 등록된 권한도 포함")
+        void wildcardCoversLaterPermissions() {
+            // given
+            PermissionSet granted = setOf("invoice:*");
+
+            // when
+            PermissionSet required = setOf("invoice:registered-later");
+
+            // then
+            assertThat(granted.containsAll(required)).isTrue();
+        }
+
+        @Test
+        @DisplayName("필수 와일드카드 권한은 개별 권한으로 충족되지 않음")
+        void requiredWildcardNeedsWildcard() {
+            // given
+            PermissionSet granted = setOf("order:read");
+
+            // when & then
+            assertThat(granted.containsAll(setOf("order:*"))).isFalse();
+            assertThat(setOf("order:*").containsAll(setOf("order:*"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("빈 필수 권한 집합은 항상 true")
+        void emptyRequired() {
+            assertThat(PermissionSet.EMPTY.containsAll(PermissionSet.EMPTY)).isTrue();
+            assertThat(setOf("order:read").containsAll(PermissionSet.EMPTY)).isTrue();
+        }
+
+        @Test
+        @DisplayName("64개를 넘는 권한도 Word 경계와 무관하게 비교")
+        void comparesAcrossWords() {
+            // given
+            Set<Permission> many =
+                    IntStream.range(0, 130)
+                            .mapToObj(i -> Permission.of("bulk:action-" + i))
+                            .collect(Collectors.toSet());
+            PermissionSet granted = PermissionSet.of(many);
+
+            // when & then
+            assertThat(granted.containsAll(setOf("bulk:action-0", "bulk:action-129"))).isTrue();
+            assertThat(granted.containsAll(setOf("bulk:action-130"))).isFalse();
+            assertThat(setOf("bulk:action-0").containsAll(granted)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("contains 메서드")
+    class Contains {
+
+        @Test
+        @DisplayName("정확히 일치하거나 와일드카드로 포함되면 true")
+        void containsExactOrWildcard() {
+            // given
+            PermissionSet granted = setOf("order:*", "user:read");
+
+            // when & then
+            assertThat(granted.contains(Permission.of("user:read"))).isTrue();
+            assertThat(granted.contains(Permission.of("order:never-registered"))).isTrue();
+            assertThat(granted.contains(Permission.of("user:write"))).isFalse();
+            assertThat(granted.contains(null)).isFalse();
+        }
+    }
+}
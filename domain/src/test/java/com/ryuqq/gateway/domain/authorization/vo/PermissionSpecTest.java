@@ -218,6 +218,42 @@ class PermissionSpecTest {
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(first);
         }
+
+        @Test
+        @DisplayName("리터럴 경로가 Path Variable보다 우선")
+        void literalPathTakesPrecedenceOverPathVariable() {
+            // given
+            EndpointPermission byId =
+                    createEndpointPermission("/api/v1/orders/{orderId}", HttpMethod.GET);
+            EndpointPermission search =
+                    createEndpointPermission("/api/v1/orders/search", HttpMethod.GET);
+            PermissionSpec spec = PermissionSpec.of(VERSION, NOW, List.of(byId, search));
+
+            // when & then
+            assertThat(spec.findPermission("/api/v1/orders/search", HttpMethod.GET))
+                    .contains(search);
+            assertThat(spec.findPermission("/api/v1/orders/123", HttpMethod.GET)).contains(byId);
+        }
+    }
+
+    @Nested
+    @DisplayName("동등성")
+    class Equality {
+
+        @Test
+        @DisplayName("같은 값이면 equals와 hashCode가 같음")
+        void equalWhenSameValues() {
+            // given
+            List<EndpointPermission> permissions =
+                    List.of(createEndpointPermission("/api/v1/orders", HttpMethod.GET));
+            PermissionSpec spec1 = PermissionSpec.of(VERSION, NOW, permissions);
+            PermissionSpec spec2 = PermissionSpec.of(VERSION, NOW, permissions);
+
+            // then
+            assertThat(spec1).isEqualTo(spec2);
+            assertThat(spec1.hashCode()).isEqualTo(spec2.hashCode());
+            assertThat(spec1).isNotEqualTo(PermissionSpec.of(2L, NOW, permissions));
+        }
     }
 
     @Nested
@@ -20,12 +20,13 @@ class RateLimitErrorCodeTest {
             RateLimitErrorCode[] errorCodes = RateLimitErrorCode.values();
 
             // then
-            assertThat(errorCodes).hasSize(3);
+            assertThat(errorCodes).hasSize(4);
             assertThat(errorCodes)
                     .containsExactly(
                             RateLimitErrorCode.RATE_LIMIT_EXCEEDED,
                             RateLimitErrorCode.IP_BLOCKED,
-                            RateLimitErrorCode.ACCOUNT_LOCKED);
+                            RateLimitErrorCode.ACCOUNT_LOCKED,
+                            RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE);
         }
     }
 
@@ -101,6 +102,32 @@ class RateLimitErrorCodeTest {
         }
     }
 
+    @Nested
+    @DisplayName("RATE_LIMIT_STORE_UNAVAILABLE 테스트")
+    class RateLimitStoreUnavailableTest {
+
+        @Test
+        @DisplayName("올바른 코드 값을 가짐")
+        void shouldHaveCorrectCode() {
+            assertThat(RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE.getCode())
+                    .isEqualTo("RATE-004");
+        }
+
+        @Test
+        @DisplayName("올바른 HTTP 상태 코드를 가짐 (503 Service Unavailable)")
+        void shouldHaveCorrectHttpStatus() {
+            assertThat(RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE.getHttpStatus())
+                    .isEqualTo(503);
+        }
+
+        @Test
+        @DisplayName("올바른 메시지를 가짐")
+        void shouldHaveCorrectMessage() {
+            assertThat(RateLimitErrorCode.RATE_LIMIT_STORE_UNAVAILABLE.getMessage())
+                    .isEqualTo("Rate limit store is unavailable.");
+        }
+    }
+
     @Nested
     @DisplayName("ErrorCode 인터페이스 구현 테스트")
     class ErrorCodeInterfaceTest {
@@ -0,0 +1,62 @@
+package com.ryuqq.gateway.domain.ratelimit.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.gateway.domain.common.exception.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateLimitStoreUnavailableException 테스트")
+class RateLimitStoreUnavailableExceptionTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("기본 생성자로 생성")
+        void shouldCreateWithDefaultConstructor() {
+            // when
+            RateLimitStoreUnavailableException exception =
+                    new RateLimitStoreUnavailableException();
+
+            // then
+            assertThat(exception.getCode()).isEqualTo("RATE-004");
+            assertThat(exception.getMessage()).isEqualTo("Rate limit store is unavailable.");
+            assertThat(exception.getCause()).isNull();
+        }
+
+        @Test
+        @DisplayName("원인 예외를 포함하여 생성")
+        void shouldCreateWithCause() {
+            // given
+            RuntimeException cause = new RuntimeException("Redis connection failed");
+
+            // when
+            RateLimitStoreUnavailableException exception =
+                    new RateLimitStoreUnavailableException(cause);
+
+            // then
+            assertThat(exception.getCode()).isEqualTo("RATE-004");
+            assertThat(exception.getCause()).isSameAs(cause);
+        }
+    }
+
+    @Nested
+    @DisplayName("DomainException 상속 테스트")
+    class InheritanceTest {
+
+        @Test
+        @DisplayName("DomainException을 상속함")
+        void shouldExtendDomainException() {
+            // given
+            RateLimitStoreUnavailableException exception =
+                    new RateLimitStoreUnavailableException();
+
+            // when & then
+            assertThat(exception).isInstanceOf(DomainException.class);
+            assertThat(exception.httpStatus()).isEqualTo(503);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IpBlockEvent VO 테스트")
+class IpBlockEventTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("차단 이벤트 생성")
+        void shouldCreateBlocked() {
+            // when
+            IpBlockEvent event = IpBlockEvent.blocked("192.168.1.1", 1_700_000_000_000L);
+
+            // then
+            assertThat(event.ipAddress()).isEqualTo("192.168.1.1");
+            assertThat(event.expiresAtEpochMillis()).isEqualTo(1_700_000_000_000L);
+            assertThat(event.isBlock()).isTrue();
+        }
+
+        @Test
+        @DisplayName("해제 이벤트 생성")
+        void shouldCreateUnblocked() {
+            // when
+            IpBlockEvent event = IpBlockEvent.unblocked("2001:db8::1");
+
+            // then
+            assertThat(event.ipAddress()).isEqualTo("2001:db8::1");
+            assertThat(event.expiresAtEpochMillis()).isZero();
+            assertThat(event.isBlock()).isFalse();
+        }
+
+        @Test
+        @DisplayName("IP 주소가 비어 있으면 예외 발생")
+        void shouldRejectBlankIp() {
+            assertThatThrownBy(() -> IpBlockEvent.unblocked(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> IpBlockEvent.unblocked(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("만료 시각이 음수이거나 차단 이벤트에 만료 시각이 없으면 예외 발생")
+        void shouldRejectInvalidExpiry() {
+            assertThatThrownBy(() -> new IpBlockEvent("192.168.1.1", -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> IpBlockEvent.blocked("192.168.1.1", 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PreAuthRateLimitResult VO 테스트")
+class PreAuthRateLimitResultTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreationTest {
+
+        @Test
+        @DisplayName("IP 차단 결과는 차단 남은 시간을 retryAfter로 가짐")
+        void shouldCreateIpBlockedResult() {
+            PreAuthRateLimitResult result = PreAuthRateLimitResult.ipBlocked(1800);
+
+            assertThat(result.blocked()).isTrue();
+            assertThat(result.isExceeded()).isFalse();
+            assertThat(result.isAllowed()).isFalse();
+            assertThat(result.retryAfterSeconds()).isEqualTo(1800);
+            assertThat(result.ipCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("한도 초과 결과는 초과한 LimitType을 가짐")
+        void shouldCreateExceededResult() {
+            PreAuthRateLimitResult result =
+                    PreAuthRateLimitResult.exceeded(LimitType.ENDPOINT, 42, 10, 1000);
+
+            assertThat(result.blocked()).isFalse();
+            assertThat(result.isExceeded()).isTrue();
+            assertThat(result.isAllowed()).isFalse();
+            assertThat(result.trippedLimit()).isEqualTo(LimitType.ENDPOINT);
+            assertThat(result.retryAfterSeconds()).isEqualTo(42);
+            assertThat(result.endpointCount()).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("허용 결과는 두 카운트를 가짐")
+        void shouldCreateAllowedResult() {
+            PreAuthRateLimitResult result = PreAuthRateLimitResult.allowed(5, 10);
+
+            assertThat(result.isAllowed()).isTrue();
+            assertThat(result.retryAfterSeconds()).isZero();
+            assertThat(result.ipCount()).isEqualTo(5);
+            assertThat(result.endpointCount()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @Test
+        @DisplayName("음수 카운트는 허용하지 않음")
+        void shouldRejectNegativeCount() {
+            assertThatThrownBy(() -> PreAuthRateLimitResult.allowed(-1, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("IP, ENDPOINT 외의 LimitType은 허용하지 않음")
+        void shouldRejectOtherLimitTypes() {
+            assertThatThrownBy(() -> PreAuthRateLimitResult.exceeded(LimitType.USER, 1, 1, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("한도 초과 결과의 LimitType은 null일 수 없음")
+        void shouldRejectNullTrippedLimit() {
+            assertThatThrownBy(() -> PreAuthRateLimitResult.exceeded(null, 1, 1, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
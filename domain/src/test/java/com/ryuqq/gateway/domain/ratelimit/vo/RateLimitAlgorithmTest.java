@@ -0,0 +1,60 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateLimitAlgorithm Enum 테스트")
+class RateLimitAlgorithmTest {
+
+    @Nested
+    @DisplayName("Enum 값 테스트")
+    class EnumValuesTest {
+
+        @Test
+        @DisplayName("모든 알고리즘이 정의되어 있음")
+        void shouldHaveAllAlgorithms() {
+            assertThat(RateLimitAlgorithm.values())
+                    .containsExactly(
+                            RateLimitAlgorithm.FIXED_WINDOW,
+                            RateLimitAlgorithm.SLIDING_WINDOW,
+                            RateLimitAlgorithm.GCRA);
+        }
+
+        @Test
+        @DisplayName("표시용 이름을 가짐")
+        void shouldHaveDisplayName() {
+            assertThat(RateLimitAlgorithm.FIXED_WINDOW.displayName()).isEqualTo("고정 윈도우");
+            assertThat(RateLimitAlgorithm.SLIDING_WINDOW.displayName()).isEqualTo("슬라이딩 윈도우");
+            assertThat(RateLimitAlgorithm.GCRA.displayName()).isEqualTo("GCRA");
+        }
+    }
+
+    @Nested
+    @DisplayName("keySuffix() 테스트")
+    class KeySuffixTest {
+
+        @Test
+        @DisplayName("FIXED_WINDOW는 접미사가 없고 그 외 알고리즘은 서로 다른 접미사를 가짐")
+        void shouldHaveDistinctSuffixes() {
+            assertThat(RateLimitAlgorithm.FIXED_WINDOW.keySuffix()).isEmpty();
+            assertThat(RateLimitAlgorithm.SLIDING_WINDOW.keySuffix()).isEqualTo("sw");
+            assertThat(RateLimitAlgorithm.GCRA.keySuffix()).isEqualTo("gcra");
+        }
+    }
+
+    @Nested
+    @DisplayName("isFixedWindow() 테스트")
+    class IsFixedWindowTest {
+
+        @Test
+        @DisplayName("FIXED_WINDOW만 고정 Window")
+        void onlyFixedWindow() {
+            assertThat(RateLimitAlgorithm.FIXED_WINDOW.isFixedWindow()).isTrue();
+            assertThat(RateLimitAlgorithm.SLIDING_WINDOW.isFixedWindow()).isFalse();
+            assertThat(RateLimitAlgorithm.GCRA.isFixedWindow()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateLimitDecision VO 테스트")
+class RateLimitDecisionTest {
+
+    @Nested
+    @DisplayName("생성 테스트")
+    class CreateTest {
+
+        @Test
+        @DisplayName("허용 결과 생성")
+        void shouldCreateAllowed() {
+            // when
+            RateLimitDecision decision = RateLimitDecision.allow(7);
+
+            // then
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(7);
+            assertThat(decision.retryAfterMillis()).isZero();
+        }
+
+        @Test
+        @DisplayName("거부 결과 생성")
+        void shouldCreateDenied() {
+            // when
+            RateLimitDecision decision = RateLimitDecision.deny(1500);
+
+            // then
+            assertThat(decision.allowed()).isFalse();
+            assertThat(decision.remaining()).isZero();
+            assertThat(decision.retryAfterMillis()).isEqualTo(1500);
+        }
+
+        @Test
+        @DisplayName("음수 값이면 예외 발생")
+        void shouldRejectNegativeValues() {
+            assertThatThrownBy(() -> RateLimitDecision.allow(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> RateLimitDecision.deny(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("허용 여부와 맞지 않는 값이면 예외 발생")
+        void shouldRejectInconsistentValues() {
+            assertThatThrownBy(() -> new RateLimitDecision(true, 1, 100))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new RateLimitDecision(false, 1, 100))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("retryAfterSeconds() 테스트")
+    class RetryAfterSecondsTest {
+
+        @Test
+        @DisplayName("밀리초를 초 단위로 올림")
+        void shouldRoundUp() {
+            assertThat(RateLimitDecision.deny(1001).retryAfterSeconds()).isEqualTo(2);
+            assertThat(RateLimitDecision.deny(2000).retryAfterSeconds()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("거부 결과는 최소 1초")
+        void shouldBeAtLeastOneSecondWhenDenied() {
+            assertThat(RateLimitDecision.deny(0).retryAfterSeconds()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("허용 결과는 0초")
+        void shouldBeZeroWhenAllowed() {
+            assertThat(RateLimitDecision.allow(3).retryAfterSeconds()).isZero();
+        }
+    }
+}
@@ -173,6 +173,65 @@ class RateLimitKeyTest {
         }
     }
 
+    @Nested
+    @DisplayName("forAlgorithm 테스트")
+    class ForAlgorithmTest {
+
+        @Test
+        @DisplayName("FIXED_WINDOW는 같은 Key를 반환")
+        void shouldKeepKeyForFixedWindow() {
+            // given
+            RateLimitKey key = RateLimitKey.of(LimitType.IP, "192.168.1.1");
+
+            // when
+            RateLimitKey result = key.forAlgorithm(RateLimitAlgorithm.FIXED_WINDOW);
+
+            // then
+            assertThat(result).isSameAs(key);
+        }
+
+        @Test
+        @DisplayName("그 외 알고리즘은 접미사를 붙인 Key를 반환")
+        void shouldAppendSuffixForOtherAlgorithms() {
+            // given
+            RateLimitKey key = RateLimitKey.of(LimitType.IP, "192.168.1.1");
+
+            // when & then
+            assertThat(key.forAlgorithm(RateLimitAlgorithm.GCRA).value())
+                    .isEqualTo("gateway:rate_limit:ip:192.168.1.1:gcra");
+            assertThat(key.forAlgorithm(RateLimitAlgorithm.SLIDING_WINDOW).value())
+                    .isEqualTo("gateway:rate_limit:ip:192.168.1.1:sw");
+        }
+    }
+
+    @Nested
+    @DisplayName("shard 테스트")
+    class ShardTest {
+
+        @Test
+        @DisplayName("번호를 붙인 하위 Key를 반환")
+        void shouldAppendShardIndex() {
+            // given
+            RateLimitKey key = RateLimitKey.of(LimitType.ENDPOINT, "/api/orders", "GET");
+
+            // when & then
+            assertThat(key.shard(0).value())
+                    .isEqualTo("gateway:rate_limit:endpoint:/api/orders:GET:shard:0");
+            assertThat(key.shard(7).value())
+                    .isEqualTo("gateway:rate_limit:endpoint:/api/orders:GET:shard:7");
+        }
+
+        @Test
+        @DisplayName("음수 번호는 예외 발생")
+        void shouldRejectNegativeIndex() {
+            // given
+            RateLimitKey key = RateLimitKey.of(LimitType.ENDPOINT, "/api/orders", "GET");
+
+            // when & then
+            assertThatThrownBy(() -> key.shard(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("toString 테스트")
     class ToStringTest {
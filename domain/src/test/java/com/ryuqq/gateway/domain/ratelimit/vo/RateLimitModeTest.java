@@ -0,0 +1,58 @@
+package com.ryuqq.gateway.domain.ratelimit.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateLimitMode Enum 테스트")
+class RateLimitModeTest {
+
+    @Nested
+    @DisplayName("Enum 값 테스트")
+    class EnumValuesTest {
+
+        @Test
+        @DisplayName("모든 방식이 정의되어 있음")
+        void shouldHaveAllModes() {
+            assertThat(RateLimitMode.values())
+                    .containsExactly(
+                            RateLimitMode.EXACT, RateLimitMode.HYBRID, RateLimitMode.SHARDED);
+        }
+
+        @Test
+        @DisplayName("표시용 이름을 가짐")
+        void shouldHaveDisplayName() {
+            assertThat(RateLimitMode.EXACT.displayName()).isEqualTo("Redis 정확 판정");
+            assertThat(RateLimitMode.HYBRID.displayName()).isEqualTo("로컬 판정 + 비동기 동기화");
+            assertThat(RateLimitMode.SHARDED.displayName()).isEqualTo("분산 카운터 + 주기적 합계");
+        }
+    }
+
+    @Nested
+    @DisplayName("isLocal() 테스트")
+    class IsLocalTest {
+
+        @Test
+        @DisplayName("HYBRID만 로컬 판정")
+        void onlyHybridIsLocal() {
+            assertThat(RateLimitMode.HYBRID.isLocal()).isTrue();
+            assertThat(RateLimitMode.EXACT.isLocal()).isFalse();
+            assertThat(RateLimitMode.SHARDED.isLocal()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("isSharded() 테스트")
+    class IsShardedTest {
+
+        @Test
+        @DisplayName("SHARDED만 하위 Key 분산")
+        void onlyShardedIsSharded() {
+            assertThat(RateLimitMode.SHARDED.isSharded()).isTrue();
+            assertThat(RateLimitMode.EXACT.isSharded()).isFalse();
+            assertThat(RateLimitMode.HYBRID.isSharded()).isFalse();
+        }
+    }
+}
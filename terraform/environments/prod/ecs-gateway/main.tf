@@ -227,7 +227,7 @@ resource "aws_lb_target_group" "gateway" {
     unhealthy_threshold = 3
     timeout             = 5
     interval            = 30
-    path                = "/actuator/health"
+    path                = "/actuator/health/readiness"
     matcher             = "200"
   }
 
@@ -520,7 +520,7 @@ module "ecs_service" {
   ]
 
   # Health Check
-  health_check_command      = ["CMD-SHELL", "wget --no-verbose --tries=1 --spider http://localhost:8080/actuator/health || exit 1"]
+  health_check_command      = ["CMD-SHELL", "wget --no-verbose --tries=1 --spider http://localhost:8080/actuator/health/liveness || exit 1"]
   health_check_interval     = 30
   health_check_timeout      = 5
   health_check_retries      = 3